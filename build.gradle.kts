@@ -2,6 +2,7 @@ plugins {
 	java
 	id("org.springframework.boot") version "3.4.1"
 	id("io.spring.dependency-management") version "1.1.7"
+	id("me.champeau.jmh") version "0.7.2"
 }
 
 fun getGitHash(): String {
@@ -13,9 +14,16 @@ fun getGitHash(): String {
 group = "kr.hhplus.be"
 version = getGitHash()
 
+// 기본 JDK 17, 가상 스레드 모드는 JDK 21 툴체인으로 실행
+// ./gradlew bootRun -PjavaVersion=21 --args='--spring.profiles.active=local,virtual'
+val javaVersion = (findProperty("javaVersion") as String?)?.toInt() ?: 17
+
+// 가상 스레드 pinning 진단: synchronized 안에서 블로킹되면 스택 출력 (JDK 21+)
+val pinningDiagnostics = if (javaVersion >= 21) listOf("-Djdk.tracePinnedThreads=short") else emptyList()
+
 java {
 	toolchain {
-		languageVersion = JavaLanguageVersion.of(17)
+		languageVersion = JavaLanguageVersion.of(javaVersion)
 	}
 }
 
@@ -38,6 +46,9 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-actuator")
     implementation("org.apache.commons:commons-lang3:3.14.0")
 
+    // Cache (L1)
+    implementation("com.github.ben-manes.caffeine:caffeine")
+
     // DB
     runtimeOnly("com.mysql:mysql-connector-j")
     implementation("org.flywaydb:flyway-core")
@@ -68,7 +79,40 @@ dependencies {
     testImplementation("org.testcontainers:kafka")
 }
 
+// 마이크로 벤치마크: ./gradlew jmh (src/jmh/java)
+jmh {
+	warmupIterations = 2
+	iterations = 5
+	fork = 1
+}
+
 tasks.withType<Test> {
 	useJUnitPlatform()
 	systemProperty("user.timezone", "UTC")
+	jvmArgs(pinningDiagnostics)
+}
+
+tasks.named<Test>("test") {
+	useJUnitPlatform {
+		excludeTags("load")
+	}
+}
+
+// 플랫폼/가상 스레드 부하 비교: ./gradlew loadTest -PjavaVersion=21
+// 두 모드를 같은 힙에서 실행 (가상 스레드 테스트는 JDK 21 미만이면 건너뜀)
+tasks.register<Test>("loadTest") {
+	description = "Compares platform and virtual thread throughput/p99 under the same heap"
+	group = "verification"
+	testClassesDirs = sourceSets["test"].output.classesDirs
+	classpath = sourceSets["test"].runtimeClasspath
+	useJUnitPlatform {
+		includeTags("load")
+	}
+	minHeapSize = "1g"
+	maxHeapSize = "1g"
+	testLogging.showStandardStreams = true
+}
+
+tasks.named<org.springframework.boot.gradle.tasks.run.BootRun>("bootRun") {
+	jvmArgs(pinningDiagnostics)
 }
@@ -0,0 +1,101 @@
+package kr.hhplus.be.server.infrastructure.kafka.codec;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import kr.hhplus.be.server.infrastructure.kafka.message.PaymentRequestMessage;
+import kr.hhplus.be.server.infrastructure.kafka.message.PaymentResultMessage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 결제 메시지 직렬화 비교 (JSON vs 컴팩트 바이너리)
+ *
+ * 실행: ./gradlew jmh
+ * 메시지 크기(bytes)는 Setup 에서 한 번 출력
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class KafkaMessageCodecBenchmark {
+
+    // Spring Boot 기본 ObjectMapper 와 같은 설정 (JavaTimeModule, ISO 날짜 문자열, 알 수 없는 필드 무시)
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+    private PaymentRequestMessage request;
+    private PaymentResultMessage result;
+    private byte[] requestJson;
+    private byte[] requestCompact;
+    private byte[] resultJson;
+    private byte[] resultCompact;
+
+    @Setup
+    public void setUp() throws Exception {
+        String reservationId = UUID.randomUUID().toString();
+        String userId = UUID.randomUUID().toString();
+        request = new PaymentRequestMessage(reservationId, userId, 150_000L,
+                "payment-" + reservationId, 42L, 17, LocalDateTime.now());
+        result = PaymentResultMessage.success(reservationId, userId, 850_000L);
+
+        requestJson = objectMapper.writeValueAsBytes(request);
+        requestCompact = CompactMessageCodec.encode(request);
+        resultJson = objectMapper.writeValueAsBytes(result);
+        resultCompact = CompactMessageCodec.encode(result);
+
+        System.out.printf("%n[size] PaymentRequestMessage json=%dB compact=%dB, PaymentResultMessage json=%dB compact=%dB%n",
+                requestJson.length, requestCompact.length, resultJson.length, resultCompact.length);
+    }
+
+    @Benchmark
+    public byte[] requestSerializeJson() throws Exception {
+        return objectMapper.writeValueAsBytes(request);
+    }
+
+    @Benchmark
+    public byte[] requestSerializeCompact() {
+        return CompactMessageCodec.encode(request);
+    }
+
+    @Benchmark
+    public Object requestDeserializeJson() throws Exception {
+        return objectMapper.readValue(requestJson, PaymentRequestMessage.class);
+    }
+
+    @Benchmark
+    public Object requestDeserializeCompact() {
+        return CompactMessageCodec.decode(requestCompact);
+    }
+
+    @Benchmark
+    public byte[] resultSerializeJson() throws Exception {
+        return objectMapper.writeValueAsBytes(result);
+    }
+
+    @Benchmark
+    public byte[] resultSerializeCompact() {
+        return CompactMessageCodec.encode(result);
+    }
+
+    @Benchmark
+    public Object resultDeserializeJson() throws Exception {
+        return objectMapper.readValue(resultJson, PaymentResultMessage.class);
+    }
+
+    @Benchmark
+    public Object resultDeserializeCompact() {
+        return CompactMessageCodec.decode(resultCompact);
+    }
+}
@@ -0,0 +1,96 @@
+package kr.hhplus.be.server.infrastructure.redis.cache;
+
+import kr.hhplus.be.server.application.port.in.RankingUseCase.ConcertRankingDto;
+import kr.hhplus.be.server.web.concert.dto.ConcertDto;
+import kr.hhplus.be.server.web.concert.dto.ScheduleDto;
+import kr.hhplus.be.server.web.concert.dto.SeatRanges;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+
+import java.time.LocalDate;
+import java.util.BitSet;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+/**
+ * 캐시 값 직렬화 비교 (JDK vs 컴팩트), 캐시별 대표 값 기준
+ *
+ * 실행: ./gradlew jmh
+ * 값 크기(bytes)는 Setup 에서 캐시별로 한 번 출력
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CacheValueCodecBenchmark {
+
+    @Param({"concerts", "concertDetail", "schedule", "stadiumSchedule", "concertRankings"})
+    private String cache;
+
+    private final JdkSerializationRedisSerializer jdk = new JdkSerializationRedisSerializer();
+    private final CompactCacheValueSerializer compact = new CompactCacheValueSerializer();
+
+    private Object value;
+    private byte[] jdkBytes;
+    private byte[] compactBytes;
+
+    @Setup
+    public void setUp() {
+        value = switch (cache) {
+            // 콘서트 목록 20개
+            case "concerts" -> LongStream.rangeClosed(1, 20)
+                    .mapToObj(id -> new ConcertDto(id, "콘서트 " + id, "콘서트 설명"))
+                    .toList();
+            case "concertDetail" -> new ConcertDto(1L, "콘서트 1", "상세 설명");
+            // 50석 중 예약 안 된 40석
+            case "schedule" -> new ScheduleDto(1L, 1L, LocalDate.of(2025, 1, 1), 50,
+                    IntStream.rangeClosed(1, 50).filter(seat -> seat % 5 != 0).boxed().toList());
+            // 5만석 중 무작위 1만석 확정된 대형 공연
+            case "stadiumSchedule" -> {
+                BitSet confirmed = new BitSet(50_001);
+                new Random(42).ints(10_000, 1, 50_001).forEach(confirmed::set);
+                yield new ScheduleDto(1L, 1L, LocalDate.of(2025, 1, 1), 50_000,
+                        SeatRanges.clearBitsOf(confirmed, 1, 50_000));
+            }
+            // 랭킹 상위 10개
+            case "concertRankings" -> LongStream.rangeClosed(1, 10)
+                    .mapToObj(id -> new ConcertRankingDto((int) id, id, "Concert #" + id,
+                            (int) (50 - id), 5.0 / id, id == 1, id == 1 ? 12 : null))
+                    .toList();
+            default -> throw new IllegalArgumentException(cache);
+        };
+
+        jdkBytes = jdk.serialize(value);
+        compactBytes = compact.serialize(value);
+
+        System.out.printf("%n[size] %s jdk=%dB compact=%dB%n", cache, jdkBytes.length, compactBytes.length);
+    }
+
+    @Benchmark
+    public byte[] serializeJdk() {
+        return jdk.serialize(value);
+    }
+
+    @Benchmark
+    public byte[] serializeCompact() {
+        return compact.serialize(value);
+    }
+
+    @Benchmark
+    public Object deserializeJdk() {
+        return jdk.deserialize(jdkBytes);
+    }
+
+    @Benchmark
+    public Object deserializeCompact() {
+        return compact.deserialize(compactBytes);
+    }
+}
@@ -0,0 +1,38 @@
+package kr.hhplus.be.server.application.event;
+
+import kr.hhplus.be.server.infrastructure.kafka.message.RefundRequestMessage;
+import kr.hhplus.be.server.infrastructure.kafka.producer.PaymentKafkaProducer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 환불 요청 발행 리스너
+ * - 취소 트랜잭션이 커밋된 뒤에만 refund-requests 로 발행
+ * - 발행 실패 시 예약은 REFUND_PENDING 으로 남고 RefundPendingScheduler가 재발행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RefundRequestEventListener {
+
+    private final PaymentKafkaProducer paymentKafkaProducer;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void sendRefundRequest(RefundRequestedEvent event) {
+        try {
+            paymentKafkaProducer.sendRefundRequest(RefundRequestMessage.of(
+                    event.reservationId(),
+                    event.userId(),
+                    event.amount(),
+                    event.scheduleId(),
+                    event.seatNumber()
+            ));
+        } catch (Exception e) {
+            log.error("환불 요청 발행 실패 (재발행 대기) - reservationId: {}, error: {}",
+                    event.reservationId(), e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package kr.hhplus.be.server.application.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * 환불 요청 이벤트
+ *
+ * 발행 시점: 예약 취소(CONFIRMED → REFUND_PENDING) 트랜잭션 커밋 후 (AFTER_COMMIT)
+ *
+ * 처리 작업:
+ * - refund-requests 토픽으로 환불 요청 발행
+ *
+ * 트랜잭션 안에서 바로 발행하면 롤백된 취소의 환불이 나갈 수 있으므로 커밋 후 발행
+ * (커밋 후 발행 실패는 RefundPendingScheduler가 재발행)
+ */
+public record RefundRequestedEvent(
+        String reservationId,
+        String userId,
+        Long amount,
+        Long scheduleId,
+        Integer seatNumber,
+        LocalDateTime requestedAt
+) {
+    public static RefundRequestedEvent of(
+            String reservationId,
+            String userId,
+            Long amount,
+            Long scheduleId,
+            Integer seatNumber,
+            LocalDateTime requestedAt
+    ) {
+        return new RefundRequestedEvent(
+                reservationId,
+                userId,
+                amount,
+                scheduleId,
+                seatNumber,
+                requestedAt
+        );
+    }
+}
@@ -1,6 +1,8 @@
 package kr.hhplus.be.server.application.event;
 
 import kr.hhplus.be.server.application.port.in.RankingUseCase;
+import kr.hhplus.be.server.application.port.in.ScheduleCalendarUseCase;
+import kr.hhplus.be.server.infrastructure.async.config.AsyncConfig;
 import kr.hhplus.be.server.infrastructure.kafka.ReservationKafkaProducer;
 import kr.hhplus.be.server.infrastructure.kafka.message.ReservationEventMessage;
 import lombok.RequiredArgsConstructor;
@@ -17,9 +19,10 @@ public class ReservationEventListener {
 
     private final RankingUseCase rankingUseCase;
     private final ReservationKafkaProducer kafkaProducer;
+    private final ScheduleCalendarUseCase scheduleCalendarUseCase;
 
 
-    @Async
+    @Async(AsyncConfig.RESERVATION_EVENT_EXECUTOR)
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void updateRanking(ReservationConfirmedEvent event) {
         try {
@@ -41,7 +44,7 @@ public class ReservationEventListener {
         }
     }
 
-    @Async
+    @Async(AsyncConfig.RESERVATION_EVENT_EXECUTOR)
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void updateRankingOnCancel(ReservationCancelledEvent event) {
         try {
@@ -67,11 +70,20 @@ public class ReservationEventListener {
         }
     }
 
+    /**
+     * 예약 취소로 좌석이 풀리면 예약 가능 날짜 색인에 일정을 다시 엶 (매진이었던 날짜 복구)
+     * - 실패는 색인 재구성 때 DB 기준으로 맞춰짐 (서비스 내부에서 기록)
+     */
+    @Async(AsyncConfig.RESERVATION_EVENT_EXECUTOR)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void reopenCalendarOnCancel(ReservationCancelledEvent event) {
+        scheduleCalendarUseCase.markReopened(event.scheduleId());
+    }
 
     /**
      * 예약 확정 시 데이터 플랫폼으로 전송 (Kafka)
      */
-    @Async
+    @Async(AsyncConfig.RESERVATION_EVENT_EXECUTOR)
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void sendToDataPlatform(ReservationConfirmedEvent event) {
         try {
@@ -103,7 +115,7 @@ public class ReservationEventListener {
     /**
      * 예약 취소 시 데이터 플랫폼으로 전송 (Kafka)
      */
-    @Async
+    @Async(AsyncConfig.RESERVATION_EVENT_EXECUTOR)
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void sendCancellationToDataPlatform(ReservationCancelledEvent event) {
         try {
@@ -134,4 +146,50 @@ public class ReservationEventListener {
                     e);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 공연 일정 일괄 취소 시 랭킹 차감 (청크 단위 1회)
+     */
+    @Async(AsyncConfig.RESERVATION_EVENT_EXECUTOR)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void updateRankingOnScheduleCancel(ScheduleReservationsCancelledEvent event) {
+        try {
+            rankingUseCase.decrementReservation(
+                    event.scheduleId(),
+                    event.cancelledCount()
+            );
+
+            log.info("[Ranking] 일괄 취소 랭킹 차감 완료 - scheduleId: {}, count: {}",
+                    event.scheduleId(), event.cancelledCount());
+
+        } catch (Exception e) {
+            log.error("⚠️ [Ranking] 일괄 취소 랭킹 차감 실패 - scheduleId: {}, count: {}, error: {}",
+                    event.scheduleId(), event.cancelledCount(), e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 공연 일정 일괄 취소 시 데이터 플랫폼으로 전송 (청크 단위 집계)
+     */
+    @Async(AsyncConfig.RESERVATION_EVENT_EXECUTOR)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void sendScheduleCancellationToDataPlatform(ScheduleReservationsCancelledEvent event) {
+        try {
+            ReservationEventMessage message = ReservationEventMessage.scheduleCancelled(
+                    event.scheduleId(),
+                    event.cancelledCount(),
+                    event.refundedAmount(),
+                    event.cancelledAt()
+            );
+
+            kafkaProducer.sendToDataPlatform(message);
+
+            log.info("[Kafka] 일괄 취소 정보 발행 완료 - scheduleId: {}, count: {}",
+                    event.scheduleId(), event.cancelledCount());
+
+        } catch (Exception e) {
+            log.error("⚠️ [Kafka] 일괄 취소 정보 발행 실패 - scheduleId: {}, error: {}",
+                    event.scheduleId(), e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package kr.hhplus.be.server.application.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * 공연 일정 일괄 취소 청크 완료 이벤트
+ *
+ * 발행 시점: 청크(최대 chunk-size건) 취소 트랜잭션 커밋 후 (AFTER_COMMIT)
+ *
+ * 처리 작업:
+ * - 랭킹 시스템에서 취소 건수만큼 한 번에 차감
+ * - 데이터 플랫폼으로 집계된 취소 정보 전송
+ *
+ * 좌석마다 ReservationCancelledEvent를 발행하면 대량 취소 시
+ * Redis/Kafka 호출이 좌석 수만큼 발생하므로 청크 단위로 집계
+ */
+public record ScheduleReservationsCancelledEvent(
+        Long scheduleId,
+        int cancelledCount,
+        long refundedAmount,
+        LocalDateTime cancelledAt
+) {
+    public static ScheduleReservationsCancelledEvent of(
+            Long scheduleId,
+            int cancelledCount,
+            long refundedAmount,
+            LocalDateTime cancelledAt
+    ) {
+        return new ScheduleReservationsCancelledEvent(
+                scheduleId,
+                cancelledCount,
+                refundedAmount,
+                cancelledAt
+        );
+    }
+}
@@ -1,5 +1,8 @@
 package kr.hhplus.be.server.application.port.in;
 
+import java.util.List;
+import java.util.Map;
+
 public interface PaymentUseCase {
 
     record ChargeCommand(String userId, long amount, String idempotencyKey) {}
@@ -8,9 +11,21 @@ public interface PaymentUseCase {
     record BalanceQuery(String userId) {}
 
     record BalanceResult(long balance) {}
+    record RefundBatchResult(Map<String, Long> balanceByUserId, List<RefundCommand> rejected) {
+        public long balanceOf(String userId) {
+            return balanceByUserId.getOrDefault(userId, 0L);
+        }
+
+        // 적립하지 못한 건 (잘못된 사용자 ID/금액, 지갑 없음) - 재시도해도 동일
+        public boolean isRejected(String idempotencyKey) {
+            return rejected.stream().anyMatch(command -> command.idempotencyKey().equals(idempotencyKey));
+        }
+    }
 
     BalanceResult charge(ChargeCommand command);
     BalanceResult pay(PaymentCommand command);
+    BalanceResult payOrdered(PaymentCommand command);  // 호출자가 사용자별 순차 실행을 보장 (분산락 생략)
     BalanceResult refund(RefundCommand command);
+    RefundBatchResult refundBatch(List<RefundCommand> commands);
     BalanceResult getBalance(BalanceQuery query);
 }
\ No newline at end of file
@@ -11,9 +11,18 @@ public interface RankingUseCase {
     // 예약 취소 시 랭킹 차감
     void decrementReservation(Long scheduleId, int seatCount);
 
+    // 병합 모드에서 누적된 판매/취소 증감 반영
+    void flushPendingUpdates();
+
+    // 판매 속도 윈도우를 현재 시각까지 밀고 랭킹 점수 갱신
+    void refreshVelocityWindows();
+
     // 빠른 판매 랭킹 조회
     List<ConcertRankingDto> getFastSellingRanking(int limit);
 
+    // 스냅샷 모드에서 랭킹 스냅샷 재구성
+    void refreshRankingSnapshot();
+
     // 통합 랭킹 DTO
     record ConcertRankingDto(
             int rank,
@@ -91,7 +91,8 @@ public interface ReservationUseCase {
     record CancelReservationResult(
             String reservationId,
             Long refundAmount,      // 환불 금액
-            LocalDateTime cancelledAt
+            LocalDateTime cancelledAt,
+            String status           // REFUND_PENDING (환불 완료 후 CANCELLED)
     ) {}
 
     // Use Case 메서드들
@@ -0,0 +1,19 @@
+package kr.hhplus.be.server.application.port.in;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface ScheduleCalendarUseCase {
+
+    // 오늘부터 days일 중 예약 가능한 일정이 있는 날짜 조회
+    List<LocalDate> getAvailableDates(int days);
+
+    // 일정 매진 시 날짜 색인 갱신
+    void markSoldOut(Long scheduleId);
+
+    // 일정 일괄 취소 시 날짜 색인 갱신
+    void markCancelled(Long scheduleId);
+
+    // 예약 취소로 좌석이 풀리면 날짜 색인 갱신 (예약 가능한 일정일 때만)
+    void markReopened(Long scheduleId);
+}
@@ -0,0 +1,37 @@
+package kr.hhplus.be.server.application.port.in;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 공연 일정 일괄 취소
+ * - 요청은 작업 등록만 하고 즉시 반환
+ * - 실제 취소/환불은 ScheduleCancellationScheduler가 청크 단위로 진행
+ */
+public interface ScheduleCancellationUseCase {
+
+    record CancelScheduleCommand(
+            Long scheduleId,
+            String reason
+    ) {}
+
+    record CancellationProgress(
+            Long scheduleId,
+            String status,          // IN_PROGRESS / COMPLETED
+            long totalCount,        // 요청 시점 확정 예약 수
+            long cancelledCount,
+            long refundedAmount,
+            LocalDateTime requestedAt,
+            LocalDateTime completedAt
+    ) {
+        public int progressPercent() {
+            if (totalCount == 0) {
+                return 100;
+            }
+            return (int) Math.min(100, cancelledCount * 100 / totalCount);
+        }
+    }
+
+    CancellationProgress cancelSchedule(CancelScheduleCommand command);
+    Optional<CancellationProgress> getProgress(Long scheduleId);
+}
@@ -18,8 +18,11 @@ public interface ConcertSchedulePort {
     // 콘서트의 모든 스케줄 조회
     List<ConcertSchedule> findByConcertId(Long concertId);
 
-    // 사용 가능한 날짜 목록 조회
-    List<LocalDate> findAvailableDates(int days);
+    // [from, to] 구간 예약 가능 일정 ID → 날짜 (매진/일괄 취소 제외, 날짜 오름차순)
+    Map<Long, LocalDate> findOpenSchedules(LocalDate from, LocalDate to);
+
+    // 일괄 취소가 요청된 일정 여부 (진행 중 포함 - 신규 예약/확정 차단)
+    boolean isCancelled(ConcertScheduleId id);
 
     // 스케줄 저장
     ConcertSchedule save(ConcertSchedule schedule);
@@ -0,0 +1,18 @@
+package kr.hhplus.be.server.application.port.out;
+
+import kr.hhplus.be.server.infrastructure.kafka.message.PaymentRequestMessage;
+
+/**
+ * 결제 요청 아웃박스 포트
+ * - 결제 요청을 Kafka로 직접 보내지 않고 호출자의 트랜잭션 안에 기록
+ * - 실제 발행은 릴레이가 커밋된 행만 읽어서 수행
+ */
+public interface PaymentOutboxPort {
+
+    /**
+     * 결제 요청 기록 (진행 중인 트랜잭션 필수)
+     *
+     * @param message 결제 요청 메시지
+     */
+    void appendPaymentRequest(PaymentRequestMessage message);
+}
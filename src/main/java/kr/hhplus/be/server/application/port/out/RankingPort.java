@@ -1,5 +1,7 @@
 package kr.hhplus.be.server.application.port.out;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -10,27 +12,51 @@ public interface RankingPort {
     // 통계 조회
     Map<String, String> getStats(String scheduleId);
 
-    // 판매 수량 증가
-    long incrementSoldCount(String scheduleId, int increment);
-
-    // 판매 수량 감소 (예약 취소 시)
-    long decrementSoldCount(String scheduleId, int decrement);
-
-    // 첫 판매 시간 설정
-    boolean setStartTimeIfAbsent(String scheduleId, long startTime);
-
-    // 판매 속도 랭킹 업데이트
-    void updateVelocityRanking(String scheduleId, double score);
-
-    // 판매 속도 랭킹에서 제거 (모든 예약 취소 시)
-    void removeFromVelocityRanking(String scheduleId);
-
-    // 매진 랭킹 업데이트
-    void updateSoldOutRanking(String scheduleId, long seconds);
-
-    // 판매 속도 기준 상위 랭킹 조회
-    Set<String> getTopByVelocity(int limit);
+    // 여러 공연 통계 일괄 조회 (파이프라인 1회, 통계 없는 공연은 빈 Map)
+    Map<String, Map<String, String>> getStatsBulk(Collection<String> scheduleIds);
+
+    /**
+     * 판매/취소 원자 반영 (왕복 1회)
+     * - 판매 수량 증감, 판매 속도 계산 및 랭킹 갱신, 매진 감지/기록을 한 번에 처리
+     * - 이미 매진된 공연의 판매는 무시 (ALREADY_SOLD_OUT)
+     * - 총 좌석 수가 Redis 에 없고 힌트도 없으면 반영하지 않음 (TOTAL_SEATS_UNKNOWN)
+     *
+     * @param seatCount       양수: 판매, 음수: 취소
+     * @param totalSeatsHint  Redis 에 총 좌석 수가 없을 때 쓸 값 (0 = 모름)
+     */
+    SaleResult recordSale(String scheduleId, int seatCount, int totalSeatsHint, long now);
+
+    // 여러 공연 판매/취소 원자 반영 (왕복 1회, 힌트 없음)
+    Map<String, SaleResult> recordSales(Map<String, Integer> seatCounts, long now);
+
+    /**
+     * 랭킹 점수가 0보다 큰 공연 전체의 판매 속도 윈도우를 현재 시각까지 밀고 점수 갱신
+     * - 대상은 Redis 랭킹 ZSET 에서 읽으므로 어느 인스턴스가 판매를 반영했는지와 무관
+     * - 판매가 멈춘 공연도 점수가 시간에 따라 내려가도록 주기적으로 호출 (0이 되면 다음부터 대상 제외)
+     * - 랭킹에 없는 공연은 추가하지 않음
+     */
+    Map<String, SaleResult> refreshVelocities(long now);
+
+    // 판매 속도 기준 상위 랭킹 조회 (ZREVRANGE WITHSCORES, 순위 순서 유지)
+    List<RankedSchedule> getTopByVelocityWithScores(int limit);
 
     // 매진 속도 기준 상위 랭킹 조회
     Set<String> getTopBySoldOut(int limit);
-}
\ No newline at end of file
+
+    record RankedSchedule(String scheduleId, double score) {
+    }
+
+    record SaleResult(
+            Status status,
+            long soldCount,
+            double velocity,         // 최근 1분 초당 판매량
+            boolean soldOutNow,      // 이번 반영으로 매진됨
+            Long soldOutSeconds      // 매진까지 걸린 초 (soldOutNow 일 때만)
+    ) {
+        public enum Status {
+            APPLIED,
+            ALREADY_SOLD_OUT,
+            TOTAL_SEATS_UNKNOWN
+        }
+    }
+}
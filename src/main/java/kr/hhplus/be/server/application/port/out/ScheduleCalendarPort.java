@@ -0,0 +1,37 @@
+package kr.hhplus.be.server.application.port.out;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 예약 가능 날짜 색인 포트
+ * - 예약 가능(매진/취소 아님) 일정을 날짜별로 보관하고, 일정이 닫히거나 다시 열리면 해당 날짜만 갱신
+ * - 일정 단위로 열림/닫힘을 기록하므로 같은 일정을 여러 번 닫거나 열어도 한 번만 반영
+ */
+public interface ScheduleCalendarPort {
+
+    /**
+     * 색인에서 [from, to] 구간의 예약 가능 날짜 조회 (오름차순)
+     * @return 색인이 없거나 to 까지 덮지 못하면 empty
+     */
+    Optional<List<LocalDate>> findOpenDates(LocalDate from, LocalDate to);
+
+    /**
+     * 색인 교체
+     * @param openSchedules 예약 가능 일정 ID → 날짜
+     * @param coveredUntil 색인이 덮는 마지막 날짜
+     */
+    void replace(Map<Long, LocalDate> openSchedules, LocalDate coveredUntil);
+
+    /**
+     * 일정을 닫음 (매진, 일괄 취소) - 날짜에 남은 일정이 없으면 날짜 제거
+     */
+    void closeSchedule(Long scheduleId);
+
+    /**
+     * 닫힌 일정을 다시 엶 (예약 취소로 좌석이 풀림) - 색인 범위 밖이면 무시
+     */
+    void openSchedule(Long scheduleId, LocalDate date);
+}
@@ -41,6 +41,13 @@ public interface SeatHoldPort {
      */
     void release(SeatIdentifier seatIdentifier);
 
+    /**
+     * 좌석 점유 일괄 해제
+     *
+     * @param seatIdentifiers 해제할 좌석 목록
+     */
+    void releaseAll(List<SeatIdentifier> seatIdentifiers);
+
     /**
      * 좌석 점유 상태 조회
      *
@@ -0,0 +1,225 @@
+package kr.hhplus.be.server.application.scheduler;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import kr.hhplus.be.server.infrastructure.kafka.message.PaymentRequestMessage;
+import kr.hhplus.be.server.infrastructure.kafka.producer.PaymentKafkaProducer;
+import kr.hhplus.be.server.infrastructure.persistence.payment.jpa.entity.PaymentOutboxJpaEntity;
+import kr.hhplus.be.server.infrastructure.persistence.payment.jpa.repository.PaymentOutboxJpaRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 결제 요청 아웃박스 릴레이
+ *
+ * 역할:
+ * - payment_outbox 의 PENDING 행을 배치로 읽어 payment-requests 토픽으로 발행
+ * - 발행 확인된 행은 SENT, 실패한 행은 PENDING 유지 (다음 주기 재시도)
+ * - max-attempts 번 실패한 행은 FAILED 로 종료 (해당 예약은 결제 타임아웃으로 만료)
+ *
+ * [메트릭]
+ * - payment.outbox.relay: 결과별 건수 (result=sent|retry|failed)
+ * - payment.outbox.relay.delay: 아웃박스 기록 → 발행 확인까지 지연
+ *
+ * [배치 처리 - 트랜잭션은 DB 작업에만]
+ * 1. 선점: 짧은 트랜잭션에서 행을 잠가 claimed_until 기록 후 바로 커밋 (잠금/커넥션 반환)
+ * 2. 발행: 트랜잭션 밖에서 모두 send (응답 대기 없음, linger/batch 로 묶여서 전송)
+ *    → future를 한 번에 기다려서 결과 판정, 브로커 응답을 기다리는 동안 커넥션을 잡지 않음
+ * 3. 반영: 짧은 트랜잭션에서 IN 절 bulk UPDATE 로 SENT/재시도/FAILED 기록
+ *
+ * [동시 실행]
+ * - FOR UPDATE SKIP LOCKED + claimed_until 로 인스턴스끼리 다른 행을 가져감
+ * - 발행 후 반영 전에 죽으면 선점 기한(claim-lease-ms)이 지난 뒤 같은 행이 다시 발행됨 (at-least-once)
+ *   → 결제는 멱등키로 중복 처리 방지
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.payment.outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class PaymentOutboxRelayScheduler {
+
+    public static final String RELAY_COUNT = "payment.outbox.relay";
+    public static final String RELAY_DELAY = "payment.outbox.relay.delay";
+
+    private final PaymentOutboxJpaRepository outboxRepository;
+    private final PaymentKafkaProducer paymentKafkaProducer;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.payment.outbox.relay.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.payment.outbox.relay.send-timeout-ms:5000}")
+    private long sendTimeoutMs;
+
+    @Value("${app.payment.outbox.relay.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${app.payment.outbox.relay.claim-lease-ms:30000}")
+    private long claimLeaseMs;
+
+    @Value("${app.payment.outbox.relay.time-budget-ms:1000}")
+    private long timeBudgetMs;
+
+    @Value("${app.payment.outbox.retention-hours:24}")
+    private long retentionHours;
+
+    @Scheduled(fixedDelayString = "${app.payment.outbox.relay.interval-ms:100}")
+    public void relayPendingRequests() {
+        long deadline = System.currentTimeMillis() + timeBudgetMs;
+        int totalSent = 0;
+
+        try {
+            // 가득 찬 배치가 나오는 동안은 시간 예산 안에서 연속 처리
+            while (System.currentTimeMillis() < deadline) {
+                RelayResult result = relayBatch();
+                totalSent += result.sent();
+                if (result.fetched() < batchSize || result.sent() == 0) {
+                    break;
+                }
+            }
+        } catch (Exception e) {
+            log.error("[아웃박스] 릴레이 중 오류 발생", e);
+        }
+
+        if (totalSent > 0) {
+            log.debug("[아웃박스] 결제 요청 {}건 발행", totalSent);
+        }
+    }
+
+    private RelayResult relayBatch() {
+        // 1. 선점 (짧은 트랜잭션, 커밋하면서 행 잠금 해제)
+        List<PaymentOutboxJpaEntity> rows = transactionTemplate.execute(status -> claimBatch());
+        if (rows == null || rows.isEmpty()) {
+            return new RelayResult(0, 0);
+        }
+
+        // 2. 모두 send (트랜잭션 밖, 응답 대기 없이)
+        Map<PaymentOutboxJpaEntity, CompletableFuture<SendResult<String, Object>>> inFlight = new LinkedHashMap<>();
+        List<Long> brokenIds = new ArrayList<>();
+        for (PaymentOutboxJpaEntity row : rows) {
+            try {
+                PaymentRequestMessage message = objectMapper.readValue(row.getPayload(), PaymentRequestMessage.class);
+                inFlight.put(row, paymentKafkaProducer.dispatchPaymentRequest(message));
+            } catch (Exception e) {
+                log.error("[아웃박스] 발행 불가 행 - id: {}, reservationId: {}, error: {}",
+                        row.getId(), row.getReservationId(), e.getMessage());
+                brokenIds.add(row.getId());
+            }
+        }
+
+        // 결과 수집 (배치 전체에 하나의 타임아웃)
+        long waitUntil = System.currentTimeMillis() + sendTimeoutMs;
+        LocalDateTime sentAt = LocalDateTime.now();
+        List<Long> sentIds = new ArrayList<>();
+        List<Long> failedIds = new ArrayList<>();
+        inFlight.forEach((row, future) -> {
+            try {
+                long remaining = Math.max(0L, waitUntil - System.currentTimeMillis());
+                future.get(remaining, TimeUnit.MILLISECONDS);
+                sentIds.add(row.getId());
+                recordDelay(row.getCreatedAt(), sentAt);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failedIds.add(row.getId());
+            } catch (Exception e) {
+                failedIds.add(row.getId());
+            }
+        });
+
+        // 3. 상태 일괄 갱신 (짧은 트랜잭션)
+        Integer markedExhausted = transactionTemplate.execute(status ->
+                applyResults(sentIds, sentAt, failedIds, brokenIds));
+        int exhausted = markedExhausted == null ? 0 : markedExhausted;
+        if (!failedIds.isEmpty()) {
+            log.warn("[아웃박스] 결제 요청 {}건 발행 실패 - 다음 주기에 재시도", failedIds.size() - exhausted);
+            if (exhausted > 0) {
+                log.error("[아웃박스] 재시도 {}회 초과로 {}건 FAILED 처리", maxAttempts, exhausted);
+            }
+        }
+
+        countResult("sent", sentIds.size());
+        countResult("retry", failedIds.size() - exhausted);
+        countResult("failed", brokenIds.size() + exhausted);
+
+        return new RelayResult(rows.size(), sentIds.size());
+    }
+
+    private List<PaymentOutboxJpaEntity> claimBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<PaymentOutboxJpaEntity> rows = outboxRepository.findClaimableForUpdate(now, batchSize);
+        if (!rows.isEmpty()) {
+            outboxRepository.claim(
+                    rows.stream().map(PaymentOutboxJpaEntity::getId).toList(),
+                    now.plus(Duration.ofMillis(claimLeaseMs)));
+        }
+        return rows;
+    }
+
+    /**
+     * @return 재시도 한도를 넘겨 FAILED 처리된 행 수
+     */
+    private int applyResults(List<Long> sentIds, LocalDateTime sentAt, List<Long> failedIds, List<Long> brokenIds) {
+        if (!sentIds.isEmpty()) {
+            outboxRepository.markSent(sentIds, sentAt);
+        }
+        int exhausted = 0;
+        if (!failedIds.isEmpty()) {
+            outboxRepository.incrementAttempts(failedIds);
+            exhausted = outboxRepository.markExhausted(failedIds, maxAttempts);
+        }
+        if (!brokenIds.isEmpty()) {
+            outboxRepository.markFailed(brokenIds);
+        }
+        return exhausted;
+    }
+
+    /**
+     * 발행 완료 행 정리
+     */
+    @Scheduled(cron = "${app.payment.outbox.purge-cron:0 0 * * * *}")
+    public void purgeSentRows() {
+        try {
+            Integer deleted = transactionTemplate.execute(status ->
+                    outboxRepository.deleteSentBefore(LocalDateTime.now().minusHours(retentionHours)));
+            if (deleted != null && deleted > 0) {
+                log.info("[아웃박스] 발행 완료 행 {}건 삭제", deleted);
+            }
+        } catch (Exception e) {
+            log.error("[아웃박스] 정리 중 오류 발생", e);
+        }
+    }
+
+    private void countResult(String result, int count) {
+        if (count > 0) {
+            meterRegistry.counter(RELAY_COUNT, "result", result).increment(count);
+        }
+    }
+
+    private void recordDelay(LocalDateTime createdAt, LocalDateTime sentAt) {
+        Duration delay = Duration.between(createdAt, sentAt);
+        Timer.builder(RELAY_DELAY)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry)
+                .record(delay.isNegative() ? Duration.ZERO : delay);
+    }
+
+    private record RelayResult(int fetched, int sent) {}
+}
@@ -0,0 +1,39 @@
+package kr.hhplus.be.server.application.scheduler;
+
+import jakarta.annotation.PreDestroy;
+import kr.hhplus.be.server.application.port.in.RankingUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 랭킹 증감 병합 반영 스케줄러
+ *
+ * - 예약 확정/취소마다 Redis 를 갱신하지 않고 공연별로 누적된 증감을 주기적으로 한 번에 반영
+ * - 랭킹 반영 지연은 최대 flush-interval-ms
+ * - 종료 시 남은 증감을 마저 반영
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.ranking.coalesce.enabled", havingValue = "true")
+public class RankingFlushScheduler {
+
+    private final RankingUseCase rankingUseCase;
+
+    @Scheduled(fixedDelayString = "${app.ranking.coalesce.flush-interval-ms:200}")
+    public void flush() {
+        try {
+            rankingUseCase.flushPendingUpdates();
+        } catch (Exception e) {
+            log.error("[랭킹 집계] 반영 중 오류 발생", e);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
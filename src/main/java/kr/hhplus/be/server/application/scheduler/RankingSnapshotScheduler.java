@@ -0,0 +1,33 @@
+package kr.hhplus.be.server.application.scheduler;
+
+import kr.hhplus.be.server.application.port.in.RankingUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 랭킹 스냅샷 재구성 스케줄러 (refresh-ahead)
+ *
+ * - 판매가 몰려도 조회는 항상 스냅샷에서 처리되고, 예약 확정/취소는 캐시를 무효화하지 않음
+ * - 랭킹 반영 지연은 최대 refresh-interval-ms
+ * - 재구성 실패 시 이전 스냅샷을 계속 사용
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.ranking.snapshot.enabled", havingValue = "true")
+public class RankingSnapshotScheduler {
+
+    private final RankingUseCase rankingUseCase;
+
+    @Scheduled(fixedDelayString = "${app.ranking.snapshot.refresh-interval-ms:300}")
+    public void refresh() {
+        try {
+            rankingUseCase.refreshRankingSnapshot();
+        } catch (Exception e) {
+            log.error("[랭킹 스냅샷] 재구성 중 오류 발생", e);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package kr.hhplus.be.server.application.scheduler;
+
+import kr.hhplus.be.server.domain.reservation.Reservation;
+import kr.hhplus.be.server.domain.reservation.ReservationId;
+import kr.hhplus.be.server.domain.reservation.ReservationRepository;
+import kr.hhplus.be.server.infrastructure.kafka.message.RefundRequestMessage;
+import kr.hhplus.be.server.infrastructure.kafka.producer.PaymentKafkaProducer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 환불 대기 재발행 스케줄러
+ *
+ * 역할:
+ * - 환불 요청(마지막 재발행) 후 stale-minutes 이상 REFUND_PENDING 인 예약의 환불 요청을 다시 발행
+ * - 커밋 후 발행 실패, 환불 결과 발행 실패, DLQ 재처리 누락 등으로 멈춘 취소를 마무리
+ *
+ * 순서/한도:
+ * - 재발행한 건은 요청 시각을 갱신해 뒤로 보냄 → DLQ 에 묶인 건이 있어도 새로 멈춘 건이 밀리지 않음
+ * - max-attempts 번 재발행한 건은 제외 (DLQ/수동 처리 대상)
+ *
+ * 중복 발행:
+ * - 멱등키(refund-{reservationId})로 적립은 한 번만 수행
+ * - 이미 적립된 건은 결과만 다시 발행되어 CANCELLED 로 전환
+ *
+ * 실행 주기: 1분마다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.reservation.refund-sweep.enabled", havingValue = "true", matchIfMissing = true)
+public class RefundPendingScheduler {
+
+    private final ReservationRepository reservationRepository;
+    private final PaymentKafkaProducer paymentKafkaProducer;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.reservation.refund-sweep.stale-minutes:5}")
+    private long staleMinutes;
+
+    @Value("${app.reservation.refund-sweep.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.reservation.refund-sweep.max-attempts:10}")
+    private int maxAttempts;
+
+    @Scheduled(fixedDelayString = "${app.reservation.refund-sweep.interval-ms:60000}")
+    public void republishStaleRefunds() {
+        LocalDateTime threshold = LocalDateTime.now().minusMinutes(staleMinutes);
+
+        List<Reservation> stale;
+        try {
+            stale = reservationRepository.findStaleRefundRequests(threshold, maxAttempts, batchSize);
+        } catch (Exception e) {
+            log.error("[환불재발행] 대상 조회 실패", e);
+            return;
+        }
+
+        if (stale.isEmpty()) {
+            return;
+        }
+
+        log.warn("[환불재발행] 환불 대기 {}건 재발행 - threshold: {}", stale.size(), threshold);
+
+        for (Reservation reservation : stale) {
+            try {
+                paymentKafkaProducer.sendRefundRequest(RefundRequestMessage.of(
+                        reservation.getId().value(),
+                        reservation.getUserId().asString(),
+                        reservation.getPrice().amount(),
+                        reservation.getSeatIdentifier().scheduleId().value(),
+                        reservation.getSeatIdentifier().seatNumber().value()
+                ));
+            } catch (Exception e) {
+                log.error("[환불재발행] 발행 실패 - reservationId: {}, error: {}",
+                        reservation.getId().value(), e.getMessage());
+            }
+        }
+
+        // 발행 실패 건도 시도로 기록 (한도에 포함, 다음 주기엔 뒤로)
+        List<ReservationId> ids = stale.stream().map(Reservation::getId).toList();
+        try {
+            transactionTemplate.execute(status ->
+                    reservationRepository.markRefundRepublished(ids, LocalDateTime.now()));
+        } catch (Exception e) {
+            log.error("[환불재발행] 재발행 기록 실패 - {}건", ids.size(), e);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package kr.hhplus.be.server.application.scheduler;
+
+import kr.hhplus.be.server.application.service.ScheduleCancellationService;
+import kr.hhplus.be.server.infrastructure.persistence.concert.jpa.entity.ScheduleCancellationJpaEntity;
+import kr.hhplus.be.server.infrastructure.persistence.concert.jpa.repository.ScheduleCancellationJpaRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 공연 일정 일괄 취소 스케줄러
+ *
+ * 역할:
+ * - 진행 중인 일괄 취소 작업을 청크 단위로 처리
+ * - 한 번 실행에 time-budget 만큼만 처리 (다른 작업/스케줄러 지연 방지)
+ *
+ * 다중 인스턴스:
+ * - 같은 작업을 동시에 처리하면 작업 행 @Version 충돌로 한쪽 청크만 커밋
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ScheduleCancellationScheduler {
+
+    private final ScheduleCancellationJpaRepository cancellationRepository;
+    private final ScheduleCancellationService cancellationService;
+
+    @Value("${app.reservation.schedule-cancel.time-budget-ms:5000}")
+    private long timeBudgetMs;
+
+    @Scheduled(fixedDelayString = "${app.reservation.schedule-cancel.interval-ms:1000}")
+    public void processCancellations() {
+        for (ScheduleCancellationJpaEntity cancellation :
+                cancellationRepository.findByStatus(ScheduleCancellationJpaEntity.IN_PROGRESS)) {
+            Long scheduleId = cancellation.getScheduleId();
+            long deadline = System.currentTimeMillis() + timeBudgetMs;
+
+            try {
+                while (cancellationService.processNextChunk(scheduleId)
+                        && System.currentTimeMillis() < deadline) {
+                    // 시간 예산 안에서 다음 청크 계속 처리
+                }
+            } catch (ObjectOptimisticLockingFailureException e) {
+                log.debug("[일괄취소] 다른 인스턴스가 처리 중 - scheduleId: {}", scheduleId);
+            } catch (Exception e) {
+                log.error("[일괄취소] 처리 중 오류 발생 - scheduleId: {}", scheduleId, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package kr.hhplus.be.server.application.scheduler;
+
+import kr.hhplus.be.server.application.port.in.RankingUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 판매 속도 윈도우 갱신 스케줄러
+ *
+ * - 랭킹 점수는 최근 1분 판매 속도라서 판매가 멈춘 공연도 시간이 지나면 점수가 내려가야 함
+ * - 판매/취소가 없어도 refresh-interval-ms 마다 윈도우를 현재 시각까지 밀어 점수 갱신
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.ranking.velocity.refresh-enabled", havingValue = "true", matchIfMissing = true)
+public class VelocityWindowScheduler {
+
+    private final RankingUseCase rankingUseCase;
+
+    @Scheduled(fixedDelayString = "${app.ranking.velocity.refresh-interval-ms:1000}")
+    public void refresh() {
+        try {
+            rankingUseCase.refreshVelocityWindows();
+        } catch (Exception e) {
+            log.error("[판매 속도] 윈도우 갱신 중 오류 발생", e);
+        }
+    }
+}
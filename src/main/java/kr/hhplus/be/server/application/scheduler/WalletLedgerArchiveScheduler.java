@@ -0,0 +1,143 @@
+package kr.hhplus.be.server.application.scheduler;
+
+import kr.hhplus.be.server.infrastructure.persistence.payment.jpa.repository.WalletBalanceSnapshotJpaRepository;
+import kr.hhplus.be.server.infrastructure.persistence.payment.jpa.repository.WalletIdempotencyKeyJpaRepository;
+import kr.hhplus.be.server.infrastructure.persistence.payment.partition.WalletLedgerPartitionManager;
+import kr.hhplus.be.server.infrastructure.persistence.payment.partition.WalletLedgerPartitionManager.LedgerPartition;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.List;
+
+/**
+ * 지갑 원장 파티션 유지/아카이브 스케줄러
+ *
+ * 역할:
+ * - 앞으로 사용할 월 파티션을 미리 생성 (항상 동작 - pmax 에 데이터가 쌓이지 않도록)
+ * - 보관 기간이 지난 파티션을 gzip CSV 로 내보낸 뒤 DROP PARTITION
+ * - 아카이브된 구간의 멱등키 정리
+ *
+ * [안전장치]
+ * - 내보내기/삭제는 기본 비활성 (app.wallet.archive.enabled=true 로 명시해야 동작)
+ * - 파티션 삭제는 원장 모드(app.wallet.mode=ledger)에서만, 스냅샷에 반영된 파티션만
+ *   (행 모드에서 원장을 지우면 나중에 원장 모드로 전환할 때 파생 잔액이 달라짐,
+ *    반영 전 원장을 지워도 마찬가지)
+ * - 내보낸 행 수와 파티션 행 수가 다르면 삭제하지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WalletLedgerArchiveScheduler {
+
+    private final WalletLedgerPartitionManager partitionManager;
+    private final WalletBalanceSnapshotJpaRepository snapshotRepository;
+    private final WalletIdempotencyKeyJpaRepository idempotencyKeyRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.wallet.archive.enabled:false}")
+    private boolean archiveEnabled;
+
+    @Value("${app.wallet.mode:row}")
+    private String walletMode;
+
+    @Value("${app.wallet.archive.retention-months:12}")
+    private int retentionMonths;
+
+    @Value("${app.wallet.archive.months-ahead:3}")
+    private int monthsAhead;
+
+    @Value("${app.wallet.archive.directory:./archive/wallet-ledger}")
+    private String archiveDirectory;
+
+    /**
+     * 파티션 유지 - 매일 새벽 3시 30분 (CleanupScheduler 이후)
+     */
+    @Scheduled(cron = "${app.wallet.archive.cron:0 30 3 * * *}")
+    public void maintainLedgerPartitions() {
+        try {
+            List<LedgerPartition> partitions = partitionManager.findPartitions();
+            if (partitions.isEmpty()) {
+                log.debug("[원장아카이브] 파티션되지 않은 테이블 - 건너뜀");
+                return;
+            }
+
+            createUpcomingPartitions(partitions);
+            archiveExpiredPartitions(partitions);
+
+        } catch (Exception e) {
+            log.error("[원장아카이브] 처리 중 오류 발생", e);
+        }
+    }
+
+    private void createUpcomingPartitions(List<LedgerPartition> partitions) {
+        LocalDate lastBound = partitions.stream()
+                .filter(p -> !p.isMaxValue())
+                .map(LedgerPartition::upperBound)
+                .max(LocalDate::compareTo)
+                .orElse(YearMonth.now(ZoneOffset.UTC).atDay(1));
+
+        YearMonth target = YearMonth.now(ZoneOffset.UTC).plusMonths(monthsAhead);
+        for (YearMonth month = YearMonth.from(lastBound); !month.isAfter(target); month = month.plusMonths(1)) {
+            partitionManager.addMonthlyPartition(month);
+        }
+    }
+
+    private void archiveExpiredPartitions(List<LedgerPartition> partitions) throws Exception {
+        if (!archiveEnabled) {
+            return;
+        }
+        if (!isLedgerMode()) {
+            log.debug("[원장아카이브] 행 모드 - 원장은 잔액 원본 이력이므로 삭제하지 않음");
+            return;
+        }
+
+        LocalDate cutoff = YearMonth.now(ZoneOffset.UTC).minusMonths(retentionMonths).atDay(1);
+
+        for (LedgerPartition partition : partitions) {
+            if (partition.isMaxValue() || partition.upperBound().isAfter(cutoff)) {
+                continue;
+            }
+
+            long snapshotCursor = snapshotRepository.findMaxLastLedgerId();
+            if (partitionManager.maxId(partition.name()) > snapshotCursor) {
+                log.warn("[원장아카이브] 스냅샷 미반영 원장이 남아 있어 보류: {}", partition.name());
+                return;
+            }
+
+            archive(partition);
+        }
+    }
+
+    private void archive(LedgerPartition partition) throws Exception {
+        long expected = partitionManager.countRows(partition.name());
+        Path target = Path.of(archiveDirectory, "wallet_ledger_" + partition.name() + ".csv.gz");
+
+        long exported = partitionManager.exportPartition(partition.name(), target);
+        if (exported != expected) {
+            log.error("[원장아카이브] 행 수 불일치로 삭제 보류: partition={}, expected={}, exported={}",
+                    partition.name(), expected, exported);
+            return;
+        }
+
+        partitionManager.dropPartition(partition.name());
+
+        Integer deletedKeys = transactionTemplate.execute(status ->
+                idempotencyKeyRepository.deleteCreatedBefore(
+                        partition.upperBound().atStartOfDay().toInstant(ZoneOffset.UTC)));
+
+        log.info("[원장아카이브] {} 아카이브 완료 - 원장 {}건 → {}, 멱등키 {}건 정리",
+                partition.name(), exported, target, deletedKeys);
+    }
+
+    private boolean isLedgerMode() {
+        return "ledger".equals(walletMode);
+    }
+}
@@ -0,0 +1,129 @@
+package kr.hhplus.be.server.application.scheduler;
+
+import kr.hhplus.be.server.infrastructure.persistence.payment.jpa.entity.WalletBalanceSnapshotJpaEntity;
+import kr.hhplus.be.server.infrastructure.persistence.payment.jpa.repository.WalletBalanceSnapshotJpaRepository;
+import kr.hhplus.be.server.infrastructure.persistence.payment.jpa.repository.WalletLedgerJpaRepository;
+import kr.hhplus.be.server.infrastructure.persistence.payment.jpa.repository.WalletLedgerJpaRepository.UserLedgerDelta;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 원장 기반 지갑 잔액 스냅샷 스케줄러 (app.wallet.mode=ledger)
+ *
+ * 역할:
+ * - 마지막 스냅샷 위치 이후의 원장을 사용자별로 합산해 스냅샷을 전진
+ * - 잔액 조회 시 합산해야 하는 원장 구간을 짧게 유지
+ *
+ * [구간 결정]
+ * - 시작: 스냅샷에 반영된 최대 원장 ID
+ * - 끝 후보: settle-lag 이전에 생성된 최대 원장 ID
+ * - 끝: 후보 구간에 아직 커밋되지 않은 원장이 있으면 그 직전 ID까지만
+ *   IDENTITY 는 채번 순서대로 커밋되지 않으므로, 진행 중인 원장을 넘겨 버리면
+ *   그 원장은 이후 어떤 합산(id > last_ledger_id)에도 포함되지 않음
+ *   → READ UNCOMMITTED 로 보이지만 커밋 스냅샷에는 없는 ID = 진행 중인 트랜잭션의 원장
+ *   (롤백된 원장은 다음 주기에 미커밋 조회에서도 사라지므로 구간이 멈추지 않음)
+ *
+ * [원자성]
+ * - 한 구간은 한 트랜잭션에서 모두 반영 (부분 반영 시 시작 위치가 어긋남)
+ * - 다중 인스턴스 동시 실행은 구간 가드 + @Version 으로 한쪽만 커밋
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.wallet.mode", havingValue = "ledger")
+public class WalletSnapshotScheduler {
+
+    private final WalletLedgerJpaRepository ledgerRepository;
+    private final WalletBalanceSnapshotJpaRepository snapshotRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate uncommittedReadTemplate;
+
+    public WalletSnapshotScheduler(WalletLedgerJpaRepository ledgerRepository,
+                                   WalletBalanceSnapshotJpaRepository snapshotRepository,
+                                   TransactionTemplate transactionTemplate) {
+        this.ledgerRepository = ledgerRepository;
+        this.snapshotRepository = snapshotRepository;
+        this.transactionTemplate = transactionTemplate;
+
+        // 진행 중인 원장 확인용 (주 DB 에서 읽어야 하므로 readOnly 로 두지 않음)
+        this.uncommittedReadTemplate = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.uncommittedReadTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.uncommittedReadTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_READ_UNCOMMITTED);
+    }
+
+    @Value("${app.wallet.snapshot.settle-lag-ms:2000}")
+    private long settleLagMs;
+
+    @Scheduled(fixedDelayString = "${app.wallet.snapshot.interval-ms:5000}")
+    public void rollSnapshotsForward() {
+        try {
+            Integer rolled = transactionTemplate.execute(status -> rollForwardSettledEntries());
+            if (rolled != null && rolled > 0) {
+                log.info("[잔액스냅샷] 사용자 {}명 스냅샷 갱신", rolled);
+            }
+        } catch (Exception e) {
+            log.error("[잔액스냅샷] 처리 중 오류 발생", e);
+        }
+    }
+
+    private int rollForwardSettledEntries() {
+        long fromId = snapshotRepository.findMaxLastLedgerId();
+        Long toId = ledgerRepository.findMaxIdCreatedBefore(Instant.now().minusMillis(settleLagMs));
+
+        if (toId == null || toId <= fromId) {
+            return 0;
+        }
+
+        toId = lastSettledId(fromId, toId);
+        if (toId <= fromId) {
+            return 0;
+        }
+
+        List<UserLedgerDelta> deltas = ledgerRepository.sumAmountGroupByUser(fromId, toId);
+        for (UserLedgerDelta delta : deltas) {
+            WalletBalanceSnapshotJpaEntity snapshot = snapshotRepository.findById(delta.getUserId())
+                    .orElseGet(() -> new WalletBalanceSnapshotJpaEntity(delta.getUserId()));
+
+            // 다른 인스턴스가 이미 이 구간을 반영했다면 전체 롤백
+            if (snapshot.getLastLedgerId() > fromId) {
+                throw new IllegalStateException(
+                        "이미 반영된 원장 구간입니다: userId=" + delta.getUserId() + ", fromId=" + fromId);
+            }
+
+            snapshot.rollForward(delta.getDelta(), toId);
+            snapshotRepository.save(snapshot);
+        }
+
+        log.debug("[잔액스냅샷] 원장 구간 ({}, {}] 반영 - 사용자 {}명", fromId, toId, deltas.size());
+        return deltas.size();
+    }
+
+    /**
+     * (fromId, toId] 에서 진행 중인 원장이 없는 마지막 ID
+     * - 미커밋 조회를 커밋 스냅샷보다 나중에 하므로, 그 사이 커밋된 원장도 진행 중으로 보고 다음 주기로 미룸
+     */
+    private long lastSettledId(long fromId, long toId) {
+        Set<Long> committedIds = new HashSet<>(ledgerRepository.findIdsBetween(fromId, toId));
+        List<Long> allIds = uncommittedReadTemplate.execute(status -> ledgerRepository.findIdsBetween(fromId, toId));
+        if (allIds == null) {
+            return fromId;
+        }
+
+        for (Long id : allIds) {
+            if (!committedIds.contains(id)) {
+                log.debug("[잔액스냅샷] 진행 중인 원장 {} 직전까지만 반영", id);
+                return id - 1;
+            }
+        }
+        return toId;
+    }
+}
@@ -1,17 +1,23 @@
 package kr.hhplus.be.server.application.service;
 
 import kr.hhplus.be.server.application.port.in.RankingUseCase;
+import kr.hhplus.be.server.application.port.in.ScheduleCalendarUseCase;
 import kr.hhplus.be.server.application.port.out.ConcertSchedulePort;
 import kr.hhplus.be.server.application.port.out.RankingPort;
+import kr.hhplus.be.server.application.port.out.RankingPort.RankedSchedule;
+import kr.hhplus.be.server.application.port.out.RankingPort.SaleResult;
 import kr.hhplus.be.server.domain.concert.ConcertSchedule;
 import kr.hhplus.be.server.domain.concert.ConcertScheduleId;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
 
 @Service
 @Slf4j
@@ -20,69 +26,143 @@ public class ConcertRankingService implements RankingUseCase {
 
     private final ConcertSchedulePort schedulePort;
     private final RankingPort rankingPort;
+    private final CacheManager cacheManager;
+    private final ScheduleCalendarUseCase scheduleCalendarUseCase;
 
     private static final int DEFAULT_TOTAL_SEATS = 100;  // 폴백용
+    private static final String RANKING_CACHE = "concertRankings";
+
+    // 병합 모드: 공연별 판매(+)/취소(-) 증감 누적
+    private final ConcurrentHashMap<Long, Integer> pendingDeltas = new ConcurrentHashMap<>();
+
+    @Value("${app.ranking.coalesce.enabled:false}")
+    private boolean coalesceEnabled;
+
+    // 스냅샷 모드: 백그라운드에서 상위 K개를 주기적으로 재구성해서 통째로 교체, 조회는 스냅샷에서만
+    private final AtomicReference<List<ConcertRankingDto>> rankingSnapshot = new AtomicReference<>();
+
+    @Value("${app.ranking.snapshot.enabled:false}")
+    private boolean snapshotEnabled;
+
+    @Value("${app.ranking.snapshot.size:100}")
+    private int snapshotSize;
 
     /**
      * 예약 확정 시 호출 - 판매 속도 추적
+     *
+     * 병합 모드(app.ranking.coalesce.enabled=true)면 메모리에 공연별로 누적만 하고
+     * RankingFlushScheduler 가 주기적으로 한 번에 반영 → Redis 쓰기가 좌석 수가 아니라 공연 수에 비례
      */
     @Override
-    @CacheEvict(value = "concertRankings", allEntries = true)
     public void trackReservation(Long scheduleId, int seatCount) {
-        String scheduleIdStr = String.valueOf(scheduleId);
-
-        // 매진 체크
-        Map<String, String> stats = rankingPort.getStats(scheduleIdStr);
-        if (stats.containsKey("soldOutTime")) {
-            log.debug("이미 매진된 공연 - scheduleId: {}", scheduleId);
+        if (coalesceEnabled) {
+            pendingDeltas.merge(scheduleId, seatCount, Integer::sum);
             return;
         }
+        applyDeltas(Map.of(scheduleId, seatCount));
+    }
 
-        // 실제 총 좌석 수 조회
-        int totalSeats = getTotalSeats(scheduleId, stats);
-
-        // 첫 판매 시간 기록
-        rankingPort.setStartTimeIfAbsent(scheduleIdStr, System.currentTimeMillis());
-
-        // 판매 수량 증가
-        long newSoldCount = rankingPort.incrementSoldCount(scheduleIdStr, seatCount);
-
-        log.debug("예약 추적 - scheduleId: {}, 추가: {}석, 누적: {}석 / 총: {}석",
-                scheduleId, seatCount, newSoldCount, totalSeats);
+    /**
+     * 예약 취소 시 호출 - 판매 수량 차감
+     */
+    @Override
+    public void decrementReservation(Long scheduleId, int seatCount) {
+        if (coalesceEnabled) {
+            pendingDeltas.merge(scheduleId, -seatCount, Integer::sum);
+            return;
+        }
+        applyDeltas(Map.of(scheduleId, -seatCount));
+    }
 
-        // 판매 속도 랭킹 업데이트
-        updateVelocityRanking(scheduleId, newSoldCount);
+    /**
+     * 누적된 증감분 반영 (병합 모드)
+     * - 반영 실패 시 증감분을 다시 누적해서 다음 주기에 재시도
+     */
+    @Override
+    public void flushPendingUpdates() {
+        Map<Long, Integer> drained = new HashMap<>();
+        for (Long scheduleId : pendingDeltas.keySet()) {
+            Integer delta = pendingDeltas.remove(scheduleId);  // remove 이후 merge 는 새 항목으로 쌓임
+            if (delta != null && delta != 0) {
+                drained.put(scheduleId, delta);
+            }
+        }
+        if (drained.isEmpty()) {
+            return;
+        }
 
-        // 실제 좌석 수 기준 매진 체크
-        if (newSoldCount >= totalSeats) {
-            recordSoldOut(scheduleId, totalSeats);
+        try {
+            applyDeltas(drained);
+            log.debug("[랭킹 집계] {}개 공연 반영", drained.size());
+        } catch (Exception e) {
+            drained.forEach((scheduleId, delta) -> pendingDeltas.merge(scheduleId, delta, Integer::sum));
+            log.warn("[랭킹 집계] 반영 실패, 다음 주기에 재시도 - {}개 공연, error: {}", drained.size(), e.getMessage());
         }
     }
 
     /**
-     * 예약 취소 시 호출 - 판매 수량 차감
+     * 판매 속도 윈도우 갱신 (슬라이딩 윈도우)
+     * - Redis 랭킹에서 점수가 남아 있는 공연들의 윈도우를 현재 시각까지 밀어 점수를 낮춤 (판매가 멈추면 점수도 내려감)
+     * - 대상을 Redis 에서 읽으므로 다른 인스턴스가 반영한 판매나 재시작 전 판매도 함께 감소
      */
     @Override
-    @CacheEvict(value = "concertRankings", allEntries = true)
-    public void decrementReservation(Long scheduleId, int seatCount) {
-        String scheduleIdStr = String.valueOf(scheduleId);
+    public void refreshVelocityWindows() {
+        Map<String, SaleResult> refreshed = rankingPort.refreshVelocities(System.currentTimeMillis());
+        if (!refreshed.isEmpty()) {
+            log.debug("[판매 속도] {}개 공연 윈도우 갱신", refreshed.size());
+        }
+    }
+
+    /**
+     * 공연별 증감분 일괄 반영 (RankingPort.recordSales, 공연 수와 무관하게 왕복 1회)
+     *
+     * 판매 수량 증감, 판매 속도 랭킹, 매진 감지/기록이 스크립트 하나로 원자 실행되므로
+     * 매진 확인 후 기록 사이에 다른 판매가 끼어드는 경쟁이 없음
+     * 총 좌석 수가 Redis 에 없는 공연(첫 판매)만 DB 조회 후 개별 재시도
+     */
+    private void applyDeltas(Map<Long, Integer> deltas) {
+        long now = System.currentTimeMillis();
+        Map<String, Integer> seatCounts = new LinkedHashMap<>();
+        deltas.forEach((scheduleId, delta) -> seatCounts.put(String.valueOf(scheduleId), delta));
 
-        // 판매 수량 감소
-        long newSoldCount = rankingPort.decrementSoldCount(scheduleIdStr, seatCount);
+        Map<String, SaleResult> results = new LinkedHashMap<>(rankingPort.recordSales(seatCounts, now));
 
-        log.debug("예약 취소 반영 - scheduleId: {}, 차감: {}석, 현재: {}석",
-                scheduleId, seatCount, newSoldCount);
+        results.replaceAll((scheduleIdStr, result) -> {
+            if (result.status() != SaleResult.Status.TOTAL_SEATS_UNKNOWN) {
+                return result;
+            }
+            int totalSeats = getTotalSeats(Long.valueOf(scheduleIdStr), Map.of());
+            return rankingPort.recordSale(scheduleIdStr, seatCounts.get(scheduleIdStr), totalSeats, now);
+        });
+
+        results.forEach((scheduleIdStr, result) -> {
+            if (result.status() == SaleResult.Status.ALREADY_SOLD_OUT) {
+                log.debug("이미 매진된 공연 - scheduleId: {}", scheduleIdStr);
+                return;
+            }
+            int delta = seatCounts.get(scheduleIdStr);
+            log.debug("예약 반영 - scheduleId: {}, 증감: {}석, 누적: {}석, velocity(1분): {}",
+                    scheduleIdStr, delta, result.soldCount(), result.velocity());
+
+            if (result.soldOutNow()) {
+                log.info("매진 기록 - scheduleId: {}, 판매: {}석, 소요 시간: {}초",
+                        scheduleIdStr, result.soldCount(), result.soldOutSeconds());
+                scheduleCalendarUseCase.markSoldOut(Long.valueOf(scheduleIdStr));
+            }
+        });
 
-        // 판매 속도 랭킹 재계산
-        if (newSoldCount > 0) {
-            updateVelocityRanking(scheduleId, newSoldCount);
-        } else {
-            // 모든 예약이 취소된 경우 랭킹에서 제거
-            rankingPort.removeFromVelocityRanking(String.valueOf(scheduleId));
-            log.debug("모든 예약 취소로 랭킹에서 제거 - scheduleId: {}", scheduleId);
+        // 스냅샷 모드는 다음 재구성 때 반영되므로 무효화하지 않음
+        if (!snapshotEnabled) {
+            evictRankingCache();
         }
     }
 
+    private void evictRankingCache() {
+        Cache cache = cacheManager.getCache(RANKING_CACHE);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
 
     /**
      * 총 좌석 수 조회 (캐싱)
@@ -130,118 +210,79 @@ public class ConcertRankingService implements RankingUseCase {
     }
 
     /**
-     * 판매 속도 랭킹 업데이트
+     * 빠른 판매 랭킹 조회
+     *
+     * 스냅샷 모드면 스냅샷 앞부분을 그대로 반환 (Redis 조회 없음)
+     * 스냅샷이 아직 없거나 limit 이 스냅샷 크기보다 크면 캐시 경유로 직접 조회
      */
-
-    private void updateVelocityRanking(Long scheduleId, long soldCount) {
-        Map<String, String> stats = rankingPort.getStats(String.valueOf(scheduleId));
-        String startTimeStr = stats.get("startTime");
-
-        if (startTimeStr == null) {
-            log.warn("startTime이 없음 - scheduleId: {}", scheduleId);
-            return;
-        }
-
-        try {
-            long startTime = Long.parseLong(startTimeStr);
-            long elapsedSeconds = (System.currentTimeMillis() - startTime) / 1000;
-
-            // 판매 시작 후 1초 미만은 1초로 간주 (0 나누기 방지)
-            if (elapsedSeconds < 1) {
-                elapsedSeconds = 1;
+    @Override
+    public List<ConcertRankingDto> getFastSellingRanking(int limit) {
+        if (snapshotEnabled && limit <= snapshotSize) {
+            List<ConcertRankingDto> snapshot = rankingSnapshot.get();
+            if (snapshot != null) {
+                return snapshot.size() <= limit ? snapshot : List.copyOf(snapshot.subList(0, limit));
             }
+        }
 
-            // 초당 판매량 = 판매 속도
-            double velocity = soldCount / (double) elapsedSeconds;
-
-            rankingPort.updateVelocityRanking(String.valueOf(scheduleId), velocity);
-            log.debug("velocity 업데이트 - scheduleId: {}, velocity: {:.2f} 장/초",
-                    scheduleId, velocity);
-
-        } catch (NumberFormatException e) {
-            log.error("startTime 파싱 실패 - scheduleId: {}", scheduleId, e);
+        Cache cache = cacheManager.getCache(RANKING_CACHE);
+        if (cache == null) {
+            return loadRanking(limit);
         }
+        return cache.get(limit, () -> loadRanking(limit));
     }
 
     /**
-     * 매진 기록
+     * 랭킹 스냅샷 재구성 (스냅샷 모드)
+     * - 상위 snapshotSize 개를 새로 만든 뒤 참조만 교체 → 조회 중인 요청은 이전 스냅샷을 끝까지 사용
      */
-    private void recordSoldOut(Long scheduleId, int totalSeats) {
-        Map<String, String> stats = rankingPort.getStats(String.valueOf(scheduleId));
-        String startTimeStr = stats.get("startTime");
-
-        if (startTimeStr == null) {
-            log.warn("startTime이 없음 - scheduleId: {}", scheduleId);
-            return;
-        }
-
-        // 이미 매진 기록이 있는지 재확인 (동시성)
-        if (stats.containsKey("soldOutTime")) {
-            log.debug("이미 매진 기록됨 - scheduleId: {}", scheduleId);
-            return;
-        }
-
-        try {
-            long startTime = Long.parseLong(startTimeStr);
-            long soldOutTime = System.currentTimeMillis();
-            long durationSeconds = (soldOutTime - startTime) / 1000;
-
-            // 매진 정보 저장
-            Map<String, String> soldOutInfo = Map.of(
-                    "soldOutTime", String.valueOf(soldOutTime),
-                    "soldOutSeconds", String.valueOf(durationSeconds)
-            );
-
-            rankingPort.saveStats(String.valueOf(scheduleId), soldOutInfo);
-            rankingPort.updateSoldOutRanking(String.valueOf(scheduleId), durationSeconds);
-
-            log.info("매진 기록 - scheduleId: {}, 좌석: {}석, 소요 시간: {}초",
-                    scheduleId, totalSeats, durationSeconds);
-        } catch (NumberFormatException e) {
-            log.error("매진 기록 실패 - scheduleId: {}, startTime: {}",
-                    scheduleId, startTimeStr);
-        }
+    @Override
+    public void refreshRankingSnapshot() {
+        rankingSnapshot.set(List.copyOf(loadRanking(snapshotSize)));
     }
 
     /**
-     * 빠른 판매 랭킹 조회
+     * 랭킹 구성
+     *
+     * Redis 왕복은 limit 과 무관하게 2회 (ZREVRANGE WITHSCORES + 통계 HGETALL 파이프라인)
      */
-    @Override
-    @Cacheable(value = "concertRankings", key = "#limit")
-    public List<ConcertRankingDto> getFastSellingRanking(int limit) {
+    private List<ConcertRankingDto> loadRanking(int limit) {
         log.debug("랭킹 조회 - Port를 통한 데이터 조회 (캐시 미스)");
 
-        // Port를 통해 상위 랭킹 조회
-        Set<String> topSchedules = rankingPort.getTopByVelocity(limit);
+        // 1. 상위 랭킹 + 점수 조회
+        List<RankedSchedule> topSchedules = rankingPort.getTopByVelocityWithScores(limit);
 
         if (topSchedules.isEmpty()) {
             return List.of();
         }
 
-        // 1. scheduleId 목록 추출
-        List<Long> scheduleIds = topSchedules.stream()
-                .map(this::extractScheduleId)
+        // 2. scheduleId 목록 추출
+        List<String> scheduleIdStrs = topSchedules.stream()
+                .map(RankedSchedule::scheduleId)
+                .toList();
+        List<Long> scheduleIds = scheduleIdStrs.stream()
+                .map(this::parseScheduleId)
                 .filter(Objects::nonNull)
                 .toList();
 
-        // 2. 배치로 한 번에 조회
+        // 3. 통계 / 스케줄 배치로 한 번에 조회
+        Map<String, Map<String, String>> statsMap = rankingPort.getStatsBulk(scheduleIdStrs);
         Map<Long, ConcertSchedule> scheduleMap = schedulePort.findAllByIds(scheduleIds);
 
-        // 3. 랭킹 데이터 조합
+        // 4. 랭킹 데이터 조합
         List<ConcertRankingDto> result = new ArrayList<>();
         int rank = 1;
 
-        for (String scheduleKey : topSchedules) {
+        for (RankedSchedule ranked : topSchedules) {
             try {
-                Long scheduleId = extractScheduleId(scheduleKey);
+                Long scheduleId = parseScheduleId(ranked.scheduleId());
                 if (scheduleId == null) continue;
 
-                Map<String, String> stats = rankingPort.getStats(String.valueOf(scheduleId));
+                Map<String, String> stats = statsMap.getOrDefault(ranked.scheduleId(), Map.of());
                 if (stats.isEmpty()) continue;
 
-                // 통계 정보 추출
+                // 통계 정보 추출 (판매 속도 = 랭킹 점수, 최근 1분 초당 판매량)
                 int soldCount = getIntValue(stats.get("soldCount"));
-                double velocity = calculateVelocity(stats);
+                double velocity = ranked.score();
                 boolean isSoldOut = stats.containsKey("soldOutTime");
                 Integer soldOutSeconds = isSoldOut ?
                         getIntValue(stats.get("soldOutSeconds")) : null;
@@ -262,52 +303,24 @@ public class ConcertRankingService implements RankingUseCase {
                 ));
 
             } catch (NumberFormatException e) {
-                log.warn("숫자 형식 오류 - scheduleKey: {}", scheduleKey);
+                log.warn("숫자 형식 오류 - scheduleId: {}", ranked.scheduleId());
             } catch (Exception e) {
-                log.error("랭킹 항목 처리 실패 - scheduleKey: {}", scheduleKey, e);
+                log.error("랭킹 항목 처리 실패 - scheduleId: {}", ranked.scheduleId(), e);
             }
         }
 
         return result;
     }
 
-    private Long extractScheduleId(String value) {
-        if (value == null || !value.startsWith("schedule:")) {
-            return null;
-        }
+    private Long parseScheduleId(String value) {
         try {
-            return Long.parseLong(value.substring("schedule:".length()));
+            return Long.parseLong(value);
         } catch (NumberFormatException e) {
             log.warn("Invalid schedule ID format: {}", value);
             return null;
         }
     }
 
-    private double calculateVelocity(Map<String, String> stats) {
-        String startTimeStr = stats.get("startTime");
-        String soldCountStr = stats.get("soldCount");
-
-        if (startTimeStr == null || soldCountStr == null) return 0.0;
-
-        try {
-            long startTime = Long.parseLong(startTimeStr);
-            int soldCount = Integer.parseInt(soldCountStr);
-            long elapsedSeconds = (System.currentTimeMillis() - startTime) / 1000;
-
-            // 판매 시작 후 1초 미만은 1초로 간주 (0 나누기 방지)
-            if (elapsedSeconds < 1) {
-                elapsedSeconds = 1;
-            }
-
-            // 초당 판매량 반환
-            return soldCount / (double) elapsedSeconds;
-        } catch (NumberFormatException e) {
-            log.warn("판매 속도 계산 실패 - startTime: {}, soldCount: {}",
-                    startTimeStr, soldCountStr);
-            return 0.0;
-        }
-    }
-
     private int getIntValue(String value) {
         if (value == null) return 0;
         try {
@@ -1,12 +1,14 @@
 package kr.hhplus.be.server.application.service;
 
+import kr.hhplus.be.server.application.port.in.ScheduleCalendarUseCase;
+import kr.hhplus.be.server.domain.reservation.ReservationRepository;
 import kr.hhplus.be.server.infrastructure.persistence.concert.jpa.entity.ConcertJpaEntity;
 import kr.hhplus.be.server.infrastructure.persistence.concert.jpa.entity.ConcertScheduleJpaEntity;
 import kr.hhplus.be.server.infrastructure.persistence.concert.jpa.repository.ConcertJpaRepository;
 import kr.hhplus.be.server.infrastructure.persistence.concert.jpa.repository.ConcertScheduleJpaRepository;
-import kr.hhplus.be.server.infrastructure.persistence.reservation.jpa.repository.ConfirmedReservationJpaRepository;
 import kr.hhplus.be.server.web.concert.dto.ConcertDto;
 import kr.hhplus.be.server.web.concert.dto.ScheduleDto;
+import kr.hhplus.be.server.web.concert.dto.SeatRanges;
 import lombok.RequiredArgsConstructor;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.cache.annotation.CacheEvict;
@@ -14,8 +16,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.BitSet;
 import java.util.List;
-import java.util.stream.IntStream;
 
 @Service
 @RequiredArgsConstructor
@@ -25,7 +27,8 @@ public class ConcertService {
     // JPA Repository 직접 의존 (Port 제거)
     private final ConcertJpaRepository concertJpaRepository;
     private final ConcertScheduleJpaRepository scheduleJpaRepository;
-    private final ConfirmedReservationJpaRepository confirmedReservationRepository;
+    private final ReservationRepository reservationRepository;
+    private final ScheduleCalendarUseCase scheduleCalendarUseCase;
 
     /**
      * 전체 콘서트 목록 조회
@@ -47,32 +50,32 @@ public class ConcertService {
      * 예약 가능한 날짜 목록 조회
      */
     public List<LocalDate> getAvailableDates(int days) {
-        // 간단한 구현: 오늘부터 days일간의 날짜 반환
-        // 실제로는 DB에서 스케줄이 있는 날짜만 조회해야 함
-        return IntStream.range(0, days)
-                .mapToObj(i -> LocalDate.now().plusDays(i))
-                .toList();
+        // 날짜 색인 조회 (예약 가능한 일정이 있는 날짜만)
+        return scheduleCalendarUseCase.getAvailableDates(days);
     }
 
     /**
      * 특정 콘서트의 특정 날짜 스케줄 조회
+     * - sync: 캐시 만료 시 동시 요청 중 한 요청만 DB 조회 (StampedeProtectedCache)
      */
-    @Cacheable(value = "schedule", key = "#concertId + ':' + #date")
+    @Cacheable(value = "schedule", key = "#concertId + ':' + #date", sync = true)
     public ScheduleDto getConcertSchedule(Long concertId, LocalDate date) {
         // 스케줄 조회
         ConcertScheduleJpaEntity schedule = scheduleJpaRepository
                 .findByConcertIdAndConcertDate(concertId, date)
                 .orElseThrow(() -> new RuntimeException("해당 날짜의 콘서트 스케줄을 찾을 수 없습니다"));
 
-        // 확정된 좌석 번호들 조회
-        List<Integer> confirmedSeats = confirmedReservationRepository
-                .findSeatNosByConcertDate(date);
-
-        // 전체 좌석에서 확정된 좌석 제외한 가용 좌석 계산
-        List<Integer> availableSeats = IntStream.rangeClosed(1, schedule.getSeatCount())
-                .filter(seatNo -> !confirmedSeats.contains(seatNo))
-                .boxed()
-                .toList();
+        // 확정된 좌석 번호를 비트셋에 바로 기록 (해당 일정 행만 조회, 박싱 없음)
+        int seatCount = schedule.getSeatCount();
+        BitSet confirmed = new BitSet(seatCount + 1);
+        reservationRepository.forEachConfirmedSeatNo(schedule.getId(), seatNo -> {
+            if (seatNo >= 1 && seatNo <= seatCount) {
+                confirmed.set(seatNo);
+            }
+        });
+
+        // 전체 좌석에서 확정된 좌석 제외한 가용 좌석 계산 (비트셋, 좌석 수 + 확정 수에 비례)
+        SeatRanges availableSeats = SeatRanges.clearBitsOf(confirmed, 1, seatCount);
 
         return new ScheduleDto(
                 schedule.getId(),
@@ -11,6 +11,16 @@ import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+
 /**
  * 결제 애플리케이션 서비스
  * - 도메인 로직 조율
@@ -20,6 +30,7 @@ import org.springframework.transaction.support.TransactionTemplate;
  * [분산락 적용 포인트]
  * 1. charge: 사용자별 락 (동시 충전 방지)
  * 2. pay: 사용자별 락 (동시 결제 방지)
+ * 3. refundBatch: 분산락 대신 지갑 행 잠금 (사용자 ID 순서로 잠가 데드락 방지)
  *
  * [실행 순서]
  * - 락 획득 → 멱등성 체크 → 트랜잭션 시작 → 작업 → 트랜잭션 커밋 → 락 해제
@@ -93,7 +104,6 @@ public class PaymentService implements PaymentUseCase {
      */
     @Override
     public BalanceResult pay(PaymentCommand command) {
-        UserId userId = UserId.ofString(command.userId());
         String lockKey = "lock:payment:user:" + command.userId();
 
         // 락 먼저 획득
@@ -102,18 +112,27 @@ public class PaymentService implements PaymentUseCase {
                 10L,        // TTL: 10초
                 3,          // 최대 3번 재시도
                 100L,       // 100ms 대기 후 재시도
-                () -> {
-                    // 락 안에서 멱등성 체크 (동시 요청 시 일관성 보장)
-                    if (walletPort.isIdempotencyKeyUsed(userId, command.idempotencyKey())) {
-                        long currentBalance = walletPort.balanceOf(command.userId());
-                        return new BalanceResult(currentBalance);
-                    }
+                () -> payOrdered(command)  // 락 안에서 멱등성 체크 → 트랜잭션 실행
+        );
+    }
 
-                    // 트랜잭션 실행
-                    return transactionTemplate.execute(status ->
-                            executePay(command, userId)
-                    );
-                }
+    /**
+     * 결제 처리 (사용자별 순차 실행이 보장된 호출자 전용)
+     * - 분산락 없이 멱등성 체크 → 트랜잭션 실행
+     * - PaymentRequestConsumer: userId 키 파티션 + 키별 단일 스레드 레인으로 순서 보장
+     * - 리밸런싱 중 잠시 겹치는 처리는 멱등키 유니크 + 지갑 @Version 으로 방어
+     */
+    @Override
+    public BalanceResult payOrdered(PaymentCommand command) {
+        UserId userId = UserId.ofString(command.userId());
+
+        if (walletPort.isIdempotencyKeyUsed(userId, command.idempotencyKey())) {
+            long currentBalance = walletPort.balanceOf(command.userId());
+            return new BalanceResult(currentBalance);
+        }
+
+        return transactionTemplate.execute(status ->
+                executePay(command, userId)
         );
     }
 
@@ -185,6 +204,86 @@ public class PaymentService implements PaymentUseCase {
         return new BalanceResult(wallet.getBalance().amount());
     }
 
+    /**
+     * 환불 일괄 처리 (refund-requests 배치 컨슈머, 일정 일괄 취소에서 사용)
+     * - 한 트랜잭션에서 사용자별로 금액을 모아 지갑을 한 번만 갱신
+     * - 원장은 환불 건마다 기록 (건별 멱등키 유지)
+     * - 이미 처리된 멱등키는 건너뜀 (재전송 대비)
+     * - 잘못된 건(사용자 ID/금액 오류, 지갑 없음)은 예외 대신 rejected 로 돌려줌
+     *   → 한 건 때문에 배치 전체가 롤백되지 않음 (호출자가 격리 처리)
+     */
+    @Override
+    public RefundBatchResult refundBatch(List<RefundCommand> commands) {
+        List<RefundCommand> rejected = new ArrayList<>();
+        Map<UserId, List<RefundCommand>> commandsByUser = new TreeMap<>(Comparator.comparing(UserId::asString));
+        for (RefundCommand command : commands) {
+            Optional<UserId> userId = validRefundUser(command);
+            if (userId.isEmpty()) {
+                rejected.add(command);
+                continue;
+            }
+            commandsByUser.computeIfAbsent(userId.get(), key -> new ArrayList<>()).add(command);
+        }
+
+        return transactionTemplate.execute(status -> {
+            Map<String, Long> balances = new LinkedHashMap<>();
+            commandsByUser.forEach((userId, userCommands) ->
+                    executeRefundBatch(userId, userCommands).ifPresentOrElse(
+                            balance -> balances.put(userId.asString(), balance),
+                            () -> rejected.addAll(userCommands)));
+            return new RefundBatchResult(balances, List.copyOf(rejected));
+        });
+    }
+
+    private Optional<UserId> validRefundUser(RefundCommand command) {
+        if (command.amount() <= 0 || command.idempotencyKey() == null) {
+            log.error("환불 요청 거부 - 잘못된 금액/멱등키, userId: {}, amount: {}, key: {}",
+                    command.userId(), command.amount(), command.idempotencyKey());
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(UserId.ofString(command.userId()));
+        } catch (IllegalArgumentException e) {
+            log.error("환불 요청 거부 - 잘못된 사용자 ID, key: {}, error: {}", command.idempotencyKey(), e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 사용자 한 명의 환불 건 적립 (트랜잭션 내부)
+     *
+     * @return 적립 후 잔액, 지갑이 없으면 empty
+     */
+    private Optional<Long> executeRefundBatch(UserId userId, List<RefundCommand> commands) {
+        // 지갑 행 잠금 (같은 사용자의 결제/환불과 직렬화)
+        Optional<Wallet> found = walletPort.findByUserIdWithLock(userId);
+        if (found.isEmpty()) {
+            log.error("환불 요청 거부 - 지갑을 찾을 수 없습니다: {}, {}건", userId.asString(), commands.size());
+            return Optional.empty();
+        }
+        Wallet wallet = found.get();
+
+        Set<String> appliedKeys = new HashSet<>();
+        int applied = 0;
+        for (RefundCommand command : commands) {
+            String key = command.idempotencyKey();
+            if (!appliedKeys.add(key) || walletPort.isIdempotencyKeyUsed(userId, key)) {
+                continue;
+            }
+
+            wallet.charge(command.amount(), key);
+            walletPort.saveLedgerEntry(userId, command.amount(), "REFUND", key);
+            applied++;
+        }
+
+        if (applied > 0) {
+            walletPort.save(wallet);
+        }
+        log.debug("환불 적립 - userId: {}, 요청: {}건, 적립: {}건", userId.asString(), commands.size(), applied);
+
+        return Optional.of(wallet.getBalance().amount());
+    }
+
     @Override
     public BalanceResult getBalance(BalanceQuery query) {
         long balance = walletPort.balanceOf(query.userId());
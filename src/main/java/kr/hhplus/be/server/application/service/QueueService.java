@@ -42,7 +42,7 @@ public class QueueService implements QueueUseCase {
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional  // 발급 직후 조회 - 복제본 지연을 피해 주 DB 에서 읽음
     public TokenInfo getTokenInfo(String token) {
         boolean isActive = queuePort.isActive(token);
 
@@ -79,13 +79,13 @@ public class QueueService implements QueueUseCase {
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional
     public boolean isTokenActive(String token) {
         return queuePort.isActive(token);
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional
     public String getUserIdByToken(String token) {
         String userId = queuePort.userIdOf(token);
         if (userId == null) {
@@ -1,8 +1,7 @@
 package kr.hhplus.be.server.application.service;
 
-import kr.hhplus.be.server.application.event.ReservationCancelledEvent;
+import kr.hhplus.be.server.application.event.RefundRequestedEvent;
 import kr.hhplus.be.server.application.port.in.ReservationUseCase;
-import kr.hhplus.be.server.application.port.in.PaymentUseCase;
 import kr.hhplus.be.server.application.port.out.*;
 import kr.hhplus.be.server.domain.common.Money;
 import kr.hhplus.be.server.domain.common.UserId;
@@ -12,7 +11,6 @@ import kr.hhplus.be.server.domain.concert.ConcertScheduleId;
 import kr.hhplus.be.server.domain.queue.QueueTokenNotActiveException;
 import kr.hhplus.be.server.domain.reservation.*;
 import kr.hhplus.be.server.infrastructure.kafka.message.PaymentRequestMessage;
-import kr.hhplus.be.server.infrastructure.kafka.producer.PaymentKafkaProducer;
 import kr.hhplus.be.server.infrastructure.redis.lock.RedisDistributedLock;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -43,6 +41,17 @@ import java.util.Optional;
  * - 기존: paymentUseCase.pay() 동기 호출 (2~3초 블로킹)
  * - 변경: Kafka로 결제 요청 발행 (즉시 응답)
  * - 상태: TEMPORARY_ASSIGNED → PAYMENT_PENDING → CONFIRMED/PAYMENT_FAILED
+ *
+ * [결제 요청 아웃박스]
+ * - 결제 요청은 상태 변경과 같은 트랜잭션에서 payment_outbox 에 기록 (확정 = 순수 DB 커밋)
+ * - PaymentOutboxRelayScheduler가 커밋된 행만 Kafka로 발행
+ * - 롤백 후 발행 / 커밋 후 발행 실패로 PAYMENT_PENDING 에 묶이는 경우 제거
+ *
+ * [환불 비동기화]
+ * - 기존: paymentUseCase.refund() 동기 호출 (취소 트랜잭션 안에서 사용자 락 추가 획득)
+ * - 변경: Kafka로 환불 요청 발행 → RefundRequestConsumer가 배치로 적립
+ * - 상태: CONFIRMED → REFUND_PENDING → CANCELLED
+ * - 환불 요청은 커밋 후 발행 (RefundRequestEventListener), 유실분은 RefundPendingScheduler가 재발행
  */
 @Slf4j
 @Service
@@ -51,14 +60,13 @@ public class ReservationService implements ReservationUseCase {
 
     private final ReservationRepository reservationRepository;
     private final QueuePort queuePort;
-    private final PaymentUseCase paymentUseCase;  // 환불에만 사용
     private final ConcertSchedulePort concertSchedulePort;
     private final ReservationDomainService domainService;
     private final SeatHoldPort seatHoldPort;
     private final RedisDistributedLock distributedLock;
     private final TransactionTemplate transactionTemplate;
     private final ApplicationEventPublisher eventPublisher;
-    private final PaymentKafkaProducer paymentKafkaProducer;  // 결제 비동기 발행
+    private final PaymentOutboxPort paymentOutboxPort;        // 결제 요청 아웃박스
 
     /**
      * 좌석 임시 배정
@@ -78,6 +86,7 @@ public class ReservationService implements ReservationUseCase {
         if (scheduleOpt.isEmpty()) {
             throw new ConcertScheduleNotFoundException("콘서트 스케줄을 찾을 수 없습니다");
         }
+        validateScheduleNotCancelled(new ConcertScheduleId(command.concertScheduleId()));
 
         // 3. 좌석 식별자 생성
         SeatIdentifier seatIdentifier = new SeatIdentifier(
@@ -183,7 +192,7 @@ public class ReservationService implements ReservationUseCase {
      * 흐름:
      * 1. 예약 조회 및 검증
      * 2. 상태 변경: TEMPORARY_ASSIGNED → PAYMENT_PENDING
-     * 3. Kafka로 결제 요청 발행
+     * 3. 결제 요청을 아웃박스에 기록 (같은 트랜잭션)
      * 4. 즉시 응답 반환 (결제 완료 전)
      *
      * 결제 결과는 PaymentResultConsumer에서 처리:
@@ -196,11 +205,14 @@ public class ReservationService implements ReservationUseCase {
         // 1. 예약 조회 및 권한 검증
         Reservation reservation = findAndValidateReservation(command.reservationId(), userId);
 
+        // 2. 일괄 취소 중인 일정은 결제 진행 차단
+        validateScheduleNotCancelled(reservation.getSeatIdentifier().scheduleId());
+
         // 3. 상태 변경: TEMPORARY_ASSIGNED → PAYMENT_PENDING
         reservation.startPayment();
         reservationRepository.save(reservation);
 
-        // 4. Kafka로 결제 요청 발행
+        // 4. 결제 요청 아웃박스 기록 (커밋 후 릴레이가 Kafka로 발행)
         PaymentRequestMessage paymentRequest = PaymentRequestMessage.of(
                 reservation.getId().value(),
                 userId.asString(),
@@ -209,12 +221,12 @@ public class ReservationService implements ReservationUseCase {
                 reservation.getSeatIdentifier().scheduleId().value(),
                 reservation.getSeatIdentifier().seatNumber().value()
         );
-        paymentKafkaProducer.sendPaymentRequest(paymentRequest);
+        paymentOutboxPort.appendPaymentRequest(paymentRequest);
 
-        log.info("결제 요청 발행 완료 - reservationId: {}, status: PAYMENT_PENDING",
+        log.info("결제 요청 기록 완료 - reservationId: {}, status: PAYMENT_PENDING",
                 reservation.getId().value());
 
-        // 5. 대기열 토큰 만료 (결제 요청이 발행되면 토큰은 더 이상 필요 없음)
+        // 5. 대기열 토큰 만료 (결제 요청이 기록되면 토큰은 더 이상 필요 없음)
         queuePort.expire(command.queueToken());
 
         // 6. 즉시 응답 반환 (결제 완료 전)
@@ -227,10 +239,12 @@ public class ReservationService implements ReservationUseCase {
     }
 
     /**
-     * 예약 취소
+     * 예약 취소 (비동기 환불)
      * - 분산락: lock:reservation:cancel:{reservationId}
-     * - 범위: 예약 조회 ~ 환불 ~ 취소 ~ 이벤트 발행
+     * - 범위: 예약 조회 ~ 상태 변경 (환불 요청은 커밋 후 발행)
      * - 중요: 중복 취소 방지
+     *
+     * 환불 완료 후 RefundResultConsumer에서 CANCELLED 전환 및 취소 이벤트 발행
      */
     @Override
     public CancelReservationResult cancelReservation(CancelReservationCommand command) {
@@ -267,37 +281,30 @@ public class ReservationService implements ReservationUseCase {
                     "확정된 예약만 취소할 수 있습니다. 현재 상태: " + reservation.getStatus());
         }
 
-        // 3. 환불 처리 (동기 - 취소는 빈도가 낮으므로 동기 유지)
-        PaymentUseCase.RefundCommand refundCommand = new PaymentUseCase.RefundCommand(
+        // 3. 상태 변경: CONFIRMED → REFUND_PENDING
+        LocalDateTime requestedAt = LocalDateTime.now();
+        reservation.requestRefund(requestedAt);
+        reservationRepository.save(reservation);
+
+        // 4. 환불 요청 이벤트 (커밋 후 Kafka 발행)
+        eventPublisher.publishEvent(RefundRequestedEvent.of(
+                reservation.getId().value(),
                 userId.asString(),
                 reservation.getPrice().amount(),
-                "refund-" + command.reservationId() + "-" + System.currentTimeMillis()
-        );
-
-        PaymentUseCase.BalanceResult refundResult = paymentUseCase.refund(refundCommand);
-
-        // 4. 예약 상태 변경 → CANCELLED
-        LocalDateTime cancelledAt = LocalDateTime.now();
-        reservation.cancel(cancelledAt);
-        reservationRepository.save(reservation);
+                reservation.getSeatIdentifier().scheduleId().value(),
+                reservation.getSeatIdentifier().seatNumber().value(),
+                requestedAt
+        ));
 
-        // 5. 예약 취소 이벤트 발행
-        eventPublisher.publishEvent(
-                ReservationCancelledEvent.of(
-                        reservation.getId().value(),
-                        reservation.getUserId().asString(),
-                        reservation.getSeatIdentifier().scheduleId().value(),
-                        reservation.getSeatIdentifier().seatNumber().value(),
-                        reservation.getPrice().amount(),
-                        cancelledAt
-                )
-        );
-        log.info("예약 취소 이벤트 발행 완료 - reservationId: {}", reservation.getId().value());
+        log.info("환불 요청 등록 완료 - reservationId: {}, status: REFUND_PENDING",
+                reservation.getId().value());
 
+        // 5. 즉시 응답 반환 (환불 완료 전)
         return new CancelReservationResult(
                 reservation.getId().value(),
                 reservation.getPrice().amount(),
-                cancelledAt
+                requestedAt,
+                "REFUND_PENDING"
         );
     }
 
@@ -342,6 +349,16 @@ public class ReservationService implements ReservationUseCase {
         }
     }
 
+    /**
+     * 일괄 취소가 요청된 일정은 신규 예약/결제 차단
+     * (차단 전에 들어온 예약은 일괄 취소 작업이 완료 전에 정리)
+     */
+    private void validateScheduleNotCancelled(ConcertScheduleId scheduleId) {
+        if (concertSchedulePort.isCancelled(scheduleId)) {
+            throw new InvalidReservationStateException("취소된 공연 일정입니다: " + scheduleId.value());
+        }
+    }
+
     private Reservation findAndValidateReservation(String reservationId, UserId userId) {
         Optional<Reservation> reservationOpt = reservationRepository.findById(new ReservationId(reservationId));
         if (reservationOpt.isEmpty()) {
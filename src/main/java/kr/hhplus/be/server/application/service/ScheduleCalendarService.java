@@ -0,0 +1,126 @@
+package kr.hhplus.be.server.application.service;
+
+import kr.hhplus.be.server.application.port.in.ScheduleCalendarUseCase;
+import kr.hhplus.be.server.application.port.out.ConcertSchedulePort;
+import kr.hhplus.be.server.application.port.out.ScheduleCalendarPort;
+import kr.hhplus.be.server.domain.concert.ConcertSchedule;
+import kr.hhplus.be.server.domain.concert.ConcertScheduleId;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 예약 가능 날짜 조회 (날짜 선택 화면)
+ *
+ * - 오늘부터 horizon-days 까지 날짜별 예약 가능 일정 수를 색인해 두고 조회는 색인에서만 (Redis 왕복 1회)
+ * - 색인이 없거나 만료되면 DB 집계 한 번으로 재구성
+ * - 일정이 매진(ConcertRankingService 의 매진 감지 시점)되거나 일괄 취소되면 해당 날짜만 차감
+ * - 예약 취소로 좌석이 풀리면 DB 기준으로 예약 가능한지 확인 후 해당 날짜에 다시 추가
+ * - 새 일정 등록은 색인 TTL 만료 후 재구성 때 반영
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ScheduleCalendarService implements ScheduleCalendarUseCase {
+
+    private final ConcertSchedulePort schedulePort;
+    private final ScheduleCalendarPort calendarPort;
+
+    @Value("${app.calendar.horizon-days:90}")
+    private int horizonDays;
+
+    @Override
+    public List<LocalDate> getAvailableDates(int days) {
+        if (days <= 0) {
+            return List.of();
+        }
+        LocalDate today = LocalDate.now();
+        LocalDate to = today.plusDays(days - 1);
+
+        // 색인 범위를 넘는 조회는 DB 직접 집계
+        if (days > horizonDays) {
+            return openDates(schedulePort.findOpenSchedules(today, to));
+        }
+
+        try {
+            Optional<List<LocalDate>> indexed = calendarPort.findOpenDates(today, to);
+            if (indexed.isPresent()) {
+                return indexed.get();
+            }
+        } catch (Exception e) {
+            log.warn("[날짜 색인] 조회 실패, DB 집계로 대체 - error: {}", e.getMessage());
+            return openDates(schedulePort.findOpenSchedules(today, to));
+        }
+
+        return rebuild(today, to);
+    }
+
+    /**
+     * 매진된 일정을 색인에서 닫음
+     * - 색인 갱신 실패는 판매 반영에 영향을 주지 않음 (다음 재구성 때 DB 기준으로 맞춰짐)
+     */
+    @Override
+    public void markSoldOut(Long scheduleId) {
+        close(scheduleId, "매진");
+    }
+
+    /**
+     * 일괄 취소된 일정을 색인에서 닫음
+     */
+    @Override
+    public void markCancelled(Long scheduleId) {
+        close(scheduleId, "일괄 취소");
+    }
+
+    /**
+     * 예약 취소로 좌석이 풀린 일정을 색인에 다시 엶
+     * - 일괄 취소/여전히 매진인 일정은 DB 기준으로 걸러냄
+     * - 이미 열린 일정은 색인에서 무시되므로 취소마다 호출해도 됨
+     */
+    @Override
+    public void markReopened(Long scheduleId) {
+        try {
+            schedulePort.findById(new ConcertScheduleId(scheduleId))
+                    .map(ConcertSchedule::getConcertDate)
+                    .filter(date -> schedulePort.findOpenSchedules(date, date).containsKey(scheduleId))
+                    .ifPresent(date -> calendarPort.openSchedule(scheduleId, date));
+        } catch (Exception e) {
+            log.warn("[날짜 색인] 예약 취소 반영 실패 - scheduleId: {}, error: {}", scheduleId, e.getMessage());
+        }
+    }
+
+    private void close(Long scheduleId, String reason) {
+        try {
+            calendarPort.closeSchedule(scheduleId);
+        } catch (Exception e) {
+            log.warn("[날짜 색인] {} 반영 실패 - scheduleId: {}, error: {}", reason, scheduleId, e.getMessage());
+        }
+    }
+
+    private List<LocalDate> rebuild(LocalDate today, LocalDate to) {
+        LocalDate coveredUntil = today.plusDays(horizonDays - 1);
+        Map<Long, LocalDate> openSchedules = schedulePort.findOpenSchedules(today, coveredUntil);
+
+        try {
+            calendarPort.replace(openSchedules, coveredUntil);
+            log.debug("[날짜 색인] 재구성 - {} ~ {}, 일정 {}개", today, coveredUntil, openSchedules.size());
+        } catch (Exception e) {
+            log.warn("[날짜 색인] 재구성 실패 - error: {}", e.getMessage());
+        }
+
+        return openDates(openSchedules).stream()
+                .filter(date -> !date.isAfter(to))
+                .toList();
+    }
+
+    // 일정 ID → 날짜 (날짜 오름차순) 에서 날짜만 중복 없이
+    private static List<LocalDate> openDates(Map<Long, LocalDate> openSchedules) {
+        return openSchedules.values().stream().distinct().toList();
+    }
+}
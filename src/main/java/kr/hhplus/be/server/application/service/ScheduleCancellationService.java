@@ -0,0 +1,208 @@
+package kr.hhplus.be.server.application.service;
+
+import kr.hhplus.be.server.application.event.ScheduleReservationsCancelledEvent;
+import kr.hhplus.be.server.application.port.in.PaymentUseCase;
+import kr.hhplus.be.server.application.port.in.ScheduleCalendarUseCase;
+import kr.hhplus.be.server.application.port.in.ScheduleCancellationUseCase;
+import kr.hhplus.be.server.application.port.out.ConcertSchedulePort;
+import kr.hhplus.be.server.application.port.out.SeatHoldPort;
+import kr.hhplus.be.server.domain.common.exception.ConcertScheduleNotFoundException;
+import kr.hhplus.be.server.domain.concert.ConcertScheduleId;
+import kr.hhplus.be.server.domain.reservation.Reservation;
+import kr.hhplus.be.server.domain.reservation.ReservationId;
+import kr.hhplus.be.server.domain.reservation.ReservationRepository;
+import kr.hhplus.be.server.domain.reservation.ReservationStatus;
+import kr.hhplus.be.server.domain.reservation.SeatIdentifier;
+import kr.hhplus.be.server.infrastructure.kafka.message.RefundRequestMessage;
+import kr.hhplus.be.server.infrastructure.persistence.concert.jpa.entity.ScheduleCancellationJpaEntity;
+import kr.hhplus.be.server.infrastructure.persistence.concert.jpa.repository.ScheduleCancellationJpaRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 공연 일정 일괄 취소 서비스
+ *
+ * [처리 방식]
+ * - 작업 등록 = 일정 차단 (ReservationService가 신규 임시배정/확정을 거부, 예약 가능 날짜 색인에서 제외)
+ * - 확정/임시배정 예약을 chunk-size건씩 조회 (행 잠금), 처리된 행은 조회에서 빠지므로 커서 없음
+ * - 청크당 한 트랜잭션: 상태 일괄 UPDATE → 확정 건만 사용자별로 모아 지갑 적립 → 임시배정 좌석 점유 해제
+ * - 청크당 집계 이벤트 1건 (랭킹 차감, 데이터 플랫폼)
+ *
+ * [완료 조건]
+ * - 미완료 예약(임시배정/결제대기/확정)이 하나도 남지 않아야 COMPLETED
+ * - 결제대기는 건드리지 않고 결과를 기다림 (확정되면 다음 청크에서 취소/환불, 실패/만료되면 종료)
+ *
+ * [개별 취소와의 관계]
+ * - 환불 멱등키가 같으므로(refund-{reservationId}) 이중 적립 없음
+ * - 개별 취소로 REFUND_PENDING이 된 예약은 조회에서 제외되어 기존 흐름으로 완료
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ScheduleCancellationService implements ScheduleCancellationUseCase {
+
+    private final ScheduleCancellationJpaRepository cancellationRepository;
+    private final ReservationRepository reservationRepository;
+    private final ConcertSchedulePort concertSchedulePort;
+    private final PaymentUseCase paymentUseCase;
+    private final SeatHoldPort seatHoldPort;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ScheduleCalendarUseCase scheduleCalendarUseCase;
+
+    // 청크 처리 대상 (결제대기는 결과가 나올 때까지 대기)
+    private static final List<ReservationStatus> SWEEP_STATUSES =
+            List.of(ReservationStatus.CONFIRMED, ReservationStatus.TEMPORARY_ASSIGNED);
+
+    // 완료 판정 대상 (종료되지 않은 모든 예약)
+    private static final List<ReservationStatus> OPEN_STATUSES = List.of(
+            ReservationStatus.TEMPORARY_ASSIGNED, ReservationStatus.PAYMENT_PENDING, ReservationStatus.CONFIRMED);
+
+    @Value("${app.reservation.schedule-cancel.chunk-size:500}")
+    private int chunkSize;
+
+    /**
+     * 일괄 취소 작업 등록 (이미 등록된 일정이면 현재 진행 상황 반환)
+     */
+    @Override
+    public CancellationProgress cancelSchedule(CancelScheduleCommand command) {
+        if (concertSchedulePort.findById(new ConcertScheduleId(command.scheduleId())).isEmpty()) {
+            throw ConcertScheduleNotFoundException.withId(command.scheduleId());
+        }
+
+        ScheduleCancellationJpaEntity cancellation = transactionTemplate.execute(status ->
+                cancellationRepository.findById(command.scheduleId())
+                        .orElseGet(() -> cancellationRepository.save(new ScheduleCancellationJpaEntity(
+                                command.scheduleId(),
+                                command.reason(),
+                                reservationRepository.countByScheduleIdAndStatus(
+                                        command.scheduleId(), ReservationStatus.CONFIRMED),
+                                LocalDateTime.now()
+                        )))
+        );
+
+        log.info("[일괄취소] 작업 등록 - scheduleId: {}, 대상: {}건",
+                command.scheduleId(), cancellation.getTotalCount());
+
+        // 등록 커밋 후 날짜 색인에서 닫음 (재요청도 색인에서 한 번만 반영)
+        scheduleCalendarUseCase.markCancelled(command.scheduleId());
+
+        return toProgress(cancellation);
+    }
+
+    @Override
+    public Optional<CancellationProgress> getProgress(Long scheduleId) {
+        return cancellationRepository.findById(scheduleId).map(this::toProgress);
+    }
+
+    /**
+     * 다음 청크 처리 (스케줄러에서 호출)
+     *
+     * @return 남은 청크가 있을 수 있으면 true
+     */
+    public boolean processNextChunk(Long scheduleId) {
+        Boolean hasMore = transactionTemplate.execute(status -> executeChunk(scheduleId));
+        return Boolean.TRUE.equals(hasMore);
+    }
+
+    private boolean executeChunk(Long scheduleId) {
+        ScheduleCancellationJpaEntity cancellation = cancellationRepository.findById(scheduleId)
+                .orElseThrow(() -> new IllegalStateException("일괄 취소 작업을 찾을 수 없습니다: " + scheduleId));
+        if (cancellation.isCompleted()) {
+            return false;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+
+        // 1. 다음 청크 조회 (행 잠금)
+        List<Reservation> chunk = reservationRepository.findChunkForUpdate(
+                scheduleId,
+                SWEEP_STATUSES,
+                chunkSize
+        );
+
+        if (chunk.isEmpty()) {
+            // 결제대기 등 남은 예약이 있으면 완료하지 않고 다음 실행에서 다시 확인
+            long remaining = reservationRepository.countByScheduleIdAndStatusIn(scheduleId, OPEN_STATUSES);
+            if (remaining > 0) {
+                log.debug("[일괄취소] 결제 결과 대기 - scheduleId: {}, 남은 예약: {}건", scheduleId, remaining);
+                return false;
+            }
+
+            cancellation.complete(now);
+            cancellationRepository.save(cancellation);
+            log.info("[일괄취소] 완료 - scheduleId: {}, 취소: {}건, 환불: {}원",
+                    scheduleId, cancellation.getCancelledCount(), cancellation.getRefundedAmount());
+            return false;
+        }
+
+        // 2. 상태 일괄 변경 (CONFIRMED/TEMPORARY_ASSIGNED → CANCELLED)
+        List<ReservationId> ids = chunk.stream().map(Reservation::getId).toList();
+        reservationRepository.updateStatusByIds(ids, ReservationStatus.CANCELLED, now);
+
+        List<Reservation> confirmed = chunk.stream()
+                .filter(r -> r.getStatus() == ReservationStatus.CONFIRMED)
+                .toList();
+        List<SeatIdentifier> heldSeats = chunk.stream()
+                .filter(r -> r.getStatus() == ReservationStatus.TEMPORARY_ASSIGNED)
+                .map(Reservation::getSeatIdentifier)
+                .toList();
+
+        // 3. 확정 건 환불 일괄 적립 (같은 트랜잭션 - 사용자별 지갑 1회 갱신)
+        long refundedAmount = confirmed.stream().mapToLong(r -> r.getPrice().amount()).sum();
+        if (!confirmed.isEmpty()) {
+            List<PaymentUseCase.RefundCommand> refunds = confirmed.stream()
+                    .map(r -> new PaymentUseCase.RefundCommand(
+                            r.getUserId().asString(),
+                            r.getPrice().amount(),
+                            RefundRequestMessage.idempotencyKeyOf(r.getId().value())))
+                    .toList();
+            PaymentUseCase.RefundBatchResult refundResult = paymentUseCase.refundBatch(refunds);
+            if (!refundResult.rejected().isEmpty()) {
+                // 지갑 없음 등 재시도해도 적립할 수 없는 건 - 수동 환불 대상으로 기록
+                log.error("[일괄취소] 환불 적립 거부 - scheduleId: {}, 멱등키: {}", scheduleId,
+                        refundResult.rejected().stream().map(PaymentUseCase.RefundCommand::idempotencyKey).toList());
+            }
+        }
+
+        // 4. 임시배정 좌석 점유 해제
+        if (!heldSeats.isEmpty()) {
+            seatHoldPort.releaseAll(heldSeats);
+        }
+
+        // 5. 진행 상황 반영
+        cancellation.advance(confirmed.size(), refundedAmount);
+        cancellationRepository.save(cancellation);
+
+        // 6. 집계 이벤트 (커밋 후 랭킹/데이터 플랫폼) - 랭킹은 확정 건만 집계되어 있으므로 확정 건 기준
+        if (!confirmed.isEmpty()) {
+            eventPublisher.publishEvent(
+                    ScheduleReservationsCancelledEvent.of(scheduleId, confirmed.size(), refundedAmount, now));
+        }
+
+        log.info("[일괄취소] 진행 - scheduleId: {}, 확정 {}/{}건, 임시배정 {}건 해제",
+                scheduleId, cancellation.getCancelledCount(), cancellation.getTotalCount(), heldSeats.size());
+
+        return chunk.size() == chunkSize;
+    }
+
+    private CancellationProgress toProgress(ScheduleCancellationJpaEntity entity) {
+        return new CancellationProgress(
+                entity.getScheduleId(),
+                entity.getStatus(),
+                entity.getTotalCount(),
+                entity.getCancelledCount(),
+                entity.getRefundedAmount(),
+                entity.getRequestedAt(),
+                entity.getCompletedAt()
+        );
+    }
+}
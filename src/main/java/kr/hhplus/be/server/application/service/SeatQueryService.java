@@ -1,8 +1,10 @@
 package kr.hhplus.be.server.application.service;
 
+import kr.hhplus.be.server.application.port.in.ScheduleCalendarUseCase;
 import kr.hhplus.be.server.application.port.in.SeatQueryUseCase;
 import kr.hhplus.be.server.application.port.out.*;
 import kr.hhplus.be.server.domain.concert.ConcertScheduleId;
+import kr.hhplus.be.server.domain.reservation.ReservationRepository;
 import kr.hhplus.be.server.domain.reservation.SeatHoldStatus;
 import kr.hhplus.be.server.domain.reservation.SeatIdentifier;
 import kr.hhplus.be.server.domain.reservation.SeatNumber;
@@ -20,8 +22,9 @@ import java.util.*;
 public class SeatQueryService implements SeatQueryUseCase {
 
     private final ConcertSchedulePort concertSchedulePort;
-    private final ConfirmedReservationPort confirmedReservationPort;
+    private final ReservationRepository reservationRepository;
     private final SeatHoldPort seatHoldPort;
+    private final ScheduleCalendarUseCase scheduleCalendarUseCase;
 
     @Override
     public List<SeatView> getSeatsStatus(Long concertId, LocalDate date) {
@@ -32,15 +35,14 @@ public class SeatQueryService implements SeatQueryUseCase {
         int totalSeats = schedule.getTotalSeats();
         ConcertScheduleId scheduleId = schedule.getId();
 
-        // 2. 확정 예약된 좌석들 조회
-        Set<Integer> confirmedSeats = new HashSet<>(
-                confirmedReservationPort.findSeatNosByConcertDate(date)
-        );
+        // 2. 확정 예약된 좌석들 조회 (해당 일정 행만 인덱스 범위 스캔)
+        BitSet confirmedSeats = new BitSet(totalSeats + 1);
+        reservationRepository.forEachConfirmedSeatNo(scheduleId.value(), confirmedSeats::set);
 
         // 3. 확정되지 않은 좌석들의 SeatIdentifier 목록 생성
         List<SeatIdentifier> nonConfirmedSeats = new ArrayList<>();
         for (int seatNo = 1; seatNo <= totalSeats; seatNo++) {
-            if (!confirmedSeats.contains(seatNo)) {
+            if (!confirmedSeats.get(seatNo)) {
                 nonConfirmedSeats.add(new SeatIdentifier(scheduleId, new SeatNumber(seatNo)));
             }
         }
@@ -54,7 +56,7 @@ public class SeatQueryService implements SeatQueryUseCase {
         LocalDateTime now = LocalDateTime.now();
 
         for (int seatNo = 1; seatNo <= totalSeats; seatNo++) {
-            if (confirmedSeats.contains(seatNo)) {
+            if (confirmedSeats.get(seatNo)) {
                 // 확정된 좌석
                 seatViews.add(new SeatView(
                         seatNo,
@@ -90,6 +92,6 @@ public class SeatQueryService implements SeatQueryUseCase {
 
     @Override
     public List<LocalDate> getAvailableDates(int days) {
-        return concertSchedulePort.findAvailableDates(days);
+        return scheduleCalendarUseCase.getAvailableDates(days);
     }
 }
\ No newline at end of file
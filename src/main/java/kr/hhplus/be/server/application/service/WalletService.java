@@ -1,8 +1,10 @@
 package kr.hhplus.be.server.application.service;
 
 import kr.hhplus.be.server.infrastructure.persistence.payment.jpa.entity.UserWalletJpaEntity;
+import kr.hhplus.be.server.infrastructure.persistence.payment.jpa.entity.WalletIdempotencyKeyJpaEntity;
 import kr.hhplus.be.server.infrastructure.persistence.payment.jpa.entity.WalletLedgerJpaEntity;
 import kr.hhplus.be.server.infrastructure.persistence.payment.jpa.repository.UserWalletJpaRepository;
+import kr.hhplus.be.server.infrastructure.persistence.payment.jpa.repository.WalletIdempotencyKeyJpaRepository;
 import kr.hhplus.be.server.infrastructure.persistence.payment.jpa.repository.WalletLedgerJpaRepository;
 import kr.hhplus.be.server.web.wallet.dto.ChargeRequest;
 import kr.hhplus.be.server.web.wallet.dto.ChargeResponse;
@@ -19,6 +21,7 @@ public class WalletService {  // 레이어드 아키텍처
 
     private final UserWalletJpaRepository walletRepository;
     private final WalletLedgerJpaRepository ledgerRepository;
+    private final WalletIdempotencyKeyJpaRepository idempotencyKeyRepository;
 
     /**
      * 포인트 충전
@@ -28,7 +31,7 @@ public class WalletService {  // 레이어드 아키텍처
 
         // 멱등성 체크
         if (request.idempotencyKey() != null &&
-                ledgerRepository.existsByUserIdAndIdempotencyKey(userId, request.idempotencyKey())) {
+                idempotencyKeyRepository.existsByUserIdAndIdempotencyKey(userId, request.idempotencyKey())) {
             UserWalletJpaEntity wallet = walletRepository.findById(userId)
                     .orElseThrow(() -> new RuntimeException("지갑을 찾을 수 없습니다"));
             return new ChargeResponse(request.userId(), wallet.getBalance());
@@ -47,6 +50,9 @@ public class WalletService {  // 레이어드 아키텍처
         walletRepository.save(wallet);
 
         // 원장 기록
+        if (request.idempotencyKey() != null) {
+            idempotencyKeyRepository.save(new WalletIdempotencyKeyJpaEntity(userId, request.idempotencyKey()));
+        }
         WalletLedgerJpaEntity ledger = new WalletLedgerJpaEntity(
                 userId,
                 request.amount(),
@@ -60,8 +66,9 @@ public class WalletService {  // 레이어드 아키텍처
 
     /**
      * 잔액 조회
+     * - 충전/결제 직후 바로 조회되므로 주 DB 에서 읽음 (readOnly 면 지연된 복제본으로 라우팅)
      */
-    @Transactional(readOnly = true)
+    @Transactional
     public long getBalance(String userId) {
         UUID uid = UUID.fromString(userId);
         return walletRepository.findById(uid)
@@ -26,13 +26,14 @@ public class Reservation {
     private LocalDateTime confirmedAt;
     private LocalDateTime paymentRequestedAt;
     private String paymentFailReason;
+    private LocalDateTime refundRequestedAt;
     private long version;
 
     // Private 생성자 - 외부에서 직접 생성 불가
     private Reservation(ReservationId id, UserId userId, SeatIdentifier seatIdentifier,
                         Money price, ReservationStatus status, LocalDateTime temporaryAssignedAt,
                         LocalDateTime confirmedAt, LocalDateTime paymentRequestedAt,
-                        String paymentFailReason, long version) {
+                        String paymentFailReason, LocalDateTime refundRequestedAt, long version) {
         this.id = Objects.requireNonNull(id, "예약 ID는 필수입니다");
         this.userId = Objects.requireNonNull(userId, "사용자 ID는 필수입니다");
         this.seatIdentifier = Objects.requireNonNull(seatIdentifier, "좌석 식별자는 필수입니다");
@@ -42,6 +43,7 @@ public class Reservation {
         this.confirmedAt = confirmedAt;
         this.paymentRequestedAt = paymentRequestedAt;
         this.paymentFailReason = paymentFailReason;
+        this.refundRequestedAt = refundRequestedAt;
         this.version = version;
     }
 
@@ -64,6 +66,7 @@ public class Reservation {
                 null,
                 null,
                 null,
+                null,
                 0L
         );
     }
@@ -75,7 +78,7 @@ public class Reservation {
                                       Money price, ReservationStatus status, LocalDateTime temporaryAssignedAt,
                                       LocalDateTime confirmedAt, long version) {
         return new Reservation(id, userId, seatIdentifier, price, status,
-                temporaryAssignedAt, confirmedAt, null, null, version);
+                temporaryAssignedAt, confirmedAt, null, null, null, version);
     }
 
     /**
@@ -84,9 +87,10 @@ public class Reservation {
     public static Reservation restoreWithPaymentInfo(ReservationId id, UserId userId, SeatIdentifier seatIdentifier,
                                                      Money price, ReservationStatus status, LocalDateTime temporaryAssignedAt,
                                                      LocalDateTime confirmedAt, LocalDateTime paymentRequestedAt,
-                                                     String paymentFailReason, long version) {
+                                                     String paymentFailReason, LocalDateTime refundRequestedAt,
+                                                     long version) {
         return new Reservation(id, userId, seatIdentifier, price, status,
-                temporaryAssignedAt, confirmedAt, paymentRequestedAt, paymentFailReason, version);
+                temporaryAssignedAt, confirmedAt, paymentRequestedAt, paymentFailReason, refundRequestedAt, version);
     }
 
     private static void validateTemporaryAssignInputs(UserId userId, SeatIdentifier seatIdentifier,
@@ -153,8 +157,24 @@ public class Reservation {
         this.paymentFailReason = failReason;
     }
 
+    /**
+     * 환불 요청 (비동기 환불)
+     * CONFIRMED → REFUND_PENDING
+     */
+    public void requestRefund(LocalDateTime requestedAt) {
+        if (!status.canTransitionTo(ReservationStatus.REFUND_PENDING)) {
+            throw new InvalidReservationStateException(
+                    String.format("현재 상태[%s]에서는 환불을 요청할 수 없습니다", status.getDisplayName())
+            );
+        }
+
+        this.status = ReservationStatus.REFUND_PENDING;
+        this.refundRequestedAt = requestedAt;
+    }
+
     /**
      * 예약 취소
+     * CONFIRMED/REFUND_PENDING → CANCELLED
      */
     public void cancel(LocalDateTime cancelledAt) {
         if (!status.canTransitionTo(ReservationStatus.CANCELLED)) {
@@ -239,6 +259,13 @@ public class Reservation {
         return status.isPaymentInProgress();
     }
 
+    /**
+     * 환불 진행 중 여부
+     */
+    public boolean isRefundInProgress() {
+        return status.isRefundInProgress();
+    }
+
     // === Getters ===
     public ReservationId getId() { return id; }
     public UserId getUserId() { return userId; }
@@ -249,6 +276,7 @@ public class Reservation {
     public LocalDateTime getConfirmedAt() { return confirmedAt; }
     public LocalDateTime getPaymentRequestedAt() { return paymentRequestedAt; }
     public String getPaymentFailReason() { return paymentFailReason; }
+    public LocalDateTime getRefundRequestedAt() { return refundRequestedAt; }
     public long getVersion() { return version; }
 
     // === Private 메서드들 ===
@@ -3,8 +3,10 @@ package kr.hhplus.be.server.domain.reservation;
 import kr.hhplus.be.server.domain.common.UserId;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.IntConsumer;
 
 /**
  * 예약 도메인 리포지토리 인터페이스
@@ -16,6 +18,10 @@ public interface ReservationRepository {
     Optional<Reservation> findById(ReservationId id);
     void delete(Reservation reservation);
 
+    // 일괄 조회/저장 (결제 결과 배치 처리용)
+    List<Reservation> findAllById(Collection<ReservationId> ids);
+    void saveAll(List<Reservation> reservations);
+
     // 비즈니스 조회 메서드
     Optional<Reservation> findByUserIdAndSeatIdentifier(UserId userId, SeatIdentifier seatIdentifier);
 
@@ -38,6 +44,13 @@ public interface ReservationRepository {
     long countByStatus(ReservationStatus status);
     long countByScheduleIdAndStatus(Long scheduleId, ReservationStatus status);
 
+    /**
+     * 특정 일정의 확정된 좌석 번호 순회
+     * - 확정 상태 예약(status = CONFIRMED) 기준, 날짜 색인의 매진 판정과 같은 원본
+     * - (concert_schedule_id, status, seat_number) 인덱스만 읽으며, 좌석 번호를 박싱 없이 한 행씩 전달
+     */
+    void forEachConfirmedSeatNo(Long scheduleId, IntConsumer action);
+
     /**
      * 특정 상태이면서 결제 요청 시간이 특정 시간 이전인 예약 조회
      * (결제 타임아웃 처리용)
@@ -50,4 +63,41 @@ public interface ReservationRepository {
             ReservationStatus status,
             LocalDateTime paymentRequestedAtBefore
     );
-}
\ No newline at end of file
+
+    /**
+     * 환불 요청 시각이 기준 이전인 환불 대기 예약 조회 (요청/재발행이 오래된 순)
+     * (환불 대기 재발행용)
+     *
+     * @param requestedBefore 환불 요청(마지막 재발행) 시각 기준
+     * @param maxAttempts 재발행 한도 - 이만큼 재발행된 예약은 제외
+     * @param limit 최대 조회 건수
+     * @return 조건에 맞는 예약 목록
+     */
+    List<Reservation> findStaleRefundRequests(
+            LocalDateTime requestedBefore,
+            int maxAttempts,
+            int limit
+    );
+
+    /**
+     * 환불 요청 재발행 기록 (요청 시각을 재발행 시각으로 갱신, 재발행 횟수 증가)
+     * @return 갱신된 예약 수 (그 사이 환불이 완료된 예약은 제외)
+     */
+    int markRefundRepublished(Collection<ReservationId> ids, LocalDateTime republishedAt);
+
+    // ===== 공연 일정 일괄 취소 =====
+
+    /**
+     * 일정의 지정 상태 예약을 청크 단위로 조회 (행 잠금)
+     * - 처리된 예약은 상태가 바뀌어 다음 조회에서 빠지므로 커서 없이 매번 처음부터 조회
+     */
+    List<Reservation> findChunkForUpdate(Long scheduleId, Collection<ReservationStatus> statuses, int limit);
+
+    long countByScheduleIdAndStatusIn(Long scheduleId, Collection<ReservationStatus> statuses);
+
+    /**
+     * 예약 상태 일괄 변경 (청크 단위 단일 UPDATE)
+     * @return 변경된 예약 수
+     */
+    int updateStatusByIds(Collection<ReservationId> ids, ReservationStatus status, LocalDateTime updatedAt);
+}
@@ -9,6 +9,7 @@ public enum ReservationStatus {
     PAYMENT_PENDING("결제대기", "결제 요청이 진행 중인 상태"),
     CONFIRMED("확정", "결제 완료로 예약이 확정된 상태"),
     PAYMENT_FAILED("결제실패", "결제가 실패한 상태"),
+    REFUND_PENDING("환불대기", "취소 요청 후 환불이 진행 중인 상태"),
     CANCELLED("취소", "예약이 취소된 상태"),
     EXPIRED("만료", "임시배정 시간이 만료된 상태");
 
@@ -37,7 +38,9 @@ public enum ReservationStatus {
             case PAYMENT_PENDING -> targetStatus == CONFIRMED ||
                     targetStatus == PAYMENT_FAILED ||
                     targetStatus == EXPIRED;
-            case CONFIRMED -> targetStatus == CANCELLED;
+            case CONFIRMED -> targetStatus == REFUND_PENDING ||
+                    targetStatus == CANCELLED;
+            case REFUND_PENDING -> targetStatus == CANCELLED;
             case PAYMENT_FAILED, CANCELLED, EXPIRED -> false; // 최종 상태
         };
     }
@@ -61,4 +64,9 @@ public enum ReservationStatus {
     public boolean isPaymentInProgress() {
         return this == PAYMENT_PENDING;
     }
+
+    // 환불 진행 중 여부
+    public boolean isRefundInProgress() {
+        return this == REFUND_PENDING;
+    }
 }
\ No newline at end of file
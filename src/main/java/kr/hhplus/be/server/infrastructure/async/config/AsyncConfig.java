@@ -0,0 +1,86 @@
+package kr.hhplus.be.server.infrastructure.async.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 비동기 실행 설정
+ *
+ * 예약 이벤트 후처리(랭킹 갱신, 데이터 플랫폼 발행) 전용 실행기:
+ * - 스레드 수와 큐 크기를 고정해서 확정 폭주 시 작업이 힙에 무한히 쌓이지 않게 함
+ * - 큐가 가득 차면 CallerRunsPolicy: 커밋한 요청 스레드가 직접 실행 → 유입 속도가 처리 속도로 제한됨
+ *   (후처리는 커밋 이후라 버리면 복구 수단이 없고, 결제 아웃박스처럼 담을 트랜잭션도 없음)
+ *
+ * 메트릭:
+ * - executor.queued / executor.queue.remaining / executor.active {name=reservationEventExecutor}
+ *   (Boot 가 ThreadPoolTaskExecutor 빈을 자동 등록)
+ * - executor.rejected {name=reservationEventExecutor}: 큐 포화로 호출 스레드에서 실행된 건수
+ */
+@Slf4j
+@Configuration
+@EnableAsync
+@RequiredArgsConstructor
+public class AsyncConfig {
+
+    public static final String RESERVATION_EVENT_EXECUTOR = "reservationEventExecutor";
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.async.reservation-event.core-size:4}")
+    private int coreSize;
+
+    @Value("${app.async.reservation-event.max-size:8}")
+    private int maxSize;
+
+    @Value("${app.async.reservation-event.queue-capacity:1000}")
+    private int queueCapacity;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @Bean(name = RESERVATION_EVENT_EXECUTOR)
+    public ThreadPoolTaskExecutor reservationEventExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(maxSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("reservation-event-");
+        executor.setRejectedExecutionHandler(
+                countingRejections(RESERVATION_EVENT_EXECUTOR, new ThreadPoolExecutor.CallerRunsPolicy()));
+
+        // 종료 시 큐에 남은 후처리를 마저 실행
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+
+        // 가상 스레드 모드에서도 동시 실행 수 상한은 유지 (virtual 프로파일, JDK 21+)
+        if (virtualThreads) {
+            executor.setThreadFactory(new VirtualThreadTaskExecutor("reservation-event-").getVirtualThreadFactory());
+        }
+        return executor;
+    }
+
+    RejectedExecutionHandler countingRejections(String executorName, RejectedExecutionHandler delegate) {
+        Counter rejected = Counter.builder("executor.rejected")
+                .tag("name", executorName)
+                .description("큐 포화로 거절 정책이 적용된 작업 수")
+                .register(meterRegistry);
+
+        return (task, pool) -> {
+            rejected.increment();
+            log.warn("[비동기] {} 큐 포화 - 호출 스레드에서 실행 (active={}, queued={})",
+                    executorName, pool.getActiveCount(), pool.getQueue().size());
+            delegate.rejectedExecution(task, pool);
+        };
+    }
+}
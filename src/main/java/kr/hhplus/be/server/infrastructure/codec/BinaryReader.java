@@ -0,0 +1,77 @@
+package kr.hhplus.be.server.infrastructure.codec;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.function.Function;
+
+/**
+ * 컴팩트 바이너리 읽기 버퍼 (BinaryWriter 역변환)
+ *
+ * 손상된 입력은 호출자가 넘긴 예외로 변환 (Kafka / Spring Data Redis 의 SerializationException 등)
+ */
+public class BinaryReader {
+
+    private final byte[] buffer;
+    private final Function<String, ? extends RuntimeException> errorFactory;
+    private int position;
+
+    public BinaryReader(byte[] buffer, Function<String, ? extends RuntimeException> errorFactory) {
+        this.buffer = buffer;
+        this.errorFactory = errorFactory;
+    }
+
+    public int readByte() {
+        if (position >= buffer.length) {
+            throw error("값이 예상보다 짧습니다");
+        }
+        return buffer[position++] & 0xFF;
+    }
+
+    public long readVarLong() {
+        long zigzag = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = readByte();
+            zigzag |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return (zigzag >>> 1) ^ -(zigzag & 1);
+            }
+        }
+        throw error("잘못된 varint 입니다");
+    }
+
+    public long readFixedLong() {
+        long value = 0;
+        for (int i = 0; i < 8; i++) {
+            value = (value << 8) | readByte();
+        }
+        return value;
+    }
+
+    // varint 길이 (남은 바이트보다 길면 손상된 값)
+    public int readLength() {
+        long length = readVarLong();
+        if (length < 0 || length > buffer.length - position) {
+            throw error("잘못된 길이입니다: " + length);
+        }
+        return (int) length;
+    }
+
+    public byte[] readBytes() {
+        int length = readLength();
+        byte[] bytes = Arrays.copyOfRange(buffer, position, position + length);
+        position += length;
+        return bytes;
+    }
+
+    // writeBytes(UTF-8) 로 쓴 문자열
+    public String readUtf8() {
+        int length = readLength();
+        String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+        position += length;
+        return value;
+    }
+
+    protected RuntimeException error(String message) {
+        return errorFactory.apply(message);
+    }
+}
@@ -0,0 +1,59 @@
+package kr.hhplus.be.server.infrastructure.codec;
+
+import java.util.Arrays;
+
+/**
+ * 컴팩트 바이너리 쓰기 버퍼 (Kafka 메시지 코덱, Redis 캐시 값 직렬화 공용)
+ *
+ * - 정수: zigzag varint (작은 값은 1~2바이트)
+ * - 고정 long: big-endian 8바이트 (UUID, double 비트)
+ * - 바이트 배열: varint 길이 + 본문
+ */
+public class BinaryWriter {
+
+    private byte[] buffer;
+    private int position;
+
+    public BinaryWriter(int initialCapacity) {
+        this.buffer = new byte[initialCapacity];
+    }
+
+    public void writeByte(int value) {
+        ensureCapacity(1);
+        buffer[position++] = (byte) value;
+    }
+
+    public void writeVarLong(long value) {
+        long zigzag = (value << 1) ^ (value >> 63);
+        ensureCapacity(10);
+        while ((zigzag & ~0x7FL) != 0) {
+            buffer[position++] = (byte) ((zigzag & 0x7F) | 0x80);
+            zigzag >>>= 7;
+        }
+        buffer[position++] = (byte) zigzag;
+    }
+
+    public void writeFixedLong(long value) {
+        ensureCapacity(8);
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            buffer[position++] = (byte) (value >>> shift);
+        }
+    }
+
+    public void writeBytes(byte[] bytes) {
+        writeVarLong(bytes.length);
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        position += bytes.length;
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, position);
+    }
+
+    private void ensureCapacity(int extra) {
+        if (position + extra > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + extra));
+        }
+    }
+}
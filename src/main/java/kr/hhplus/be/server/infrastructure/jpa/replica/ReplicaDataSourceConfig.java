@@ -0,0 +1,87 @@
+package kr.hhplus.be.server.infrastructure.jpa.replica;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * 읽기 전용 트랜잭션을 복제본으로 보내는 DataSource 구성 (app.datasource.replica.enabled=true)
+ *
+ * - 주 DB: spring.datasource(.hikari) 그대로
+ * - 복제본: app.datasource.replica.* 로 별도 풀 (읽기 전용 세션)
+ * - @Transactional(readOnly = true) 는 커넥션에 readOnly 를 먼저 설정하므로
+ *   LazyConnectionDataSourceProxy 가 실제 커넥션 획득 시점에 복제본 쪽(ReplicaFallbackDataSource)을 선택
+ * - 복제 지연 초과/연결 실패 시 읽기도 주 DB 로 (ReplicaLagMonitor)
+ *
+ * 복제본은 최대 max-lag-seconds 만큼 늦을 수 있으므로 방금 쓴 값을 바로 읽어야 하는 조회는 readOnly 로 두지 않는다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.replica.enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary-pool");
+        return dataSource;
+    }
+
+    @Bean
+    public HikariDataSource replicaDataSource(
+            DataSourceProperties properties,
+            @Value("${app.datasource.replica.url}") String url,
+            @Value("${app.datasource.replica.username:${spring.datasource.username}}") String username,
+            @Value("${app.datasource.replica.password:${spring.datasource.password}}") String password,
+            @Value("${app.datasource.replica.maximum-pool-size:20}") int maximumPoolSize,
+            @Value("${app.datasource.replica.connection-timeout-ms:3000}") long connectionTimeoutMs) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica-pool");
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername(username);
+        dataSource.setPassword(password);
+        dataSource.setDriverClassName(properties.determineDriverClassName());
+        dataSource.setMaximumPoolSize(maximumPoolSize);
+        dataSource.setConnectionTimeout(connectionTimeoutMs);
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(
+            @Qualifier("replicaDataSource") DataSource replica,
+            @Value("${app.datasource.replica.lag-check:true}") boolean lagCheck,
+            @Value("${app.datasource.replica.max-lag-seconds:2}") long maxLagSeconds,
+            @Value("${app.datasource.replica.retry-after-ms:5000}") long retryAfterMs) {
+        return new ReplicaLagMonitor(replica, lagCheck, maxLagSeconds, retryAfterMs);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") DataSource primary,
+            @Qualifier("replicaDataSource") DataSource replica,
+            ReplicaLagMonitor replicaLagMonitor) {
+        return routingDataSource(primary, new ReplicaFallbackDataSource(replica, primary, replicaLagMonitor));
+    }
+
+    /**
+     * 읽기/쓰기 라우팅 - readOnly 커넥션만 readOnlyDataSource 에서 획득
+     */
+    static DataSource routingDataSource(DataSource primary, DataSource readOnlyDataSource) {
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(primary);
+        proxy.setReadOnlyDataSource(readOnlyDataSource);
+        return proxy;
+    }
+}
@@ -0,0 +1,49 @@
+package kr.hhplus.be.server.infrastructure.jpa.replica;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * 읽기 전용 커넥션 제공 - 복제본을 쓸 수 없으면 주 DB 로 대체
+ */
+public class ReplicaFallbackDataSource extends AbstractDataSource {
+
+    private final DataSource replica;
+    private final DataSource primary;
+    private final ReplicaLagMonitor monitor;
+
+    public ReplicaFallbackDataSource(DataSource replica, DataSource primary, ReplicaLagMonitor monitor) {
+        this.replica = replica;
+        this.primary = primary;
+        this.monitor = monitor;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!monitor.isUsable()) {
+            return primary.getConnection();
+        }
+        try {
+            return replica.getConnection();
+        } catch (SQLException e) {
+            monitor.markUnavailable(e);
+            return primary.getConnection();
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        if (!monitor.isUsable()) {
+            return primary.getConnection(username, password);
+        }
+        try {
+            return replica.getConnection(username, password);
+        } catch (SQLException e) {
+            monitor.markUnavailable(e);
+            return primary.getConnection(username, password);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package kr.hhplus.be.server.infrastructure.jpa.replica;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * 읽기 복제본 사용 가능 여부 판단
+ *
+ * - 복제 지연: 주기적으로 SHOW REPLICA STATUS 의 Seconds_Behind_Source 확인 (REPLICATION CLIENT 권한 필요)
+ *   지연이 max-lag-seconds 를 넘거나, 복제가 멈췄거나(NULL), 조회가 실패하면 복제본 사용 중단
+ * - 연결 실패: 복제본 커넥션 획득이 실패하면 retry-after-ms 동안 사용 중단
+ *
+ * lag-check=false 면 지연은 확인하지 않음 (복제 구성이 없는 로컬/테스트 환경)
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private static final String REPLICA_STATUS = "SHOW REPLICA STATUS";
+
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final boolean lagCheck;
+    private final long maxLagSeconds;
+    private final long retryAfterMs;
+
+    // 지연 확인 전에는 주 DB 로 보냄
+    private volatile boolean withinLag;
+    private volatile long unavailableUntil;
+    // 지연 조회 실패 중 여부 (실패가 시작될 때 한 번만 warn, 이후는 debug)
+    private boolean probeFailing;
+
+    public ReplicaLagMonitor(DataSource replica, boolean lagCheck, long maxLagSeconds, long retryAfterMs) {
+        this.replicaJdbcTemplate = new JdbcTemplate(replica);
+        this.lagCheck = lagCheck;
+        this.maxLagSeconds = maxLagSeconds;
+        this.retryAfterMs = retryAfterMs;
+        this.withinLag = !lagCheck;
+    }
+
+    public boolean isUsable() {
+        return withinLag && System.currentTimeMillis() >= unavailableUntil;
+    }
+
+    public void markUnavailable(Exception cause) {
+        unavailableUntil = System.currentTimeMillis() + retryAfterMs;
+        log.warn("[복제본] 연결 실패, {}ms 동안 주 DB 로 읽기 - error: {}", retryAfterMs, cause.getMessage());
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replica.check-interval-ms:1000}")
+    public void check() {
+        if (!lagCheck) {
+            return;
+        }
+
+        boolean ok;
+        Long lagSeconds = null;
+        try {
+            lagSeconds = replicaLagSeconds();
+            ok = lagSeconds != null && lagSeconds <= maxLagSeconds;
+            if (probeFailing) {
+                log.info("[복제본] 지연 조회 복구");
+                probeFailing = false;
+            }
+        } catch (DataAccessException e) {
+            ok = false;
+            if (!probeFailing) {
+                // 권한 누락(REPLICATION CLIENT)/접속 불가 등 - 복구될 때까지 읽기는 주 DB 로
+                log.warn("[복제본] 지연 조회 실패, 주 DB 로 읽기 - error: {}", e.getMessage());
+                probeFailing = true;
+            } else {
+                log.debug("[복제본] 지연 조회 실패 - error: {}", e.getMessage());
+            }
+        }
+
+        if (ok != withinLag && !probeFailing) {
+            if (ok) {
+                log.info("[복제본] 읽기 재개 - 지연: {}초", lagSeconds);
+            } else {
+                log.warn("[복제본] 읽기 중단, 주 DB 로 전환 - 지연: {}초 (허용 {}초)", lagSeconds, maxLagSeconds);
+            }
+        }
+        withinLag = ok;
+    }
+
+    /**
+     * @return 복제 지연(초), 복제가 구성되지 않았거나 SQL 스레드가 멈췄으면 null
+     */
+    private Long replicaLagSeconds() {
+        List<Long> rows = replicaJdbcTemplate.query(REPLICA_STATUS, (rs, rowNum) -> {
+            long lag = rs.getLong("Seconds_Behind_Source");
+            return rs.wasNull() ? null : lag;
+        });
+        return rows.isEmpty() ? null : rows.get(0);
+    }
+}
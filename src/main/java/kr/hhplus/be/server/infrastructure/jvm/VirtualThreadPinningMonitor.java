@@ -0,0 +1,122 @@
+package kr.hhplus.be.server.infrastructure.jvm;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 가상 스레드 pinning 진단
+ *
+ * synchronized 블록/네이티브 프레임 안에서 블로킹되면 가상 스레드가 캐리어(플랫폼) 스레드를 붙잡음
+ * → 캐리어 수(CPU 코어 수)만큼만 동시에 진행되어 가상 스레드 이점이 사라짐
+ *
+ * JFR jdk.VirtualThreadPinned 이벤트를 스트리밍으로 받아서:
+ * - jvm.threads.virtual.pinned 타이머 (site: 앱/드라이버 쪽 첫 프레임 클래스)
+ * - 위치별 첫 발생은 WARN 으로 스택 출력, 이후는 DEBUG
+ *
+ * 확인 대상: MySQL Connector/J, HikariCP, Lettuce, Kafka 클라이언트 내부 synchronized 구간
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String PINNED_TIMER = "jvm.threads.virtual.pinned";
+    private static final List<String> JDK_PACKAGES = List.of("java.", "javax.", "jdk.", "sun.");
+    private static final int LOGGED_FRAMES = 12;
+
+    private final MeterRegistry meterRegistry;
+    private final Set<String> reportedSites = ConcurrentHashMap.newKeySet();
+
+    @Value("${app.virtual-threads.pinning.threshold-ms:20}")
+    private long thresholdMs;
+
+    private RecordingStream stream;
+
+    @PostConstruct
+    public void start() {
+        if (Runtime.version().feature() < 21) {
+            log.warn("[가상 스레드] JDK {} 에서는 가상 스레드를 쓸 수 없습니다 (JDK 21 이상 필요)",
+                    Runtime.version().feature());
+            return;
+        }
+
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(Duration.ofMillis(thresholdMs)).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+        stream.startAsync();
+        log.info("[가상 스레드] pinning 진단 시작 (threshold={}ms)", thresholdMs);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    private void onPinned(RecordedEvent event) {
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        List<RecordedFrame> frames = stackTrace != null ? stackTrace.getFrames() : List.of();
+        String site = siteOf(frames);
+
+        Timer.builder(PINNED_TIMER)
+                .tag("site", site)
+                .register(meterRegistry)
+                .record(event.getDuration());
+
+        if (reportedSites.add(site)) {
+            log.warn("[가상 스레드] pinning 감지 - site: {}, duration: {}ms\n{}",
+                    site, event.getDuration().toMillis(), format(frames));
+        } else {
+            log.debug("[가상 스레드] pinning - site: {}, duration: {}ms", site, event.getDuration().toMillis());
+        }
+    }
+
+    // JDK 프레임을 건너뛴 첫 클래스 (메트릭 태그 카디널리티를 클래스 단위로 제한)
+    private String siteOf(List<RecordedFrame> frames) {
+        for (RecordedFrame frame : frames) {
+            if (frame.getMethod() == null) {
+                continue;
+            }
+            String className = frame.getMethod().getType().getName();
+            if (JDK_PACKAGES.stream().noneMatch(className::startsWith)) {
+                return className;
+            }
+        }
+        return "unknown";
+    }
+
+    private String format(List<RecordedFrame> frames) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < Math.min(frames.size(), LOGGED_FRAMES); i++) {
+            RecordedFrame frame = frames.get(i);
+            if (frame.getMethod() == null) {
+                continue;
+            }
+            builder.append("\tat ")
+                    .append(frame.getMethod().getType().getName()).append('.')
+                    .append(frame.getMethod().getName())
+                    .append(':').append(frame.getLineNumber())
+                    .append('\n');
+        }
+        return builder.toString();
+    }
+}
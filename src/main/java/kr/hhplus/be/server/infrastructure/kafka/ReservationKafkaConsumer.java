@@ -1,34 +1,44 @@
 package kr.hhplus.be.server.infrastructure.kafka;
 
 import kr.hhplus.be.server.application.event.ReservationConfirmedEvent;
+import kr.hhplus.be.server.infrastructure.kafka.metrics.KafkaListenerMetrics;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class ReservationKafkaConsumer {
 
+    private final KafkaListenerMetrics metrics;
+
     @KafkaListener(
+            id = "reservation-confirmed",
             topics = "reservation-confirmed",
-            groupId = "concert-reservation-group"
+            groupId = "concert-reservation-group",
+            containerFactory = "reservationEventListenerContainerFactory"
     )
-    public void consume(ConsumerRecord<String, ReservationConfirmedEvent> record) {
-        ReservationConfirmedEvent event = record.value();
+    public void consume(List<ConsumerRecord<String, ReservationConfirmedEvent>> records) {
+        metrics.recordBatch("reservation-confirmed", records.size());
+
+        for (int i = 0; i < records.size(); i++) {
+            ConsumerRecord<String, ReservationConfirmedEvent> record = records.get(i);
+            ReservationConfirmedEvent event = record.value();
+            if (event == null) {
+                // 역직렬화 실패 레코드 → 에러 핸들러가 앞 레코드까지 커밋하고 DLQ로 이동
+                throw new BatchListenerFailedException("역직렬화 실패 레코드", i);
+            }
 
-        log.info("═══════════════════════════════════════");
-        log.info("[Kafka Consumer] 메시지 수신");
-        log.info("Topic: {}", record.topic());
-        log.info("Partition: {}", record.partition());
-        log.info("Offset: {}", record.offset());
-        log.info("Key: {}", record.key());
-        log.info("───────────────────────────────────────");
-        log.info("예약 ID: {}", event.reservationId());
-        log.info("사용자 ID: {}", event.userId());
-        log.info("스케줄 ID: {}", event.scheduleId());
-        log.info("좌석 번호: {}", event.seatNumber());
-        log.info("가격: {}원", event.price());
-        log.info("═══════════════════════════════════════");
+            log.debug("[Kafka Consumer] 예약 확정 수신 - partition: {}, offset: {}, 예약 ID: {}, 사용자 ID: {}, " +
+                            "스케줄 ID: {}, 좌석 번호: {}, 가격: {}원",
+                    record.partition(), record.offset(), event.reservationId(), event.userId(),
+                    event.scheduleId(), event.seatNumber(), event.price());
+        }
     }
-}
\ No newline at end of file
+}
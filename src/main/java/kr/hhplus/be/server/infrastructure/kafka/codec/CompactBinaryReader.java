@@ -0,0 +1,37 @@
+package kr.hhplus.be.server.infrastructure.kafka.codec;
+
+import kr.hhplus.be.server.infrastructure.codec.BinaryReader;
+import org.apache.kafka.common.errors.SerializationException;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+/**
+ * 메시지용 컴팩트 바이너리 읽기 버퍼 (CompactBinaryWriter 역변환)
+ */
+final class CompactBinaryReader extends BinaryReader {
+
+    CompactBinaryReader(byte[] buffer) {
+        super(buffer, SerializationException::new);
+    }
+
+    String readString() {
+        int kind = readByte();
+        if (kind == CompactBinaryWriter.STRING_UUID) {
+            return new UUID(readFixedLong(), readFixedLong()).toString();
+        }
+        if (kind != CompactBinaryWriter.STRING_UTF8) {
+            throw error("알 수 없는 문자열 형식입니다: " + kind);
+        }
+        return readUtf8();
+    }
+
+    LocalDateTime readDateTime() {
+        long micros = readVarLong();
+        return LocalDateTime.ofEpochSecond(
+                Math.floorDiv(micros, 1_000_000L),
+                (int) Math.floorMod(micros, 1_000_000L) * 1_000,
+                ZoneOffset.UTC);
+    }
+}
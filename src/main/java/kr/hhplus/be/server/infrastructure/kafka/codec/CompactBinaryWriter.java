@@ -0,0 +1,55 @@
+package kr.hhplus.be.server.infrastructure.kafka.codec;
+
+import kr.hhplus.be.server.infrastructure.codec.BinaryWriter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+/**
+ * 메시지용 컴팩트 바이너리 쓰기 버퍼 (정수/길이 인코딩은 BinaryWriter 공용)
+ *
+ * - 문자열: UUID 형식이면 16바이트, 아니면 varint 길이 + UTF-8
+ * - LocalDateTime: 벽시계 기준 epoch 마이크로초 varint (DATETIME(6)과 같은 정밀도)
+ */
+final class CompactBinaryWriter extends BinaryWriter {
+
+    static final int STRING_UTF8 = 1;
+    static final int STRING_UUID = 2;
+
+    CompactBinaryWriter(int initialCapacity) {
+        super(initialCapacity);
+    }
+
+    void writeString(String value) {
+        UUID uuid = asCanonicalUuid(value);
+        if (uuid != null) {
+            writeByte(STRING_UUID);
+            writeFixedLong(uuid.getMostSignificantBits());
+            writeFixedLong(uuid.getLeastSignificantBits());
+            return;
+        }
+
+        writeByte(STRING_UTF8);
+        writeBytes(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    void writeDateTime(LocalDateTime value) {
+        long micros = value.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + value.getNano() / 1_000;
+        writeVarLong(micros);
+    }
+
+    // 역변환 시 같은 문자열이 나오는 소문자 표준 형식만 UUID로 압축
+    private static UUID asCanonicalUuid(String value) {
+        if (value.length() != 36 || value.charAt(8) != '-') {
+            return null;
+        }
+        try {
+            UUID uuid = UUID.fromString(value);
+            return uuid.toString().equals(value) ? uuid : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
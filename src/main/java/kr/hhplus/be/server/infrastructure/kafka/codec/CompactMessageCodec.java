@@ -0,0 +1,168 @@
+package kr.hhplus.be.server.infrastructure.kafka.codec;
+
+import kr.hhplus.be.server.infrastructure.kafka.message.PaymentRequestMessage;
+import kr.hhplus.be.server.infrastructure.kafka.message.PaymentResultMessage;
+import kr.hhplus.be.server.infrastructure.kafka.message.PaymentStatus;
+import kr.hhplus.be.server.infrastructure.kafka.message.ReservationEventMessage;
+import org.apache.kafka.common.errors.SerializationException;
+
+/**
+ * 결제/예약 Kafka 메시지용 컴팩트 바이너리 코덱
+ *
+ * 레이아웃:
+ * [magic 0xC1][typeId][schemaVersion][presence bitmap][필드...]
+ * - presence bitmap: 필드 선언 순서대로 non-null 이면 비트 1 (null 필드는 바이트를 쓰지 않음)
+ * - 필드 이름/타입 정보가 없으므로 필드 추가·순서 변경 시 schemaVersion 을 올리고 이전 버전 디코딩을 남겨둘 것
+ *
+ * JSON 메시지는 '{' 로 시작하므로 첫 바이트(magic)로 포맷을 구분할 수 있음
+ */
+public final class CompactMessageCodec {
+
+    public static final byte MAGIC = (byte) 0xC1;
+
+    static final int TYPE_PAYMENT_REQUEST = 1;
+    static final int TYPE_PAYMENT_RESULT = 2;
+    static final int TYPE_RESERVATION_EVENT = 3;
+
+    static final int SCHEMA_VERSION = 1;
+
+    // enum ordinal 대신 고정 코드 사용 (선언 순서가 바뀌어도 호환)
+    private static final PaymentStatus[] STATUS_CODES = {
+            PaymentStatus.SUCCESS, PaymentStatus.FAILED, PaymentStatus.INSUFFICIENT_BALANCE
+    };
+
+    private CompactMessageCodec() {
+    }
+
+    public static boolean supports(Object message) {
+        return message instanceof PaymentRequestMessage
+                || message instanceof PaymentResultMessage
+                || message instanceof ReservationEventMessage;
+    }
+
+    public static boolean isCompact(byte[] data) {
+        return data != null && data.length > 0 && data[0] == MAGIC;
+    }
+
+    public static byte[] encode(Object message) {
+        CompactBinaryWriter writer = new CompactBinaryWriter(96);
+        writer.writeByte(MAGIC);
+
+        if (message instanceof PaymentRequestMessage m) {
+            writeHeader(writer, TYPE_PAYMENT_REQUEST, presence(m.reservationId(), m.userId(), m.amount(),
+                    m.idempotencyKey(), m.scheduleId(), m.seatNumber(), m.requestedAt()));
+            if (m.reservationId() != null) writer.writeString(m.reservationId());
+            if (m.userId() != null) writer.writeString(m.userId());
+            if (m.amount() != null) writer.writeVarLong(m.amount());
+            if (m.idempotencyKey() != null) writer.writeString(m.idempotencyKey());
+            if (m.scheduleId() != null) writer.writeVarLong(m.scheduleId());
+            if (m.seatNumber() != null) writer.writeVarLong(m.seatNumber());
+            if (m.requestedAt() != null) writer.writeDateTime(m.requestedAt());
+        } else if (message instanceof PaymentResultMessage m) {
+            writeHeader(writer, TYPE_PAYMENT_RESULT, presence(m.reservationId(), m.userId(), m.status(),
+                    m.balance(), m.failReason(), m.processedAt()));
+            if (m.reservationId() != null) writer.writeString(m.reservationId());
+            if (m.userId() != null) writer.writeString(m.userId());
+            if (m.status() != null) writer.writeByte(statusCode(m.status()));
+            if (m.balance() != null) writer.writeVarLong(m.balance());
+            if (m.failReason() != null) writer.writeString(m.failReason());
+            if (m.processedAt() != null) writer.writeDateTime(m.processedAt());
+        } else if (message instanceof ReservationEventMessage m) {
+            writeHeader(writer, TYPE_RESERVATION_EVENT, presence(m.eventType(), m.reservationId(), m.userId(),
+                    m.scheduleId(), m.seatNumber(), m.price(), m.eventTime(), m.quantity()));
+            if (m.eventType() != null) writer.writeString(m.eventType());
+            if (m.reservationId() != null) writer.writeString(m.reservationId());
+            if (m.userId() != null) writer.writeString(m.userId());
+            if (m.scheduleId() != null) writer.writeVarLong(m.scheduleId());
+            if (m.seatNumber() != null) writer.writeVarLong(m.seatNumber());
+            if (m.price() != null) writer.writeVarLong(m.price());
+            if (m.eventTime() != null) writer.writeDateTime(m.eventTime());
+            if (m.quantity() != null) writer.writeVarLong(m.quantity());
+        } else {
+            throw new SerializationException("컴팩트 코덱이 지원하지 않는 타입입니다: "
+                    + (message == null ? "null" : message.getClass().getName()));
+        }
+
+        return writer.toByteArray();
+    }
+
+    public static Object decode(byte[] data) {
+        if (!isCompact(data)) {
+            throw new SerializationException("컴팩트 포맷 메시지가 아닙니다");
+        }
+
+        CompactBinaryReader reader = new CompactBinaryReader(data);
+        reader.readByte();  // magic
+        int typeId = reader.readByte();
+        int version = reader.readByte();
+        if (version != SCHEMA_VERSION) {
+            throw new SerializationException("지원하지 않는 스키마 버전입니다: type=" + typeId + ", version=" + version);
+        }
+        int presence = reader.readByte();
+
+        return switch (typeId) {
+            case TYPE_PAYMENT_REQUEST -> new PaymentRequestMessage(
+                    has(presence, 0) ? reader.readString() : null,
+                    has(presence, 1) ? reader.readString() : null,
+                    has(presence, 2) ? reader.readVarLong() : null,
+                    has(presence, 3) ? reader.readString() : null,
+                    has(presence, 4) ? reader.readVarLong() : null,
+                    has(presence, 5) ? (int) reader.readVarLong() : null,
+                    has(presence, 6) ? reader.readDateTime() : null);
+            case TYPE_PAYMENT_RESULT -> new PaymentResultMessage(
+                    has(presence, 0) ? reader.readString() : null,
+                    has(presence, 1) ? reader.readString() : null,
+                    has(presence, 2) ? status(reader.readByte()) : null,
+                    has(presence, 3) ? reader.readVarLong() : null,
+                    has(presence, 4) ? reader.readString() : null,
+                    has(presence, 5) ? reader.readDateTime() : null);
+            case TYPE_RESERVATION_EVENT -> new ReservationEventMessage(
+                    has(presence, 0) ? reader.readString() : null,
+                    has(presence, 1) ? reader.readString() : null,
+                    has(presence, 2) ? reader.readString() : null,
+                    has(presence, 3) ? reader.readVarLong() : null,
+                    has(presence, 4) ? (int) reader.readVarLong() : null,
+                    has(presence, 5) ? reader.readVarLong() : null,
+                    has(presence, 6) ? reader.readDateTime() : null,
+                    has(presence, 7) ? (int) reader.readVarLong() : null);
+            default -> throw new SerializationException("알 수 없는 메시지 타입입니다: " + typeId);
+        };
+    }
+
+    private static void writeHeader(CompactBinaryWriter writer, int typeId, int presence) {
+        writer.writeByte(typeId);
+        writer.writeByte(SCHEMA_VERSION);
+        writer.writeByte(presence);
+    }
+
+    // 필드는 최대 8개 → 1바이트 비트맵
+    private static int presence(Object... fields) {
+        int bits = 0;
+        for (int i = 0; i < fields.length; i++) {
+            if (fields[i] != null) {
+                bits |= 1 << i;
+            }
+        }
+        return bits;
+    }
+
+    private static boolean has(int presence, int index) {
+        return (presence & (1 << index)) != 0;
+    }
+
+    private static int statusCode(PaymentStatus status) {
+        for (int i = 0; i < STATUS_CODES.length; i++) {
+            if (STATUS_CODES[i] == status) {
+                return i;
+            }
+        }
+        throw new SerializationException("코드가 없는 결제 상태입니다: " + status);
+    }
+
+    private static PaymentStatus status(int code) {
+        if (code >= STATUS_CODES.length) {
+            throw new SerializationException("알 수 없는 결제 상태 코드입니다: " + code);
+        }
+        return STATUS_CODES[code];
+    }
+}
@@ -0,0 +1,46 @@
+package kr.hhplus.be.server.infrastructure.kafka.codec;
+
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+
+import java.util.Map;
+
+/**
+ * 결제/예약 메시지 Value Deserializer
+ *
+ * - 첫 바이트가 CompactMessageCodec.MAGIC 이면 컴팩트 바이너리로 디코딩
+ * - 아니면 JsonDeserializer 에 위임 (전환 전 JSON 메시지, 환불 메시지 등)
+ *
+ * ErrorHandlingDeserializer 안쪽에서 사용 → 디코딩 실패 레코드는 {topic}.dlq 로 이동
+ */
+public class PaymentMessageDeserializer implements Deserializer<Object> {
+
+    private final JsonDeserializer<Object> jsonDeserializer = new JsonDeserializer<>();
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        jsonDeserializer.configure(configs, isKey);
+    }
+
+    @Override
+    public Object deserialize(String topic, byte[] data) {
+        if (CompactMessageCodec.isCompact(data)) {
+            return CompactMessageCodec.decode(data);
+        }
+        return jsonDeserializer.deserialize(topic, data);
+    }
+
+    @Override
+    public Object deserialize(String topic, Headers headers, byte[] data) {
+        if (CompactMessageCodec.isCompact(data)) {
+            return CompactMessageCodec.decode(data);
+        }
+        return jsonDeserializer.deserialize(topic, headers, data);
+    }
+
+    @Override
+    public void close() {
+        jsonDeserializer.close();
+    }
+}
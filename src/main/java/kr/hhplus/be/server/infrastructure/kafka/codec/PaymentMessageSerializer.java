@@ -0,0 +1,67 @@
+package kr.hhplus.be.server.infrastructure.kafka.codec;
+
+import kr.hhplus.be.server.infrastructure.kafka.retry.RetryTopics;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Serializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 결제/예약 메시지 Value Serializer
+ *
+ * - compact 모드: 내부 토픽(결제 요청/결과와 재시도 단계)의 지원 타입만 CompactMessageCodec 바이너리로 직렬화
+ * - 그 외 토픽/타입(환불 메시지, data-platform-events 등 외부 토픽)과 json 모드는 JsonSerializer 에 위임
+ *   (외부 소비자는 컴팩트 포맷을 읽을 수 없으므로 항상 JSON)
+ *
+ * 컨슈머는 PaymentMessageDeserializer 가 두 포맷을 모두 읽으므로
+ * 컨슈머를 먼저 배포한 뒤 프로듀서의 app.kafka.codec 을 compact 로 전환하면 됨
+ */
+public class PaymentMessageSerializer implements Serializer<Object> {
+
+    /** producer config 키: true 면 컴팩트 바이너리 사용 */
+    public static final String COMPACT_ENABLED = "hhplus.kafka.codec.compact";
+
+    /** 컴팩트 바이너리를 허용하는 내부 토픽 (재시도 토픽은 원본 토픽 기준) */
+    private static final Set<String> COMPACT_TOPICS = Set.of(RetryTopics.PAYMENT_REQUESTS, RetryTopics.PAYMENT_RESULTS);
+
+    private final JsonSerializer<Object> jsonSerializer = new JsonSerializer<>();
+    private boolean compactEnabled;
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        jsonSerializer.configure(configs, isKey);
+        Object compact = configs.get(COMPACT_ENABLED);
+        this.compactEnabled = compact != null && Boolean.parseBoolean(compact.toString());
+    }
+
+    @Override
+    public byte[] serialize(String topic, Object data) {
+        if (useCompact(topic, data)) {
+            return CompactMessageCodec.encode(data);
+        }
+        return jsonSerializer.serialize(topic, data);
+    }
+
+    @Override
+    public byte[] serialize(String topic, Headers headers, Object data) {
+        if (useCompact(topic, data)) {
+            // 바이너리에는 타입 정보가 들어 있으므로 __TypeId__ 헤더를 붙이지 않음
+            return CompactMessageCodec.encode(data);
+        }
+        return jsonSerializer.serialize(topic, headers, data);
+    }
+
+    private boolean useCompact(String topic, Object data) {
+        return compactEnabled
+                && topic != null
+                && COMPACT_TOPICS.contains(RetryTopics.baseTopicOf(topic))
+                && CompactMessageCodec.supports(data);
+    }
+
+    @Override
+    public void close() {
+        jsonSerializer.close();
+    }
+}
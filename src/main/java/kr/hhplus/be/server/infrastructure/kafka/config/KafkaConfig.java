@@ -1,18 +1,29 @@
 package kr.hhplus.be.server.infrastructure.kafka.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.hhplus.be.server.infrastructure.kafka.codec.PaymentMessageDeserializer;
+import kr.hhplus.be.server.infrastructure.kafka.codec.PaymentMessageSerializer;
+import kr.hhplus.be.server.infrastructure.kafka.retry.RetryTopics;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.apache.kafka.common.serialization.StringSerializer;
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.kafka.annotation.EnableKafka;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.*;
 import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
 import org.springframework.kafka.support.serializer.JsonDeserializer;
-import org.springframework.kafka.support.serializer.JsonSerializer;
+import org.springframework.util.backoff.FixedBackOff;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -23,18 +34,48 @@ import java.util.Map;
  * Producer 설정:
  * - acks=all: 모든 replica 확인 후 응답
  * - retries=3: 실패 시 3번 재시도
+ * - app.kafka.codec=compact: 결제 요청/결과 토픽만 컴팩트 바이너리로 발행 (기본 json, 외부 토픽은 항상 json)
  *
  * Consumer 설정:
  * - enable.auto.commit=false: 수동 커밋
  * - auto.offset.reset=earliest: 처음부터 읽기
+ * - ErrorHandlingDeserializer: 역직렬화 실패 레코드는 {topic}.dlq 로 이동 (파티션 블로킹 방지)
+ * - PaymentMessageDeserializer: 컴팩트 바이너리와 JSON 을 모두 읽음 (포맷 전환 중 혼재 허용)
+ * - spring.threads.virtual.enabled=true: 리스너 컨슈머 스레드를 가상 스레드로 실행 (virtual 프로파일, JDK 21+)
+ *
+ * 메트릭:
+ * - Micrometer Consumer/Producer 리스너로 클라이언트 메트릭 등록 (lag, 전송량 등)
+ * - 리스너 처리 시간은 컨테이너 기본 Micrometer 타이머(spring.kafka.listener)
  */
 @Configuration
 @EnableKafka
+@RequiredArgsConstructor
 public class KafkaConfig {
 
+    private final MeterRegistry meterRegistry;
+
     @Value("${spring.kafka.bootstrap-servers:localhost:9092}")
     private String bootstrapServers;
 
+    @Value("${app.kafka.codec:json}")
+    private String codec;
+
+    // 토픽별 초기 동시성 (런타임 조정: ListenerConcurrencyController, /actuator/kafkaconcurrency)
+    @Value("${app.kafka.listener.default.concurrency:3}")
+    private int defaultConcurrency;
+
+    @Value("${app.kafka.listener.payment-requests.concurrency:3}")
+    private int paymentRequestConcurrency;
+
+    @Value("${app.kafka.listener.payment-results.concurrency:3}")
+    private int paymentResultConcurrency;
+
+    @Value("${app.kafka.listener.reservation-confirmed.concurrency:1}")
+    private int reservationConfirmedConcurrency;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
     // ===== Producer 설정 =====
 
     @Bean
@@ -42,7 +83,8 @@ public class KafkaConfig {
         Map<String, Object> configProps = new HashMap<>();
         configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         configProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
+        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, PaymentMessageSerializer.class);
+        configProps.put(PaymentMessageSerializer.COMPACT_ENABLED, "compact".equalsIgnoreCase(codec));
 
         // 신뢰성 설정
         configProps.put(ProducerConfig.ACKS_CONFIG, "all");
@@ -57,7 +99,9 @@ public class KafkaConfig {
         // 멱등성 활성화
         configProps.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
 
-        return new DefaultKafkaProducerFactory<>(configProps);
+        DefaultKafkaProducerFactory<String, Object> factory = new DefaultKafkaProducerFactory<>(configProps);
+        factory.addListener(new MicrometerProducerListener<>(meterRegistry));
+        return factory;
     }
 
     @Bean
@@ -72,7 +116,8 @@ public class KafkaConfig {
         Map<String, Object> configProps = new HashMap<>();
         configProps.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         configProps.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
-        configProps.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, JsonDeserializer.class);
+        configProps.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class);
+        configProps.put(ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, PaymentMessageDeserializer.class);
 
         // 수동 커밋 설정
         configProps.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
@@ -86,7 +131,32 @@ public class KafkaConfig {
         // JSON 역직렬화 설정 (신뢰할 패키지)
         configProps.put(JsonDeserializer.TRUSTED_PACKAGES, "kr.hhplus.be.server.*");
 
-        return new DefaultKafkaConsumerFactory<>(configProps);
+        // 클라이언트 메트릭 등록 (파티션별 records-lag 등)
+        DefaultKafkaConsumerFactory<String, Object> factory = new DefaultKafkaConsumerFactory<>(configProps);
+        factory.addListener(new MicrometerConsumerListener<>(meterRegistry));
+        return factory;
+    }
+
+    /**
+     * 컨테이너 에러 핸들러
+     * - 리스너 밖에서 실패한 레코드(역직렬화 실패 등)를 재시도 없이 {topic}.dlq 로 발행
+     * - 리스너 안의 시스템 오류는 컨슈머가 재시도 토픽으로 직접 넘김 (RetryTopics)
+     */
+    @Bean
+    public DefaultErrorHandler kafkaErrorHandler() {
+        // 역직렬화 실패 레코드는 원본 byte[] 그대로 발행 (값 Serializer를 거치지 않음)
+        Map<String, Object> configProps = new HashMap<>();
+        configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        configProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class);
+        configProps.put(ProducerConfig.ACKS_CONFIG, "all");
+        KafkaTemplate<String, byte[]> deadLetterTemplate =
+                new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(configProps));
+
+        DeadLetterPublishingRecoverer recoverer = new DeadLetterPublishingRecoverer(deadLetterTemplate,
+                // 재시도 토픽에서 실패한 레코드도 원본 토픽의 DLQ로 (파티션은 키 기준)
+                (record, ex) -> new TopicPartition(RetryTopics.dlqTopic(RetryTopics.baseTopicOf(record.topic())), -1));
+        return new DefaultErrorHandler(recoverer, new FixedBackOff(0L, 0L));
     }
 
     @Bean
@@ -99,8 +169,96 @@ public class KafkaConfig {
         factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
 
         // 동시성 설정 (파티션 수에 맞춰 조정)
-        factory.setConcurrency(3);
+        factory.setConcurrency(defaultConcurrency);
+
+        factory.setCommonErrorHandler(kafkaErrorHandler());
+        applyListenerThreads(factory, "kafka-listener");
 
         return factory;
     }
-}
\ No newline at end of file
+
+    /**
+     * 배치 리스너 컨테이너 (poll 단위로 List 수신)
+     * - 환불처럼 여러 건을 한 트랜잭션으로 모아 처리할 때 사용
+     * - 배치 전체 처리 후 한 번에 ACK
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, Object> batchKafkaListenerContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, Object> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(consumerFactory());
+        factory.setBatchListener(true);
+
+        // 수동 ACK 모드
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+
+        factory.setConcurrency(defaultConcurrency);
+
+        factory.setCommonErrorHandler(kafkaErrorHandler());
+        applyListenerThreads(factory, "kafka-batch-listener");
+
+        return factory;
+    }
+
+    // ===== 토픽별 컨테이너 =====
+    // 부하가 다른 토픽끼리 동시성을 따로 잡기 위해 분리 (리스너 id 로 레지스트리에서 조회)
+
+    /**
+     * payment-requests 배치 리스너 (결제 처리, 버스트 시 자동 확장 대상)
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, Object> paymentRequestListenerContainerFactory() {
+        return batchFactory("payment-requests", paymentRequestConcurrency);
+    }
+
+    /**
+     * payment-results 배치 리스너 (예약 상태 반영, 자동 확장 대상)
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, Object> paymentResultListenerContainerFactory() {
+        return batchFactory("payment-results", paymentResultConcurrency);
+    }
+
+    /**
+     * reservation-confirmed 배치 리스너 (로그성 소비)
+     * - 리스너가 Acknowledgment 를 받지 않으므로 poll 단위 자동 커밋(BATCH)
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, Object> reservationEventListenerContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, Object> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(consumerFactory());
+        factory.setBatchListener(true);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.BATCH);
+        factory.setConcurrency(reservationConfirmedConcurrency);
+        factory.setCommonErrorHandler(kafkaErrorHandler());
+        applyListenerThreads(factory, "reservation-confirmed");
+        return factory;
+    }
+
+    private ConcurrentKafkaListenerContainerFactory<String, Object> batchFactory(String name, int concurrency) {
+        ConcurrentKafkaListenerContainerFactory<String, Object> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(consumerFactory());
+        factory.setBatchListener(true);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        factory.setConcurrency(concurrency);
+        factory.setCommonErrorHandler(kafkaErrorHandler());
+        applyListenerThreads(factory, name);
+        return factory;
+    }
+
+    /**
+     * 가상 스레드 모드면 컨슈머 스레드를 가상 스레드로 생성
+     * - Boot 의 spring.threads.virtual.enabled 는 Tomcat/@Async/@Scheduled 만 바꾸고 Kafka 컨테이너는 건드리지 않음
+     * - 리스너 안의 DB/Redis 블로킹 구간은 캐리어를 반납 (synchronized 안이면 pinning → VirtualThreadPinningMonitor)
+     */
+    private void applyListenerThreads(ConcurrentKafkaListenerContainerFactory<String, Object> factory, String name) {
+        if (!virtualThreads) {
+            return;
+        }
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(name + "-vt-");
+        executor.setVirtualThreads(true);
+        factory.getContainerProperties().setListenerTaskExecutor(executor);
+    }
+}
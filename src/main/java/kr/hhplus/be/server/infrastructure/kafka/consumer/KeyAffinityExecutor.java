@@ -0,0 +1,65 @@
+package kr.hhplus.be.server.infrastructure.kafka.consumer;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 키 고정 실행기 (키별 단일 스레드 레인)
+ *
+ * - 같은 키(userId)는 항상 같은 단일 스레드 레인에서 제출 순서대로 실행
+ * - 다른 키는 레인 수만큼 병렬 실행
+ *
+ * Kafka 파티션이 키별 순서를 보장하고, 컨슈머 안에서는 이 레인이 순서를 이어받으므로
+ * 결제 경로에서 사용자별 분산락 없이도 한 사용자의 결제가 동시에 실행되지 않는다.
+ */
+@Slf4j
+@Component
+public class KeyAffinityExecutor {
+
+    private final ExecutorService[] lanes;
+
+    public KeyAffinityExecutor(@Value("${app.payment.consumer.lanes:8}") int laneCount) {
+        this.lanes = new ExecutorService[laneCount];
+        for (int i = 0; i < laneCount; i++) {
+            String threadName = "payment-lane-" + i;
+            lanes[i] = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, threadName);
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    public <T> CompletableFuture<T> submit(String key, Supplier<T> task) {
+        return CompletableFuture.supplyAsync(task, laneOf(key));
+    }
+
+    private ExecutorService laneOf(String key) {
+        return lanes[Math.floorMod(key.hashCode(), lanes.length)];
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (ExecutorService lane : lanes) {
+            lane.shutdown();
+        }
+        try {
+            for (ExecutorService lane : lanes) {
+                if (!lane.awaitTermination(10, TimeUnit.SECONDS)) {
+                    lane.shutdownNow();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("결제 레인 종료 대기 중 인터럽트");
+        }
+    }
+}
@@ -4,13 +4,25 @@ import kr.hhplus.be.server.application.port.in.PaymentUseCase;
 import kr.hhplus.be.server.domain.payment.InsufficientBalanceException;
 import kr.hhplus.be.server.infrastructure.kafka.message.PaymentRequestMessage;
 import kr.hhplus.be.server.infrastructure.kafka.message.PaymentResultMessage;
+import kr.hhplus.be.server.infrastructure.kafka.metrics.KafkaListenerMetrics;
 import kr.hhplus.be.server.infrastructure.kafka.producer.PaymentKafkaProducer;
+import kr.hhplus.be.server.infrastructure.kafka.retry.PaymentRetryPublisher;
+import kr.hhplus.be.server.infrastructure.kafka.retry.RetryTopics;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
 import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
 /**
  * 결제 요청 Consumer
  *
@@ -18,40 +30,154 @@ import org.springframework.stereotype.Component;
  * Group: payment-processor
  *
  * 역할:
- * 1. 결제 요청 메시지 수신
+ * 1. 결제 요청 메시지 수신 (poll 단위 배치)
  * 2. PaymentUseCase를 통해 결제 처리
  * 3. 결제 결과를 payment-results 토픽으로 발행
+ *
+ * [사용자별 순서 보장]
+ * - 메시지 키가 userId 이므로 한 사용자의 결제는 항상 같은 파티션으로 들어옴
+ * - 배치 안에서는 KeyAffinityExecutor가 userId별 단일 스레드 레인으로 순서를 유지
+ * - 따라서 Redis 분산락(lock:payment:user) 없이 payOrdered 로 처리
+ * - 배치의 모든 건이 끝난 뒤 한 번에 커밋
+ *
+ * [재시도 / DLQ]
+ * - 시스템 오류 건은 payment-requests.retry-N 으로 넘기고 배치는 커밋 (파티션은 계속 진행)
+ * - 재시도 토픽 발행마저 실패하면 nack(index)로 실패 지점부터 재전송
+ * - 재시도 토픽은 단계별 지연(1s → 10s → 60s) 후 재처리, 모두 실패하면 payment-requests.dlq
+ * - 역직렬화 실패 레코드는 컨테이너 에러 핸들러가 DLQ로 이동
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class PaymentRequestConsumer {
 
+    private static final Duration REDELIVERY_BACKOFF = Duration.ofSeconds(1);
+
     private final PaymentUseCase paymentUseCase;
     private final PaymentKafkaProducer paymentKafkaProducer;
+    private final KeyAffinityExecutor keyAffinityExecutor;
+    private final PaymentRetryPublisher retryPublisher;
+    private final KafkaListenerMetrics metrics;
 
     @KafkaListener(
+            id = "payment-requests",
             topics = "payment-requests",
             groupId = "payment-processor",
+            containerFactory = "paymentRequestListenerContainerFactory"
+    )
+    public void handlePaymentRequests(List<PaymentRequestMessage> messages, Acknowledgment ack) {
+        metrics.recordBatch("payment-requests", messages.size());
+
+        // 역직렬화 실패 레코드(null) 앞까지만 처리하고 해당 레코드는 에러 핸들러로 넘김
+        int poisonIndex = messages.indexOf(null);
+        List<PaymentRequestMessage> processable = poisonIndex < 0 ? messages : messages.subList(0, poisonIndex);
+
+        List<CompletableFuture<Void>> results = processable.stream()
+                .map(message -> keyAffinityExecutor.submit(message.userId(), () -> process(message)))
+                .toList();
+
+        int firstUnhandled = -1;
+        for (int i = 0; i < results.size(); i++) {
+            try {
+                results.get(i).join();
+            } catch (CompletionException e) {
+                // 시스템 오류 → 재시도 토픽으로 넘기고 다음 메시지 진행
+                PaymentRequestMessage message = processable.get(i);
+                boolean forwarded = retryPublisher.forward(
+                        RetryTopics.PAYMENT_REQUESTS, message.userId(), message, 0, causeOf(e));
+                if (!forwarded && firstUnhandled < 0) {
+                    firstUnhandled = i;
+                }
+            }
+        }
+
+        if (firstUnhandled >= 0) {
+            // 재시도 토픽 발행까지 실패 → 앞 레코드까지만 커밋하고 실패 지점부터 재전송
+            // (이미 처리된 건은 멱등키로 건너뜀)
+            ack.nack(firstUnhandled, REDELIVERY_BACKOFF);
+            return;
+        }
+
+        if (poisonIndex >= 0) {
+            throw new BatchListenerFailedException("역직렬화 실패 레코드", poisonIndex);
+        }
+
+        // 커밋
+        ack.acknowledge();
+    }
+
+    /**
+     * 재시도 토픽 처리
+     * - 단계 지연이 지나지 않았으면 nack로 남은 시간만큼 대기 후 재수신
+     * - 다시 실패하면 다음 단계(또는 DLQ)로 전달
+     * - 단계마다 컨테이너를 따로 둠: nack는 컨슈머 전체를 멈추므로 한 단계의 대기가 다른 단계를 막지 않도록
+     *   (재시도 트래픽은 적으므로 단계당 컨슈머 1개)
+     */
+    @KafkaListener(
+            id = "payment-requests-retry-1",
+            topics = "payment-requests.retry-1",
+            groupId = "payment-processor-retry",
+            concurrency = "1",
+            containerFactory = "kafkaListenerContainerFactory"
+    )
+    @KafkaListener(
+            id = "payment-requests-retry-2",
+            topics = "payment-requests.retry-2",
+            groupId = "payment-processor-retry",
+            concurrency = "1",
+            containerFactory = "kafkaListenerContainerFactory"
+    )
+    @KafkaListener(
+            id = "payment-requests-retry-3",
+            topics = "payment-requests.retry-3",
+            groupId = "payment-processor-retry",
+            concurrency = "1",
             containerFactory = "kafkaListenerContainerFactory"
     )
-    public void handlePaymentRequest(PaymentRequestMessage message, Acknowledgment ack) {
-        log.info("═══════════════════════════════════════════════════");
-        log.info("결제 요청 수신");
-        log.info("예약 ID: {}", message.reservationId());
-        log.info("사용자 ID: {}", message.userId());
-        log.info("결제 금액: {:,}원", message.amount());
-        log.info("═══════════════════════════════════════════════════");
+    public void handlePaymentRequestRetry(ConsumerRecord<String, PaymentRequestMessage> record, Acknowledgment ack) {
+        metrics.recordBatch(record.topic(), 1);
+
+        Optional<Duration> remaining = retryPublisher.remainingDelay(record);
+        if (remaining.isPresent()) {
+            ack.nack(remaining.get());
+            return;
+        }
+        metrics.recordRetryDelay(record.topic(), record.timestamp());
+
+        PaymentRequestMessage message = record.value();
+        try {
+            // 원본 토픽 처리와 같은 레인에서 실행 (같은 사용자 동시 결제 방지)
+            keyAffinityExecutor.submit(message.userId(), () -> process(message)).join();
+            ack.acknowledge();
+        } catch (CompletionException e) {
+            int tier = RetryTopics.tierOf(record.topic());
+            if (retryPublisher.forward(RetryTopics.PAYMENT_REQUESTS, record.key(), message, tier, causeOf(e))) {
+                ack.acknowledge();
+            } else {
+                ack.nack(REDELIVERY_BACKOFF);
+            }
+        }
+    }
+
+    /**
+     * 결제 요청 1건 처리
+     * - 성공/비즈니스 실패는 결과를 발행하고 정상 종료
+     * - 시스템 오류는 예외 전파 (호출자가 재시도 토픽으로 전달)
+     */
+    private Void process(PaymentRequestMessage message) {
+        log.debug("결제 요청 수신 - reservationId: {}, userId: {}, amount: {}",
+                message.reservationId(), message.userId(), message.amount());
+        metrics.recordLatency("request-queue", message.requestedAt(), LocalDateTime.now());
 
         try {
-            // 1. 결제 처리
+            // 1. 결제 처리 (레인이 사용자별 순서를 보장하므로 분산락 생략)
             PaymentUseCase.PaymentCommand paymentCommand = new PaymentUseCase.PaymentCommand(
                     message.userId(),
                     message.amount(),
                     message.idempotencyKey()
             );
 
-            PaymentUseCase.BalanceResult result = paymentUseCase.pay(paymentCommand);
+            PaymentUseCase.BalanceResult result = paymentUseCase.payOrdered(paymentCommand);
 
             // 2. 결제 성공 결과 발행
             PaymentResultMessage successResult = PaymentResultMessage.success(
@@ -60,12 +186,12 @@ public class PaymentRequestConsumer {
                     result.balance()
             );
             paymentKafkaProducer.sendPaymentResult(successResult);
+            metrics.recordLatency("payment", message.requestedAt(), successResult.processedAt());
 
-            log.info("결제 성공 - reservationId: {}, 잔액: {:,}원",
+            log.debug("결제 성공 - reservationId: {}, 잔액: {:,}원",
                     message.reservationId(), result.balance());
 
-            // 3. 커밋
-            ack.acknowledge();
+            return null;
 
         } catch (InsufficientBalanceException e) {
             // 잔액 부족 - 비즈니스 실패 (재시도 불필요)
@@ -78,17 +204,20 @@ public class PaymentRequestConsumer {
                     e.getMessage()
             );
             paymentKafkaProducer.sendPaymentResult(failResult);
+            metrics.recordLatency("payment", message.requestedAt(), failResult.processedAt());
 
-            // 비즈니스 실패는 커밋 (재시도해도 동일)
-            ack.acknowledge();
+            // 비즈니스 실패는 처리 완료 (재시도해도 동일)
+            return null;
 
-        } catch (Exception e) {
+        } catch (RuntimeException e) {
             // 시스템 오류 - 재시도 필요
             log.error("결제 처리 중 시스템 오류 - reservationId: {}, error: {}",
                     message.reservationId(), e.getMessage(), e);
-
-            // 커밋하지 않음 → 재시도됨
-            // 단, 무한 재시도 방지를 위해 DLQ 설정 필요
+            throw e;
         }
     }
-}
\ No newline at end of file
+
+    private Exception causeOf(CompletionException e) {
+        return e.getCause() instanceof Exception cause ? cause : e;
+    }
+}
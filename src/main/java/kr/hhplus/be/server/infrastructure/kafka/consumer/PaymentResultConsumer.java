@@ -3,119 +3,273 @@ package kr.hhplus.be.server.infrastructure.kafka.consumer;
 import kr.hhplus.be.server.application.event.ReservationConfirmedEvent;
 import kr.hhplus.be.server.application.port.out.QueuePort;
 import kr.hhplus.be.server.application.port.out.SeatHoldPort;
+import kr.hhplus.be.server.domain.reservation.InvalidReservationStateException;
 import kr.hhplus.be.server.domain.reservation.Reservation;
+import kr.hhplus.be.server.domain.reservation.ReservationExpiredException;
 import kr.hhplus.be.server.domain.reservation.ReservationId;
 import kr.hhplus.be.server.domain.reservation.ReservationRepository;
 import kr.hhplus.be.server.infrastructure.kafka.message.PaymentResultMessage;
+import kr.hhplus.be.server.infrastructure.kafka.metrics.KafkaListenerMetrics;
+import kr.hhplus.be.server.infrastructure.kafka.retry.PaymentRetryPublisher;
+import kr.hhplus.be.server.infrastructure.kafka.retry.RetryTopics;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
 import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
- * 결제 결과 Consumer
+ * 결제 결과 Consumer (배치)
  *
  * Topic: payment-results
  * Group: reservation-updater
  *
  * 역할:
- * 1. 결제 결과 메시지 수신
- * 2. 예약 상태 업데이트 (CONFIRMED or PAYMENT_FAILED)
- * 3. 좌석 점유 해제
- * 4. 성공 시 이벤트 발행 (랭킹, 데이터 플랫폼)
+ * 1. poll 단위로 결제 결과 메시지 수신
+ * 2. 예약 상태 일괄 업데이트 (CONFIRMED or PAYMENT_FAILED)
+ * 3. 좌석 점유 일괄 해제
+ * 4. 성공 건 이벤트 발행 (랭킹, 데이터 플랫폼)
+ *
+ * [배치 처리]
+ * - 예약 조회: IN 쿼리 1회
+ * - 상태 반영: version 조건부 UPDATE를 JDBC 배치로 1회 flush
+ * - 좌석 해제: 스케줄별 IN 절 DELETE
+ * - 이벤트: AFTER_COMMIT 리스너이므로 배치 트랜잭션 커밋 후 실행
+ * 건별 트랜잭션/조회/flush 대신 배치 단위로 처리해 결제 폭주 시에도 결과 반영이 밀리지 않음
+ *
+ * [재시도 / DLQ]
+ * - 배치 트랜잭션이 실패하면 건별 트랜잭션으로 나눠 재처리 → 실패 원인 메시지만 격리
+ * - 건별로도 실패한 메시지는 payment-results.retry-N → payment-results.dlq
+ * - 재시도 토픽 발행마저 실패하면 nack(index)로 실패 지점부터 재전송
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class PaymentResultConsumer {
 
+    private static final Duration REDELIVERY_BACKOFF = Duration.ofSeconds(1);
+
     private final ReservationRepository reservationRepository;
     private final SeatHoldPort seatHoldPort;
     private final QueuePort queuePort;
     private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final PaymentRetryPublisher retryPublisher;
+    private final KafkaListenerMetrics metrics;
 
-    @Transactional
     @KafkaListener(
+            id = "payment-results",
             topics = "payment-results",
             groupId = "reservation-updater",
+            containerFactory = "paymentResultListenerContainerFactory"
+    )
+    public void handlePaymentResults(List<PaymentResultMessage> messages, Acknowledgment ack) {
+        log.debug("결제 결과 수신 - {}건", messages.size());
+        metrics.recordBatch("payment-results", messages.size());
+
+        // 역직렬화 실패 레코드(null) 앞까지만 처리하고 해당 레코드는 에러 핸들러로 넘김
+        int poisonIndex = messages.indexOf(null);
+        List<PaymentResultMessage> processable = poisonIndex < 0 ? messages : messages.subList(0, poisonIndex);
+
+        int firstUnhandled = -1;
+        try {
+            Integer applied = transactionTemplate.execute(status -> applyResults(processable));
+            log.info("결제 결과 반영 완료 - 수신 {}건, 반영 {}건", processable.size(), applied);
+
+        } catch (Exception e) {
+            // 배치 전체 롤백 → 건별로 나눠 실패 메시지만 재시도 토픽으로
+            log.warn("결제 결과 배치 반영 실패, 건별 처리로 전환 - {}건, error: {}", processable.size(), e.getMessage());
+            firstUnhandled = applyOneByOne(processable);
+        }
+
+        if (firstUnhandled >= 0) {
+            // 재시도 토픽 발행까지 실패 → 앞 레코드까지만 커밋하고 실패 지점부터 재전송
+            // (이미 반영된 결과는 상태 검증에서 걸러짐)
+            ack.nack(firstUnhandled, REDELIVERY_BACKOFF);
+            return;
+        }
+
+        if (poisonIndex >= 0) {
+            throw new BatchListenerFailedException("역직렬화 실패 레코드", poisonIndex);
+        }
+
+        // 커밋
+        ack.acknowledge();
+    }
+
+    /**
+     * 재시도 토픽 처리
+     * - 단계 지연이 지나지 않았으면 nack로 남은 시간만큼 대기 후 재수신
+     * - 다시 실패하면 다음 단계(또는 DLQ)로 전달
+     * - 단계마다 컨테이너를 따로 둠: nack는 컨슈머 전체를 멈추므로 한 단계의 대기가 다른 단계를 막지 않도록
+     *   (재시도 트래픽은 적으므로 단계당 컨슈머 1개)
+     */
+    @KafkaListener(
+            id = "payment-results-retry-1",
+            topics = "payment-results.retry-1",
+            groupId = "reservation-updater-retry",
+            concurrency = "1",
             containerFactory = "kafkaListenerContainerFactory"
     )
-    public void handlePaymentResult(PaymentResultMessage message, Acknowledgment ack) {
-        log.info("═══════════════════════════════════════════════════");
-        log.info("결제 결과 수신");
-        log.info("예약 ID: {}", message.reservationId());
-        log.info("결과: {}", message.status());
-        log.info("═══════════════════════════════════════════════════");
+    @KafkaListener(
+            id = "payment-results-retry-2",
+            topics = "payment-results.retry-2",
+            groupId = "reservation-updater-retry",
+            concurrency = "1",
+            containerFactory = "kafkaListenerContainerFactory"
+    )
+    @KafkaListener(
+            id = "payment-results-retry-3",
+            topics = "payment-results.retry-3",
+            groupId = "reservation-updater-retry",
+            concurrency = "1",
+            containerFactory = "kafkaListenerContainerFactory"
+    )
+    public void handlePaymentResultRetry(ConsumerRecord<String, PaymentResultMessage> record, Acknowledgment ack) {
+        metrics.recordBatch(record.topic(), 1);
+
+        Optional<Duration> remaining = retryPublisher.remainingDelay(record);
+        if (remaining.isPresent()) {
+            ack.nack(remaining.get());
+            return;
+        }
+        metrics.recordRetryDelay(record.topic(), record.timestamp());
 
+        PaymentResultMessage message = record.value();
         try {
-            // 1. 예약 조회
-            Reservation reservation = reservationRepository
-                    .findById(new ReservationId(message.reservationId()))
-                    .orElseThrow(() -> new IllegalStateException(
-                            "예약을 찾을 수 없습니다: " + message.reservationId()));
-
-            if (message.isSuccess()) {
-                handlePaymentSuccess(reservation, message);
+            transactionTemplate.execute(status -> applyResults(List.of(message)));
+            ack.acknowledge();
+        } catch (Exception e) {
+            int tier = RetryTopics.tierOf(record.topic());
+            if (retryPublisher.forward(RetryTopics.PAYMENT_RESULTS, record.key(), message, tier, e)) {
+                ack.acknowledge();
             } else {
-                handlePaymentFailure(reservation, message);
+                ack.nack(REDELIVERY_BACKOFF);
             }
+        }
+    }
 
-            // 커밋
-            ack.acknowledge();
+    /**
+     * 건별 트랜잭션 처리 (배치 실패 시)
+     *
+     * @return 반영도, 재시도 토픽 전달도 못 한 첫 메시지의 인덱스 (모두 처리되면 -1)
+     */
+    private int applyOneByOne(List<PaymentResultMessage> messages) {
+        int firstUnhandled = -1;
+        for (int i = 0; i < messages.size(); i++) {
+            PaymentResultMessage message = messages.get(i);
+            try {
+                transactionTemplate.execute(status -> applyResults(List.of(message)));
+            } catch (Exception e) {
+                log.error("결제 결과 처리 실패 - reservationId: {}, error: {}",
+                        message.reservationId(), e.getMessage(), e);
+                boolean forwarded = retryPublisher.forward(
+                        RetryTopics.PAYMENT_RESULTS, message.reservationId(), message, 0, e);
+                if (!forwarded && firstUnhandled < 0) {
+                    firstUnhandled = i;
+                }
+            }
+        }
+        return firstUnhandled;
+    }
 
-        } catch (Exception e) {
-            log.error("결제 결과 처리 실패 - reservationId: {}, error: {}",
-                    message.reservationId(), e.getMessage(), e);
-            // 재시도를 위해 커밋하지 않음
+    private int applyResults(List<PaymentResultMessage> messages) {
+        // 1. 예약 일괄 조회
+        List<ReservationId> ids = messages.stream()
+                .map(message -> new ReservationId(message.reservationId()))
+                .distinct()
+                .toList();
+        Map<String, Reservation> reservations = reservationRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(r -> r.getId().value(), Function.identity()));
+
+        // 2. 도메인 상태 전이 (메모리)
+        List<Reservation> changed = new ArrayList<>();
+        List<ReservationConfirmedEvent> events = new ArrayList<>();
+        for (PaymentResultMessage message : messages) {
+            Reservation reservation = reservations.get(message.reservationId());
+            if (reservation == null) {
+                log.error("예약을 찾을 수 없습니다 - reservationId: {}", message.reservationId());
+                continue;
+            }
+
+            try {
+                if (message.isSuccess()) {
+                    events.add(handlePaymentSuccess(reservation, message));
+                } else {
+                    handlePaymentFailure(reservation, message);
+                }
+                changed.add(reservation);
+            } catch (InvalidReservationStateException | ReservationExpiredException e) {
+                // 중복 결과 / 타임아웃으로 이미 만료된 예약 - 재시도해도 동일
+                log.warn("결제 결과 반영 불가 - reservationId: {}, 상태: {}, error: {}",
+                        message.reservationId(), reservation.getStatus(), e.getMessage());
+            }
+        }
+
+        if (changed.isEmpty()) {
+            return 0;
         }
+
+        // 3. 상태 일괄 반영 (조건부 배치 UPDATE)
+        reservationRepository.saveAll(changed);
+
+        // 4. 좌석 점유 일괄 해제
+        seatHoldPort.releaseAll(changed.stream()
+                .map(Reservation::getSeatIdentifier)
+                .toList());
+
+        // 5. 이벤트 발행 (커밋 후 리스너 실행)
+        events.forEach(eventPublisher::publishEvent);
+
+        LocalDateTime appliedAt = LocalDateTime.now();
+        messages.forEach(message -> metrics.recordLatency("result-apply", message.processedAt(), appliedAt));
+
+        return changed.size();
     }
 
     /**
      * 결제 성공 처리
      */
-    private void handlePaymentSuccess(Reservation reservation, PaymentResultMessage message) {
+    private ReservationConfirmedEvent handlePaymentSuccess(Reservation reservation, PaymentResultMessage message) {
         LocalDateTime confirmedAt = message.processedAt();
 
-        // 1. 예약 확정
+        // 예약 확정
         reservation.confirm(confirmedAt);
-        reservationRepository.save(reservation);
-
-        // 2. 좌석 점유 해제
-        seatHoldPort.release(reservation.getSeatIdentifier());
-
-        // 3. 이벤트 발행 (랭킹, 데이터 플랫폼)
-        eventPublisher.publishEvent(
-                ReservationConfirmedEvent.of(
-                        reservation.getId().value(),
-                        reservation.getUserId().asString(),
-                        reservation.getSeatIdentifier().scheduleId().value(),
-                        reservation.getSeatIdentifier().seatNumber().value(),
-                        reservation.getPrice().amount(),
-                        confirmedAt
-                )
-        );
 
-        log.info("예약 확정 완료 - reservationId: {}, 잔액: {:,}원",
+        log.debug("예약 확정 - reservationId: {}, 잔액: {:,}원",
                 reservation.getId().value(), message.balance());
+
+        return ReservationConfirmedEvent.of(
+                reservation.getId().value(),
+                reservation.getUserId().asString(),
+                reservation.getSeatIdentifier().scheduleId().value(),
+                reservation.getSeatIdentifier().seatNumber().value(),
+                reservation.getPrice().amount(),
+                confirmedAt
+        );
     }
 
     /**
      * 결제 실패 처리
      */
     private void handlePaymentFailure(Reservation reservation, PaymentResultMessage message) {
-        // 1. 예약 상태 변경 → PAYMENT_FAILED
+        // 예약 상태 변경 → PAYMENT_FAILED (좌석은 일괄 해제에서 반납)
         reservation.failPayment(message.failReason());
-        reservationRepository.save(reservation);
-
-        // 2. 좌석 점유 해제 (다른 사용자가 예약 가능하도록)
-        seatHoldPort.release(reservation.getSeatIdentifier());
 
         log.warn("결제 실패로 예약 취소 - reservationId: {}, 사유: {}",
                 reservation.getId().value(), message.failReason());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,201 @@
+package kr.hhplus.be.server.infrastructure.kafka.consumer;
+
+import kr.hhplus.be.server.application.port.in.PaymentUseCase;
+import kr.hhplus.be.server.infrastructure.kafka.message.RefundRequestMessage;
+import kr.hhplus.be.server.infrastructure.kafka.message.RefundResultMessage;
+import kr.hhplus.be.server.infrastructure.kafka.metrics.KafkaListenerMetrics;
+import kr.hhplus.be.server.infrastructure.kafka.producer.PaymentKafkaProducer;
+import kr.hhplus.be.server.infrastructure.kafka.retry.PaymentRetryPublisher;
+import kr.hhplus.be.server.infrastructure.kafka.retry.RetryTopics;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 환불 요청 Consumer (배치)
+ *
+ * Topic: refund-requests
+ * Group: refund-processor
+ *
+ * 역할:
+ * 1. poll 단위로 환불 요청을 모아 수신
+ * 2. PaymentUseCase.refundBatch로 한 트랜잭션에서 지갑 적립
+ * 3. 건별 환불 결과를 refund-results 토픽으로 발행
+ *
+ * 공연 취소처럼 환불이 몰릴 때 건별 락/트랜잭션 대신 배치 단위로 처리
+ *
+ * [실패 처리]
+ * - 적립할 수 없는 건(잘못된 금액/사용자, 지갑 없음)은 refund-requests.dlq 로 격리하고 나머지는 진행
+ * - 시스템 오류(DB 장애 등)는 건별로 나눠 재처리, 그래도 실패한 건은 refund-requests.retry-N → refund-requests.dlq
+ * - 재시도 토픽 발행마저 실패하면 nack(index)로 실패 지점부터 재전송 (멱등키로 중복 적립 방지)
+ * - 역직렬화 실패 레코드는 컨테이너 에러 핸들러가 DLQ로 이동
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RefundRequestConsumer {
+
+    private static final Duration REDELIVERY_BACKOFF = Duration.ofSeconds(1);
+
+    private final PaymentUseCase paymentUseCase;
+    private final PaymentKafkaProducer paymentKafkaProducer;
+    private final PaymentRetryPublisher retryPublisher;
+    private final KafkaListenerMetrics metrics;
+
+    @KafkaListener(
+            topics = "refund-requests",
+            groupId = "refund-processor",
+            containerFactory = "batchKafkaListenerContainerFactory"
+    )
+    public void handleRefundRequests(List<RefundRequestMessage> messages, Acknowledgment ack) {
+        log.debug("환불 요청 수신 - {}건", messages.size());
+        metrics.recordBatch("refund-requests", messages.size());
+
+        // 역직렬화 실패 레코드(null) 앞까지만 처리하고 해당 레코드는 에러 핸들러로 넘김
+        int poisonIndex = messages.indexOf(null);
+        List<RefundRequestMessage> processable = poisonIndex < 0 ? messages : messages.subList(0, poisonIndex);
+
+        int firstUnhandled = -1;
+        try {
+            applyRefunds(processable);
+
+        } catch (Exception e) {
+            // 배치 전체 롤백 → 건별로 나눠 실패 메시지만 재시도 토픽으로 (멱등키로 중복 적립 방지)
+            log.warn("환불 배치 처리 실패, 건별 처리로 전환 - {}건, error: {}", processable.size(), e.getMessage());
+            firstUnhandled = applyOneByOne(processable);
+        }
+
+        if (firstUnhandled >= 0) {
+            // 재시도 토픽 발행까지 실패 → 앞 레코드까지만 커밋하고 실패 지점부터 재전송
+            ack.nack(firstUnhandled, REDELIVERY_BACKOFF);
+            return;
+        }
+
+        if (poisonIndex >= 0) {
+            throw new BatchListenerFailedException("역직렬화 실패 레코드", poisonIndex);
+        }
+
+        // 커밋
+        ack.acknowledge();
+    }
+
+    /**
+     * 재시도 토픽 처리
+     * - 단계 지연이 지나지 않았으면 nack로 남은 시간만큼 대기 후 재수신
+     * - 다시 실패하면 다음 단계(또는 DLQ)로 전달
+     * - 단계마다 컨테이너를 따로 둠: nack는 컨슈머 전체를 멈추므로 한 단계의 대기가 다른 단계를 막지 않도록
+     *   (재시도 트래픽은 적으므로 단계당 컨슈머 1개)
+     */
+    @KafkaListener(
+            id = "refund-requests-retry-1",
+            topics = "refund-requests.retry-1",
+            groupId = "refund-processor-retry",
+            concurrency = "1",
+            containerFactory = "kafkaListenerContainerFactory"
+    )
+    @KafkaListener(
+            id = "refund-requests-retry-2",
+            topics = "refund-requests.retry-2",
+            groupId = "refund-processor-retry",
+            concurrency = "1",
+            containerFactory = "kafkaListenerContainerFactory"
+    )
+    @KafkaListener(
+            id = "refund-requests-retry-3",
+            topics = "refund-requests.retry-3",
+            groupId = "refund-processor-retry",
+            concurrency = "1",
+            containerFactory = "kafkaListenerContainerFactory"
+    )
+    public void handleRefundRequestRetry(ConsumerRecord<String, RefundRequestMessage> record, Acknowledgment ack) {
+        metrics.recordBatch(record.topic(), 1);
+
+        Optional<Duration> remaining = retryPublisher.remainingDelay(record);
+        if (remaining.isPresent()) {
+            ack.nack(remaining.get());
+            return;
+        }
+        metrics.recordRetryDelay(record.topic(), record.timestamp());
+
+        RefundRequestMessage message = record.value();
+        try {
+            applyRefunds(List.of(message));
+            ack.acknowledge();
+        } catch (Exception e) {
+            int tier = RetryTopics.tierOf(record.topic());
+            if (retryPublisher.forward(RetryTopics.REFUND_REQUESTS, record.key(), message, tier, e)) {
+                ack.acknowledge();
+            } else {
+                ack.nack(REDELIVERY_BACKOFF);
+            }
+        }
+    }
+
+    /**
+     * 건별 처리 (배치 실패 시)
+     *
+     * @return 적립도, 재시도 토픽 전달도 못 한 첫 메시지의 인덱스 (모두 처리되면 -1)
+     */
+    private int applyOneByOne(List<RefundRequestMessage> messages) {
+        int firstUnhandled = -1;
+        for (int i = 0; i < messages.size(); i++) {
+            RefundRequestMessage message = messages.get(i);
+            try {
+                applyRefunds(List.of(message));
+            } catch (Exception e) {
+                log.error("환불 처리 실패 - reservationId: {}, error: {}", message.reservationId(), e.getMessage(), e);
+                boolean forwarded = retryPublisher.forward(
+                        RetryTopics.REFUND_REQUESTS, message.userId(), message, 0, e);
+                if (!forwarded && firstUnhandled < 0) {
+                    firstUnhandled = i;
+                }
+            }
+        }
+        return firstUnhandled;
+    }
+
+    /**
+     * 지갑 적립 + 건별 결과 발행
+     * - 시스템 오류는 예외 전파 (호출자가 건별 처리 / 재시도 토픽으로 전달)
+     */
+    private void applyRefunds(List<RefundRequestMessage> messages) {
+        // 1. 지갑 일괄 적립
+        List<PaymentUseCase.RefundCommand> commands = messages.stream()
+                .map(message -> new PaymentUseCase.RefundCommand(
+                        message.userId(),
+                        message.amount() == null ? 0L : message.amount(),
+                        message.idempotencyKey()))
+                .toList();
+
+        PaymentUseCase.RefundBatchResult result = paymentUseCase.refundBatch(commands);
+
+        // 2. 건별 환불 결과 발행 (적립 거부 건은 DLQ)
+        for (RefundRequestMessage message : messages) {
+            if (result.isRejected(message.idempotencyKey())) {
+                if (!retryPublisher.deadLetter(RetryTopics.REFUND_REQUESTS, message.userId(), message,
+                        new IllegalArgumentException("환불 적립 거부: " + message.reservationId()))) {
+                    throw new IllegalStateException("DLQ 발행 실패: " + message.reservationId());
+                }
+                continue;
+            }
+
+            paymentKafkaProducer.sendRefundResult(RefundResultMessage.completed(
+                    message.reservationId(),
+                    message.userId(),
+                    message.amount(),
+                    result.balanceOf(message.userId())
+            ));
+        }
+
+        log.info("환불 적립 완료 - {}건, 사용자 {}명, 거부 {}건",
+                messages.size(), result.balanceByUserId().size(), result.rejected().size());
+    }
+}
@@ -0,0 +1,183 @@
+package kr.hhplus.be.server.infrastructure.kafka.consumer;
+
+import kr.hhplus.be.server.application.event.ReservationCancelledEvent;
+import kr.hhplus.be.server.domain.reservation.Reservation;
+import kr.hhplus.be.server.domain.reservation.ReservationId;
+import kr.hhplus.be.server.domain.reservation.ReservationRepository;
+import kr.hhplus.be.server.infrastructure.kafka.message.RefundResultMessage;
+import kr.hhplus.be.server.infrastructure.kafka.metrics.KafkaListenerMetrics;
+import kr.hhplus.be.server.infrastructure.kafka.retry.PaymentRetryPublisher;
+import kr.hhplus.be.server.infrastructure.kafka.retry.RetryTopics;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 환불 결과 Consumer (배치)
+ *
+ * Topic: refund-results
+ * Group: reservation-updater
+ *
+ * 역할:
+ * 1. poll 단위로 환불 결과 메시지 수신
+ * 2. 예약 상태 업데이트 (REFUND_PENDING → CANCELLED)
+ * 3. 취소 이벤트 발행 (랭킹 차감, 데이터 플랫폼)
+ *
+ * [재시도 / DLQ]
+ * - 반영 트랜잭션이 실패하면 롤백 후 refund-results.retry-N → refund-results.dlq (파티션은 계속 진행)
+ * - 재시도 토픽 발행마저 실패하면 nack(index) → 실패 지점부터 잠시 후 다시 수신
+ *   (커밋하지 않고 넘어가면 다음 배치 커밋 시 함께 커밋되어 유실)
+ * - 역직렬화 실패 레코드는 컨테이너 에러 핸들러가 DLQ로 이동
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RefundResultConsumer {
+
+    private static final Duration REDELIVERY_BACKOFF = Duration.ofSeconds(1);
+
+    private final ReservationRepository reservationRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final PaymentRetryPublisher retryPublisher;
+    private final KafkaListenerMetrics metrics;
+
+    @KafkaListener(
+            topics = "refund-results",
+            groupId = "reservation-updater",
+            containerFactory = "batchKafkaListenerContainerFactory"
+    )
+    public void handleRefundResults(List<RefundResultMessage> messages, Acknowledgment ack) {
+        log.debug("환불 결과 수신 - {}건", messages.size());
+        metrics.recordBatch("refund-results", messages.size());
+
+        // 역직렬화 실패 레코드(null) 앞까지만 처리하고 해당 레코드는 에러 핸들러로 넘김
+        int poisonIndex = messages.indexOf(null);
+        List<RefundResultMessage> processable = poisonIndex < 0 ? messages : messages.subList(0, poisonIndex);
+
+        // 건별 트랜잭션 (한 건의 실패가 다른 예약 취소를 롤백하지 않도록)
+        for (int i = 0; i < processable.size(); i++) {
+            RefundResultMessage message = processable.get(i);
+            try {
+                transactionTemplate.execute(status -> applyRefundResult(message));
+            } catch (Exception e) {
+                log.error("환불 결과 처리 실패 - reservationId: {}, error: {}",
+                        message.reservationId(), e.getMessage(), e);
+                if (!retryPublisher.forward(RetryTopics.REFUND_RESULTS, message.reservationId(), message, 0, e)) {
+                    // 재시도 토픽 발행까지 실패 → 앞 레코드까지만 커밋하고 실패 지점부터 재전송
+                    ack.nack(i, REDELIVERY_BACKOFF);
+                    return;
+                }
+            }
+        }
+
+        if (poisonIndex >= 0) {
+            throw new BatchListenerFailedException("역직렬화 실패 레코드", poisonIndex);
+        }
+
+        // 커밋
+        ack.acknowledge();
+    }
+
+    /**
+     * 재시도 토픽 처리
+     * - 단계 지연이 지나지 않았으면 nack로 남은 시간만큼 대기 후 재수신
+     * - 다시 실패하면 다음 단계(또는 DLQ)로 전달
+     * - 단계마다 컨테이너를 따로 둠: nack는 컨슈머 전체를 멈추므로 한 단계의 대기가 다른 단계를 막지 않도록
+     *   (재시도 트래픽은 적으므로 단계당 컨슈머 1개)
+     */
+    @KafkaListener(
+            id = "refund-results-retry-1",
+            topics = "refund-results.retry-1",
+            groupId = "reservation-updater-refund-retry",
+            concurrency = "1",
+            containerFactory = "kafkaListenerContainerFactory"
+    )
+    @KafkaListener(
+            id = "refund-results-retry-2",
+            topics = "refund-results.retry-2",
+            groupId = "reservation-updater-refund-retry",
+            concurrency = "1",
+            containerFactory = "kafkaListenerContainerFactory"
+    )
+    @KafkaListener(
+            id = "refund-results-retry-3",
+            topics = "refund-results.retry-3",
+            groupId = "reservation-updater-refund-retry",
+            concurrency = "1",
+            containerFactory = "kafkaListenerContainerFactory"
+    )
+    public void handleRefundResultRetry(ConsumerRecord<String, RefundResultMessage> record, Acknowledgment ack) {
+        metrics.recordBatch(record.topic(), 1);
+
+        Optional<Duration> remaining = retryPublisher.remainingDelay(record);
+        if (remaining.isPresent()) {
+            ack.nack(remaining.get());
+            return;
+        }
+        metrics.recordRetryDelay(record.topic(), record.timestamp());
+
+        RefundResultMessage message = record.value();
+        try {
+            transactionTemplate.execute(status -> applyRefundResult(message));
+            ack.acknowledge();
+        } catch (Exception e) {
+            int tier = RetryTopics.tierOf(record.topic());
+            if (retryPublisher.forward(RetryTopics.REFUND_RESULTS, record.key(), message, tier, e)) {
+                ack.acknowledge();
+            } else {
+                ack.nack(REDELIVERY_BACKOFF);
+            }
+        }
+    }
+
+    /**
+     * @return 예약을 CANCELLED 로 전환했으면 true (없는 예약/이미 처리된 예약은 false)
+     */
+    private boolean applyRefundResult(RefundResultMessage message) {
+        Optional<Reservation> found = reservationRepository.findById(new ReservationId(message.reservationId()));
+        if (found.isEmpty()) {
+            // 재시도해도 동일 - 기록만 남기고 건너뜀
+            log.error("예약을 찾을 수 없습니다 - reservationId: {}", message.reservationId());
+            return false;
+        }
+        Reservation reservation = found.get();
+
+        // 재전송으로 이미 취소 완료된 예약은 건너뜀
+        if (!reservation.isRefundInProgress()) {
+            log.info("환불 대기 상태가 아닌 예약 - reservationId: {}, status: {}",
+                    message.reservationId(), reservation.getStatus());
+            return false;
+        }
+
+        LocalDateTime cancelledAt = message.processedAt();
+        reservation.cancel(cancelledAt);
+        reservationRepository.save(reservation);
+
+        eventPublisher.publishEvent(
+                ReservationCancelledEvent.of(
+                        reservation.getId().value(),
+                        reservation.getUserId().asString(),
+                        reservation.getSeatIdentifier().scheduleId().value(),
+                        reservation.getSeatIdentifier().seatNumber().value(),
+                        reservation.getPrice().amount(),
+                        cancelledAt
+                )
+        );
+
+        log.info("예약 취소 완료 - reservationId: {}, 환불: {}원, 잔액: {}원",
+                reservation.getId().value(), message.amount(), message.balance());
+        return true;
+    }
+}
@@ -0,0 +1,50 @@
+package kr.hhplus.be.server.infrastructure.kafka.message;
+
+import java.time.LocalDateTime;
+
+/**
+ * 환불 요청 메시지
+ *
+ * Producer: ReservationService
+ * Consumer: RefundRequestConsumer
+ * Topic: refund-requests
+ * Key: userId (같은 사용자 지갑 적립을 한 파티션에서 처리)
+ */
+public record RefundRequestMessage(
+        String reservationId,
+        String userId,
+        Long amount,
+        String idempotencyKey,
+        Long scheduleId,
+        Integer seatNumber,
+        LocalDateTime requestedAt
+) {
+    /**
+     * 예약 정보로부터 환불 요청 메시지 생성
+     * - 멱등키는 예약 ID 기준 (재전송/중복 취소 시 한 번만 적립)
+     */
+    public static RefundRequestMessage of(
+            String reservationId,
+            String userId,
+            Long amount,
+            Long scheduleId,
+            Integer seatNumber
+    ) {
+        return new RefundRequestMessage(
+                reservationId,
+                userId,
+                amount,
+                idempotencyKeyOf(reservationId),
+                scheduleId,
+                seatNumber,
+                LocalDateTime.now()
+        );
+    }
+
+    /**
+     * 예약 환불 멱등키 (개별 취소/일괄 취소 공통)
+     */
+    public static String idempotencyKeyOf(String reservationId) {
+        return "refund-" + reservationId;
+    }
+}
@@ -0,0 +1,37 @@
+package kr.hhplus.be.server.infrastructure.kafka.message;
+
+import java.time.LocalDateTime;
+
+/**
+ * 환불 결과 메시지
+ *
+ * Producer: RefundRequestConsumer
+ * Consumer: RefundResultConsumer
+ * Topic: refund-results
+ * Key: reservationId (같은 예약 상태 업데이트 순서 보장)
+ */
+public record RefundResultMessage(
+        String reservationId,
+        String userId,
+        Long amount,
+        Long balance,
+        LocalDateTime processedAt
+) {
+    /**
+     * 환불 완료 메시지 생성
+     */
+    public static RefundResultMessage completed(
+            String reservationId,
+            String userId,
+            Long amount,
+            Long balance
+    ) {
+        return new RefundResultMessage(
+                reservationId,
+                userId,
+                amount,
+                balance,
+                LocalDateTime.now()
+        );
+    }
+}
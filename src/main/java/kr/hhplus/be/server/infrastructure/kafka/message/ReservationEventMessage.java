@@ -3,13 +3,14 @@ package kr.hhplus.be.server.infrastructure.kafka.message;
 import java.time.LocalDateTime;
 
 public record ReservationEventMessage(
-        String eventType,      // "CONFIRMED" | "CANCELLED"
+        String eventType,      // "CONFIRMED" | "CANCELLED" | "SCHEDULE_CANCELLED"
         String reservationId,
         String userId,
         Long scheduleId,
         Integer seatNumber,
-        Long price,
-        LocalDateTime eventTime
+        Long price,            // SCHEDULE_CANCELLED: 환불 총액
+        LocalDateTime eventTime,
+        Integer quantity       // 이벤트에 포함된 예약 수 (단건 이벤트는 1)
 ) {
     public static ReservationEventMessage confirmed(
             String reservationId,
@@ -26,7 +27,8 @@ public record ReservationEventMessage(
                 scheduleId,
                 seatNumber,
                 price,
-                confirmedAt
+                confirmedAt,
+                1
         );
     }
 
@@ -45,7 +47,29 @@ public record ReservationEventMessage(
                 scheduleId,
                 seatNumber,
                 price,
-                cancelledAt
+                cancelledAt,
+                1
+        );
+    }
+
+    /**
+     * 공연 일정 일괄 취소 (청크 단위 집계)
+     */
+    public static ReservationEventMessage scheduleCancelled(
+            Long scheduleId,
+            int cancelledCount,
+            long refundedAmount,
+            LocalDateTime cancelledAt
+    ) {
+        return new ReservationEventMessage(
+                "SCHEDULE_CANCELLED",
+                null,
+                null,
+                scheduleId,
+                null,
+                refundedAmount,
+                cancelledAt,
+                cancelledCount
         );
     }
 }
\ No newline at end of file
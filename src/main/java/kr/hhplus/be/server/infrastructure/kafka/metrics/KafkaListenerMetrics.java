@@ -0,0 +1,81 @@
+package kr.hhplus.be.server.infrastructure.kafka.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Kafka 리스너 메트릭
+ *
+ * - kafka.listener.batch.size: 리스너별 poll 배치 크기
+ * - payment.e2e.latency: 결제 흐름 구간별 지연 (stage 태그)
+ *   · request-queue : 결제 요청(requestedAt) → 결제 컨슈머 수신
+ *   · payment       : 결제 요청(requestedAt) → 결제 처리 완료(processedAt)
+ *   · result-apply  : 결제 처리 완료(processedAt) → 예약 상태 반영
+ * - kafka.listener.retry: 재시도 토픽/DLQ 전달 건수 (topic, destination 태그)
+ * - kafka.listener.retry.delay: 재시도 토픽 기록 → 재처리 시작 (단계 지연 + 컨슈머 대기, topic 태그)
+ *
+ * 파티션별 lag은 Kafka 클라이언트 메트릭(kafka.consumer.fetch.manager.records.lag)으로 수집
+ */
+@Component
+@RequiredArgsConstructor
+public class KafkaListenerMetrics {
+
+    public static final String BATCH_SIZE = "kafka.listener.batch.size";
+    public static final String E2E_LATENCY = "payment.e2e.latency";
+    public static final String RETRY = "kafka.listener.retry";
+    public static final String RETRY_DELAY = "kafka.listener.retry.delay";
+
+    private final MeterRegistry meterRegistry;
+
+    public void recordBatch(String listener, int size) {
+        DistributionSummary.builder(BATCH_SIZE)
+                .tag("listener", listener)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry)
+                .record(size);
+    }
+
+    public void recordLatency(String stage, LocalDateTime from, LocalDateTime to) {
+        if (from == null || to == null) {
+            return;
+        }
+        Duration latency = Duration.between(from, to);
+        if (latency.isNegative()) {
+            latency = Duration.ZERO;  // 서버 간 시계 오차
+        }
+
+        Timer.builder(E2E_LATENCY)
+                .tag("stage", stage)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry)
+                .record(latency);
+    }
+
+    /**
+     * @param recordTimestamp 재시도 토픽 레코드 타임스탬프 (epoch ms, 전달 시각)
+     */
+    public void recordRetryDelay(String retryTopic, long recordTimestamp) {
+        long delayMs = Math.max(0L, System.currentTimeMillis() - recordTimestamp);
+        Timer.builder(RETRY_DELAY)
+                .tag("topic", retryTopic)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry)
+                .record(delayMs, TimeUnit.MILLISECONDS);
+    }
+
+    public void recordRetry(String sourceTopic, String destination) {
+        Counter.builder(RETRY)
+                .tag("topic", sourceTopic)
+                .tag("destination", destination)
+                .register(meterRegistry)
+                .increment();
+    }
+}
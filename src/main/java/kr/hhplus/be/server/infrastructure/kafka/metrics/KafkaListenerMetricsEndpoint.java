@@ -0,0 +1,110 @@
+package kr.hhplus.be.server.infrastructure.kafka.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Kafka 리스너 요약 엔드포인트 (GET /actuator/kafkalisteners)
+ *
+ * 컨테이너 동시성(setConcurrency) 산정용 지표를 한 번에 조회:
+ * - lag: 컨슈머 그룹(client.id) / 토픽 / 파티션별 records-lag
+ * - batchSize: 리스너별 배치 크기 (평균, 최대, p50, p99)
+ * - latency: 결제 흐름 구간별 지연 ms (평균, 최대, p50, p95, p99)
+ * - retries: 재시도 토픽/DLQ 전달 누적 건수
+ * - retryDelay: 재시도 토픽별 기록 → 재처리 시작 지연 ms (평균, 최대, p50, p99)
+ */
+@Component
+@Endpoint(id = "kafkalisteners")
+@RequiredArgsConstructor
+public class KafkaListenerMetricsEndpoint {
+
+    private static final String RECORDS_LAG = "kafka.consumer.fetch.manager.records.lag";
+
+    private final MeterRegistry meterRegistry;
+
+    @ReadOperation
+    public Map<String, Object> summary() {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("lag", lag());
+        summary.put("batchSize", batchSizes());
+        summary.put("latency", latencies());
+        summary.put("retries", retries());
+        summary.put("retryDelay", timers(KafkaListenerMetrics.RETRY_DELAY, "topic"));
+        return summary;
+    }
+
+    private Map<String, Double> lag() {
+        Map<String, Double> lag = new TreeMap<>();
+        for (Gauge gauge : meterRegistry.find(RECORDS_LAG).gauges()) {
+            String topic = gauge.getId().getTag("topic");
+            String partition = gauge.getId().getTag("partition");
+            if (topic == null || partition == null) {
+                continue;  // 클라이언트 전체 합계 메트릭 제외
+            }
+            String key = gauge.getId().getTag("client.id") + "/" + topic + "-" + partition;
+            lag.put(key, gauge.value());
+        }
+        return lag;
+    }
+
+    private Map<String, Object> batchSizes() {
+        Map<String, Object> result = new TreeMap<>();
+        for (DistributionSummary summary : meterRegistry.find(KafkaListenerMetrics.BATCH_SIZE).summaries()) {
+            HistogramSnapshot snapshot = summary.takeSnapshot();
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("count", snapshot.count());
+            stats.put("mean", snapshot.mean());
+            stats.put("max", snapshot.max());
+            putPercentiles(stats, snapshot, 1.0);
+            result.put(summary.getId().getTag("listener"), stats);
+        }
+        return result;
+    }
+
+    private Map<String, Object> latencies() {
+        return timers(KafkaListenerMetrics.E2E_LATENCY, "stage");
+    }
+
+    private Map<String, Object> timers(String name, String keyTag) {
+        Map<String, Object> result = new TreeMap<>();
+        for (Timer timer : meterRegistry.find(name).timers()) {
+            HistogramSnapshot snapshot = timer.takeSnapshot();
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("count", snapshot.count());
+            stats.put("meanMs", snapshot.mean(TimeUnit.MILLISECONDS));
+            stats.put("maxMs", snapshot.max(TimeUnit.MILLISECONDS));
+            putPercentiles(stats, snapshot, 1.0 / TimeUnit.MILLISECONDS.toNanos(1));
+            result.put(timer.getId().getTag(keyTag), stats);
+        }
+        return result;
+    }
+
+    private Map<String, Double> retries() {
+        Map<String, Double> result = new TreeMap<>();
+        for (Counter counter : meterRegistry.find(KafkaListenerMetrics.RETRY).counters()) {
+            result.put(counter.getId().getTag("destination"), counter.count());
+        }
+        return result;
+    }
+
+    // Timer 스냅샷의 백분위 값은 나노초 단위
+    private void putPercentiles(Map<String, Object> stats, HistogramSnapshot snapshot, double scale) {
+        for (ValueAtPercentile percentile : snapshot.percentileValues()) {
+            stats.put("p" + Math.round(percentile.percentile() * 100), percentile.value() * scale);
+        }
+    }
+}
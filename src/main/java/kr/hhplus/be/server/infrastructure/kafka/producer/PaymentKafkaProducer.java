@@ -2,6 +2,8 @@ package kr.hhplus.be.server.infrastructure.kafka.producer;
 
 import kr.hhplus.be.server.infrastructure.kafka.message.PaymentRequestMessage;
 import kr.hhplus.be.server.infrastructure.kafka.message.PaymentResultMessage;
+import kr.hhplus.be.server.infrastructure.kafka.message.RefundRequestMessage;
+import kr.hhplus.be.server.infrastructure.kafka.message.RefundResultMessage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.core.KafkaTemplate;
@@ -16,6 +18,8 @@ import java.util.concurrent.CompletableFuture;
  * 토픽:
  * - payment-requests: 결제 요청 (Key: userId)
  * - payment-results: 결제 결과 (Key: reservationId)
+ * - refund-requests: 환불 요청 (Key: userId)
+ * - refund-results: 환불 결과 (Key: reservationId)
  */
 @Slf4j
 @Component
@@ -24,6 +28,8 @@ public class PaymentKafkaProducer {
 
     private static final String PAYMENT_REQUESTS_TOPIC = "payment-requests";
     private static final String PAYMENT_RESULTS_TOPIC = "payment-results";
+    private static final String REFUND_REQUESTS_TOPIC = "refund-requests";
+    private static final String REFUND_RESULTS_TOPIC = "refund-results";
 
     private final KafkaTemplate<String, Object> kafkaTemplate;
 
@@ -56,6 +62,19 @@ public class PaymentKafkaProducer {
         });
     }
 
+    /**
+     * 결제 요청 메시지 발행 (아웃박스 릴레이용)
+     *
+     * - 결과를 기다리지 않고 future를 그대로 반환 → 배치 전체를 연달아 send (파이프라이닝)
+     * - 건별 로그 없이 호출자가 future를 모아 성공/실패를 판정
+     *
+     * @param message 결제 요청 메시지
+     * Key: userId
+     */
+    public CompletableFuture<SendResult<String, Object>> dispatchPaymentRequest(PaymentRequestMessage message) {
+        return kafkaTemplate.send(PAYMENT_REQUESTS_TOPIC, message.userId(), message);
+    }
+
     /**
      * 결제 결과 메시지 발행
      *
@@ -84,4 +103,54 @@ public class PaymentKafkaProducer {
             }
         });
     }
-}
\ No newline at end of file
+
+    /**
+     * 환불 요청 메시지 발행
+     *
+     * @param message 환불 요청 메시지
+     * Key: userId (같은 사용자의 환불은 한 파티션에서 모아서 적립)
+     */
+    public void sendRefundRequest(RefundRequestMessage message) {
+        log.info("환불 요청 발행 시작 - reservationId: {}, userId: {}, amount: {}",
+                message.reservationId(), message.userId(), message.amount());
+
+        CompletableFuture<SendResult<String, Object>> future = kafkaTemplate.send(
+                REFUND_REQUESTS_TOPIC,
+                message.userId(),  // Key: userId
+                message
+        );
+
+        future.whenComplete((result, ex) -> {
+            if (ex != null) {
+                log.error("환불 요청 발행 실패 - reservationId: {}, error: {}",
+                        message.reservationId(), ex.getMessage(), ex);
+            } else {
+                log.info("환불 요청 발행 완료 - reservationId: {}, partition: {}, offset: {}",
+                        message.reservationId(),
+                        result.getRecordMetadata().partition(),
+                        result.getRecordMetadata().offset());
+            }
+        });
+    }
+
+    /**
+     * 환불 결과 메시지 발행
+     *
+     * @param message 환불 결과 메시지
+     * Key: reservationId (같은 예약의 결과는 순서 보장)
+     */
+    public void sendRefundResult(RefundResultMessage message) {
+        CompletableFuture<SendResult<String, Object>> future = kafkaTemplate.send(
+                REFUND_RESULTS_TOPIC,
+                message.reservationId(),  // Key: reservationId
+                message
+        );
+
+        future.whenComplete((result, ex) -> {
+            if (ex != null) {
+                log.error("환불 결과 발행 실패 - reservationId: {}, error: {}",
+                        message.reservationId(), ex.getMessage(), ex);
+            }
+        });
+    }
+}
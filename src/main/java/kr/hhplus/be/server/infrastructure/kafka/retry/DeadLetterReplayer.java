@@ -0,0 +1,135 @@
+package kr.hhplus.be.server.infrastructure.kafka.retry;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DLQ 재처리 도구
+ *
+ * - {topic}.dlq 의 레코드를 원본 토픽으로 다시 발행
+ * - 요청 시점의 끝 offset 까지만 처리 (재처리 중 다시 DLQ로 들어온 레코드는 다음 요청에서)
+ * - 재처리 위치는 전용 컨슈머 그룹(dlq-replayer)의 커밋 offset 으로 관리
+ * - 원본 토픽 발행이 모두 확인된 뒤에만 커밋 → 중간 실패 시 같은 구간을 다시 재처리 (멱등키로 중복 방지)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DeadLetterReplayer {
+
+    private static final String REPLAY_GROUP = "dlq-replayer";
+    private static final Duration POLL_TIMEOUT = Duration.ofMillis(500);
+    private static final int MAX_EMPTY_POLLS = 3;
+    private static final long SEND_TIMEOUT_MS = 10_000L;
+
+    private final ConsumerFactory<String, Object> consumerFactory;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+
+    public record ReplayResult(String dlqTopic, int replayed, int skipped) {}
+
+    /**
+     * DLQ 재처리
+     *
+     * @param sourceTopic 원본 토픽 (payment-requests / payment-results / refund-requests)
+     * @param maxRecords  최대 재처리 건수
+     */
+    public ReplayResult replay(String sourceTopic, int maxRecords) {
+        if (!RetryTopics.SOURCE_TOPICS.contains(sourceTopic)) {
+            throw new IllegalArgumentException("재처리할 수 없는 토픽입니다: " + sourceTopic);
+        }
+        if (maxRecords <= 0) {
+            throw new IllegalArgumentException("재처리 건수는 0보다 커야 합니다");
+        }
+
+        String dlqTopic = RetryTopics.dlqTopic(sourceTopic);
+
+        try (Consumer<String, Object> consumer = consumerFactory.createConsumer(REPLAY_GROUP, "dlq-replayer", null)) {
+            List<TopicPartition> partitions = consumer.partitionsFor(dlqTopic).stream()
+                    .map(info -> new TopicPartition(dlqTopic, info.partition()))
+                    .toList();
+            if (partitions.isEmpty()) {
+                return new ReplayResult(dlqTopic, 0, 0);
+            }
+
+            consumer.assign(partitions);
+            Map<TopicPartition, Long> endOffsets = consumer.endOffsets(partitions);
+            Map<TopicPartition, OffsetAndMetadata> committed = consumer.committed(new HashSet<>(partitions));
+            for (TopicPartition partition : partitions) {
+                OffsetAndMetadata offset = committed.get(partition);
+                if (offset == null) {
+                    consumer.seekToBeginning(List.of(partition));
+                } else {
+                    consumer.seek(partition, offset.offset());
+                }
+            }
+
+            List<CompletableFuture<?>> sends = new ArrayList<>();
+            Map<TopicPartition, OffsetAndMetadata> toCommit = new HashMap<>();
+            int replayed = 0;
+            int skipped = 0;
+            int emptyPolls = 0;
+
+            while (replayed + skipped < maxRecords && emptyPolls < MAX_EMPTY_POLLS) {
+                ConsumerRecords<String, Object> records = consumer.poll(POLL_TIMEOUT);
+                if (records.isEmpty()) {
+                    emptyPolls++;
+                    continue;
+                }
+                emptyPolls = 0;
+
+                for (ConsumerRecord<String, Object> record : records) {
+                    TopicPartition partition = new TopicPartition(record.topic(), record.partition());
+                    if (record.offset() >= endOffsets.get(partition) || replayed + skipped >= maxRecords) {
+                        continue;
+                    }
+
+                    if (record.value() == null) {
+                        // 역직렬화 불가 레코드는 재발행해도 다시 실패 → 건너뜀
+                        log.warn("[DLQ 재처리] 역직렬화 불가 레코드 건너뜀 - {}-{}@{}",
+                                record.topic(), record.partition(), record.offset());
+                        skipped++;
+                    } else {
+                        ProducerRecord<String, Object> replay = new ProducerRecord<>(sourceTopic, record.key(), record.value());
+                        replay.headers().add(RetryTopics.HEADER_REPLAYED,
+                                (record.partition() + "@" + record.offset()).getBytes(StandardCharsets.UTF_8));
+                        sends.add(kafkaTemplate.send(replay));
+                        replayed++;
+                    }
+                    toCommit.put(partition, new OffsetAndMetadata(record.offset() + 1));
+                }
+            }
+
+            // 원본 토픽 발행 확인 후 재처리 위치 커밋
+            CompletableFuture.allOf(sends.toArray(CompletableFuture[]::new))
+                    .get(SEND_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+            if (!toCommit.isEmpty()) {
+                consumer.commitSync(toCommit);
+            }
+
+            log.info("[DLQ 재처리] {} → {} 재발행 {}건, 건너뜀 {}건", dlqTopic, sourceTopic, replayed, skipped);
+            return new ReplayResult(dlqTopic, replayed, skipped);
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("DLQ 재처리가 중단되었습니다", e);
+        } catch (IllegalArgumentException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException("DLQ 재처리 실패: " + dlqTopic, e);
+        }
+    }
+}
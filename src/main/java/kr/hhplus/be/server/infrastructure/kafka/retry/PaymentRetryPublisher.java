@@ -0,0 +1,96 @@
+package kr.hhplus.be.server.infrastructure.kafka.retry;
+
+import kr.hhplus.be.server.infrastructure.kafka.metrics.KafkaListenerMetrics;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 실패 메시지를 다음 재시도 단계(또는 DLQ)로 넘기는 Publisher
+ *
+ * - 발행 완료를 확인한 뒤에만 true 반환 → 호출자는 그때 원본 offset을 커밋
+ * - 발행 실패 시 false → 호출자는 커밋하지 않고 재전송을 받음 (유실 방지)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PaymentRetryPublisher {
+
+    private static final long SEND_TIMEOUT_MS = 5_000L;
+
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final KafkaListenerMetrics metrics;
+
+    /**
+     * 다음 단계로 전달
+     *
+     * @param sourceTopic 원본 토픽 (RetryTopics.SOURCE_TOPICS)
+     * @param failedTier  실패한 단계 (원본 토픽이면 0)
+     */
+    public boolean forward(String sourceTopic, String key, Object message, int failedTier, Exception cause) {
+        int nextTier = failedTier + 1;
+        String destination = nextTier <= RetryTopics.tierCount()
+                ? RetryTopics.retryTopic(sourceTopic, nextTier)
+                : RetryTopics.dlqTopic(sourceTopic);
+
+        ProducerRecord<String, Object> record = new ProducerRecord<>(destination, key, message);
+        record.headers().add(RetryTopics.HEADER_ATTEMPT, String.valueOf(nextTier).getBytes(StandardCharsets.UTF_8));
+        record.headers().add(RetryTopics.HEADER_ERROR, errorOf(cause).getBytes(StandardCharsets.UTF_8));
+
+        try {
+            kafkaTemplate.send(record).get(SEND_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+            metrics.recordRetry(sourceTopic, destination);
+            if (destination.endsWith(".dlq")) {
+                log.error("[재시도] DLQ 이동 - topic: {}, key: {}, error: {}", destination, key, errorOf(cause));
+            } else {
+                log.warn("[재시도] {} 로 전달 - key: {}, error: {}", destination, key, errorOf(cause));
+            }
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (Exception e) {
+            log.error("[재시도] {} 발행 실패 - key: {}, error: {}", destination, key, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 재시도 없이 바로 DLQ로 전달 (재처리해도 결과가 같은 메시지)
+     */
+    public boolean deadLetter(String sourceTopic, String key, Object message, Exception cause) {
+        return forward(sourceTopic, key, message, RetryTopics.tierCount(), cause);
+    }
+
+    /**
+     * 재시도 레코드의 남은 대기 시간 (레코드 생성 시각 + 단계 지연)
+     *
+     * @return 아직 처리 시각이 아니면 남은 시간, 처리 가능하면 empty
+     */
+    public Optional<Duration> remainingDelay(ConsumerRecord<?, ?> record) {
+        int tier = RetryTopics.tierOf(record.topic());
+        if (tier == 0) {
+            return Optional.empty();
+        }
+
+        long dueAt = record.timestamp() + RetryTopics.delayOf(tier).toMillis();
+        long remaining = dueAt - System.currentTimeMillis();
+        return remaining > 0 ? Optional.of(Duration.ofMillis(remaining)) : Optional.empty();
+    }
+
+    private String errorOf(Exception cause) {
+        if (cause == null) {
+            return "unknown";
+        }
+        String message = cause.getClass().getSimpleName() + ": " + cause.getMessage();
+        return message.length() > 500 ? message.substring(0, 500) : message;
+    }
+}
@@ -0,0 +1,80 @@
+package kr.hhplus.be.server.infrastructure.kafka.retry;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 결제/환불 컨슈머 재시도 토픽 규칙
+ *
+ * 원본 토픽 실패 → {topic}.retry-1 → {topic}.retry-2 → {topic}.retry-3 → {topic}.dlq
+ *
+ * - 단계별 지연은 토픽마다 고정 → 한 토픽 안에서는 도착 순서 = 재처리 가능 순서
+ *   (앞 레코드가 아직 대기 중이면 뒤 레코드도 대기 중이므로 nack로 기다려도 같은 토픽에서 먼저 처리할 수 있는 메시지는 없음)
+ * - nack는 해당 컨슈머의 모든 파티션을 멈추므로 단계별로 리스너 컨테이너를 분리해야 함
+ *   (한 컨테이너가 여러 단계를 구독하면 retry-3 의 60초 대기가 retry-1 처리를 막음)
+ * - 원본 토픽 파티션은 실패 레코드를 재시도 토픽으로 넘기고 바로 다음 레코드로 진행
+ */
+public final class RetryTopics {
+
+    public static final String PAYMENT_REQUESTS = "payment-requests";
+    public static final String PAYMENT_RESULTS = "payment-results";
+    public static final String REFUND_REQUESTS = "refund-requests";
+    public static final String REFUND_RESULTS = "refund-results";
+
+    // 재시도 대상 원본 토픽 (DLQ 재처리 허용 목록)
+    public static final Set<String> SOURCE_TOPICS =
+            Set.of(PAYMENT_REQUESTS, PAYMENT_RESULTS, REFUND_REQUESTS, REFUND_RESULTS);
+
+    // 단계별 지연: retry-1, retry-2, retry-3
+    public static final List<Duration> TIER_DELAYS = List.of(
+            Duration.ofSeconds(1),
+            Duration.ofSeconds(10),
+            Duration.ofSeconds(60)
+    );
+
+    public static final String HEADER_ATTEMPT = "x-retry-attempt";
+    public static final String HEADER_ERROR = "x-retry-error";
+    public static final String HEADER_REPLAYED = "x-dlq-replayed";
+
+    private static final String RETRY_SUFFIX = ".retry-";
+    private static final String DLQ_SUFFIX = ".dlq";
+
+    private RetryTopics() {}
+
+    public static String retryTopic(String sourceTopic, int tier) {
+        return sourceTopic + RETRY_SUFFIX + tier;
+    }
+
+    public static String dlqTopic(String sourceTopic) {
+        return sourceTopic + DLQ_SUFFIX;
+    }
+
+    /**
+     * 재시도 토픽의 원본 토픽 (payment-requests.retry-2 → payment-requests)
+     * - 단계와 상관없이 DLQ는 원본 토픽 기준 하나
+     */
+    public static String baseTopicOf(String topic) {
+        int index = topic.lastIndexOf(RETRY_SUFFIX);
+        return index < 0 ? topic : topic.substring(0, index);
+    }
+
+    public static int tierCount() {
+        return TIER_DELAYS.size();
+    }
+
+    /**
+     * 재시도 토픽의 단계 (원본 토픽이면 0)
+     */
+    public static int tierOf(String topic) {
+        int index = topic.lastIndexOf(RETRY_SUFFIX);
+        if (index < 0) {
+            return 0;
+        }
+        return Integer.parseInt(topic.substring(index + RETRY_SUFFIX.length()));
+    }
+
+    public static Duration delayOf(int tier) {
+        return TIER_DELAYS.get(tier - 1);
+    }
+}
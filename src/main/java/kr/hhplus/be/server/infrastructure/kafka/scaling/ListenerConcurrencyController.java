@@ -0,0 +1,217 @@
+package kr.hhplus.be.server.infrastructure.kafka.scaling;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.Metric;
+import org.apache.kafka.common.MetricName;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * lag 기반 리스너 동시성 컨트롤러
+ *
+ * 동작:
+ * - 주기적으로 관리 대상 리스너(app.kafka.autoscale.listeners)의 파티션별 records-lag 합계를 읽음
+ * - 목표 동시성 = ceil(lag / lagPerConsumer), [min, min(max, 파티션 수)] 범위
+ * - 확장은 즉시, 축소는 목표치가 연속 scale-down-after 회 낮을 때 1단계씩 (흔들림 방지)
+ *
+ * 적용 방식:
+ * - ConcurrentMessageListenerContainer 의 동시성은 시작 시점에만 반영되므로 stop → setConcurrency → start
+ * - 재시작 중 ACK 안 된 배치는 재전달됨 (at-least-once, 결제는 멱등키로 중복 방지)
+ *
+ * 수동 조정: /actuator/kafkaconcurrency (min=max 로 고정하면 자동 조정이 건드리지 않음)
+ */
+@Slf4j
+@Component
+public class ListenerConcurrencyController {
+
+    private static final String RECORDS_LAG = "records-lag";
+
+    private final KafkaListenerEndpointRegistry registry;
+    private final Environment environment;
+    private final boolean enabled;
+    private final int scaleDownAfter;
+    private final List<String> listenerIds;
+
+    private final Map<String, ScalingPolicy> policies = new ConcurrentHashMap<>();
+    private final Map<String, Integer> belowTargetStreaks = new ConcurrentHashMap<>();
+
+    public ListenerConcurrencyController(
+            KafkaListenerEndpointRegistry registry,
+            Environment environment,
+            @Value("${app.kafka.autoscale.enabled:false}") boolean enabled,
+            @Value("${app.kafka.autoscale.scale-down-after:3}") int scaleDownAfter,
+            @Value("${app.kafka.autoscale.listeners:payment-requests,payment-results}") List<String> listenerIds) {
+        this.registry = registry;
+        this.environment = environment;
+        this.enabled = enabled;
+        this.scaleDownAfter = scaleDownAfter;
+        this.listenerIds = listenerIds;
+    }
+
+    @Scheduled(fixedDelayString = "${app.kafka.autoscale.interval-ms:10000}")
+    public void adjust() {
+        if (!enabled) {
+            return;
+        }
+
+        for (String listenerId : listenerIds) {
+            ConcurrentMessageListenerContainer<?, ?> container = container(listenerId);
+            if (container == null || !container.isRunning()) {
+                continue;
+            }
+
+            try {
+                LagSnapshot lag = lagOf(container);
+                int current = container.getConcurrency();
+                int next = nextConcurrency(listenerId, current, lag.totalLag(), lag.partitionCount());
+                if (next != current) {
+                    log.info("[동시성 조정] {} {} → {} (lag={}, partitions={})",
+                            listenerId, current, next, lag.totalLag(), lag.partitionCount());
+                    resize(listenerId, next);
+                }
+            } catch (Exception e) {
+                log.error("[동시성 조정] {} 조정 실패", listenerId, e);
+            }
+        }
+    }
+
+    /**
+     * 다음 동시성 결정 (확장 즉시, 축소는 연속 scaleDownAfter 회 후 1단계)
+     */
+    int nextConcurrency(String listenerId, int current, long totalLag, int partitionCount) {
+        int desired = policyOf(listenerId).desiredConcurrency(totalLag, partitionCount);
+
+        if (desired >= current) {
+            belowTargetStreaks.remove(listenerId);
+            return desired;
+        }
+
+        int streak = belowTargetStreaks.merge(listenerId, 1, Integer::sum);
+        if (streak < scaleDownAfter) {
+            return current;
+        }
+        belowTargetStreaks.remove(listenerId);
+        return current - 1;
+    }
+
+    /**
+     * 동시성 변경 (컨테이너 재시작)
+     */
+    public synchronized void resize(String listenerId, int concurrency) {
+        ConcurrentMessageListenerContainer<?, ?> container = container(listenerId);
+        if (container == null) {
+            throw new IllegalArgumentException("동시성을 조정할 수 없는 리스너입니다: " + listenerId);
+        }
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("동시성은 1 이상이어야 합니다: " + concurrency);
+        }
+        if (container.getConcurrency() == concurrency) {
+            return;
+        }
+
+        boolean running = container.isRunning();
+        if (running) {
+            container.stop();
+        }
+        container.setConcurrency(concurrency);
+        if (running) {
+            container.start();
+        }
+    }
+
+    /**
+     * 범위 변경 후 현재 동시성이 범위를 벗어나면 즉시 맞춤
+     */
+    public synchronized ScalingPolicy updateBounds(String listenerId, Integer min, Integer max) {
+        ScalingPolicy updated = policyOf(listenerId).withBounds(min, max);
+        policies.put(listenerId, updated);
+        belowTargetStreaks.remove(listenerId);
+
+        ConcurrentMessageListenerContainer<?, ?> container = container(listenerId);
+        if (container != null) {
+            int current = container.getConcurrency();
+            int clamped = Math.max(updated.minConcurrency(), Math.min(updated.maxConcurrency(), current));
+            resize(listenerId, clamped);
+        }
+        return updated;
+    }
+
+    public Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("autoScaleEnabled", enabled);
+
+        Map<String, Object> listeners = new LinkedHashMap<>();
+        for (String listenerId : listenerIds) {
+            ConcurrentMessageListenerContainer<?, ?> container = container(listenerId);
+            if (container == null) {
+                continue;
+            }
+            ScalingPolicy policy = policyOf(listenerId);
+            LagSnapshot lag = lagOf(container);
+
+            Map<String, Object> info = new LinkedHashMap<>();
+            info.put("running", container.isRunning());
+            info.put("concurrency", container.getConcurrency());
+            info.put("minConcurrency", policy.minConcurrency());
+            info.put("maxConcurrency", policy.maxConcurrency());
+            info.put("lagPerConsumer", policy.lagPerConsumer());
+            info.put("lag", lag.totalLag());
+            info.put("partitions", lag.partitionCount());
+            listeners.put(listenerId, info);
+        }
+        status.put("listeners", listeners);
+        return status;
+    }
+
+    private ScalingPolicy policyOf(String listenerId) {
+        return policies.computeIfAbsent(listenerId, id -> new ScalingPolicy(
+                environment.getProperty("app.kafka.listener." + id + ".min-concurrency", Integer.class, 1),
+                environment.getProperty("app.kafka.listener." + id + ".max-concurrency", Integer.class, 6),
+                environment.getProperty("app.kafka.listener." + id + ".lag-per-consumer", Long.class, 500L)));
+    }
+
+    private ConcurrentMessageListenerContainer<?, ?> container(String listenerId) {
+        MessageListenerContainer container = registry.getListenerContainer(listenerId);
+        return container instanceof ConcurrentMessageListenerContainer<?, ?> concurrent ? concurrent : null;
+    }
+
+    /**
+     * 컨테이너의 컨슈머 클라이언트 메트릭에서 파티션별 records-lag 합산
+     * - 이 컨테이너에 할당된 파티션만 잡히므로 파티션 수는 인스턴스당 값
+     */
+    private LagSnapshot lagOf(MessageListenerContainer container) {
+        long totalLag = 0;
+        Set<String> partitions = new HashSet<>();
+
+        for (Map<MetricName, ? extends Metric> clientMetrics : container.metrics().values()) {
+            for (Map.Entry<MetricName, ? extends Metric> entry : clientMetrics.entrySet()) {
+                MetricName name = entry.getKey();
+                String topic = name.tags().get("topic");
+                String partition = name.tags().get("partition");
+                if (!RECORDS_LAG.equals(name.name()) || topic == null || partition == null) {
+                    continue;
+                }
+                if (entry.getValue().metricValue() instanceof Double value && !value.isNaN()) {
+                    totalLag += value.longValue();
+                }
+                partitions.add(topic + "-" + partition);
+            }
+        }
+        return new LagSnapshot(totalLag, partitions.size());
+    }
+
+    private record LagSnapshot(long totalLag, int partitionCount) {
+    }
+}
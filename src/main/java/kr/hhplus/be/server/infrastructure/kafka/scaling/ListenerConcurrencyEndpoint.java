@@ -0,0 +1,47 @@
+package kr.hhplus.be.server.infrastructure.kafka.scaling;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 리스너 동시성 런타임 조정 엔드포인트
+ *
+ * - GET  /actuator/kafkaconcurrency: 리스너별 동시성, 범위, lag
+ * - POST /actuator/kafkaconcurrency/{listenerId} {"concurrency": 4, "min": 2, "max": 6}
+ *   min/max 를 주면 자동 조정 범위 변경, concurrency 를 주면 즉시 적용
+ *
+ * 컨테이너를 재시작하는 쓰기 엔드포인트이므로 기본 웹 노출(management.endpoints.web.exposure)에서 제외
+ */
+@Component
+@Endpoint(id = "kafkaconcurrency")
+@RequiredArgsConstructor
+public class ListenerConcurrencyEndpoint {
+
+    private final ListenerConcurrencyController controller;
+
+    @ReadOperation
+    public Map<String, Object> status() {
+        return controller.status();
+    }
+
+    @WriteOperation
+    public Map<String, Object> update(@Selector String listenerId,
+                                      @Nullable Integer concurrency,
+                                      @Nullable Integer min,
+                                      @Nullable Integer max) {
+        if (min != null || max != null) {
+            controller.updateBounds(listenerId, min, max);
+        }
+        if (concurrency != null) {
+            controller.resize(listenerId, concurrency);
+        }
+        return controller.status();
+    }
+}
@@ -0,0 +1,39 @@
+package kr.hhplus.be.server.infrastructure.kafka.scaling;
+
+/**
+ * 리스너 동시성 범위와 목표 lag
+ *
+ * @param minConcurrency  유휴 시 남겨둘 컨슈머 스레드 수
+ * @param maxConcurrency  확장 상한 (실제 상한은 파티션 수와 비교해 작은 값)
+ * @param lagPerConsumer  컨슈머 스레드 1개가 감당할 목표 lag
+ */
+public record ScalingPolicy(int minConcurrency, int maxConcurrency, long lagPerConsumer) {
+
+    public ScalingPolicy {
+        if (minConcurrency < 1 || maxConcurrency < minConcurrency) {
+            throw new IllegalArgumentException(
+                    "동시성 범위가 올바르지 않습니다: min=" + minConcurrency + ", max=" + maxConcurrency);
+        }
+        if (lagPerConsumer < 1) {
+            throw new IllegalArgumentException("lagPerConsumer 는 1 이상이어야 합니다: " + lagPerConsumer);
+        }
+    }
+
+    /**
+     * lag 기준 목표 동시성
+     * - ceil(lag / lagPerConsumer) 를 [min, min(max, 파티션 수)] 로 제한
+     * - 파티션보다 많은 스레드는 할당받을 파티션이 없어 놀기만 함
+     */
+    public int desiredConcurrency(long totalLag, int partitionCount) {
+        int upper = partitionCount > 0 ? Math.min(maxConcurrency, partitionCount) : maxConcurrency;
+        long needed = (Math.max(totalLag, 0) + lagPerConsumer - 1) / lagPerConsumer;
+        return (int) Math.max(minConcurrency, Math.min(upper, needed));
+    }
+
+    public ScalingPolicy withBounds(Integer min, Integer max) {
+        return new ScalingPolicy(
+                min != null ? min : minConcurrency,
+                max != null ? max : maxConcurrency,
+                lagPerConsumer);
+    }
+}
@@ -4,13 +4,16 @@ import kr.hhplus.be.server.application.port.out.ConcertSchedulePort;
 import kr.hhplus.be.server.domain.concert.ConcertId;
 import kr.hhplus.be.server.domain.concert.ConcertSchedule;
 import kr.hhplus.be.server.domain.concert.ConcertScheduleId;
+import kr.hhplus.be.server.domain.reservation.ReservationStatus;
 import kr.hhplus.be.server.infrastructure.persistence.concert.jpa.entity.ConcertJpaEntity;
 import kr.hhplus.be.server.infrastructure.persistence.concert.jpa.entity.ConcertScheduleJpaEntity;
 import kr.hhplus.be.server.infrastructure.persistence.concert.jpa.repository.ConcertScheduleJpaRepository;
+import kr.hhplus.be.server.infrastructure.persistence.concert.jpa.repository.ScheduleCancellationJpaRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -21,6 +24,7 @@ import java.util.stream.Collectors;
 public class ConcertScheduleJpaAdapter implements ConcertSchedulePort {
 
     private final ConcertScheduleJpaRepository repository;
+    private final ScheduleCancellationJpaRepository cancellationRepository;
 
     @Override
     public Optional<ConcertSchedule> findById(ConcertScheduleId id) {
@@ -43,12 +47,17 @@ public class ConcertScheduleJpaAdapter implements ConcertSchedulePort {
     }
 
     @Override
-    public List<LocalDate> findAvailableDates(int days) {
-        // 간단한 구현 - 오늘부터 days만큼의 날짜 반환
-        // 실제로는 DB에서 예약 가능한 날짜만 조회해야 합니다
-        return java.util.stream.IntStream.range(0, days)
-                .mapToObj(i -> LocalDate.now().plusDays(i))
-                .toList();
+    public Map<Long, LocalDate> findOpenSchedules(LocalDate from, LocalDate to) {
+        Map<Long, LocalDate> open = new LinkedHashMap<>();
+        for (Object[] row : repository.findOpenSchedules(from, to, ReservationStatus.CONFIRMED)) {
+            open.put((Long) row[0], (LocalDate) row[1]);
+        }
+        return open;
+    }
+
+    @Override
+    public boolean isCancelled(ConcertScheduleId id) {
+        return cancellationRepository.existsById(id.value());
     }
 
     /**
@@ -0,0 +1,86 @@
+package kr.hhplus.be.server.infrastructure.persistence.concert.jpa.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 공연 일정 일괄 취소 작업
+ * - 행이 존재하면 해당 일정은 신규 예약/확정 차단 (IN_PROGRESS 포함)
+ * - 청크 단위로 처리된 예약은 미완료 상태에서 빠지므로 커서 없이 남은 행부터 재개
+ */
+@Entity
+@Table(name = "schedule_cancellation",
+        indexes = @Index(name = "idx_schedule_cancellation_status", columnList = "status"))
+public class ScheduleCancellationJpaEntity {
+
+    public static final String IN_PROGRESS = "IN_PROGRESS";
+    public static final String COMPLETED = "COMPLETED";
+
+    @Id
+    @Column(name = "schedule_id")
+    private Long scheduleId;
+
+    @Column(name = "status", nullable = false, length = 20)
+    private String status;
+
+    @Column(name = "reason")
+    private String reason;
+
+    @Column(name = "total_count", nullable = false)
+    private long totalCount;
+
+    @Column(name = "cancelled_count", nullable = false)
+    private long cancelledCount;
+
+    @Column(name = "refunded_amount", nullable = false)
+    private long refundedAmount;
+
+    @Column(name = "requested_at", nullable = false)
+    private LocalDateTime requestedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    @Version
+    private Long version;
+
+    protected ScheduleCancellationJpaEntity() {}
+
+    public ScheduleCancellationJpaEntity(Long scheduleId, String reason, long totalCount, LocalDateTime requestedAt) {
+        this.scheduleId = scheduleId;
+        this.status = IN_PROGRESS;
+        this.reason = reason;
+        this.totalCount = totalCount;
+        this.cancelledCount = 0L;
+        this.refundedAmount = 0L;
+        this.requestedAt = requestedAt;
+    }
+
+    /**
+     * 청크 처리 결과 반영 (확정 예약 취소/환불 집계)
+     */
+    public void advance(int cancelled, long refunded) {
+        this.cancelledCount += cancelled;
+        this.refundedAmount += refunded;
+    }
+
+    public void complete(LocalDateTime completedAt) {
+        this.status = COMPLETED;
+        this.completedAt = completedAt;
+    }
+
+    public boolean isCompleted() {
+        return COMPLETED.equals(status);
+    }
+
+    public Long getScheduleId() { return scheduleId; }
+    public String getStatus() { return status; }
+    public String getReason() { return reason; }
+    public long getTotalCount() { return totalCount; }
+    public long getCancelledCount() { return cancelledCount; }
+    public long getRefundedAmount() { return refundedAmount; }
+    public LocalDateTime getRequestedAt() { return requestedAt; }
+    public LocalDateTime getCompletedAt() { return completedAt; }
+    public Long getVersion() { return version; }
+}
@@ -1,7 +1,10 @@
 package kr.hhplus.be.server.infrastructure.persistence.concert.jpa.repository;
 
+import kr.hhplus.be.server.domain.reservation.ReservationStatus;
 import kr.hhplus.be.server.infrastructure.persistence.concert.jpa.entity.ConcertScheduleJpaEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -10,4 +13,21 @@ import java.util.Optional;
 public interface ConcertScheduleJpaRepository extends JpaRepository<ConcertScheduleJpaEntity, Long> {
     Optional<ConcertScheduleJpaEntity> findByConcertIdAndConcertDate(Long concertId, LocalDate date);
     List<ConcertScheduleJpaEntity> findByConcertId(Long concertId);  // 이 줄 추가
+
+    // 예약 가능 일정 [일정 ID, 날짜] (매진/일괄 취소된 일정 제외, 날짜 → ID 순)
+    // 확정 좌석 수는 idx_reservation_schedule_status_seat 로 일정별 범위 스캔
+    @Query("""
+        select s.id, s.concertDate
+        from ConcertScheduleJpaEntity s
+        where s.concertDate between :from and :to
+          and s.seatCount > (
+              select count(r) from ReservationJpaEntity r
+              where r.concertScheduleId = s.id and r.status = :confirmed)
+          and not exists (
+              select 1 from ScheduleCancellationJpaEntity c where c.scheduleId = s.id)
+        order by s.concertDate, s.id
+    """)
+    List<Object[]> findOpenSchedules(@Param("from") LocalDate from,
+                                     @Param("to") LocalDate to,
+                                     @Param("confirmed") ReservationStatus confirmed);
 }
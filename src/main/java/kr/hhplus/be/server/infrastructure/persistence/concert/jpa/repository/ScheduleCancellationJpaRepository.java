@@ -0,0 +1,11 @@
+package kr.hhplus.be.server.infrastructure.persistence.concert.jpa.repository;
+
+import kr.hhplus.be.server.infrastructure.persistence.concert.jpa.entity.ScheduleCancellationJpaEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface ScheduleCancellationJpaRepository extends JpaRepository<ScheduleCancellationJpaEntity, Long> {
+
+    List<ScheduleCancellationJpaEntity> findByStatus(String status);
+}
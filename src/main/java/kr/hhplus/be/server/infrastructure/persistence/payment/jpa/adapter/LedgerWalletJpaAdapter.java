@@ -0,0 +1,139 @@
+package kr.hhplus.be.server.infrastructure.persistence.payment.jpa.adapter;
+
+import kr.hhplus.be.server.application.port.out.WalletPort;
+import kr.hhplus.be.server.domain.common.UserId;
+import kr.hhplus.be.server.domain.payment.Balance;
+import kr.hhplus.be.server.domain.payment.InsufficientBalanceException;
+import kr.hhplus.be.server.domain.payment.Wallet;
+import kr.hhplus.be.server.domain.payment.WalletId;
+import kr.hhplus.be.server.infrastructure.persistence.payment.jpa.entity.WalletBalanceSnapshotJpaEntity;
+import kr.hhplus.be.server.infrastructure.persistence.payment.jpa.entity.WalletIdempotencyKeyJpaEntity;
+import kr.hhplus.be.server.infrastructure.persistence.payment.jpa.entity.WalletLedgerJpaEntity;
+import kr.hhplus.be.server.infrastructure.persistence.payment.jpa.repository.UserWalletJpaRepository;
+import kr.hhplus.be.server.infrastructure.persistence.payment.jpa.repository.WalletBalanceSnapshotJpaRepository;
+import kr.hhplus.be.server.infrastructure.persistence.payment.jpa.repository.WalletIdempotencyKeyJpaRepository;
+import kr.hhplus.be.server.infrastructure.persistence.payment.jpa.repository.WalletLedgerJpaRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 원장 기반 지갑 어댑터 (app.wallet.mode=ledger)
+ *
+ * - 잔액 변경은 wallet_ledger INSERT 만으로 기록 (user_wallet 행 잠금/UPDATE 없음)
+ * - 잔액 = 최신 스냅샷 + 스냅샷 이후 원장 합계
+ * - 스냅샷은 WalletSnapshotScheduler가 주기적으로 전진시킴
+ *
+ * [동시성]
+ * - 차감 원장은 user_wallet 행 잠금 후 최신 커밋 기준 잔액을 다시 확인하고 INSERT
+ *   (분산락 없는 payOrdered 경로도 같은 사용자 차감끼리는 직렬화되어 초과 인출 없음)
+ * - 충전/환불은 증가만 하므로 잠금 없이 INSERT (차감과 경합해도 잔액이 음수가 되지 않음)
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.wallet.mode", havingValue = "ledger")
+public class LedgerWalletJpaAdapter implements WalletPort {
+
+    private final UserWalletJpaRepository walletRepo;
+    private final WalletLedgerJpaRepository ledgerRepo;
+    private final WalletIdempotencyKeyJpaRepository idempotencyKeyRepo;
+    private final WalletBalanceSnapshotJpaRepository snapshotRepo;
+
+    @Override
+    public Optional<Wallet> findByUserId(UserId userId) {
+        if (!walletRepo.existsById(userId.asUUID())) {
+            return Optional.empty();
+        }
+        return Optional.of(toDomainWallet(userId, deriveBalance(userId.asUUID())));
+    }
+
+    // 원장 모드에서는 행 잠금을 사용하지 않음
+    @Override
+    public Optional<Wallet> findByUserIdWithLock(UserId userId) {
+        return findByUserId(userId);
+    }
+
+    @Override
+    public long balanceOf(String userId) {
+        UUID uid = UUID.fromString(userId);
+        if (!walletRepo.existsById(uid)) {
+            throw new IllegalStateException("지갑을 찾을 수 없습니다: " + userId);
+        }
+        return deriveBalance(uid);
+    }
+
+    // 잔액은 원장에서 파생되므로 user_wallet 은 갱신하지 않음
+    @Override
+    public void save(Wallet wallet) {
+    }
+
+    @Override
+    public boolean isIdempotencyKeyUsed(UserId userId, String idempotencyKey) {
+        if (idempotencyKey == null) {
+            return false;
+        }
+        // 파티션된 원장 대신 멱등키 테이블 조회
+        return idempotencyKeyRepo.existsByUserIdAndIdempotencyKey(userId.asUUID(), idempotencyKey);
+    }
+
+    @Override
+    public void saveLedgerEntry(UserId userId, long amount, String reason, String idempotencyKey) {
+        if (amount < 0) {
+            ensureBalanceForDebit(userId.asUUID(), -amount);
+        }
+        if (idempotencyKey != null) {
+            idempotencyKeyRepo.save(new WalletIdempotencyKeyJpaEntity(userId.asUUID(), idempotencyKey));
+        }
+        ledgerRepo.save(new WalletLedgerJpaEntity(
+                userId.asUUID(),
+                amount,
+                reason,
+                idempotencyKey
+        ));
+    }
+
+    // === Private Helper Methods ===
+
+    /**
+     * 차감 가능 여부 확인 (같은 사용자의 차감끼리 직렬화)
+     * - user_wallet 행 잠금을 잡은 뒤 잠금 읽기로 원장을 합산해야 먼저 커밋된 차감이 보임
+     */
+    private void ensureBalanceForDebit(UUID userId, long amount) {
+        walletRepo.findForUpdate(userId)
+                .orElseThrow(() -> new IllegalStateException("지갑을 찾을 수 없습니다: " + userId));
+
+        Optional<WalletBalanceSnapshotJpaEntity> snapshot = snapshotRepo.findById(userId);
+        long base = snapshot.map(WalletBalanceSnapshotJpaEntity::getBalance).orElse(0L);
+        long lastLedgerId = snapshot.map(WalletBalanceSnapshotJpaEntity::getLastLedgerId).orElse(0L);
+        long balance = base + ledgerRepo.sumAmountAfterForShare(toBytes(userId), lastLedgerId);
+
+        if (balance < amount) {
+            throw InsufficientBalanceException.of(amount, balance);
+        }
+    }
+
+    private static byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+
+    private long deriveBalance(UUID userId) {
+        Optional<WalletBalanceSnapshotJpaEntity> snapshot = snapshotRepo.findById(userId);
+        long base = snapshot.map(WalletBalanceSnapshotJpaEntity::getBalance).orElse(0L);
+        long lastLedgerId = snapshot.map(WalletBalanceSnapshotJpaEntity::getLastLedgerId).orElse(0L);
+
+        return base + ledgerRepo.sumAmountAfter(userId, lastLedgerId);
+    }
+
+    private Wallet toDomainWallet(UserId userId, long balance) {
+        WalletId walletId = new WalletId(userId.asString() + "_wallet");
+        return Wallet.restore(walletId, userId, new Balance(balance), LocalDateTime.now(), 0L);
+    }
+}
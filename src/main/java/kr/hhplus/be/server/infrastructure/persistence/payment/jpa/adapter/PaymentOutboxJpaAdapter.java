@@ -0,0 +1,38 @@
+package kr.hhplus.be.server.infrastructure.persistence.payment.jpa.adapter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.hhplus.be.server.application.port.out.PaymentOutboxPort;
+import kr.hhplus.be.server.infrastructure.kafka.message.PaymentRequestMessage;
+import kr.hhplus.be.server.infrastructure.persistence.payment.jpa.entity.PaymentOutboxJpaEntity;
+import kr.hhplus.be.server.infrastructure.persistence.payment.jpa.repository.PaymentOutboxJpaRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@Component
+@RequiredArgsConstructor
+public class PaymentOutboxJpaAdapter implements PaymentOutboxPort {
+
+    private final PaymentOutboxJpaRepository repository;
+    private final ObjectMapper objectMapper;
+
+    // 예약 상태 변경과 원자적으로 커밋되어야 하므로 단독 트랜잭션 금지
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void appendPaymentRequest(PaymentRequestMessage message) {
+        try {
+            repository.save(new PaymentOutboxJpaEntity(
+                    message.reservationId(),
+                    message.userId(),  // Key: userId
+                    objectMapper.writeValueAsString(message),
+                    LocalDateTime.now()
+            ));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("결제 요청 직렬화 실패: " + message.reservationId(), e);
+        }
+    }
+}
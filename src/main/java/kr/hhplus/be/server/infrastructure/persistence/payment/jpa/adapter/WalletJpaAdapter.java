@@ -6,10 +6,13 @@ import kr.hhplus.be.server.domain.payment.Wallet;
 import kr.hhplus.be.server.domain.payment.WalletId;
 import kr.hhplus.be.server.domain.payment.Balance;
 import kr.hhplus.be.server.infrastructure.persistence.payment.jpa.entity.UserWalletJpaEntity;
+import kr.hhplus.be.server.infrastructure.persistence.payment.jpa.entity.WalletIdempotencyKeyJpaEntity;
 import kr.hhplus.be.server.infrastructure.persistence.payment.jpa.entity.WalletLedgerJpaEntity;
 import kr.hhplus.be.server.infrastructure.persistence.payment.jpa.repository.UserWalletJpaRepository;
+import kr.hhplus.be.server.infrastructure.persistence.payment.jpa.repository.WalletIdempotencyKeyJpaRepository;
 import kr.hhplus.be.server.infrastructure.persistence.payment.jpa.repository.WalletLedgerJpaRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Component;
 
@@ -22,14 +25,17 @@ import java.util.UUID;
  * - 순수한 데이터 접근만 담당
  * - 도메인 로직 제거
  * - 트랜잭션 관리는 애플리케이션 서비스에서
+ * - 기본 모드 (app.wallet.mode=row): user_wallet.balance 를 직접 갱신
  */
 @Component
 @Primary
 @RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.wallet.mode", havingValue = "row", matchIfMissing = true)
 public class WalletJpaAdapter implements WalletPort {
 
     private final UserWalletJpaRepository walletRepo;
     private final WalletLedgerJpaRepository ledgerRepo;
+    private final WalletIdempotencyKeyJpaRepository idempotencyKeyRepo;
 
     @Override
     public Optional<Wallet> findByUserId(UserId userId) {
@@ -63,11 +69,15 @@ public class WalletJpaAdapter implements WalletPort {
         if (idempotencyKey == null) {
             return false;
         }
-        return ledgerRepo.existsByUserIdAndIdempotencyKey(userId.asUUID(), idempotencyKey);
+        // 파티션된 원장 대신 멱등키 테이블 조회
+        return idempotencyKeyRepo.existsByUserIdAndIdempotencyKey(userId.asUUID(), idempotencyKey);
     }
 
     @Override
     public void saveLedgerEntry(UserId userId, long amount, String reason, String idempotencyKey) {
+        if (idempotencyKey != null) {
+            idempotencyKeyRepo.save(new WalletIdempotencyKeyJpaEntity(userId.asUUID(), idempotencyKey));
+        }
         WalletLedgerJpaEntity ledgerEntry = new WalletLedgerJpaEntity(
                 userId.asUUID(),
                 amount,
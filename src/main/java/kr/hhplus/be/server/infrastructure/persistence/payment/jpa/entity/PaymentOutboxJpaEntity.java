@@ -0,0 +1,73 @@
+package kr.hhplus.be.server.infrastructure.persistence.payment.jpa.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 결제 요청 아웃박스
+ * - 예약 확정(PAYMENT_PENDING 전환)과 같은 트랜잭션에서 저장
+ * - PaymentOutboxRelayScheduler가 PENDING 행을 선점(claimed_until)해서 Kafka로 발행 후 SENT 처리
+ * - payload 손상 또는 재시도 한도(max-attempts) 초과 시 FAILED 로 종료
+ */
+@Entity
+@Table(name = "payment_outbox",
+        indexes = {
+                @Index(name = "idx_payment_outbox_status_id", columnList = "status, id"),
+                @Index(name = "idx_payment_outbox_sent_at", columnList = "sent_at")
+        })
+public class PaymentOutboxJpaEntity {
+
+    public static final String PENDING = "PENDING";
+    public static final String SENT = "SENT";
+    public static final String FAILED = "FAILED";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "reservation_id", nullable = false, length = 50)
+    private String reservationId;
+
+    @Column(name = "message_key", nullable = false, length = 100)
+    private String messageKey;
+
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(name = "status", nullable = false, length = 20)
+    private String status;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
+    @Column(name = "claimed_until")
+    private LocalDateTime claimedUntil;
+
+    protected PaymentOutboxJpaEntity() {}
+
+    public PaymentOutboxJpaEntity(String reservationId, String messageKey, String payload, LocalDateTime createdAt) {
+        this.reservationId = reservationId;
+        this.messageKey = messageKey;
+        this.payload = payload;
+        this.status = PENDING;
+        this.attempts = 0;
+        this.createdAt = createdAt;
+    }
+
+    public Long getId() { return id; }
+    public String getReservationId() { return reservationId; }
+    public String getMessageKey() { return messageKey; }
+    public String getPayload() { return payload; }
+    public String getStatus() { return status; }
+    public int getAttempts() { return attempts; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public LocalDateTime getSentAt() { return sentAt; }
+    public LocalDateTime getClaimedUntil() { return claimedUntil; }
+}
@@ -0,0 +1,65 @@
+package kr.hhplus.be.server.infrastructure.persistence.payment.jpa.entity;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.type.SqlTypes;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 원장 기반 지갑 모드의 잔액 스냅샷
+ * - balance: last_ledger_id 까지의 원장 합계
+ * - 실제 잔액 = balance + (last_ledger_id 이후 원장 합계)
+ */
+@Entity
+@Table(name = "wallet_balance_snapshot",
+        indexes = @Index(name = "idx_snapshot_last_ledger", columnList = "last_ledger_id"))
+public class WalletBalanceSnapshotJpaEntity {
+
+    @Id
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "user_id", columnDefinition = "BINARY(16)")
+    private UUID userId;
+
+    @Column(name = "balance", nullable = false)
+    private long balance;
+
+    @Column(name = "last_ledger_id", nullable = false)
+    private long lastLedgerId;
+
+    @Version
+    private long version;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    protected WalletBalanceSnapshotJpaEntity() {}
+
+    public WalletBalanceSnapshotJpaEntity(UUID userId) {
+        this.userId = userId;
+        this.balance = 0L;
+        this.lastLedgerId = 0L;
+        this.updatedAt = Instant.now();
+    }
+
+    /**
+     * (lastLedgerId, toLedgerId] 구간의 원장 합계를 반영
+     */
+    public void rollForward(long delta, long toLedgerId) {
+        if (toLedgerId <= this.lastLedgerId) {
+            throw new IllegalStateException(
+                    "스냅샷을 과거 위치로 되돌릴 수 없습니다: " + this.lastLedgerId + " -> " + toLedgerId);
+        }
+        this.balance += delta;
+        this.lastLedgerId = toLedgerId;
+    }
+
+    public UUID getUserId() { return userId; }
+    public long getBalance() { return balance; }
+    public long getLastLedgerId() { return lastLedgerId; }
+    public long getVersion() { return version; }
+    public Instant getUpdatedAt() { return updatedAt; }
+}
@@ -0,0 +1,51 @@
+package kr.hhplus.be.server.infrastructure.persistence.payment.jpa.entity;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 지갑 멱등키
+ * - wallet_ledger 파티셔닝 이후 (user_id, idempotency_key) 중복 방지를 담당
+ * - 원장과 같은 트랜잭션에서 INSERT (중복 시 유니크 제약 위반으로 롤백)
+ */
+@Entity
+@Table(name = "wallet_idempotency_key",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uq_wallet_idem",
+                columnNames = {"user_id", "idempotency_key"}
+        ),
+        indexes = @Index(name = "idx_idem_created_at", columnList = "created_at"))
+public class WalletIdempotencyKeyJpaEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "user_id", columnDefinition = "BINARY(16)", nullable = false)
+    private UUID userId;
+
+    @Column(name = "idempotency_key", length = 64, nullable = false)
+    private String idempotencyKey;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    protected WalletIdempotencyKeyJpaEntity() {}
+
+    public WalletIdempotencyKeyJpaEntity(UUID userId, String idempotencyKey) {
+        this.userId = userId;
+        this.idempotencyKey = idempotencyKey;
+    }
+
+    public Long getId() { return id; }
+    public UUID getUserId() { return userId; }
+    public String getIdempotencyKey() { return idempotencyKey; }
+    public Instant getCreatedAt() { return createdAt; }
+}
@@ -9,11 +9,7 @@ import java.time.Instant;
 import java.util.UUID;
 
 @Entity
-@Table(name = "wallet_ledger",
-        uniqueConstraints = @UniqueConstraint(
-                name = "uq_wallet_idem",
-                columnNames = {"user_id", "idempotency_key"}
-        ))
+@Table(name = "wallet_ledger") // created_at 월 단위 파티션 (멱등키 유니크는 wallet_idempotency_key)
 public class WalletLedgerJpaEntity {
 
     @Id
@@ -0,0 +1,57 @@
+package kr.hhplus.be.server.infrastructure.persistence.payment.jpa.repository;
+
+import kr.hhplus.be.server.infrastructure.persistence.payment.jpa.entity.PaymentOutboxJpaEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface PaymentOutboxJpaRepository extends JpaRepository<PaymentOutboxJpaEntity, Long> {
+
+    /**
+     * 선점되지 않은(또는 선점 기한이 지난) 발행 대기 행을 ID 순으로 잠금 조회
+     * - SKIP LOCKED: 다른 릴레이 인스턴스가 선점 중인 행은 건너뜀 (인스턴스 간 분담)
+     * - 잠금은 선점 표시(claim) 후 바로 커밋되어 풀리고, 발행 중에는 claimed_until 로 중복 선점을 막음
+     */
+    @Query(value = "SELECT * FROM payment_outbox WHERE status = 'PENDING' " +
+            "AND (claimed_until IS NULL OR claimed_until < :now) " +
+            "ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<PaymentOutboxJpaEntity> findClaimableForUpdate(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    // 발행 선점 - 기한 안에 결과가 반영되지 않으면(릴레이 중단) 다음 주기에 다시 선점됨
+    @Modifying
+    @Query("UPDATE PaymentOutboxJpaEntity o SET o.claimedUntil = :claimedUntil WHERE o.id IN :ids")
+    int claim(@Param("ids") Collection<Long> ids, @Param("claimedUntil") LocalDateTime claimedUntil);
+
+    @Modifying
+    @Query("UPDATE PaymentOutboxJpaEntity o SET o.status = 'SENT', o.sentAt = :sentAt, " +
+            "o.attempts = o.attempts + 1, o.claimedUntil = null WHERE o.id IN :ids")
+    int markSent(@Param("ids") Collection<Long> ids, @Param("sentAt") LocalDateTime sentAt);
+
+    // 발행 실패 - PENDING 유지, 선점을 풀어서 다음 주기에 재시도
+    @Modifying
+    @Query("UPDATE PaymentOutboxJpaEntity o SET o.attempts = o.attempts + 1, o.claimedUntil = null " +
+            "WHERE o.id IN :ids")
+    int incrementAttempts(@Param("ids") Collection<Long> ids);
+
+    // 재시도 한도를 넘긴 행 - FAILED 로 종료 (예약은 결제 타임아웃으로 만료)
+    @Modifying
+    @Query("UPDATE PaymentOutboxJpaEntity o SET o.status = 'FAILED' " +
+            "WHERE o.id IN :ids AND o.status = 'PENDING' AND o.attempts >= :maxAttempts")
+    int markExhausted(@Param("ids") Collection<Long> ids, @Param("maxAttempts") int maxAttempts);
+
+    // 재시도해도 발행할 수 없는 행 (payload 손상 등)
+    @Modifying
+    @Query("UPDATE PaymentOutboxJpaEntity o SET o.status = 'FAILED', o.attempts = o.attempts + 1 " +
+            "WHERE o.id IN :ids")
+    int markFailed(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("DELETE FROM PaymentOutboxJpaEntity o WHERE o.status = 'SENT' AND o.sentAt < :before")
+    int deleteSentBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,14 @@
+package kr.hhplus.be.server.infrastructure.persistence.payment.jpa.repository;
+
+import kr.hhplus.be.server.infrastructure.persistence.payment.jpa.entity.WalletBalanceSnapshotJpaEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.UUID;
+
+public interface WalletBalanceSnapshotJpaRepository extends JpaRepository<WalletBalanceSnapshotJpaEntity, UUID> {
+
+    // 스냅샷에 반영된 원장 위치 (롤포워드 시작점)
+    @Query("select coalesce(max(s.lastLedgerId), 0) from WalletBalanceSnapshotJpaEntity s")
+    long findMaxLastLedgerId();
+}
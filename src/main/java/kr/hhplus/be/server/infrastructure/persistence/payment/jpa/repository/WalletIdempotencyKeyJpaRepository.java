@@ -0,0 +1,20 @@
+package kr.hhplus.be.server.infrastructure.persistence.payment.jpa.repository;
+
+import kr.hhplus.be.server.infrastructure.persistence.payment.jpa.entity.WalletIdempotencyKeyJpaEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public interface WalletIdempotencyKeyJpaRepository extends JpaRepository<WalletIdempotencyKeyJpaEntity, Long> {
+
+    boolean existsByUserIdAndIdempotencyKey(UUID userId, String idempotencyKey);
+
+    // 아카이브된 원장 구간의 멱등키 정리
+    @Modifying
+    @Query("DELETE FROM WalletIdempotencyKeyJpaEntity k WHERE k.createdAt < :before")
+    int deleteCreatedBefore(@Param("before") Instant before);
+}
@@ -2,8 +2,56 @@ package kr.hhplus.be.server.infrastructure.persistence.payment.jpa.repository;
 
 import kr.hhplus.be.server.infrastructure.persistence.payment.jpa.entity.WalletLedgerJpaEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
 import java.util.UUID;
 
 public interface WalletLedgerJpaRepository extends JpaRepository<WalletLedgerJpaEntity, Long> {
-    boolean existsByUserIdAndIdempotencyKey(UUID userId, String idempotencyKey);
+
+    // ===== 원장 기반 지갑 모드 =====
+
+    // 스냅샷 이후 원장 합계 (idx_wallet_user 범위 스캔)
+    @Query("""
+        select coalesce(sum(l.amount), 0)
+        from WalletLedgerJpaEntity l
+        where l.userId = :userId
+          and l.id > :afterId
+    """)
+    long sumAmountAfter(@Param("userId") UUID userId, @Param("afterId") long afterId);
+
+    // 차감 직전 잔액 재확인용 - 잠금 읽기라 트랜잭션 스냅샷이 아니라 최신 커밋까지 합산
+    @Query(value = """
+        select coalesce(sum(amount), 0)
+        from wallet_ledger
+        where user_id = :userId
+          and id > :afterId
+        for share
+    """, nativeQuery = true)
+    long sumAmountAfterForShare(@Param("userId") byte[] userId, @Param("afterId") long afterId);
+
+    // 스냅샷 후보 구간의 원장 ID (오름차순), 격리 수준에 따라 커밋/미커밋 행 구분에 사용
+    @Query("select l.id from WalletLedgerJpaEntity l where l.id > :fromId and l.id <= :toId order by l.id")
+    List<Long> findIdsBetween(@Param("fromId") long fromId, @Param("toId") long toId);
+
+    // 커밋이 확정되었다고 볼 수 있는 마지막 원장 ID
+    @Query("select max(l.id) from WalletLedgerJpaEntity l where l.createdAt < :settledBefore")
+    Long findMaxIdCreatedBefore(@Param("settledBefore") Instant settledBefore);
+
+    // (fromId, toId] 구간 사용자별 원장 합계
+    @Query("""
+        select l.userId as userId, sum(l.amount) as delta
+        from WalletLedgerJpaEntity l
+        where l.id > :fromId
+          and l.id <= :toId
+        group by l.userId
+    """)
+    List<UserLedgerDelta> sumAmountGroupByUser(@Param("fromId") long fromId, @Param("toId") long toId);
+
+    interface UserLedgerDelta {
+        UUID getUserId();
+        Long getDelta();
+    }
 }
@@ -0,0 +1,181 @@
+package kr.hhplus.be.server.infrastructure.persistence.payment.partition;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.UUID;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * wallet_ledger 파티션 관리 (MySQL RANGE COLUMNS(created_at))
+ *
+ * - 월 단위 파티션 추가: pmax 를 분할 (pmax 가 비어 있으면 메타데이터 변경만 발생)
+ * - 파티션 내보내기: 해당 파티션만 스트리밍 조회해 gzip CSV 로 기록
+ * - 파티션 삭제: DROP PARTITION (DELETE 대비 Undo/Binlog 부담 없음)
+ *
+ * DDL 은 암묵적 커밋이 발생하므로 트랜잭션 밖에서 호출해야 한다.
+ */
+@Slf4j
+@Component
+public class WalletLedgerPartitionManager {
+
+    private static final String TABLE = "wallet_ledger";
+    private static final String MAX_PARTITION = "pmax";
+    private static final DateTimeFormatter MONTHLY_NAME = DateTimeFormatter.ofPattern("'p'yyyyMM");
+    private static final Pattern PARTITION_NAME = Pattern.compile("^p[0-9A-Za-z_]+$");
+    private static final int STREAMING_FETCH_SIZE = Integer.MIN_VALUE; // MySQL Connector/J 행 단위 스트리밍
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcTemplate streamingJdbcTemplate;
+
+    public WalletLedgerPartitionManager(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate.setFetchSize(STREAMING_FETCH_SIZE);
+    }
+
+    /**
+     * @param upperBound 파티션 상한 (미포함), MAXVALUE 파티션은 null
+     */
+    public record LedgerPartition(String name, LocalDate upperBound) {
+        public boolean isMaxValue() {
+            return upperBound == null;
+        }
+    }
+
+    public List<LedgerPartition> findPartitions() {
+        return jdbcTemplate.query("""
+                SELECT PARTITION_NAME, PARTITION_DESCRIPTION
+                FROM information_schema.PARTITIONS
+                WHERE TABLE_SCHEMA = DATABASE()
+                  AND TABLE_NAME = ?
+                  AND PARTITION_NAME IS NOT NULL
+                ORDER BY PARTITION_ORDINAL_POSITION
+                """,
+                (rs, rowNum) -> new LedgerPartition(
+                        rs.getString("PARTITION_NAME"),
+                        parseUpperBound(rs.getString("PARTITION_DESCRIPTION"))),
+                TABLE);
+    }
+
+    /**
+     * pmax 를 분할해 해당 월 파티션 추가
+     */
+    public void addMonthlyPartition(YearMonth month) {
+        String name = month.format(MONTHLY_NAME);
+        jdbcTemplate.execute(String.format("""
+                ALTER TABLE %s REORGANIZE PARTITION %s INTO (
+                    PARTITION %s VALUES LESS THAN ('%s'),
+                    PARTITION %s VALUES LESS THAN (MAXVALUE)
+                )""", TABLE, MAX_PARTITION, name, month.plusMonths(1).atDay(1), MAX_PARTITION));
+        log.info("[원장파티션] 파티션 추가: {} (< {})", name, month.plusMonths(1).atDay(1));
+    }
+
+    public long countRows(String partitionName) {
+        Long count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM " + TABLE + " PARTITION (" + validated(partitionName) + ")", Long.class);
+        return count == null ? 0L : count;
+    }
+
+    public long maxId(String partitionName) {
+        Long maxId = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(MAX(id), 0) FROM " + TABLE + " PARTITION (" + validated(partitionName) + ")", Long.class);
+        return maxId == null ? 0L : maxId;
+    }
+
+    /**
+     * 파티션 전체를 gzip CSV 로 내보내기
+     * - 임시 파일에 기록 후 원자적 이동 (중단 시 불완전한 아카이브가 남지 않음)
+     *
+     * @return 기록한 행 수
+     */
+    public long exportPartition(String partitionName, Path target) throws IOException {
+        Files.createDirectories(target.getParent());
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+
+        long written;
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(
+                new GZIPOutputStream(Files.newOutputStream(temp)), StandardCharsets.UTF_8))) {
+            writer.write("id,user_id,amount,reason,idempotency_key,created_at\n");
+
+            long[] rows = {0L};
+            streamingJdbcTemplate.query(
+                    "SELECT id, user_id, amount, reason, idempotency_key, created_at FROM " + TABLE
+                            + " PARTITION (" + validated(partitionName) + ") ORDER BY id",
+                    rs -> {
+                        try {
+                            writer.write(rs.getLong("id") + ","
+                                    + toUuid(rs.getBytes("user_id")) + ","
+                                    + rs.getLong("amount") + ","
+                                    + csv(rs.getString("reason")) + ","
+                                    + csv(rs.getString("idempotency_key")) + ","
+                                    + rs.getString("created_at") + "\n");
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                        rows[0]++;
+                    });
+            written = rows[0];
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return written;
+    }
+
+    public void dropPartition(String partitionName) {
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " DROP PARTITION " + validated(partitionName));
+        log.info("[원장파티션] 파티션 삭제: {}", partitionName);
+    }
+
+    // === Private Helper Methods ===
+
+    private String validated(String partitionName) {
+        if (partitionName == null || !PARTITION_NAME.matcher(partitionName).matches()) {
+            throw new IllegalArgumentException("잘못된 파티션 이름입니다: " + partitionName);
+        }
+        return partitionName;
+    }
+
+    // RANGE COLUMNS 파티션 설명: '2026-11-01 00:00:00' 또는 MAXVALUE
+    private LocalDate parseUpperBound(String description) {
+        if (description == null || description.equalsIgnoreCase("MAXVALUE")) {
+            return null;
+        }
+        return LocalDate.parse(description.replace("'", "").substring(0, 10));
+    }
+
+    private String toUuid(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong()).toString();
+    }
+
+    private String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.contains(",") || value.contains("\"") || value.contains("\n")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+}
@@ -18,6 +18,10 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+/**
+ * MySQL 기반 대기열
+ * - 토큰은 발급/활성화 직후 바로 검증되므로 조회도 주 DB 에서 (readOnly 트랜잭션은 복제본으로 라우팅됨)
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
@@ -77,7 +81,7 @@ public class MySqlQueueAdapter implements QueuePort {
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional
     public boolean isActive(String token) {
         return repository.findByToken(token)
                 .map(entity -> entity.getStatus() == TokenStatus.ACTIVE && !entity.isExpired())
@@ -85,7 +89,7 @@ public class MySqlQueueAdapter implements QueuePort {
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional
     public String userIdOf(String token) {
         return repository.findByToken(token)
                 .map(QueueTokenJpaEntity::getUserId)
@@ -103,7 +107,7 @@ public class MySqlQueueAdapter implements QueuePort {
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional
     public Long getWaitingPosition(String token) {
         Optional<QueueTokenJpaEntity> entity = repository.findByToken(token);
 
@@ -127,13 +131,13 @@ public class MySqlQueueAdapter implements QueuePort {
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional
     public Long getActiveCount() {
         return repository.countByStatus(TokenStatus.ACTIVE);
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional
     public Long getWaitingCount() {
         return repository.countByStatus(TokenStatus.WAITING);
     }
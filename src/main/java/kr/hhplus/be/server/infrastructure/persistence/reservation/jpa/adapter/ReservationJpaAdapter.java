@@ -7,18 +7,32 @@ import kr.hhplus.be.server.domain.common.Money;
 import kr.hhplus.be.server.domain.concert.ConcertScheduleId;
 import kr.hhplus.be.server.infrastructure.persistence.reservation.jpa.entity.ReservationJpaEntity;
 import kr.hhplus.be.server.infrastructure.persistence.reservation.jpa.repository.ReservationJpaRepository;
-import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.stereotype.Repository;
 
+import javax.sql.DataSource;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.IntConsumer;
 
 @Repository
-@RequiredArgsConstructor
 public class ReservationJpaAdapter implements ReservationRepository {
 
+    // idx_reservation_schedule_status_seat (concert_schedule_id, status, seat_number) 커버링 인덱스 범위 스캔
+    private static final String SELECT_SEAT_NOS_BY_SCHEDULE_AND_STATUS =
+            "SELECT seat_number FROM reservation WHERE concert_schedule_id = ? AND status = ?";
+
     private final ReservationJpaRepository jpaRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    public ReservationJpaAdapter(ReservationJpaRepository jpaRepository, DataSource dataSource) {
+        this.jpaRepository = jpaRepository;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
 
     @Override
     public Reservation save(Reservation reservation) {
@@ -55,23 +69,46 @@ public class ReservationJpaAdapter implements ReservationRepository {
             }
 
             // 변경 가능한 필드만 업데이트
-            entity.setStatus(reservation.getStatus());
-            if (reservation.getConfirmedAt() != null) {
-                entity.setConfirmedAt(reservation.getConfirmedAt());
-            }
-            // 결제 관련 필드 업데이트
-            if (reservation.getPaymentRequestedAt() != null) {
-                entity.setPaymentRequestedAt(reservation.getPaymentRequestedAt());
-            }
-            if (reservation.getPaymentFailReason() != null) {
-                entity.setPaymentFailReason(reservation.getPaymentFailReason());
-            }
+            applyChanges(entity, reservation);
         }
 
         ReservationJpaEntity savedEntity = jpaRepository.saveAndFlush(entity);
         return toDomain(savedEntity);
     }
 
+    @Override
+    public List<Reservation> findAllById(Collection<ReservationId> ids) {
+        return jpaRepository.findAllById(ids.stream().map(ReservationId::value).toList())
+                .stream()
+                .map(this::toDomain)
+                .toList();
+    }
+
+    /**
+     * 상태 변경 일괄 반영
+     * - findAllById로 영속성 컨텍스트에 올라온 엔티티를 갱신 (추가 SELECT 없음)
+     * - flush 한 번에 JDBC 배치 UPDATE (hibernate.jdbc.batch_size)
+     * - 각 UPDATE는 WHERE id = ? AND version = ? 조건부 → 그 사이 다른 트랜잭션이
+     *   바꾼 예약이 있으면 배치 전체가 롤백됨
+     */
+    @Override
+    public void saveAll(List<Reservation> reservations) {
+        for (Reservation reservation : reservations) {
+            ReservationJpaEntity entity = jpaRepository.getReferenceById(reservation.getId().value());
+
+            // version 체크 (낙관적 락)
+            if (!entity.getVersion().equals(reservation.getVersion())) {
+                throw new OptimisticLockException(
+                        "예약이 다른 트랜잭션에 의해 수정되었습니다: " + reservation.getId().value()
+                );
+            }
+
+            applyChanges(entity, reservation);
+        }
+
+        jpaRepository.flush();
+    }
+
     @Override
     public Optional<Reservation> findById(ReservationId id) {
         return jpaRepository.findById(id.value())
@@ -164,6 +201,17 @@ public class ReservationJpaAdapter implements ReservationRepository {
         return jpaRepository.countByConcertScheduleIdAndStatus(scheduleId, status);
     }
 
+    @Override
+    public void forEachConfirmedSeatNo(Long scheduleId, IntConsumer action) {
+        // 엔티티/Integer 리스트를 만들지 않고 ResultSet 에서 int 로 바로 전달
+        jdbcTemplate.query(
+                SELECT_SEAT_NOS_BY_SCHEDULE_AND_STATUS,
+                (RowCallbackHandler) rs -> action.accept(rs.getInt(1)),
+                scheduleId,
+                ReservationStatus.CONFIRMED.name()
+        );
+    }
+
     // ===== 결제 비동기화 관련 메서드 구현 =====
 
     @Override
@@ -176,8 +224,71 @@ public class ReservationJpaAdapter implements ReservationRepository {
                 .toList();
     }
 
+    @Override
+    public List<Reservation> findStaleRefundRequests(
+            LocalDateTime requestedBefore,
+            int maxAttempts,
+            int limit) {
+        return jpaRepository.findStaleRefundRequests(
+                        ReservationStatus.REFUND_PENDING, requestedBefore, maxAttempts, Limit.of(limit))
+                .stream()
+                .map(this::toDomain)
+                .toList();
+    }
+
+    @Override
+    public int markRefundRepublished(Collection<ReservationId> ids, LocalDateTime republishedAt) {
+        return jpaRepository.markRefundRepublished(
+                ids.stream().map(ReservationId::value).toList(),
+                ReservationStatus.REFUND_PENDING,
+                republishedAt);
+    }
+
+    // ===== 공연 일정 일괄 취소 =====
+
+    @Override
+    public List<Reservation> findChunkForUpdate(
+            Long scheduleId,
+            Collection<ReservationStatus> statuses,
+            int limit) {
+        return jpaRepository.findChunkForUpdate(scheduleId, statuses, Limit.of(limit))
+                .stream()
+                .map(this::toDomain)
+                .toList();
+    }
+
+    @Override
+    public long countByScheduleIdAndStatusIn(Long scheduleId, Collection<ReservationStatus> statuses) {
+        return jpaRepository.countByConcertScheduleIdAndStatusIn(scheduleId, statuses);
+    }
+
+    @Override
+    public int updateStatusByIds(Collection<ReservationId> ids, ReservationStatus status, LocalDateTime updatedAt) {
+        return jpaRepository.updateStatusByIds(
+                ids.stream().map(ReservationId::value).toList(),
+                status,
+                updatedAt);
+    }
+
     // === Private Helper Methods ===
 
+    private void applyChanges(ReservationJpaEntity entity, Reservation reservation) {
+        entity.setStatus(reservation.getStatus());
+        if (reservation.getConfirmedAt() != null) {
+            entity.setConfirmedAt(reservation.getConfirmedAt());
+        }
+        // 결제 관련 필드 업데이트
+        if (reservation.getPaymentRequestedAt() != null) {
+            entity.setPaymentRequestedAt(reservation.getPaymentRequestedAt());
+        }
+        if (reservation.getPaymentFailReason() != null) {
+            entity.setPaymentFailReason(reservation.getPaymentFailReason());
+        }
+        if (reservation.getRefundRequestedAt() != null) {
+            entity.setRefundRequestedAt(reservation.getRefundRequestedAt());
+        }
+    }
+
     private ReservationJpaEntity toEntity(Reservation reservation) {
         return new ReservationJpaEntity(
                 reservation.getId().value(),
@@ -208,6 +319,7 @@ public class ReservationJpaAdapter implements ReservationRepository {
                 entity.getConfirmedAt(),
                 entity.getPaymentRequestedAt(),
                 entity.getPaymentFailReason(),
+                entity.getRefundRequestedAt(),
                 entity.getVersion()
         );
     }
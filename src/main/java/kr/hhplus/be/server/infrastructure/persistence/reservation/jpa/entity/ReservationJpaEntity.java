@@ -13,6 +13,14 @@ import java.time.LocalDateTime;
                         name = "uq_reservation_seat_temp",
                         columnNames = {"concert_schedule_id", "seat_number", "status"}
                 )
+        },
+        indexes = {
+                // 환불 대기 재발행 대상 조회 (V13)
+                @Index(name = "idx_reservation_status_refund_requested",
+                        columnList = "status, refund_requested_at"),
+                // 일정별 확정 좌석 번호 커버링 인덱스 (V12)
+                @Index(name = "idx_reservation_schedule_status_seat",
+                        columnList = "concert_schedule_id, status, seat_number")
         }
 )
 public class ReservationJpaEntity {
@@ -48,6 +56,14 @@ public class ReservationJpaEntity {
     @Column(name = "payment_fail_reason")
     private String paymentFailReason;
 
+    // 환불 요청 시각 (재발행 시 갱신 - 환불 대기 재발행 순서)
+    @Column(name = "refund_requested_at")
+    private LocalDateTime refundRequestedAt;
+
+    // 환불 요청 재발행 횟수 (한도를 넘기면 재발행 대상에서 제외)
+    @Column(name = "refund_attempts", nullable = false)
+    private int refundAttempts;
+
     @Version
     private Long version;
 
@@ -104,6 +120,8 @@ public class ReservationJpaEntity {
     public LocalDateTime getConfirmedAt() { return confirmedAt; }
     public LocalDateTime getPaymentRequestedAt() { return paymentRequestedAt; }
     public String getPaymentFailReason() { return paymentFailReason; }
+    public LocalDateTime getRefundRequestedAt() { return refundRequestedAt; }
+    public int getRefundAttempts() { return refundAttempts; }
     public Long getVersion() { return version; }
     public LocalDateTime getCreatedAt() { return createdAt; }
     public LocalDateTime getUpdatedAt() { return updatedAt; }
@@ -113,4 +131,5 @@ public class ReservationJpaEntity {
     public void setConfirmedAt(LocalDateTime confirmedAt) { this.confirmedAt = confirmedAt; }
     public void setPaymentRequestedAt(LocalDateTime paymentRequestedAt) { this.paymentRequestedAt = paymentRequestedAt; }
     public void setPaymentFailReason(String paymentFailReason) { this.paymentFailReason = paymentFailReason; }
+    public void setRefundRequestedAt(LocalDateTime refundRequestedAt) { this.refundRequestedAt = refundRequestedAt; }
 }
\ No newline at end of file
@@ -2,11 +2,16 @@ package kr.hhplus.be.server.infrastructure.persistence.reservation.jpa.repositor
 
 import kr.hhplus.be.server.infrastructure.persistence.reservation.jpa.entity.ReservationJpaEntity;
 import kr.hhplus.be.server.domain.reservation.ReservationStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -60,4 +65,65 @@ public interface ReservationJpaRepository extends JpaRepository<ReservationJpaEn
     List<ReservationJpaEntity> findByStatusAndPaymentRequestedAtBefore(
             @Param("status") ReservationStatus status,
             @Param("paymentRequestedAtBefore") LocalDateTime paymentRequestedAtBefore);
-}
\ No newline at end of file
+
+    /**
+     * 환불 요청 후 기준 시각이 지나도록 대기 중인 예약 조회 (요청/재발행이 오래된 순)
+     * (환불 대기 재발행용 - idx_reservation_status_refund_requested 범위 스캔)
+     */
+    @Query("SELECT r FROM ReservationJpaEntity r " +
+            "WHERE r.status = :status " +
+            "AND r.refundRequestedAt < :requestedBefore " +
+            "AND r.refundAttempts < :maxAttempts " +
+            "ORDER BY r.refundRequestedAt")
+    List<ReservationJpaEntity> findStaleRefundRequests(
+            @Param("status") ReservationStatus status,
+            @Param("requestedBefore") LocalDateTime requestedBefore,
+            @Param("maxAttempts") int maxAttempts,
+            Limit limit);
+
+    /**
+     * 환불 요청 재발행 기록 (요청 시각 갱신 + 횟수 증가)
+     * - 상태를 바꾸지 않으므로 version 은 올리지 않음 (환불 결과 반영과 충돌하지 않도록)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ReservationJpaEntity r " +
+            "SET r.refundRequestedAt = :republishedAt, r.refundAttempts = r.refundAttempts + 1 " +
+            "WHERE r.id IN :ids AND r.status = :status")
+    int markRefundRepublished(
+            @Param("ids") Collection<String> ids,
+            @Param("status") ReservationStatus status,
+            @Param("republishedAt") LocalDateTime republishedAt);
+
+    // ===== 공연 일정 일괄 취소 =====
+
+    /**
+     * 일정의 지정 상태 예약을 ID 순으로 청크 조회 (행 잠금)
+     * - idx_reservation_schedule_status_seat 범위 스캔
+     * - 처리된 행은 상태가 바뀌어 다음 조회에서 빠지므로 커서 없이 매번 처음부터 조회
+     *   (UUID 순서 커서는 작업 중 새로 확정된 앞쪽 ID를 놓침)
+     * - 잠금으로 개별 취소/결제 결과 반영과 같은 예약을 동시에 처리하지 않음
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM ReservationJpaEntity r " +
+            "WHERE r.concertScheduleId = :scheduleId " +
+            "AND r.status IN :statuses " +
+            "ORDER BY r.id")
+    List<ReservationJpaEntity> findChunkForUpdate(
+            @Param("scheduleId") Long scheduleId,
+            @Param("statuses") Collection<ReservationStatus> statuses,
+            Limit limit);
+
+    long countByConcertScheduleIdAndStatusIn(Long concertScheduleId, Collection<ReservationStatus> statuses);
+
+    /**
+     * 예약 상태 일괄 변경 (청크 단위 단일 UPDATE)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ReservationJpaEntity r " +
+            "SET r.status = :status, r.version = r.version + 1, r.updatedAt = :updatedAt " +
+            "WHERE r.id IN :ids")
+    int updateStatusByIds(
+            @Param("ids") Collection<String> ids,
+            @Param("status") ReservationStatus status,
+            @Param("updatedAt") LocalDateTime updatedAt);
+}
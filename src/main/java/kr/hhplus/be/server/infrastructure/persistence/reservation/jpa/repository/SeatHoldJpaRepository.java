@@ -52,6 +52,16 @@ public interface SeatHoldJpaRepository extends JpaRepository<SeatHoldJpaEntity,
     @Modifying
     void deleteByScheduleIdAndSeatNumber(Long scheduleId, Integer seatNumber);
 
+    // 여러 좌석 점유 일괄 해제
+    @Modifying
+    @Query("DELETE FROM SeatHoldJpaEntity s " +
+            "WHERE s.scheduleId = :scheduleId " +
+            "AND s.seatNumber IN :seatNumbers")
+    int deleteByScheduleIdAndSeatNumberIn(
+            @Param("scheduleId") Long scheduleId,
+            @Param("seatNumbers") List<Integer> seatNumbers
+    );
+
     boolean existsByScheduleIdAndSeatNumberAndExpiresAtAfter(
             Long scheduleId, Integer seatNumber, LocalDateTime now
     );
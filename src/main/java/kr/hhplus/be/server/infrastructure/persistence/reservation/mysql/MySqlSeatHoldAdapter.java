@@ -42,7 +42,7 @@ public class MySqlSeatHoldAdapter implements SeatHoldPort {
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional  // 점유 직후 예약 검증에 쓰이므로 주 DB 에서 읽음
     public boolean isHeldBy(SeatIdentifier seatIdentifier, UserId userId) {
         Optional<SeatHoldJpaEntity> hold = repository.findByScheduleIdAndSeatNumber(
                 seatIdentifier.scheduleId().value(),
@@ -68,7 +68,30 @@ public class MySqlSeatHoldAdapter implements SeatHoldPort {
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional
+    public void releaseAll(List<SeatIdentifier> seatIdentifiers) {
+        if (seatIdentifiers == null || seatIdentifiers.isEmpty()) {
+            return;
+        }
+
+        // 스케줄별 IN 절 DELETE 1회
+        Map<Long, List<Integer>> scheduleToSeats = new HashMap<>();
+        for (SeatIdentifier seat : seatIdentifiers) {
+            scheduleToSeats
+                    .computeIfAbsent(seat.scheduleId().value(), k -> new ArrayList<>())
+                    .add(seat.seatNumber().value());
+        }
+
+        int deleted = 0;
+        for (Map.Entry<Long, List<Integer>> entry : scheduleToSeats.entrySet()) {
+            deleted += repository.deleteByScheduleIdAndSeatNumberIn(entry.getKey(), entry.getValue());
+        }
+
+        log.debug("좌석 점유 일괄 해제: 요청 {}건, 삭제 {}건", seatIdentifiers.size(), deleted);
+    }
+
+    @Override
+    @Transactional  // 예약 시 점유자 판정용 - 주 DB
     public SeatHoldStatus getHoldStatus(SeatIdentifier seatIdentifier) {
         Optional<SeatHoldJpaEntity> hold = repository.findByScheduleIdAndSeatNumber(
                 seatIdentifier.scheduleId().value(),
@@ -0,0 +1,16 @@
+package kr.hhplus.be.server.infrastructure.redis.cache;
+
+import java.io.Serializable;
+
+/**
+ * Redis 에 저장되는 캐시 값 + 조기 갱신(XFetch) 판단용 메타데이터
+ *
+ * @param computeMillis 원본 조회에 걸린 시간 (모르면 0 → 조기 갱신 안 함)
+ * @param expiresAt     만료 시각 (epoch ms)
+ */
+public record CacheEnvelope(
+        Object value,
+        long computeMillis,
+        long expiresAt
+) implements Serializable {
+}
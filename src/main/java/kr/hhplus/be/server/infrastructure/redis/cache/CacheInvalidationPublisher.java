@@ -0,0 +1,58 @@
+package kr.hhplus.be.server.infrastructure.redis.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.UUID;
+
+/**
+ * L1 캐시 무효화 메시지 발행/해석 (Redis pub/sub)
+ *
+ * 메시지 형식: {발행 인스턴스}\t{캐시 이름}\t{키}  (전체 삭제는 키 자리에 CLEAR_ALL)
+ * - 자기 인스턴스가 보낸 메시지는 이미 L1 에 반영했으므로 수신 시 무시
+ * - 발행 실패는 로그만 남김 (다른 인스턴스 L1 은 TTL 로 만료)
+ */
+@Slf4j
+public class CacheInvalidationPublisher {
+
+    public static final String CHANNEL = "cache:invalidate";
+
+    private static final String SEPARATOR = "\t";
+    private static final String CLEAR_ALL = "\u0000*";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    public CacheInvalidationPublisher(RedisTemplate<String, String> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    public void publishEvict(String cacheName, String key) {
+        publish(cacheName, key);
+    }
+
+    public void publishClear(String cacheName) {
+        publish(cacheName, CLEAR_ALL);
+    }
+
+    private void publish(String cacheName, String key) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, instanceId + SEPARATOR + cacheName + SEPARATOR + key);
+        } catch (Exception e) {
+            log.warn("[캐시 무효화] 발행 실패 - cache: {}, key: {}, error: {}", cacheName, key, e.getMessage());
+        }
+    }
+
+    /**
+     * 수신 메시지 해석
+     *
+     * @return 다른 인스턴스가 보낸 유효한 메시지면 {캐시 이름, 키(전체 삭제면 null)}, 아니면 null
+     */
+    String[] parse(String message) {
+        String[] parts = message.split(SEPARATOR, 3);
+        if (parts.length != 3 || instanceId.equals(parts[0])) {
+            return null;
+        }
+        return new String[]{parts[1], CLEAR_ALL.equals(parts[2]) ? null : parts[2]};
+    }
+}
@@ -0,0 +1,223 @@
+package kr.hhplus.be.server.infrastructure.redis.cache;
+
+import kr.hhplus.be.server.application.port.in.RankingUseCase.ConcertRankingDto;
+import kr.hhplus.be.server.infrastructure.codec.BinaryReader;
+import kr.hhplus.be.server.infrastructure.codec.BinaryWriter;
+import kr.hhplus.be.server.web.concert.dto.ConcertDto;
+import kr.hhplus.be.server.web.concert.dto.ScheduleDto;
+import kr.hhplus.be.server.web.concert.dto.SeatRanges;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 캐시 값 컴팩트 바이너리 직렬화
+ *
+ * 레이아웃: [MAGIC][버전][값]
+ * 값: [타입][필드...]  (타입별 필드 순서 고정, null 가능한 필드는 존재 비트맵 1바이트)
+ * - 정수: zigzag varint, 문자열: varint 길이 + UTF-8, 날짜: epoch day varint (BinaryWriter/BinaryReader 공용 인코딩)
+ * - 좌석 번호 목록: 연속 구간(SeatRanges)으로 [구간 수][시작(이전 끝과의 차이), 길이]... → 구간 수에 비례
+ * - CacheEnvelope(조기 갱신 메타데이터)는 조회 시간, 만료 시각 뒤에 값을 이어서 기록
+ * - 등록되지 않은 타입은 JDK 직렬화로 감싸서 저장 (TYPE_JDK)
+ * - MAGIC 이 없는 값은 이전 배포가 JDK 직렬화로 저장한 값으로 보고 그대로 역직렬화
+ *
+ * 필드를 추가/변경하면 VERSION 을 올리고, 다른 버전 값은 캐시 미스로 처리 (null 반환)
+ */
+public class CompactCacheValueSerializer implements RedisSerializer<Object> {
+
+    static final int MAGIC = 0xC5;
+    static final int VERSION = 3;
+
+    private static final int TYPE_LIST = 1;
+    private static final int TYPE_CONCERT = 2;
+    private static final int TYPE_SCHEDULE = 3;
+    private static final int TYPE_RANKING = 4;
+    private static final int TYPE_ENVELOPE = 5;
+    private static final int TYPE_JDK = 127;
+
+    private final JdkSerializationRedisSerializer jdk = new JdkSerializationRedisSerializer();
+
+    @Override
+    public byte[] serialize(Object value) {
+        if (value == null) {
+            return new byte[0];
+        }
+        BinaryWriter out = new BinaryWriter(64);
+        out.writeByte(MAGIC);
+        out.writeByte(VERSION);
+        writeValue(out, value);
+        return out.toByteArray();
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if ((bytes[0] & 0xFF) != MAGIC) {
+            return jdk.deserialize(bytes);  // 이전 형식
+        }
+
+        BinaryReader in = new BinaryReader(bytes, SerializationException::new);
+        in.readByte();
+        if (in.readByte() != VERSION) {
+            return null;  // 스키마가 다른 배포의 값 → 캐시 미스
+        }
+        return readValue(in);
+    }
+
+    private void writeValue(BinaryWriter out, Object value) {
+        if (value instanceof CacheEnvelope envelope) {
+            out.writeByte(TYPE_ENVELOPE);
+            out.writeVarLong(envelope.computeMillis());
+            out.writeVarLong(envelope.expiresAt());
+            writeValue(out, envelope.value());
+        } else if (value instanceof List<?> list) {
+            out.writeByte(TYPE_LIST);
+            out.writeVarLong(list.size());
+            for (Object element : list) {
+                writeValue(out, element);
+            }
+        } else if (value instanceof ConcertDto concert) {
+            out.writeByte(TYPE_CONCERT);
+            out.writeByte(presence(concert.id(), concert.title(), concert.description()));
+            writeIfPresent(out, concert.id());
+            writeIfPresent(out, concert.title());
+            writeIfPresent(out, concert.description());
+        } else if (value instanceof ScheduleDto schedule) {
+            out.writeByte(TYPE_SCHEDULE);
+            out.writeByte(presence(schedule.scheduleId(), schedule.concertId(),
+                    schedule.concertDate(), schedule.availableSeats()));
+            writeIfPresent(out, schedule.scheduleId());
+            writeIfPresent(out, schedule.concertId());
+            if (schedule.concertDate() != null) {
+                out.writeVarLong(schedule.concertDate().toEpochDay());
+            }
+            out.writeVarLong(schedule.totalSeats());
+            if (schedule.availableSeats() != null) {
+                writeSeats(out, schedule.availableSeats());
+            }
+        } else if (value instanceof ConcertRankingDto ranking) {
+            out.writeByte(TYPE_RANKING);
+            out.writeByte(presence(ranking.scheduleId(), ranking.concertName(), ranking.soldOutSeconds()));
+            out.writeVarLong(ranking.rank());
+            writeIfPresent(out, ranking.scheduleId());
+            writeIfPresent(out, ranking.concertName());
+            out.writeVarLong(ranking.soldCount());
+            out.writeFixedLong(Double.doubleToLongBits(ranking.velocityPerMinute()));
+            out.writeByte(ranking.isSoldOut() ? 1 : 0);
+            if (ranking.soldOutSeconds() != null) {
+                out.writeVarLong(ranking.soldOutSeconds());
+            }
+        } else {
+            byte[] bytes = jdk.serialize(value);
+            out.writeByte(TYPE_JDK);
+            out.writeBytes(bytes);
+        }
+    }
+
+    private Object readValue(BinaryReader in) {
+        int type = in.readByte();
+        switch (type) {
+            case TYPE_ENVELOPE -> {
+                long computeMillis = in.readVarLong();
+                long expiresAt = in.readVarLong();
+                return new CacheEnvelope(readValue(in), computeMillis, expiresAt);
+            }
+            case TYPE_LIST -> {
+                int size = in.readLength();
+                List<Object> list = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    list.add(readValue(in));
+                }
+                return list;
+            }
+            case TYPE_CONCERT -> {
+                int present = in.readByte();
+                return new ConcertDto(
+                        has(present, 0) ? in.readVarLong() : null,
+                        has(present, 1) ? in.readUtf8() : null,
+                        has(present, 2) ? in.readUtf8() : null);
+            }
+            case TYPE_SCHEDULE -> {
+                int present = in.readByte();
+                Long scheduleId = has(present, 0) ? in.readVarLong() : null;
+                Long concertId = has(present, 1) ? in.readVarLong() : null;
+                LocalDate concertDate = has(present, 2) ? LocalDate.ofEpochDay(in.readVarLong()) : null;
+                int totalSeats = (int) in.readVarLong();
+                List<Integer> availableSeats = has(present, 3) ? readSeats(in) : null;
+                return new ScheduleDto(scheduleId, concertId, concertDate, totalSeats, availableSeats);
+            }
+            case TYPE_RANKING -> {
+                int present = in.readByte();
+                int rank = (int) in.readVarLong();
+                Long scheduleId = has(present, 0) ? in.readVarLong() : null;
+                String concertName = has(present, 1) ? in.readUtf8() : null;
+                int soldCount = (int) in.readVarLong();
+                double velocity = Double.longBitsToDouble(in.readFixedLong());
+                boolean soldOut = in.readByte() == 1;
+                Integer soldOutSeconds = has(present, 2) ? (int) in.readVarLong() : null;
+                return new ConcertRankingDto(rank, scheduleId, concertName, soldCount, velocity, soldOut, soldOutSeconds);
+            }
+            case TYPE_JDK -> {
+                return jdk.deserialize(in.readBytes());
+            }
+            default -> throw new SerializationException("알 수 없는 캐시 값 타입입니다: " + type);
+        }
+    }
+
+    private static void writeSeats(BinaryWriter out, List<Integer> seats) {
+        SeatRanges ranges = SeatRanges.copyOf(seats);
+        out.writeVarLong(ranges.rangeCount());
+        int previousEnd = 0;
+        for (int i = 0; i < ranges.rangeCount(); i++) {
+            out.writeVarLong(ranges.rangeStart(i) - previousEnd);
+            out.writeVarLong(ranges.rangeEnd(i) - ranges.rangeStart(i));
+            previousEnd = ranges.rangeEnd(i);
+        }
+    }
+
+    private static List<Integer> readSeats(BinaryReader in) {
+        int count = in.readLength();
+        int[] starts = new int[count];
+        int[] ends = new int[count];
+        int previousEnd = 0;
+        for (int i = 0; i < count; i++) {
+            starts[i] = previousEnd + (int) in.readVarLong();
+            ends[i] = starts[i] + (int) in.readVarLong();
+            previousEnd = ends[i];
+        }
+        return SeatRanges.ofRanges(starts, ends);
+    }
+
+    private static int presence(Object... fields) {
+        int bits = 0;
+        for (int i = 0; i < fields.length; i++) {
+            if (fields[i] != null) {
+                bits |= 1 << i;
+            }
+        }
+        return bits;
+    }
+
+    private static boolean has(int presence, int index) {
+        return (presence & (1 << index)) != 0;
+    }
+
+    private static void writeIfPresent(BinaryWriter out, Long value) {
+        if (value != null) {
+            out.writeVarLong(value);
+        }
+    }
+
+    private static void writeIfPresent(BinaryWriter out, String value) {
+        if (value != null) {
+            out.writeBytes(value.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package kr.hhplus.be.server.infrastructure.redis.cache;
+
+import kr.hhplus.be.server.infrastructure.redis.lock.RedisDistributedLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.data.redis.cache.RedisCache;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 캐시 스탬피드 방지 래퍼 (RedisCache 앞단)
+ *
+ * get(key, loader) 경로에서만 동작 (@Cacheable(sync = true), Cache.get(key, loader))
+ * 1. 단일 로딩: JVM 안에서 키당 로더 1개, 나머지 요청은 그 결과를 기다림
+ * 2. Redis 소프트 락: 인스턴스 간에도 원본 조회는 1곳만, 락을 못 잡은 쪽은 기존 값 또는 잠시 대기 후 결과 사용
+ *    (락은 TTL 로 자동 만료되므로 로더가 죽어도 다음 요청이 이어받음)
+ * 3. 확률적 조기 갱신(XFetch): 만료가 가까울수록, 조회가 오래 걸리는 값일수록 높은 확률로 미리 갱신
+ *    → 만료 순간 동시 미스가 몰리지 않음, 갱신하는 동안 다른 요청은 기존 값 사용
+ */
+@Slf4j
+public class StampedeProtectedCache implements Cache {
+
+    private static final String LOCK_PREFIX = "lock:cache:";
+    private static final long WAIT_POLL_MILLIS = 20;
+
+    private final RedisCache delegate;
+    private final RedisDistributedLock distributedLock;
+    private final Duration lockTtl;
+    private final double beta;
+    private final ConcurrentHashMap<Object, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    public StampedeProtectedCache(RedisCache delegate,
+                                  RedisDistributedLock distributedLock,
+                                  Duration lockTtl,
+                                  double beta) {
+        this.delegate = delegate;
+        this.distributedLock = distributedLock;
+        this.lockTtl = lockTtl;
+        this.beta = beta;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        CacheEnvelope envelope = lookup(key);
+        return envelope != null ? new SimpleValueWrapper(envelope.value()) : null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException(
+                    "캐시 값 타입 불일치 - cache: " + getName() + ", expected: " + type.getName());
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        CacheEnvelope current = lookup(key);
+        if (current != null && !shouldRefreshEarly(current)) {
+            return (T) current.value();
+        }
+
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            // 이미 다른 요청이 로딩 중: 기존 값이 있으면 그대로, 없으면 결과 대기
+            return current != null ? (T) current.value() : (T) await(running, key, valueLoader);
+        }
+
+        try {
+            Object value = loadWithSoftLock(key, valueLoader, current);
+            mine.complete(value);
+            return (T) value;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        // 조회 시간을 모르는 값 (@Cacheable 비동기화 경로) → 조기 갱신 대상 아님
+        store(key, value, 0);
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+
+    private Object loadWithSoftLock(Object key, Callable<?> valueLoader, CacheEnvelope current) {
+        String lockKey = LOCK_PREFIX + getName() + ":" + key;
+        String token = UUID.randomUUID().toString();
+        boolean locked = distributedLock.tryLock(lockKey, token, lockTtl);
+
+        if (!locked) {
+            // 다른 인스턴스가 갱신 중
+            if (current != null) {
+                return current.value();
+            }
+            CacheEnvelope loaded = waitForOtherInstance(key);
+            if (loaded != null) {
+                return loaded.value();
+            }
+            log.debug("[캐시 스탬피드] 락 대기 시간 초과, 직접 조회 - cache: {}, key: {}", getName(), key);
+        }
+
+        try {
+            long start = System.nanoTime();
+            Object value = valueLoader.call();
+            long computeMillis = (System.nanoTime() - start) / 1_000_000;
+            if (value != null) {
+                store(key, value, computeMillis);
+            }
+            return value;
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        } finally {
+            if (locked) {
+                release(lockKey, token);
+            }
+        }
+    }
+
+    // 락 TTL 동안 다른 인스턴스가 채운 값을 기다림
+    private CacheEnvelope waitForOtherInstance(Object key) {
+        long deadline = System.currentTimeMillis() + lockTtl.toMillis();
+        while (System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(WAIT_POLL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+            CacheEnvelope envelope = lookup(key);
+            if (envelope != null) {
+                return envelope;
+            }
+        }
+        return null;
+    }
+
+    private Object await(CompletableFuture<Object> running, Object key, Callable<?> valueLoader) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new ValueRetrievalException(key, valueLoader, e.getCause());
+        }
+    }
+
+    /**
+     * XFetch: now - computeMillis * beta * ln(rand) >= expiresAt 이면 조기 갱신
+     * (ln(rand) 는 음수라서 조회가 오래 걸리는 값일수록 더 일찍 갱신)
+     */
+    boolean shouldRefreshEarly(CacheEnvelope envelope) {
+        if (envelope.computeMillis() <= 0) {
+            return false;
+        }
+        double random = ThreadLocalRandom.current().nextDouble(Double.MIN_VALUE, 1.0);
+        double gap = envelope.computeMillis() * beta * -Math.log(random);
+        return System.currentTimeMillis() + gap >= envelope.expiresAt();
+    }
+
+    private CacheEnvelope lookup(Object key) {
+        ValueWrapper wrapper = delegate.get(key);
+        if (wrapper == null || wrapper.get() == null) {
+            return null;
+        }
+        if (wrapper.get() instanceof CacheEnvelope envelope) {
+            return envelope;
+        }
+        // 래퍼 적용 전에 저장된 값: 조기 갱신 없이 그대로 사용
+        return new CacheEnvelope(wrapper.get(), 0, Long.MAX_VALUE);
+    }
+
+    private void store(Object key, Object value, long computeMillis) {
+        Duration ttl = delegate.getCacheConfiguration().getTtlFunction().getTimeToLive(key, value);
+        long expiresAt = ttl.isZero() || ttl.isNegative()
+                ? Long.MAX_VALUE
+                : System.currentTimeMillis() + ttl.toMillis();
+        delegate.put(key, new CacheEnvelope(value, computeMillis, expiresAt));
+    }
+
+    // 내 락일 때만 해제 (이미 만료되어 다른 요청이 잡았으면 그대로 둠, 확인과 삭제는 원자 실행)
+    private void release(String lockKey, String token) {
+        try {
+            distributedLock.unlock(lockKey, token);
+        } catch (Exception e) {
+            log.debug("[캐시 스탬피드] 락 해제 실패, TTL 로 만료 - key: {}", lockKey);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package kr.hhplus.be.server.infrastructure.redis.cache;
+
+import kr.hhplus.be.server.infrastructure.redis.lock.RedisDistributedLock;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.cache.RedisCache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 지정한 Redis 캐시에 스탬피드 방지 래퍼를 씌우는 캐시 매니저
+ */
+public class StampedeProtectedCacheManager implements CacheManager {
+
+    private final CacheManager delegate;
+    private final Set<String> protectedCacheNames;
+    private final RedisDistributedLock distributedLock;
+    private final Duration lockTtl;
+    private final double beta;
+    private final Map<String, Cache> caches = new ConcurrentHashMap<>();
+
+    public StampedeProtectedCacheManager(CacheManager delegate,
+                                         Set<String> protectedCacheNames,
+                                         RedisDistributedLock distributedLock,
+                                         Duration lockTtl,
+                                         double beta) {
+        this.delegate = delegate;
+        this.protectedCacheNames = Set.copyOf(protectedCacheNames);
+        this.distributedLock = distributedLock;
+        this.lockTtl = lockTtl;
+        this.beta = beta;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        Cache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+
+        Cache target = delegate.getCache(name);
+        if (target == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, n ->
+                protectedCacheNames.contains(n) && target instanceof RedisCache redisCache
+                        ? new StampedeProtectedCache(redisCache, distributedLock, lockTtl, beta)
+                        : target);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+}
@@ -0,0 +1,115 @@
+package kr.hhplus.be.server.infrastructure.redis.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.concurrent.Callable;
+
+/**
+ * 2단계 캐시 (L1: 프로세스 내 Caffeine, L2: Redis)
+ *
+ * - 조회: L1 → L2 → 원본 순, L2 에서 가져온 값은 L1 에 적재
+ * - 변경(put/evict/clear): L2 반영 후 L1 제거, 다른 인스턴스 L1 은 pub/sub 으로 무효화
+ * - L1 키는 문자열로 통일 (RedisCache 와 같은 규칙, 무효화 메시지로 키를 주고받기 위함)
+ */
+public class TwoLevelCache implements Cache {
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> local;
+    private final Cache remote;
+    private final CacheInvalidationPublisher publisher;
+
+    public TwoLevelCache(String name,
+                         com.github.benmanes.caffeine.cache.Cache<String, Object> local,
+                         Cache remote,
+                         CacheInvalidationPublisher publisher) {
+        this.name = name;
+        this.local = local;
+        this.remote = remote;
+        this.publisher = publisher;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return remote.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String localKey = localKey(key);
+        Object value = local.getIfPresent(localKey);
+        if (value != null) {
+            return new SimpleValueWrapper(value);
+        }
+
+        ValueWrapper wrapper = remote.get(key);
+        if (wrapper != null && wrapper.get() != null) {
+            local.put(localKey, wrapper.get());
+        }
+        return wrapper;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException(
+                    "캐시 값 타입 불일치 - cache: " + name + ", expected: " + type.getName());
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        // 같은 인스턴스 안에서는 키당 한 번만 L2/원본 조회
+        return (T) local.get(localKey(key), k -> remote.get(key, valueLoader));
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        remote.put(key, value);
+        String localKey = localKey(key);
+        if (value != null) {
+            local.put(localKey, value);
+        } else {
+            local.invalidate(localKey);
+        }
+        publisher.publishEvict(name, localKey);
+    }
+
+    @Override
+    public void evict(Object key) {
+        remote.evict(key);
+        String localKey = localKey(key);
+        local.invalidate(localKey);
+        publisher.publishEvict(name, localKey);
+    }
+
+    @Override
+    public void clear() {
+        remote.clear();
+        local.invalidateAll();
+        publisher.publishClear(name);
+    }
+
+    // 다른 인스턴스에서 온 무효화 (L1 만)
+    void evictLocal(String localKey) {
+        local.invalidate(localKey);
+    }
+
+    void clearLocal() {
+        local.invalidateAll();
+    }
+
+    private static String localKey(Object key) {
+        return String.valueOf(key);
+    }
+}
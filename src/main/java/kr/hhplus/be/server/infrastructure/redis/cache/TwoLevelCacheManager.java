@@ -0,0 +1,93 @@
+package kr.hhplus.be.server.infrastructure.redis.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Redis 캐시 매니저 앞에 L1(Caffeine) 을 붙이는 캐시 매니저
+ *
+ * - localCacheNames 에 있는 캐시만 2단계, 나머지(예: 랭킹)는 Redis 캐시 그대로
+ * - L1 은 크기 제한 + 짧은 TTL, 다른 인스턴스의 변경은 pub/sub 무효화로 즉시 반영하고 TTL 은 유실 대비
+ */
+@Slf4j
+public class TwoLevelCacheManager implements CacheManager, MessageListener {
+
+    private final CacheManager remoteCacheManager;
+    private final Set<String> localCacheNames;
+    private final long localMaxSize;
+    private final Duration localTtl;
+    private final CacheInvalidationPublisher publisher;
+    private final Map<String, Cache> caches = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(CacheManager remoteCacheManager,
+                                Set<String> localCacheNames,
+                                long localMaxSize,
+                                Duration localTtl,
+                                CacheInvalidationPublisher publisher) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.localCacheNames = Set.copyOf(localCacheNames);
+        this.localMaxSize = localMaxSize;
+        this.localTtl = localTtl;
+        this.publisher = publisher;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        Cache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+
+        Cache remote = remoteCacheManager.getCache(name);
+        if (remote == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, n -> localCacheNames.contains(n)
+                ? new TwoLevelCache(n, newLocalCache(), remote, publisher)
+                : remote);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return remoteCacheManager.getCacheNames();
+    }
+
+    /**
+     * 다른 인스턴스의 무효화 메시지 수신 → 해당 L1 만 제거 (L2 는 발행한 쪽이 이미 반영)
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] target = publisher.parse(new String(message.getBody(), StandardCharsets.UTF_8));
+        if (target == null) {
+            return;
+        }
+        if (!(caches.get(target[0]) instanceof TwoLevelCache cache)) {
+            return;  // 이 인스턴스에서 아직 쓰지 않은 캐시
+        }
+
+        if (target[1] == null) {
+            cache.clearLocal();
+        } else {
+            cache.evictLocal(target[1]);
+        }
+        log.debug("[캐시 무효화] 수신 - cache: {}, key: {}", target[0], target[1] == null ? "*" : target[1]);
+    }
+
+    private com.github.benmanes.caffeine.cache.Cache<String, Object> newLocalCache() {
+        return Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(localTtl)
+                .build();
+    }
+}
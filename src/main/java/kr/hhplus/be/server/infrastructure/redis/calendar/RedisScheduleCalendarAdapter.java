@@ -0,0 +1,106 @@
+package kr.hhplus.be.server.infrastructure.redis.calendar;
+
+import kr.hhplus.be.server.application.port.out.ScheduleCalendarPort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 예약 가능 날짜 색인 (Redis)
+ *
+ * - calendar:open-dates          ZSET  날짜(yyyy-MM-dd) → epoch day, 예약 가능 일정이 있는 날짜만
+ * - calendar:open-schedules      HASH  날짜 → 예약 가능 일정 수 (닫히면 차감, 0이 되면 날짜 제거)
+ * - calendar:open-schedule-dates HASH  예약 가능 일정 ID → 날짜 (닫기/열기를 일정 단위로 한 번만 반영)
+ * - calendar:covered-until       색인이 덮는 마지막 날짜 (epoch day), 없으면 색인 없음
+ *
+ * 조회는 파이프라인 한 번 (covered-until + ZRANGEBYSCORE)
+ */
+@Component
+public class RedisScheduleCalendarAdapter implements ScheduleCalendarPort {
+
+    private static final String OPEN_DATES = "calendar:open-dates";
+    private static final String OPEN_SCHEDULES = "calendar:open-schedules";
+    private static final String OPEN_SCHEDULE_DATES = "calendar:open-schedule-dates";
+    private static final String COVERED_UNTIL = "calendar:covered-until";
+
+    private static final RedisScript<Long> REPLACE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/replace_calendar.lua"), Long.class);
+    private static final RedisScript<Long> CLOSE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/close_calendar_schedule.lua"), Long.class);
+    private static final RedisScript<Long> OPEN_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/open_calendar_schedule.lua"), Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Value("${app.calendar.ttl-seconds:600}")
+    private long ttlSeconds;
+
+    public RedisScheduleCalendarAdapter(RedisTemplate<String, String> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public Optional<List<LocalDate>> findOpenDates(LocalDate from, LocalDate to) {
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.stringCommands().get(raw(COVERED_UNTIL));
+            connection.zSetCommands().zRangeByScore(raw(OPEN_DATES), from.toEpochDay(), to.toEpochDay());
+            return null;
+        });
+
+        Object coveredUntil = results.get(0);
+        if (coveredUntil == null || Long.parseLong(coveredUntil.toString()) < to.toEpochDay()) {
+            return Optional.empty();
+        }
+
+        List<LocalDate> dates = new ArrayList<>();
+        if (results.get(1) instanceof Set<?> members) {
+            for (Object member : members) {
+                dates.add(LocalDate.parse(member.toString()));
+            }
+        }
+        return Optional.of(dates);
+    }
+
+    @Override
+    public void replace(Map<Long, LocalDate> openSchedules, LocalDate coveredUntil) {
+        List<String> args = new ArrayList<>(2 + openSchedules.size() * 3);
+        args.add(String.valueOf(ttlSeconds));
+        args.add(String.valueOf(coveredUntil.toEpochDay()));
+        openSchedules.forEach((scheduleId, date) -> {
+            args.add(String.valueOf(scheduleId));
+            args.add(date.toString());
+            args.add(String.valueOf(date.toEpochDay()));
+        });
+
+        redisTemplate.execute(REPLACE_SCRIPT,
+                List.of(OPEN_DATES, OPEN_SCHEDULES, OPEN_SCHEDULE_DATES, COVERED_UNTIL), args.toArray());
+    }
+
+    @Override
+    public void closeSchedule(Long scheduleId) {
+        redisTemplate.execute(CLOSE_SCRIPT,
+                List.of(OPEN_DATES, OPEN_SCHEDULES, OPEN_SCHEDULE_DATES), String.valueOf(scheduleId));
+    }
+
+    @Override
+    public void openSchedule(Long scheduleId, LocalDate date) {
+        redisTemplate.execute(OPEN_SCRIPT,
+                List.of(OPEN_DATES, OPEN_SCHEDULES, OPEN_SCHEDULE_DATES, COVERED_UNTIL),
+                String.valueOf(scheduleId), date.toString(), String.valueOf(date.toEpochDay()));
+    }
+
+    private static byte[] raw(String key) {
+        return key.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -1,5 +1,12 @@
 package kr.hhplus.be.server.infrastructure.redis.config;
 
+import kr.hhplus.be.server.infrastructure.redis.cache.CacheInvalidationPublisher;
+import kr.hhplus.be.server.infrastructure.redis.cache.CompactCacheValueSerializer;
+import kr.hhplus.be.server.infrastructure.redis.cache.StampedeProtectedCacheManager;
+import kr.hhplus.be.server.infrastructure.redis.cache.TwoLevelCacheManager;
+import kr.hhplus.be.server.infrastructure.redis.lock.RedisDistributedLock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -7,11 +14,15 @@ import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.time.Duration;
+import java.util.Set;
 
 @Configuration
 @EnableCaching
@@ -28,10 +39,73 @@ public class RedisConfig {
         return template;
     }
 
+    /**
+     * 캐시 매니저 (L1 Caffeine + L2 Redis)
+     * - app.cache.local.caches 에 있는 캐시만 L1 사용, 다른 인스턴스 L1 은 pub/sub 으로 무효화
+     * - app.cache.local.enabled=false 면 Redis 캐시만 사용
+     * - app.cache.stampede.caches 에 있는 Redis 캐시는 단일 로딩 + 소프트 락 + 조기 갱신(XFetch)
+     */
     @Bean
-    public RedisCacheManager cacheManager(RedisConnectionFactory connectionFactory) {
-        JdkSerializationRedisSerializer serializer = new JdkSerializationRedisSerializer();
+    public CacheManager cacheManager(RedisConnectionFactory connectionFactory,
+                                     CacheInvalidationPublisher cacheInvalidationPublisher,
+                                     @Value("${app.cache.local.enabled:true}") boolean localEnabled,
+                                     @Value("${app.cache.local.caches:concerts,concertDetail,schedule}") Set<String> localCaches,
+                                     @Value("${app.cache.local.max-size:10000}") long localMaxSize,
+                                     @Value("${app.cache.local.ttl-seconds:5}") long localTtlSeconds,
+                                     @Value("${app.cache.codec:compact}") String codec,
+                                     @Value("${app.cache.stampede.caches:schedule,concertRankings}") Set<String> stampedeCaches,
+                                     @Value("${app.cache.stampede.lock-ttl-ms:3000}") long stampedeLockTtlMs,
+                                     @Value("${app.cache.stampede.beta:1.0}") double stampedeBeta,
+                                     RedisDistributedLock distributedLock) {
+        RedisCacheManager redisCacheManager = redisCacheManager(connectionFactory, cacheValueSerializer(codec));
+        CacheManager protectedCacheManager = new StampedeProtectedCacheManager(
+                redisCacheManager,
+                stampedeCaches,
+                distributedLock,
+                Duration.ofMillis(stampedeLockTtlMs),
+                stampedeBeta
+        );
+        return new TwoLevelCacheManager(
+                protectedCacheManager,
+                localEnabled ? localCaches : Set.of(),
+                localMaxSize,
+                Duration.ofSeconds(localTtlSeconds),
+                cacheInvalidationPublisher
+        );
+    }
+
+    @Bean
+    public CacheInvalidationPublisher cacheInvalidationPublisher(RedisTemplate<String, String> redisTemplate) {
+        return new CacheInvalidationPublisher(redisTemplate);
+    }
+
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                            CacheManager cacheManager) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        if (cacheManager instanceof TwoLevelCacheManager twoLevelCacheManager) {
+            container.addMessageListener(twoLevelCacheManager,
+                    new ChannelTopic(CacheInvalidationPublisher.CHANNEL));
+        }
+        return container;
+    }
+
+    /**
+     * 캐시 값 직렬화 방식 (app.cache.codec)
+     * - compact: 캐시 DTO 전용 바이너리 (기본값, JDK 직렬화로 저장된 기존 값도 읽음)
+     * - jdk: JDK 직렬화
+     */
+    private RedisSerializer<Object> cacheValueSerializer(String codec) {
+        return switch (codec) {
+            case "compact" -> new CompactCacheValueSerializer();
+            case "jdk" -> new JdkSerializationRedisSerializer();
+            default -> throw new IllegalArgumentException("지원하지 않는 캐시 codec 입니다: " + codec);
+        };
+    }
 
+    private RedisCacheManager redisCacheManager(RedisConnectionFactory connectionFactory,
+                                                RedisSerializer<Object> serializer) {
         // 기본 캐시 설정
         RedisCacheConfiguration defaultConfig = RedisCacheConfiguration.defaultCacheConfig()
                 .disableCachingNullValues()
@@ -49,12 +123,14 @@ public class RedisConfig {
         RedisCacheConfiguration scheduleConfig = defaultConfig.entryTtl(Duration.ofMinutes(1));
         RedisCacheConfiguration rankingConfig = defaultConfig.entryTtl(Duration.ofSeconds(10));
 
-        return RedisCacheManager.builder(connectionFactory)
+        RedisCacheManager cacheManager = RedisCacheManager.builder(connectionFactory)
                 .cacheDefaults(defaultConfig.entryTtl(Duration.ofMinutes(10)))
                 .withCacheConfiguration("concerts", concertsConfig)
                 .withCacheConfiguration("concertDetail", concertDetailConfig)
                 .withCacheConfiguration("schedule", scheduleConfig)
                 .withCacheConfiguration("concertRankings", rankingConfig)
                 .build();
+        cacheManager.afterPropertiesSet();
+        return cacheManager;
     }
 }
\ No newline at end of file
@@ -3,17 +3,20 @@ package kr.hhplus.be.server.infrastructure.redis.lock;
 import kr.hhplus.be.server.domain.reservation.SeatIdentifier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
+import java.util.List;
 import java.util.UUID;
 import java.util.function.Supplier;
 
 /**
  * Redis 기반 분산락 구현
  * - SETNX를 이용한 락 획득
- * - 락 소유권 확인 후 안전한 락 해제
+ * - 락 소유권 확인 후 안전한 락 해제 (Lua 스크립트로 확인과 삭제를 원자 실행)
  * - Retry 로직 포함
  */
 @Component
@@ -27,6 +30,9 @@ public class RedisDistributedLock {
     }
     private static final Logger log = LoggerFactory.getLogger(RedisDistributedLock.class);
 
+    private static final RedisScript<Long> RELEASE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/release_lock.lua"), Long.class);
+
     private final RedisTemplate<String, String> redisTemplate;
 
     public RedisDistributedLock(RedisTemplate<String, String> redisTemplate) {
@@ -86,10 +92,16 @@ public class RedisDistributedLock {
      * @return 획득 성공 여부
      */
     public boolean tryLock(String key, String value, long ttlSeconds) {
-        Boolean success = redisTemplate.opsForValue()
-                .setIfAbsent(key, value, Duration.ofSeconds(ttlSeconds));
+        boolean success = tryLock(key, value, Duration.ofSeconds(ttlSeconds));
         log.info("tryLock 호출 - key: {}, ttl: {}초, 결과: {}", key, ttlSeconds, success);
-        return Boolean.TRUE.equals(success);
+        return success;
+    }
+
+    /**
+     * 락 획득 시도 (밀리초 단위 TTL, 로그 없음 - 캐시 조회처럼 호출이 잦은 경로용)
+     */
+    public boolean tryLock(String key, String value, Duration ttl) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, value, ttl));
     }
 
     /**
@@ -97,19 +109,11 @@ public class RedisDistributedLock {
      *
      * @param key 락 키
      * @param value 락 값 (내 락인지 확인용)
-     * @return 해제 성공 여부
+     * @return 해제 성공 여부 (이미 만료되었거나 다른 소유자면 false)
      */
     public boolean unlock(String key, String value) {
-        String currentValue = redisTemplate.opsForValue().get(key);
-
-        // 내 락인지 확인 후 삭제
-        if (value.equals(currentValue)) {
-            redisTemplate.delete(key);
-            return true;
-        }
-
-        // 이미 만료되었거나 다른 소유자
-        return false;
+        Long deleted = redisTemplate.execute(RELEASE_SCRIPT, List.of(key), value);
+        return deleted != null && deleted == 1L;
     }
 
     private void sleep(long millis) {
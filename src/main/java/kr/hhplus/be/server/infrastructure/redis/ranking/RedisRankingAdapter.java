@@ -1,12 +1,23 @@
 package kr.hhplus.be.server.infrastructure.redis.ranking;
 
 import kr.hhplus.be.server.application.port.out.RankingPort;
+import kr.hhplus.be.server.application.port.out.RankingPort.RankedSchedule;
+import kr.hhplus.be.server.application.port.out.RankingPort.SaleResult;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -21,6 +32,21 @@ public class RedisRankingAdapter implements RankingPort {
     private static final String VELOCITY_RANKING = "ranking:velocity:current";
     private static final String SOLDOUT_RANKING = "ranking:soldout:fastest";
     private static final String SCHEDULE_STATS = "stats:schedule:";
+    private static final String VELOCITY_WINDOW = "velocity:window:";
+
+    // 판매 속도 갱신 스크립트 1회당 공연 수
+    private static final int REFRESH_CHUNK_SIZE = 200;
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> RECORD_SALE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/record_sale.lua"), List.class);
+
+    // record_sale.lua 상태 코드 순서
+    private static final SaleResult.Status[] SALE_STATUSES = {
+            SaleResult.Status.APPLIED,
+            SaleResult.Status.ALREADY_SOLD_OUT,
+            SaleResult.Status.TOTAL_SEATS_UNKNOWN
+    };
 
     @Override
     public void saveStats(String scheduleId, Map<String, String> stats) {
@@ -40,58 +66,128 @@ public class RedisRankingAdapter implements RankingPort {
     }
 
     @Override
-    public long incrementSoldCount(String scheduleId, int increment) {
-        String key = SCHEDULE_STATS + scheduleId;
-
-        // Redis HINCRBY는 atomic 연산
-        Long newCount = redisTemplate.opsForHash().increment(key, "soldCount", increment);
-
-        // lastSaleTime도 함께 업데이트
-        redisTemplate.opsForHash().put(key, "lastSaleTime",
-                String.valueOf(System.currentTimeMillis()));
-
-        return newCount != null ? newCount : increment;
+    public Map<String, Map<String, String>> getStatsBulk(Collection<String> scheduleIds) {
+        List<String> ids = new ArrayList<>(scheduleIds);
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String id : ids) {
+                connection.hashCommands().hGetAll(raw(SCHEDULE_STATS + id));
+            }
+            return null;
+        });
+
+        Map<String, Map<String, String>> statsById = new LinkedHashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            Map<String, String> stats = new HashMap<>();
+            if (results.get(i) instanceof Map<?, ?> hashEntries) {
+                hashEntries.forEach((k, v) -> stats.put(k.toString(), v.toString()));
+            }
+            statsById.put(ids.get(i), stats);
+        }
+        return statsById;
     }
 
     @Override
-    public long decrementSoldCount(String scheduleId, int decrement) {
-        String key = SCHEDULE_STATS + scheduleId;
-
-        // Redis HINCRBY로 음수 값을 전달하여 차감 (atomic 연산)
-        Long newCount = redisTemplate.opsForHash().increment(key, "soldCount", -decrement);
-
-        // lastCancelTime 업데이트
-        redisTemplate.opsForHash().put(key, "lastCancelTime",
-                String.valueOf(System.currentTimeMillis()));
-
-        return newCount != null ? Math.max(newCount, 0) : 0;  // 음수 방지
+    public SaleResult recordSale(String scheduleId, int seatCount, int totalSeatsHint, long now) {
+        return executeRecordSale(List.of(scheduleId), List.of(seatCount), List.of(totalSeatsHint), now)
+                .get(scheduleId);
     }
 
     @Override
-    public boolean setStartTimeIfAbsent(String scheduleId, long startTime) {
-        String key = SCHEDULE_STATS + scheduleId;
-
-        // Redis HSETNX는 atomic 연산 (없을 때만 set)
-        Boolean success = redisTemplate.opsForHash().putIfAbsent(key, "startTime", String.valueOf(startTime));
-
-        return Boolean.TRUE.equals(success);
+    public Map<String, SaleResult> recordSales(Map<String, Integer> seatCounts, long now) {
+        if (seatCounts.isEmpty()) {
+            return Map.of();
+        }
+        List<String> ids = new ArrayList<>(seatCounts.keySet());
+        List<Integer> deltas = ids.stream().map(seatCounts::get).toList();
+        List<Integer> hints = ids.stream().map(id -> 0).toList();
+        return executeRecordSale(ids, deltas, hints, now);
     }
 
     @Override
-    public void updateVelocityRanking(String scheduleId, double score) {
-        redisTemplate.opsForZSet().add(VELOCITY_RANKING, "schedule:" + scheduleId, score);
+    public Map<String, SaleResult> refreshVelocities(long now) {
+        // 점수가 0보다 큰 멤버만 (이미 0으로 내려간 공연은 다시 판매될 때까지 갱신 불필요)
+        Set<String> members = redisTemplate.opsForZSet()
+                .rangeByScore(VELOCITY_RANKING, Double.MIN_VALUE, Double.POSITIVE_INFINITY);
+        if (members == null || members.isEmpty()) {
+            return Map.of();
+        }
+
+        List<String> ids = members.stream()
+                .filter(member -> member.startsWith("schedule:"))
+                .map(member -> member.substring("schedule:".length()))
+                .toList();
+
+        // 증감 0 = 윈도우만 현재 시각으로 밀고 랭킹 점수 갱신 (스크립트 1회가 너무 길어지지 않도록 나눠 실행)
+        Map<String, SaleResult> results = new LinkedHashMap<>();
+        for (int from = 0; from < ids.size(); from += REFRESH_CHUNK_SIZE) {
+            List<String> chunk = ids.subList(from, Math.min(from + REFRESH_CHUNK_SIZE, ids.size()));
+            List<Integer> zeros = chunk.stream().map(id -> 0).toList();
+            results.putAll(executeRecordSale(chunk, zeros, zeros, now));
+        }
+        return results;
     }
 
-    @Override
-    public void updateSoldOutRanking(String scheduleId, long seconds) {
-        redisTemplate.opsForZSet().add(SOLDOUT_RANKING, "schedule:" + scheduleId, (double) seconds);
+    /**
+     * record_sale.lua 실행 (공연 수와 무관하게 왕복 1회, 스크립트 전체가 원자적으로 실행)
+     */
+    private Map<String, SaleResult> executeRecordSale(List<String> ids, List<Integer> deltas,
+                                                      List<Integer> hints, long now) {
+        List<String> keys = new ArrayList<>(ids.size() * 2 + 2);
+        keys.add(VELOCITY_RANKING);
+        keys.add(SOLDOUT_RANKING);
+
+        List<String> args = new ArrayList<>(ids.size() * 3 + 1);
+        args.add(String.valueOf(now));
+        for (int i = 0; i < ids.size(); i++) {
+            keys.add(SCHEDULE_STATS + ids.get(i));
+            keys.add(VELOCITY_WINDOW + ids.get(i));
+            args.add(String.valueOf(deltas.get(i)));
+            args.add("schedule:" + ids.get(i));
+            args.add(String.valueOf(hints.get(i)));
+        }
+
+        List<?> rows = redisTemplate.execute(RECORD_SALE_SCRIPT, keys, args.toArray());
+
+        Map<String, SaleResult> results = new LinkedHashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            List<?> row = (List<?>) rows.get(i);
+            long soldOutSeconds = toLong(row.get(4));
+            results.put(ids.get(i), new SaleResult(
+                    SALE_STATUSES[(int) toLong(row.get(0))],
+                    toLong(row.get(1)),
+                    Double.parseDouble(row.get(2).toString()),
+                    toLong(row.get(3)) == 1,
+                    soldOutSeconds >= 0 ? soldOutSeconds : null));
+        }
+        return results;
     }
 
-    @Override
-    public Set<String> getTopByVelocity(int limit) {
-        Set<String> result = redisTemplate.opsForZSet().reverseRange(VELOCITY_RANKING, 0, limit - 1);
+    private static long toLong(Object value) {
+        return value instanceof Number number ? number.longValue() : Long.parseLong(value.toString());
+    }
 
-        return result != null ? result : Set.of();
+    @Override
+    public List<RankedSchedule> getTopByVelocityWithScores(int limit) {
+        Set<ZSetOperations.TypedTuple<String>> tuples =
+                redisTemplate.opsForZSet().reverseRangeWithScores(VELOCITY_RANKING, 0, limit - 1);
+        if (tuples == null) {
+            return List.of();
+        }
+
+        List<RankedSchedule> ranked = new ArrayList<>(tuples.size());
+        for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+            String member = tuple.getValue();
+            if (member == null || !member.startsWith("schedule:")) {
+                continue;
+            }
+            double score = tuple.getScore() != null ? tuple.getScore() : 0.0;
+            ranked.add(new RankedSchedule(member.substring("schedule:".length()), score));
+        }
+        return ranked;
     }
 
     @Override
@@ -102,9 +198,7 @@ public class RedisRankingAdapter implements RankingPort {
         return result != null ? result : Set.of();
     }
 
-    @Override
-    public void removeFromVelocityRanking(String scheduleId) {
-        redisTemplate.opsForZSet().remove(VELOCITY_RANKING, "schedule:" + scheduleId);
-        log.debug("랭킹에서 제거 - scheduleId: {}", scheduleId);
+    private static byte[] raw(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
     }
-}
\ No newline at end of file
+}
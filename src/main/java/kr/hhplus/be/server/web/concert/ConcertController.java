@@ -1,8 +1,12 @@
 package kr.hhplus.be.server.web.concert;
 
+import kr.hhplus.be.server.application.port.in.ScheduleCancellationUseCase;
+import kr.hhplus.be.server.application.port.in.ScheduleCancellationUseCase.CancellationProgress;
 import kr.hhplus.be.server.application.service.ConcertService;
 import kr.hhplus.be.server.web.concert.dto.ConcertDto;
+import kr.hhplus.be.server.web.concert.dto.ScheduleCancellationResponse;
 import kr.hhplus.be.server.web.concert.dto.ScheduleDto;
+import kr.hhplus.be.server.web.concert.dto.ScheduleSeatListDto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
@@ -18,6 +22,7 @@ public class ConcertController {
 
     // UseCase 대신 Service 직접 주입
     private final ConcertService concertService;
+    private final ScheduleCancellationUseCase scheduleCancellationUseCase;
 
     @GetMapping
     public ResponseEntity<List<ConcertDto>> getAllConcerts() {
@@ -40,9 +45,48 @@ public class ConcertController {
         return ResponseEntity.ok(schedule);
     }
 
+    // 좌석 번호 배열 응답 (기존 클라이언트용, 기본 응답은 구간 목록)
+    @GetMapping(value = "/{concertId}/schedule", params = "seatFormat=list")
+    public ResponseEntity<ScheduleSeatListDto> getConcertScheduleSeatList(
+            @PathVariable Long concertId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        ScheduleDto schedule = concertService.getConcertSchedule(concertId, date);
+        return ResponseEntity.ok(ScheduleSeatListDto.from(schedule));
+    }
+
     @GetMapping("/{concertId}")
     public ResponseEntity<ConcertDto> getConcertDetail(@PathVariable Long concertId) {
         ConcertDto concert = concertService.getConcertDetail(concertId);
         return ResponseEntity.ok(concert);
     }
-}
\ No newline at end of file
+
+    // 공연 일정 일괄 취소 요청 (처리는 비동기, 진행 상황은 GET으로 조회)
+    @PostMapping("/schedules/{scheduleId}/cancellation")
+    public ResponseEntity<ScheduleCancellationResponse> cancelSchedule(
+            @PathVariable Long scheduleId,
+            @RequestParam(required = false) String reason) {
+        CancellationProgress progress = scheduleCancellationUseCase.cancelSchedule(
+                new ScheduleCancellationUseCase.CancelScheduleCommand(scheduleId, reason));
+        return ResponseEntity.accepted().body(toResponse(progress));
+    }
+
+    @GetMapping("/schedules/{scheduleId}/cancellation")
+    public ResponseEntity<ScheduleCancellationResponse> getScheduleCancellation(@PathVariable Long scheduleId) {
+        return scheduleCancellationUseCase.getProgress(scheduleId)
+                .map(progress -> ResponseEntity.ok(toResponse(progress)))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    private ScheduleCancellationResponse toResponse(CancellationProgress progress) {
+        return new ScheduleCancellationResponse(
+                progress.scheduleId(),
+                progress.status(),
+                progress.totalCount(),
+                progress.cancelledCount(),
+                progress.refundedAmount(),
+                progress.progressPercent(),
+                progress.requestedAt(),
+                progress.completedAt()
+        );
+    }
+}
@@ -0,0 +1,14 @@
+package kr.hhplus.be.server.web.concert.dto;
+
+import java.time.LocalDateTime;
+
+public record ScheduleCancellationResponse(
+        Long scheduleId,
+        String status,
+        long totalCount,
+        long cancelledCount,
+        long refundedAmount,
+        int progressPercent,
+        LocalDateTime requestedAt,
+        LocalDateTime completedAt
+) {}
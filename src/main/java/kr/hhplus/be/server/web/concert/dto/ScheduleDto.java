@@ -1,14 +1,41 @@
 package kr.hhplus.be.server.web.concert.dto;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
 import java.time.LocalDate;
 import java.util.List;
 import java.io.Serializable;
 
 
+/**
+ * 콘서트 일정 조회 응답
+ *
+ * - availableSeatRanges: 가용 좌석을 [from, to] 구간으로 압축한 목록 (5만석 공연도 구간 수만큼의 크기)
+ * - 좌석 번호 배열이 필요한 클라이언트는 seatFormat=list 로 요청 (ScheduleSeatListDto)
+ */
 public record ScheduleDto(
         Long scheduleId,
         Long concertId,
         LocalDate concertDate,
         int totalSeats,
-        List<Integer> availableSeats
-) implements Serializable {}
\ No newline at end of file
+        @JsonIgnore List<Integer> availableSeats
+) implements Serializable {
+
+    @JsonCreator
+    public static ScheduleDto of(
+            @JsonProperty("scheduleId") Long scheduleId,
+            @JsonProperty("concertId") Long concertId,
+            @JsonProperty("concertDate") LocalDate concertDate,
+            @JsonProperty("totalSeats") int totalSeats,
+            @JsonProperty("availableSeatRanges") List<SeatRanges.Range> availableSeatRanges) {
+        return new ScheduleDto(scheduleId, concertId, concertDate, totalSeats,
+                availableSeatRanges == null ? null : SeatRanges.ofRanges(availableSeatRanges));
+    }
+
+    @JsonProperty("availableSeatRanges")
+    public List<SeatRanges.Range> availableSeatRanges() {
+        return availableSeats == null ? null : SeatRanges.copyOf(availableSeats).ranges();
+    }
+}
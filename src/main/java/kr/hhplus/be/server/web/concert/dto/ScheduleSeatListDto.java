@@ -0,0 +1,28 @@
+package kr.hhplus.be.server.web.concert.dto;
+
+import java.time.LocalDate;
+
+/**
+ * 콘서트 일정 조회 응답 (좌석 번호 배열, seatFormat=list)
+ *
+ * - 구간 응답을 쓰지 않는 기존 클라이언트용, 가용 좌석 수만큼 응답이 커짐
+ * - int[] 로 내려 좌석마다 박싱/구간 탐색 없이 직렬화
+ */
+public record ScheduleSeatListDto(
+        Long scheduleId,
+        Long concertId,
+        LocalDate concertDate,
+        int totalSeats,
+        int[] availableSeats
+) {
+
+    public static ScheduleSeatListDto from(ScheduleDto schedule) {
+        return new ScheduleSeatListDto(
+                schedule.scheduleId(),
+                schedule.concertId(),
+                schedule.concertDate(),
+                schedule.totalSeats(),
+                schedule.availableSeats() == null ? null : SeatRanges.copyOf(schedule.availableSeats()).toIntArray()
+        );
+    }
+}
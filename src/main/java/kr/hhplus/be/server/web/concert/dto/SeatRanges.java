@@ -0,0 +1,202 @@
+package kr.hhplus.be.server.web.concert.dto;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * 연속 구간으로 압축한 좌석 번호 목록 (읽기 전용)
+ *
+ * - 좌석마다 Integer 를 두지 않고 [시작, 끝] 구간만 보관 → 5만석 공연도 빈 구간 수만큼의 메모리
+ * - size O(1), get / contains O(log 구간 수)
+ * - List<Integer> 로 동작하므로 기존 API 응답(좌석 번호 배열)과 equals 는 그대로
+ * - ranges() 로 [시작, 끝] 구간 목록을 그대로 내려줌 (대형 공연 응답 크기 축소)
+ */
+public final class SeatRanges extends AbstractList<Integer> implements RandomAccess, Serializable {
+
+    private static final SeatRanges EMPTY = new SeatRanges(new int[0], new int[0]);
+
+    private final int[] starts;      // 구간 시작 (포함)
+    private final int[] ends;        // 구간 끝 (포함)
+    private final int[] offsets;     // offsets[i] = i번째 구간 앞까지의 좌석 수
+    private final int size;
+    private final boolean ascending;  // 구간이 겹치지 않고 오름차순 (조회 결과는 항상 오름차순)
+
+    private SeatRanges(int[] starts, int[] ends) {
+        this.starts = starts;
+        this.ends = ends;
+        this.offsets = new int[starts.length];
+        int count = 0;
+        boolean sorted = true;
+        for (int i = 0; i < starts.length; i++) {
+            offsets[i] = count;
+            count += ends[i] - starts[i] + 1;
+            if (i > 0 && starts[i] <= ends[i - 1]) {
+                sorted = false;
+            }
+        }
+        this.size = count;
+        this.ascending = sorted;
+    }
+
+    /**
+     * from~to 중 bits 에 표시되지 않은 번호 (예: 전체 좌석 - 확정 좌석), 구간 수에 비례
+     */
+    public static SeatRanges clearBitsOf(BitSet bits, int from, int to) {
+        int[] starts = new int[8];
+        int[] ends = new int[8];
+        int count = 0;
+
+        int start = bits.nextClearBit(from);
+        while (start <= to) {
+            int next = bits.nextSetBit(start);
+            int end = (next < 0 || next > to) ? to : next - 1;
+            if (count == starts.length) {
+                starts = Arrays.copyOf(starts, count * 2);
+                ends = Arrays.copyOf(ends, count * 2);
+            }
+            starts[count] = start;
+            ends[count] = end;
+            count++;
+            start = bits.nextClearBit(end + 1);
+        }
+        return count == 0 ? EMPTY : new SeatRanges(Arrays.copyOf(starts, count), Arrays.copyOf(ends, count));
+    }
+
+    /**
+     * 구간 목록으로 생성 (캐시 역직렬화용)
+     */
+    public static SeatRanges ofRanges(int[] starts, int[] ends) {
+        if (starts.length != ends.length) {
+            throw new IllegalArgumentException("구간 시작/끝 개수가 다릅니다");
+        }
+        for (int i = 0; i < starts.length; i++) {
+            if (ends[i] < starts[i]) {
+                throw new IllegalArgumentException("잘못된 구간입니다: " + starts[i] + "~" + ends[i]);
+            }
+        }
+        return starts.length == 0 ? EMPTY : new SeatRanges(starts.clone(), ends.clone());
+    }
+
+    /**
+     * 구간 목록으로 생성 (API 응답 역직렬화용)
+     */
+    public static SeatRanges ofRanges(List<Range> ranges) {
+        int[] starts = new int[ranges.size()];
+        int[] ends = new int[ranges.size()];
+        for (int i = 0; i < starts.length; i++) {
+            starts[i] = ranges.get(i).from();
+            ends[i] = ranges.get(i).to();
+        }
+        return ofRanges(starts, ends);
+    }
+
+    /**
+     * 임의의 번호 목록을 순서 그대로 연속 구간으로 압축 (1씩 증가하는 구간 단위)
+     */
+    public static SeatRanges copyOf(List<Integer> seats) {
+        if (seats instanceof SeatRanges ranges) {
+            return ranges;
+        }
+        int[] starts = new int[8];
+        int[] ends = new int[8];
+        int count = 0;
+        for (Integer seat : seats) {
+            if (count > 0 && ends[count - 1] + 1 == seat) {
+                ends[count - 1] = seat;
+                continue;
+            }
+            if (count == starts.length) {
+                starts = Arrays.copyOf(starts, count * 2);
+                ends = Arrays.copyOf(ends, count * 2);
+            }
+            starts[count] = seat;
+            ends[count] = seat;
+            count++;
+        }
+        return count == 0 ? EMPTY : new SeatRanges(Arrays.copyOf(starts, count), Arrays.copyOf(ends, count));
+    }
+
+    /**
+     * 연속 좌석 구간 [from, to] (양 끝 포함)
+     */
+    public record Range(int from, int to) implements Serializable {}
+
+    /**
+     * 구간 목록 (구간 수에 비례, 좌석 단위 박싱 없음)
+     */
+    public List<Range> ranges() {
+        Range[] ranges = new Range[starts.length];
+        for (int i = 0; i < starts.length; i++) {
+            ranges[i] = new Range(starts[i], ends[i]);
+        }
+        return List.of(ranges);
+    }
+
+    /**
+     * 좌석 번호 배열 (구간 순서대로 펼침, 좌석 단위 get 탐색 없음)
+     */
+    public int[] toIntArray() {
+        int[] seats = new int[size];
+        int index = 0;
+        for (int i = 0; i < starts.length; i++) {
+            for (int seat = starts[i]; seat <= ends[i]; seat++) {
+                seats[index++] = seat;
+            }
+        }
+        return seats;
+    }
+
+    public int rangeCount() {
+        return starts.length;
+    }
+
+    public int rangeStart(int index) {
+        return starts[index];
+    }
+
+    public int rangeEnd(int index) {
+        return ends[index];
+    }
+
+    @Override
+    public Integer get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        int range = Arrays.binarySearch(offsets, index);
+        if (range < 0) {
+            range = -range - 2;  // index 를 포함하는 구간
+        }
+        return starts[range] + (index - offsets[range]);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        if (!(o instanceof Integer seat)) {
+            return false;
+        }
+        if (ascending) {
+            int range = Arrays.binarySearch(starts, seat);
+            if (range >= 0) {
+                return true;
+            }
+            range = -range - 2;  // seat 보다 앞에서 시작하는 마지막 구간
+            return range >= 0 && seat <= ends[range];
+        }
+        for (int i = 0; i < starts.length; i++) {
+            if (seat >= starts[i] && seat <= ends[i]) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
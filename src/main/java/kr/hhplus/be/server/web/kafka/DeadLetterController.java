@@ -0,0 +1,28 @@
+package kr.hhplus.be.server.web.kafka;
+
+import kr.hhplus.be.server.infrastructure.kafka.retry.DeadLetterReplayer;
+import kr.hhplus.be.server.infrastructure.kafka.retry.DeadLetterReplayer.ReplayResult;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * DLQ 운영 API
+ */
+@RestController
+@RequestMapping("/api/admin/dlq")
+@RequiredArgsConstructor
+public class DeadLetterController {
+    private final DeadLetterReplayer deadLetterReplayer;
+
+    /**
+     * DLQ 재처리
+     * 예: POST /api/admin/dlq/payment-requests/replay?max=100
+     */
+    @PostMapping("/{topic}/replay")
+    public ResponseEntity<ReplayResult> replay(
+            @PathVariable String topic,
+            @RequestParam(defaultValue = "100") int max) {
+        return ResponseEntity.ok(deadLetterReplayer.replay(topic, max));
+    }
+}
@@ -0,0 +1,15 @@
+-- 공연 일정 일괄 취소 작업 (진행 상황)
+-- 처리된 예약은 조회 대상 상태에서 빠지므로 재개 커서 없이 남은 행부터 처리
+-- (일정별 상태 범위 스캔은 V12 의 (concert_schedule_id, status, seat_number) 인덱스 사용)
+CREATE TABLE IF NOT EXISTS schedule_cancellation (
+    schedule_id          BIGINT PRIMARY KEY,
+    status               VARCHAR(20) NOT NULL,      -- IN_PROGRESS, COMPLETED
+    reason               VARCHAR(255) NULL,
+    total_count          BIGINT NOT NULL,           -- 요청 시점 확정 예약 수
+    cancelled_count      BIGINT NOT NULL DEFAULT 0,
+    refunded_amount      BIGINT NOT NULL DEFAULT 0,
+    requested_at         DATETIME(6) NOT NULL,
+    completed_at         DATETIME(6) NULL,
+    version              BIGINT NOT NULL DEFAULT 0,
+    KEY idx_schedule_cancellation_status (status)
+    ) ENGINE=InnoDB;
@@ -0,0 +1,14 @@
+-- 결제 요청 아웃박스 (예약 확정 트랜잭션에서 함께 INSERT, 릴레이가 Kafka로 발행)
+CREATE TABLE IF NOT EXISTS payment_outbox (
+    id              BIGINT AUTO_INCREMENT PRIMARY KEY,
+    reservation_id  VARCHAR(50) NOT NULL,
+    message_key     VARCHAR(100) NOT NULL,     -- Kafka 메시지 키 (userId)
+    payload         TEXT NOT NULL,             -- PaymentRequestMessage JSON
+    status          VARCHAR(20) NOT NULL,      -- PENDING, SENT, FAILED
+    attempts        INT NOT NULL DEFAULT 0,
+    created_at      DATETIME(6) NOT NULL,
+    sent_at         DATETIME(6) NULL,
+    claimed_until   DATETIME(6) NULL,          -- 릴레이 선점 기한 (발행 중, 지나면 다시 선점 가능)
+    KEY idx_payment_outbox_status_id (status, id),
+    KEY idx_payment_outbox_sent_at (sent_at)
+    ) ENGINE=InnoDB;
@@ -0,0 +1,6 @@
+-- 확정 좌석 조회를 reservation(CONFIRMED) 기준으로 통일 (날짜 색인의 매진 판정과 같은 기준)
+-- 일정별 확정 좌석 번호 커버링 인덱스
+-- (SELECT seat_number WHERE concert_schedule_id = ? AND status = 'CONFIRMED' 를 인덱스만으로 처리)
+-- 일정별 상태 범위 스캔(일괄 취소 청크 조회)도 이 인덱스 사용
+CREATE INDEX idx_reservation_schedule_status_seat
+    ON reservation (concert_schedule_id, status, seat_number);
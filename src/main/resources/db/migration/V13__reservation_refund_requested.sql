@@ -0,0 +1,14 @@
+-- 환불 대기 재발행 순서/한도
+-- 재발행해도 행이 바뀌지 않아 updated_at 순으로는 같은 오래된 건만 계속 재발행됨
+ALTER TABLE reservation
+    ADD COLUMN refund_requested_at DATETIME(6) NULL COMMENT '환불 요청(마지막 재발행) 시각',
+    ADD COLUMN refund_attempts INT NOT NULL DEFAULT 0 COMMENT '환불 요청 재발행 횟수';
+
+-- 기존 환불 대기 건은 마지막 변경 시각을 요청 시각으로
+UPDATE reservation
+SET refund_requested_at = updated_at
+WHERE status = 'REFUND_PENDING'
+  AND refund_requested_at IS NULL;
+
+CREATE INDEX idx_reservation_status_refund_requested
+    ON reservation (status, refund_requested_at);
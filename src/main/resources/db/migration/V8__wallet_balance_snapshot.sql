@@ -0,0 +1,17 @@
+-- 원장 기반 지갑 모드용 잔액 스냅샷
+-- 잔액 = 스냅샷 balance + (last_ledger_id 이후 원장 amount 합계)
+CREATE TABLE IF NOT EXISTS wallet_balance_snapshot (
+    user_id         BINARY(16) PRIMARY KEY,
+    balance         BIGINT NOT NULL,
+    last_ledger_id  BIGINT NOT NULL,            -- 이 ID까지의 원장이 balance에 반영됨
+    version         BIGINT NOT NULL DEFAULT 0,
+    updated_at      DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6),
+    KEY idx_snapshot_last_ledger (last_ledger_id)
+    ) ENGINE=InnoDB;
+
+-- 기존 user_wallet 잔액을 현재 원장 위치 기준 스냅샷으로 이관
+INSERT INTO wallet_balance_snapshot (user_id, balance, last_ledger_id)
+SELECT w.user_id,
+       w.balance,
+       (SELECT COALESCE(MAX(l.id), 0) FROM wallet_ledger l)
+FROM user_wallet w;
@@ -0,0 +1,34 @@
+-- wallet_ledger 월 단위 RANGE 파티셔닝
+-- MySQL 파티션 테이블은 모든 UNIQUE 키에 파티션 컬럼이 포함되어야 하므로
+-- (user_id, idempotency_key) 유니크 제약은 별도 멱등키 테이블로 이동한다.
+
+-- 1. 멱등키 테이블 (비파티션, 중복 방지 + 조회 전용)
+CREATE TABLE IF NOT EXISTS wallet_idempotency_key (
+    id               BIGINT AUTO_INCREMENT PRIMARY KEY,
+    user_id          BINARY(16) NOT NULL,
+    idempotency_key  VARCHAR(64) NOT NULL,
+    created_at       DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+    UNIQUE KEY uq_wallet_idem (user_id, idempotency_key),
+    KEY idx_idem_created_at (created_at)
+    ) ENGINE=InnoDB;
+
+INSERT INTO wallet_idempotency_key (user_id, idempotency_key, created_at)
+SELECT user_id, idempotency_key, created_at
+FROM wallet_ledger
+WHERE idempotency_key IS NOT NULL;
+
+-- 2. PK에 파티션 컬럼 포함
+ALTER TABLE wallet_ledger
+    DROP INDEX uq_wallet_idem,
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (id, created_at);
+
+-- 3. 월 단위 파티션 (이후 파티션은 WalletLedgerArchiveScheduler가 pmax를 분할해 추가)
+ALTER TABLE wallet_ledger
+    PARTITION BY RANGE COLUMNS (created_at) (
+        PARTITION p_history VALUES LESS THAN ('2026-10-01'),
+        PARTITION p202610   VALUES LESS THAN ('2026-11-01'),
+        PARTITION p202611   VALUES LESS THAN ('2026-12-01'),
+        PARTITION p202612   VALUES LESS THAN ('2027-01-01'),
+        PARTITION pmax      VALUES LESS THAN (MAXVALUE)
+    );
@@ -0,0 +1,23 @@
+-- 예약 가능 날짜 색인에서 일정 하나를 닫음 (매진, 일괄 취소)
+--
+-- KEYS[1]  예약 가능 날짜 ZSET (멤버: yyyy-MM-dd, 점수: epoch day)
+-- KEYS[2]  날짜별 예약 가능 일정 수 HASH
+-- KEYS[3]  예약 가능 일정 HASH (일정 ID → yyyy-MM-dd)
+-- ARGV[1]  일정 ID
+--
+-- 색인에 없는 일정(이미 닫힘, 범위 밖, 색인 만료)은 무시 → 중복 호출에도 한 번만 차감
+-- 반환: 날짜에 남은 일정 수 (-1: 색인에 없음)
+
+local date = redis.call('HGET', KEYS[3], ARGV[1])
+if not date then
+    return -1
+end
+redis.call('HDEL', KEYS[3], ARGV[1])
+
+local left = redis.call('HINCRBY', KEYS[2], date, -1)
+if left <= 0 then
+    redis.call('HDEL', KEYS[2], date)
+    redis.call('ZREM', KEYS[1], date)
+    return 0
+end
+return left
@@ -0,0 +1,26 @@
+-- 예약 가능 날짜 색인에 닫혔던 일정 하나를 다시 엶 (예약 취소로 좌석이 풀림)
+--
+-- KEYS[1]  예약 가능 날짜 ZSET (멤버: yyyy-MM-dd, 점수: epoch day)
+-- KEYS[2]  날짜별 예약 가능 일정 수 HASH
+-- KEYS[3]  예약 가능 일정 HASH (일정 ID → yyyy-MM-dd)
+-- KEYS[4]  색인이 덮는 마지막 날짜 (epoch day)
+-- ARGV[1]  일정 ID
+-- ARGV[2]  날짜 (yyyy-MM-dd)
+-- ARGV[3]  날짜 (epoch day)
+--
+-- 색인이 없거나 범위 밖이면 무시 → 다음 재구성 때 DB 기준으로 반영
+-- 이미 열린 일정은 무시 → 중복 호출에도 한 번만 증가
+-- 반환: 날짜의 예약 가능 일정 수 (-1: 반영 안 함)
+
+local coveredUntil = redis.call('GET', KEYS[4])
+if not coveredUntil or tonumber(ARGV[3]) > tonumber(coveredUntil) then
+    return -1
+end
+
+if redis.call('HSETNX', KEYS[3], ARGV[1], ARGV[2]) == 0 then
+    return -1
+end
+
+local open = redis.call('HINCRBY', KEYS[2], ARGV[2], 1)
+redis.call('ZADD', KEYS[1], ARGV[3], ARGV[2])
+return open
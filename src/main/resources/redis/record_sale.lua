@@ -0,0 +1,131 @@
+-- 판매/취소 증감 원자 반영 (공연 여러 개를 한 번에)
+--
+-- KEYS[1]      판매 속도 랭킹 ZSET
+-- KEYS[2]      매진 속도 랭킹 ZSET
+-- KEYS[2j+1]   j번째 공연 통계 HASH
+-- KEYS[2j+2]   j번째 공연 판매 속도 윈도우 HASH (초 단위 버킷 링 버퍼)
+-- ARGV[1]      현재 시각 (epoch ms)
+-- ARGV[3j-1], ARGV[3j], ARGV[3j+1]  j번째 공연의 증감, 랭킹 멤버, 총 좌석 수 힌트 (0 = 모름)
+--
+-- 증감이 0이면 윈도우만 현재 시각으로 밀고 랭킹 점수를 갱신 (이미 랭킹에 있는 공연만)
+-- 랭킹 점수 = 최근 1분 초당 판매량, 통계 HASH 에 velocity1m / velocity5m 도 기록
+--
+-- 반환: 공연별 {상태, 판매 수량, 최근 1분 판매 속도(문자열), 이번에 매진됐는지, 매진 소요 초}
+--   상태 0: 반영, 1: 이미 매진이라 판매 무시, 2: 총 좌석 수를 몰라 반영 안 함 (힌트를 채워 재호출)
+
+local SHORT_WINDOW = 60
+local LONG_WINDOW = 300
+
+local now = tonumber(ARGV[1])
+local nowSec = math.floor(now / 1000)
+local results = {}
+
+-- 윈도우를 nowSec 까지 밀고 {1분 합계, 5분 합계, 기준 초} 반환
+local function advance(windowKey)
+    local head = tonumber(redis.call('HGET', windowKey, 'head'))
+    if not head or nowSec - head >= LONG_WINDOW then
+        redis.call('DEL', windowKey)
+        return 0, 0, nowSec
+    end
+    local shortSum = tonumber(redis.call('HGET', windowKey, 'short')) or 0
+    local longSum = tonumber(redis.call('HGET', windowKey, 'long')) or 0
+    for second = head + 1, nowSec do
+        shortSum = shortSum - (tonumber(redis.call('HGET', windowKey, 'b' .. ((second - SHORT_WINDOW) % LONG_WINDOW))) or 0)
+        local bucket = 'b' .. (second % LONG_WINDOW)
+        longSum = longSum - (tonumber(redis.call('HGET', windowKey, bucket)) or 0)
+        redis.call('HDEL', windowKey, bucket)
+    end
+    return shortSum, longSum, math.max(head, nowSec)
+end
+
+-- 판매 시작 직후에는 윈도우 길이 대신 경과 시간으로 나눔 (최소 1초)
+local function rate(sum, windowSeconds, headSec, startTime)
+    if not startTime or sum <= 0 then
+        return 0
+    end
+    local elapsed = math.max(headSec - math.floor(startTime / 1000) + 1, 1)
+    return sum / math.min(windowSeconds, elapsed)
+end
+
+for j = 1, (#KEYS - 2) / 2 do
+    local key = KEYS[2 * j + 1]
+    local windowKey = KEYS[2 * j + 2]
+    local delta = tonumber(ARGV[3 * j - 1])
+    local member = ARGV[3 * j]
+    local seatsHint = tonumber(ARGV[3 * j + 1])
+
+    local soldOutTime = redis.call('HGET', key, 'soldOutTime')
+    local totalSeats = tonumber(redis.call('HGET', key, 'totalSeats')) or (seatsHint > 0 and seatsHint or nil)
+
+    if delta > 0 and soldOutTime then
+        local sold = tonumber(redis.call('HGET', key, 'soldCount')) or 0
+        results[j] = {1, sold, '0', 0, -1}
+    elseif delta > 0 and not totalSeats then
+        results[j] = {2, 0, '0', 0, -1}
+    elseif delta == 0 and redis.call('EXISTS', windowKey) == 0 then
+        -- 윈도우가 이미 만료됨 (오래 판매 없음): 랭킹 점수만 0으로 내림
+        local sold = tonumber(redis.call('HGET', key, 'soldCount')) or 0
+        if redis.call('HEXISTS', key, 'startTime') == 1 then
+            redis.call('ZADD', KEYS[1], 'XX', 0, member)
+            redis.call('HSET', key, 'velocity1m', '0', 'velocity5m', '0')
+        end
+        results[j] = {0, sold, '0', 0, -1}
+    else
+        if delta > 0 then
+            redis.call('HSETNX', key, 'startTime', now)
+            redis.call('HSET', key, 'lastSaleTime', now)
+        elseif delta < 0 then
+            redis.call('HSET', key, 'lastCancelTime', now)
+        end
+
+        local sold
+        if delta ~= 0 then
+            sold = redis.call('HINCRBY', key, 'soldCount', delta)
+        else
+            sold = tonumber(redis.call('HGET', key, 'soldCount')) or 0
+        end
+        if sold < 0 then
+            sold = 0
+        end
+
+        -- 판매 속도 윈도우 갱신
+        local shortSum, longSum, headSec = advance(windowKey)
+        if delta ~= 0 then
+            local bucket = 'b' .. (headSec % LONG_WINDOW)
+            redis.call('HINCRBY', windowKey, bucket, delta)
+            shortSum = shortSum + delta
+            longSum = longSum + delta
+        end
+        redis.call('HSET', windowKey, 'head', headSec, 'short', shortSum, 'long', longSum)
+        redis.call('EXPIRE', windowKey, LONG_WINDOW * 2)
+
+        local startTime = tonumber(redis.call('HGET', key, 'startTime'))
+        local velocity = rate(shortSum, SHORT_WINDOW, headSec, startTime)
+        local longVelocity = rate(longSum, LONG_WINDOW, headSec, startTime)
+
+        if delta < 0 and sold == 0 then
+            -- 모든 예약이 취소된 경우 랭킹에서 제거
+            redis.call('ZREM', KEYS[1], member)
+        elseif delta > 0 and startTime then
+            redis.call('ZADD', KEYS[1], velocity, member)
+        elseif startTime then
+            redis.call('ZADD', KEYS[1], 'XX', velocity, member)
+        end
+        if startTime then
+            redis.call('HSET', key, 'velocity1m', tostring(velocity), 'velocity5m', tostring(longVelocity))
+        end
+
+        local soldOutNow = 0
+        local soldOutSeconds = -1
+        if delta > 0 and not soldOutTime and sold >= totalSeats and startTime then
+            soldOutSeconds = math.floor((now - startTime) / 1000)
+            redis.call('HSET', key, 'soldOutTime', now, 'soldOutSeconds', soldOutSeconds)
+            redis.call('ZADD', KEYS[2], soldOutSeconds, member)
+            soldOutNow = 1
+        end
+
+        results[j] = {0, sold, tostring(velocity), soldOutNow, soldOutSeconds}
+    end
+end
+
+return results
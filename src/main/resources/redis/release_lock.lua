@@ -0,0 +1,12 @@
+-- 락 해제 (내 락일 때만 삭제)
+--
+-- KEYS[1]  락 키
+-- ARGV[1]  락 값 (획득 시 저장한 소유자 토큰)
+--
+-- GET 과 DEL 사이에 TTL 이 만료되어 다른 소유자가 락을 잡아도 그 락을 지우지 않도록 한 번에 실행
+-- 반환: 1 해제, 0 이미 만료되었거나 다른 소유자
+
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+    return redis.call('DEL', KEYS[1])
+end
+return 0
@@ -0,0 +1,23 @@
+-- 예약 가능 날짜 색인 통째로 교체
+--
+-- KEYS[1]  예약 가능 날짜 ZSET (멤버: yyyy-MM-dd, 점수: epoch day)
+-- KEYS[2]  날짜별 예약 가능 일정 수 HASH
+-- KEYS[3]  예약 가능 일정 HASH (일정 ID → yyyy-MM-dd)
+-- KEYS[4]  색인이 덮는 마지막 날짜 (epoch day)
+-- ARGV[1]  TTL (초)
+-- ARGV[2]  색인 마지막 날짜 (epoch day)
+-- ARGV[3k], ARGV[3k+1], ARGV[3k+2]  k번째 일정 ID, 날짜, epoch day
+
+redis.call('DEL', KEYS[1], KEYS[2], KEYS[3])
+
+for k = 3, #ARGV, 3 do
+    redis.call('HSET', KEYS[3], ARGV[k], ARGV[k + 1])
+    redis.call('HINCRBY', KEYS[2], ARGV[k + 1], 1)
+    redis.call('ZADD', KEYS[1], ARGV[k + 2], ARGV[k + 1])
+end
+
+redis.call('EXPIRE', KEYS[1], ARGV[1])
+redis.call('EXPIRE', KEYS[2], ARGV[1])
+redis.call('EXPIRE', KEYS[3], ARGV[1])
+redis.call('SET', KEYS[4], ARGV[2], 'EX', ARGV[1])
+return 1
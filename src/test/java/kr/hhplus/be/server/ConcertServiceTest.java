@@ -1,11 +1,12 @@
 package kr.hhplus.be.server;
 
+import kr.hhplus.be.server.application.port.in.ScheduleCalendarUseCase;
 import kr.hhplus.be.server.application.service.ConcertService;
+import kr.hhplus.be.server.domain.reservation.ReservationRepository;
 import kr.hhplus.be.server.infrastructure.persistence.concert.jpa.entity.ConcertJpaEntity;
 import kr.hhplus.be.server.infrastructure.persistence.concert.jpa.entity.ConcertScheduleJpaEntity;
 import kr.hhplus.be.server.infrastructure.persistence.concert.jpa.repository.ConcertJpaRepository;
 import kr.hhplus.be.server.infrastructure.persistence.concert.jpa.repository.ConcertScheduleJpaRepository;
-import kr.hhplus.be.server.infrastructure.persistence.reservation.jpa.repository.ConfirmedReservationJpaRepository;
 import kr.hhplus.be.server.web.concert.dto.ConcertDto;
 import kr.hhplus.be.server.web.concert.dto.ScheduleDto;
 import org.junit.jupiter.api.BeforeEach;
@@ -17,9 +18,12 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.IntConsumer;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -32,7 +36,10 @@ class ConcertServiceTest {
     private ConcertScheduleJpaRepository scheduleJpaRepository;
 
     @Mock
-    private ConfirmedReservationJpaRepository confirmedReservationRepository;
+    private ReservationRepository reservationRepository;
+
+    @Mock
+    private ScheduleCalendarUseCase scheduleCalendarUseCase;
 
     private ConcertService concertService;
 
@@ -41,7 +48,8 @@ class ConcertServiceTest {
         concertService = new ConcertService(
                 concertJpaRepository,
                 scheduleJpaRepository,
-                confirmedReservationRepository
+                reservationRepository,
+                scheduleCalendarUseCase
         );
     }
 
@@ -92,6 +100,10 @@ class ConcertServiceTest {
 
     @Test
     void 예약_가능한_날짜_목록을_조회한다() {
+        // given
+        when(scheduleCalendarUseCase.getAvailableDates(3)).thenReturn(List.of(
+                LocalDate.now(), LocalDate.now().plusDays(1), LocalDate.now().plusDays(2)));
+
         // when
         List<LocalDate> dates = concertService.getAvailableDates(3);
 
@@ -121,8 +133,12 @@ class ConcertServiceTest {
                 .thenReturn(Optional.of(scheduleEntity));
 
         // 2번, 4번 좌석이 예약됨
-        when(confirmedReservationRepository.findSeatNosByConcertDate(date))
-                .thenReturn(List.of(2, 4));
+        doAnswer(invocation -> {
+            IntConsumer action = invocation.getArgument(1);
+            action.accept(2);
+            action.accept(4);
+            return null;
+        }).when(reservationRepository).forEachConfirmedSeatNo(eq(100L), any());
 
         // when
         ScheduleDto schedule = concertService.getConcertSchedule(1L, date);
@@ -333,4 +333,94 @@ class PaymentServiceTest {
             verify(walletPort, never()).save(any());
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 환불 일괄 처리 (분산락 미사용, 지갑 행 잠금)
+     */
+    @Nested
+    @DisplayName("환불 일괄 처리")
+    class RefundBatch {
+
+        private static final String OTHER_USER_ID = "660e8400-e29b-41d4-a716-446655440000";
+
+        @BeforeEach
+        void setUpTransactionMock() {
+            when(transactionTemplate.execute(any()))
+                    .thenAnswer(invocation -> {
+                        var callback = invocation.getArgument(0, org.springframework.transaction.support.TransactionCallback.class);
+                        return callback.doInTransaction(null);
+                    });
+        }
+
+        @Test
+        @DisplayName("사용자별로 모아 지갑을 한 번만 갱신하고 원장은 건별로 기록")
+        void refundBatch_GroupsByUser() {
+            // given
+            UserId userId = UserId.ofString(USER_ID);
+            Wallet wallet = Wallet.restore(
+                    new WalletId(USER_ID + "_wallet"), userId, new Balance(10_000L), LocalDateTime.now(), 0L);
+            when(walletPort.findByUserIdWithLock(userId)).thenReturn(Optional.of(wallet));
+            when(walletPort.isIdempotencyKeyUsed(eq(userId), anyString())).thenReturn(false);
+
+            // when
+            RefundBatchResult result = paymentService.refundBatch(java.util.List.of(
+                    new RefundCommand(USER_ID, 30_000L, "refund-1"),
+                    new RefundCommand(USER_ID, 50_000L, "refund-2")
+            ));
+
+            // then
+            assertThat(result.balanceOf(USER_ID)).isEqualTo(90_000L);
+            assertThat(result.rejected()).isEmpty();
+            verify(walletPort, times(2)).saveLedgerEntry(eq(userId), anyLong(), eq("REFUND"), anyString());
+            verify(walletPort, times(1)).save(wallet);
+        }
+
+        @Test
+        @DisplayName("이미 처리된 멱등키는 건너뜀")
+        void refundBatch_SkipsUsedKey() {
+            // given
+            UserId userId = UserId.ofString(USER_ID);
+            Wallet wallet = Wallet.restore(
+                    new WalletId(USER_ID + "_wallet"), userId, new Balance(10_000L), LocalDateTime.now(), 0L);
+            when(walletPort.findByUserIdWithLock(userId)).thenReturn(Optional.of(wallet));
+            when(walletPort.isIdempotencyKeyUsed(userId, "refund-1")).thenReturn(true);
+
+            // when
+            RefundBatchResult result = paymentService.refundBatch(java.util.List.of(
+                    new RefundCommand(USER_ID, 30_000L, "refund-1")
+            ));
+
+            // then
+            assertThat(result.balanceOf(USER_ID)).isEqualTo(10_000L);
+            verify(walletPort, never()).saveLedgerEntry(any(), anyLong(), anyString(), anyString());
+            verify(walletPort, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("잘못된 건은 거부 목록으로 돌려주고 나머지는 적립")
+        void refundBatch_IsolatesBadCommands() {
+            // given
+            UserId userId = UserId.ofString(USER_ID);
+            Wallet wallet = Wallet.restore(
+                    new WalletId(USER_ID + "_wallet"), userId, new Balance(0L), LocalDateTime.now(), 0L);
+            when(walletPort.findByUserIdWithLock(userId)).thenReturn(Optional.of(wallet));
+            when(walletPort.findByUserIdWithLock(UserId.ofString(OTHER_USER_ID))).thenReturn(Optional.empty());
+            when(walletPort.isIdempotencyKeyUsed(eq(userId), anyString())).thenReturn(false);
+
+            RefundCommand valid = new RefundCommand(USER_ID, 30_000L, "refund-1");
+            RefundCommand invalidUser = new RefundCommand("not-a-uuid", 10_000L, "refund-2");
+            RefundCommand zeroAmount = new RefundCommand(USER_ID, 0L, "refund-3");
+            RefundCommand noWallet = new RefundCommand(OTHER_USER_ID, 20_000L, "refund-4");
+
+            // when
+            RefundBatchResult result = paymentService.refundBatch(
+                    java.util.List.of(valid, invalidUser, zeroAmount, noWallet));
+
+            // then
+            assertThat(result.balanceOf(USER_ID)).isEqualTo(30_000L);
+            assertThat(result.rejected()).containsExactlyInAnyOrder(invalidUser, zeroAmount, noWallet);
+            assertThat(result.isRejected("refund-1")).isFalse();
+            verify(walletPort, times(1)).saveLedgerEntry(userId, 30_000L, "REFUND", "refund-1");
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package kr.hhplus.be.server;
 
-import kr.hhplus.be.server.application.port.in.PaymentUseCase;
+import kr.hhplus.be.server.application.event.RefundRequestedEvent;
+import kr.hhplus.be.server.application.event.ReservationCancelledEvent;
 import kr.hhplus.be.server.application.port.in.ReservationUseCase.*;
 import kr.hhplus.be.server.application.port.out.*;
 import kr.hhplus.be.server.application.service.ReservationService;
@@ -11,7 +12,6 @@ import kr.hhplus.be.server.domain.concert.ConcertScheduleId;
 import kr.hhplus.be.server.domain.concert.ConcertId;
 import kr.hhplus.be.server.domain.reservation.*;
 import kr.hhplus.be.server.infrastructure.kafka.message.PaymentRequestMessage;
-import kr.hhplus.be.server.infrastructure.kafka.producer.PaymentKafkaProducer;
 import kr.hhplus.be.server.infrastructure.redis.lock.RedisDistributedLock;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Disabled;
@@ -39,14 +39,13 @@ class ReservationServiceTest {
 
     @Mock private ReservationRepository reservationRepository;
     @Mock private QueuePort queuePort;
-    @Mock private PaymentUseCase paymentUseCase;
     @Mock private ConcertSchedulePort concertSchedulePort;
     @Mock private ReservationDomainService domainService;
     @Mock private SeatHoldPort seatHoldPort;
     @Mock private RedisDistributedLock distributedLock;
     @Mock private TransactionTemplate transactionTemplate;
     @Mock private ApplicationEventPublisher eventPublisher;
-    @Mock private PaymentKafkaProducer paymentKafkaProducer;
+    @Mock private PaymentOutboxPort paymentOutboxPort;
 
     private ReservationService reservationService;
 
@@ -60,14 +59,13 @@ class ReservationServiceTest {
         reservationService = new ReservationService(
                 reservationRepository,
                 queuePort,
-                paymentUseCase,
                 concertSchedulePort,
                 domainService,
                 seatHoldPort,
                 distributedLock,
                 transactionTemplate,
                 eventPublisher,
-                paymentKafkaProducer
+                paymentOutboxPort
         );
 
         // 분산락과 트랜잭션 Mock 동작 설정
@@ -149,6 +147,28 @@ class ReservationServiceTest {
         verify(reservationRepository).save(any(Reservation.class));
     }
 
+    @Test
+    @DisplayName("임시 좌석 배정 - 일괄 취소된 일정이면 실패")
+    void temporaryAssign_CancelledSchedule() {
+        // given
+        TemporaryAssignCommand command = new TemporaryAssignCommand(
+                QUEUE_TOKEN, SCHEDULE_ID, SEAT_NUMBER
+        );
+
+        when(queuePort.isActive(QUEUE_TOKEN)).thenReturn(true);
+        when(queuePort.userIdOf(QUEUE_TOKEN)).thenReturn(USER_ID);
+        when(concertSchedulePort.findById(any())).thenReturn(Optional.of(new ConcertSchedule(
+                new ConcertScheduleId(SCHEDULE_ID), new ConcertId(1L), LocalDate.now(), 50)));
+        when(concertSchedulePort.isCancelled(new ConcertScheduleId(SCHEDULE_ID))).thenReturn(true);
+
+        // when & then
+        assertThatThrownBy(() -> reservationService.temporaryAssign(command))
+                .isInstanceOf(InvalidReservationStateException.class);
+
+        verify(seatHoldPort, never()).tryHold(any(), any(), any());
+        verify(reservationRepository, never()).save(any());
+    }
+
     @Test
     @DisplayName("임시 좌석 배정 - 토큰 만료시 실패")
     void temporaryAssign_TokenExpired() {
@@ -260,13 +280,10 @@ class ReservationServiceTest {
         // 검증: 트랜잭션 사용 확인
         verify(transactionTemplate).execute(any());
 
-        // 검증: PaymentUseCase.pay()는 호출하지 않음 (비동기!)
-        verify(paymentUseCase, never()).pay(any());
-
-        // 검증: Kafka로 결제 요청 발행
+        // 검증: 결제 요청은 아웃박스에 기록 (Kafka 직접 발행 없음)
         ArgumentCaptor<PaymentRequestMessage> kafkaCaptor =
                 ArgumentCaptor.forClass(PaymentRequestMessage.class);
-        verify(paymentKafkaProducer).sendPaymentRequest(kafkaCaptor.capture());
+        verify(paymentOutboxPort).appendPaymentRequest(kafkaCaptor.capture());
 
         PaymentRequestMessage sentMessage = kafkaCaptor.getValue();
         assertThat(sentMessage.reservationId()).isEqualTo(reservationId);
@@ -320,8 +337,8 @@ class ReservationServiceTest {
                 .isInstanceOf(IllegalStateException.class)
                 .hasMessage("만료된 예약입니다");
 
-        // 검증: Kafka 발행하지 않음
-        verify(paymentKafkaProducer, never()).sendPaymentRequest(any());
+        // 검증: 결제 요청 기록하지 않음
+        verify(paymentOutboxPort, never()).appendPaymentRequest(any());
 
         // 검증: 토큰 만료되지 않음
         verify(queuePort, never()).expire(any());
@@ -410,4 +427,45 @@ class ReservationServiceTest {
         // then
         assertThat(result.isPaymentPending()).isTrue();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("예약 취소 - 환불 요청 이벤트 등록 후 REFUND_PENDING 반환")
+    void cancelReservation_PublishesRefundRequest() {
+        // given
+        String reservationId = "test-reservation-id";
+        CancelReservationCommand command = new CancelReservationCommand(
+                null, reservationId, USER_ID, "단순 변심"
+        );
+
+        Reservation reservation = Reservation.restore(
+                new ReservationId(reservationId),
+                UserId.ofString(USER_ID),
+                new SeatIdentifier(new ConcertScheduleId(SCHEDULE_ID), new SeatNumber(SEAT_NUMBER)),
+                Money.of(80_000L),
+                ReservationStatus.CONFIRMED,
+                LocalDateTime.now().minusMinutes(10),
+                LocalDateTime.now().minusMinutes(5),
+                0L
+        );
+        when(reservationRepository.findById(any())).thenReturn(Optional.of(reservation));
+
+        // when
+        CancelReservationResult result = reservationService.cancelReservation(command);
+
+        // then
+        assertThat(result.status()).isEqualTo("REFUND_PENDING");
+        assertThat(result.refundAmount()).isEqualTo(80_000L);
+        assertThat(reservation.getStatus()).isEqualTo(ReservationStatus.REFUND_PENDING);
+
+        // 검증: 환불 요청은 커밋 후 발행되도록 이벤트로만 등록 (Kafka 직접 발행 없음)
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        assertThat(captor.getValue()).isInstanceOf(RefundRequestedEvent.class);
+        RefundRequestedEvent event = (RefundRequestedEvent) captor.getValue();
+        assertThat(event.reservationId()).isEqualTo(reservationId);
+        assertThat(event.amount()).isEqualTo(80_000L);
+
+        // 검증: 취소 이벤트는 환불 완료 후 발행
+        verify(eventPublisher, never()).publishEvent(any(ReservationCancelledEvent.class));
+    }
+}
@@ -0,0 +1,166 @@
+package kr.hhplus.be.server;
+
+import kr.hhplus.be.server.application.port.out.ConcertSchedulePort;
+import kr.hhplus.be.server.application.port.out.ScheduleCalendarPort;
+import kr.hhplus.be.server.application.service.ScheduleCalendarService;
+import kr.hhplus.be.server.domain.concert.ConcertId;
+import kr.hhplus.be.server.domain.concert.ConcertSchedule;
+import kr.hhplus.be.server.domain.concert.ConcertScheduleId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ScheduleCalendarService 단위 테스트")
+class ScheduleCalendarServiceTest {
+
+    @Mock
+    private ConcertSchedulePort schedulePort;
+
+    @Mock
+    private ScheduleCalendarPort calendarPort;
+
+    @InjectMocks
+    private ScheduleCalendarService calendarService;
+
+    private final LocalDate today = LocalDate.now();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(calendarService, "horizonDays", 30);
+    }
+
+    @Test
+    @DisplayName("색인이 있으면 DB 를 조회하지 않는다")
+    void readsFromIndex() {
+        // given
+        when(calendarPort.findOpenDates(today, today.plusDays(6)))
+                .thenReturn(Optional.of(List.of(today.plusDays(2))));
+
+        // when
+        List<LocalDate> dates = calendarService.getAvailableDates(7);
+
+        // then
+        assertThat(dates).containsExactly(today.plusDays(2));
+        verifyNoInteractions(schedulePort);
+    }
+
+    @Test
+    @DisplayName("색인이 없으면 색인 범위 전체를 DB 에서 집계해 재구성하고 요청 범위만 반환한다")
+    void rebuildsIndexOnMiss() {
+        // given
+        Map<Long, LocalDate> openSchedules = new LinkedHashMap<>();
+        openSchedules.put(1L, today.plusDays(1));
+        openSchedules.put(2L, today.plusDays(1));
+        openSchedules.put(3L, today.plusDays(20));
+        when(calendarPort.findOpenDates(today, today.plusDays(6))).thenReturn(Optional.empty());
+        when(schedulePort.findOpenSchedules(today, today.plusDays(29))).thenReturn(openSchedules);
+
+        // when
+        List<LocalDate> dates = calendarService.getAvailableDates(7);
+
+        // then
+        assertThat(dates).containsExactly(today.plusDays(1));
+        verify(calendarPort).replace(openSchedules, today.plusDays(29));
+    }
+
+    @Test
+    @DisplayName("색인 범위를 넘는 조회는 색인을 거치지 않고 DB 에서 집계한다")
+    void bypassesIndexBeyondHorizon() {
+        // given
+        when(schedulePort.findOpenSchedules(today, today.plusDays(59)))
+                .thenReturn(Map.of(7L, today.plusDays(45)));
+
+        // when
+        List<LocalDate> dates = calendarService.getAvailableDates(60);
+
+        // then
+        assertThat(dates).containsExactly(today.plusDays(45));
+        verifyNoInteractions(calendarPort);
+    }
+
+    @Test
+    @DisplayName("일정이 매진되면 색인에서 일정을 닫는다")
+    void closesScheduleOnSoldOut() {
+        // when
+        calendarService.markSoldOut(10L);
+
+        // then
+        verify(calendarPort).closeSchedule(10L);
+        verifyNoInteractions(schedulePort);
+    }
+
+    @Test
+    @DisplayName("일정이 일괄 취소되면 색인에서 일정을 닫는다")
+    void closesScheduleOnCancellation() {
+        // when
+        calendarService.markCancelled(10L);
+
+        // then
+        verify(calendarPort).closeSchedule(10L);
+    }
+
+    @Test
+    @DisplayName("예약 취소로 예약 가능해진 일정은 해당 날짜에 다시 연다")
+    void reopensScheduleWithFreedSeat() {
+        // given
+        LocalDate date = today.plusDays(3);
+        when(schedulePort.findById(new ConcertScheduleId(10L))).thenReturn(Optional.of(schedule(date)));
+        when(schedulePort.findOpenSchedules(date, date)).thenReturn(Map.of(10L, date));
+
+        // when
+        calendarService.markReopened(10L);
+
+        // then
+        verify(calendarPort).openSchedule(10L, date);
+    }
+
+    @Test
+    @DisplayName("일괄 취소되었거나 여전히 매진인 일정은 다시 열지 않는다")
+    void keepsClosedScheduleClosed() {
+        // given
+        LocalDate date = today.plusDays(3);
+        when(schedulePort.findById(new ConcertScheduleId(10L))).thenReturn(Optional.of(schedule(date)));
+        when(schedulePort.findOpenSchedules(date, date)).thenReturn(Map.of(11L, date));
+
+        // when
+        calendarService.markReopened(10L);
+
+        // then
+        verify(calendarPort, never()).openSchedule(any(), any());
+    }
+
+    @Test
+    @DisplayName("색인 갱신 실패는 예외를 전파하지 않는다")
+    void calendarFailureIsSwallowed() {
+        // given
+        doThrow(new RuntimeException("redis down")).when(calendarPort).closeSchedule(10L);
+        when(schedulePort.findById(any())).thenThrow(new RuntimeException("db down"));
+
+        // when
+        calendarService.markSoldOut(10L);
+        calendarService.markReopened(10L);
+
+        // then
+        verify(calendarPort, never()).openSchedule(any(), any());
+    }
+
+    private ConcertSchedule schedule(LocalDate date) {
+        return new ConcertSchedule(new ConcertScheduleId(10L), new ConcertId(1L), date, 50);
+    }
+}
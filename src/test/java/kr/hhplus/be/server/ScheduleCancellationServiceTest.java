@@ -0,0 +1,211 @@
+package kr.hhplus.be.server;
+
+import kr.hhplus.be.server.application.event.ScheduleReservationsCancelledEvent;
+import kr.hhplus.be.server.application.port.in.PaymentUseCase;
+import kr.hhplus.be.server.application.port.in.ScheduleCalendarUseCase;
+import kr.hhplus.be.server.application.port.in.ScheduleCancellationUseCase.CancelScheduleCommand;
+import kr.hhplus.be.server.application.port.out.ConcertSchedulePort;
+import kr.hhplus.be.server.application.port.out.SeatHoldPort;
+import kr.hhplus.be.server.application.service.ScheduleCancellationService;
+import kr.hhplus.be.server.domain.common.Money;
+import kr.hhplus.be.server.domain.common.UserId;
+import kr.hhplus.be.server.domain.concert.ConcertId;
+import kr.hhplus.be.server.domain.concert.ConcertSchedule;
+import kr.hhplus.be.server.domain.concert.ConcertScheduleId;
+import kr.hhplus.be.server.domain.reservation.Reservation;
+import kr.hhplus.be.server.domain.reservation.ReservationId;
+import kr.hhplus.be.server.domain.reservation.ReservationRepository;
+import kr.hhplus.be.server.domain.reservation.ReservationStatus;
+import kr.hhplus.be.server.domain.reservation.SeatIdentifier;
+import kr.hhplus.be.server.domain.reservation.SeatNumber;
+import kr.hhplus.be.server.infrastructure.persistence.concert.jpa.entity.ScheduleCancellationJpaEntity;
+import kr.hhplus.be.server.infrastructure.persistence.concert.jpa.repository.ScheduleCancellationJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ScheduleCancellationService 단위 테스트")
+class ScheduleCancellationServiceTest {
+
+    @Mock private ScheduleCancellationJpaRepository cancellationRepository;
+    @Mock private ReservationRepository reservationRepository;
+    @Mock private ConcertSchedulePort concertSchedulePort;
+    @Mock private PaymentUseCase paymentUseCase;
+    @Mock private SeatHoldPort seatHoldPort;
+    @Mock private TransactionTemplate transactionTemplate;
+    @Mock private ApplicationEventPublisher eventPublisher;
+    @Mock private ScheduleCalendarUseCase scheduleCalendarUseCase;
+
+    private ScheduleCancellationService service;
+
+    private static final Long SCHEDULE_ID = 1L;
+    private static final String USER_ID = "550e8400-e29b-41d4-a716-446655440000";
+
+    @BeforeEach
+    void setUp() {
+        service = new ScheduleCancellationService(
+                cancellationRepository,
+                reservationRepository,
+                concertSchedulePort,
+                paymentUseCase,
+                seatHoldPort,
+                transactionTemplate,
+                eventPublisher,
+                scheduleCalendarUseCase
+        );
+        ReflectionTestUtils.setField(service, "chunkSize", 2);
+
+        lenient().when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> invocation.getArgument(0, TransactionCallback.class).doInTransaction(null));
+    }
+
+    @Test
+    @DisplayName("일괄 취소를 등록하면 예약 가능 날짜 색인에서 일정을 닫는다")
+    void cancelSchedule_ClosesCalendar() {
+        // given
+        when(concertSchedulePort.findById(new ConcertScheduleId(SCHEDULE_ID))).thenReturn(Optional.of(
+                new ConcertSchedule(new ConcertScheduleId(SCHEDULE_ID), new ConcertId(1L), LocalDate.now(), 50)));
+        when(cancellationRepository.findById(SCHEDULE_ID)).thenReturn(Optional.empty());
+        when(cancellationRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        service.cancelSchedule(new CancelScheduleCommand(SCHEDULE_ID, "공연 취소"));
+
+        // then
+        verify(scheduleCalendarUseCase).markCancelled(SCHEDULE_ID);
+    }
+
+    @Test
+    @DisplayName("청크 단위로 취소/환불하고 집계 이벤트 1건을 발행한다")
+    void processNextChunk_CancelsAndRefundsInBatch() {
+        // given
+        ScheduleCancellationJpaEntity cancellation =
+                new ScheduleCancellationJpaEntity(SCHEDULE_ID, "공연 취소", 3, LocalDateTime.now());
+        when(cancellationRepository.findById(SCHEDULE_ID)).thenReturn(Optional.of(cancellation));
+        when(reservationRepository.findChunkForUpdate(eq(SCHEDULE_ID), any(), anyInt()))
+                .thenReturn(List.of(confirmed("r-1", 80_000L), confirmed("r-2", 50_000L)));
+        when(paymentUseCase.refundBatch(any()))
+                .thenReturn(new PaymentUseCase.RefundBatchResult(Map.of(USER_ID, 130_000L), List.of()));
+
+        // when
+        boolean hasMore = service.processNextChunk(SCHEDULE_ID);
+
+        // then
+        assertThat(hasMore).isTrue();
+        verify(reservationRepository).updateStatusByIds(eq(List.of(new ReservationId("r-1"), new ReservationId("r-2"))), eq(ReservationStatus.CANCELLED), any());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<PaymentUseCase.RefundCommand>> refundCaptor = ArgumentCaptor.forClass(List.class);
+        verify(paymentUseCase).refundBatch(refundCaptor.capture());
+        assertThat(refundCaptor.getValue())
+                .extracting(PaymentUseCase.RefundCommand::idempotencyKey)
+                .containsExactly("refund-r-1", "refund-r-2");
+
+        // 진행 상황
+        assertThat(cancellation.getCancelledCount()).isEqualTo(2);
+        assertThat(cancellation.getRefundedAmount()).isEqualTo(130_000L);
+
+        ArgumentCaptor<ScheduleReservationsCancelledEvent> eventCaptor =
+                ArgumentCaptor.forClass(ScheduleReservationsCancelledEvent.class);
+        verify(eventPublisher, times(1)).publishEvent(eventCaptor.capture());
+        assertThat(eventCaptor.getValue().cancelledCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("임시배정 예약은 취소하고 좌석 점유만 해제한다 (환불 없음)")
+    void processNextChunk_CancelsTemporaryAssignedWithoutRefund() {
+        // given
+        ScheduleCancellationJpaEntity cancellation =
+                new ScheduleCancellationJpaEntity(SCHEDULE_ID, "공연 취소", 0, LocalDateTime.now());
+        when(cancellationRepository.findById(SCHEDULE_ID)).thenReturn(Optional.of(cancellation));
+        when(reservationRepository.findChunkForUpdate(eq(SCHEDULE_ID), any(), anyInt()))
+                .thenReturn(List.of(reservation("r-1", 80_000L, ReservationStatus.TEMPORARY_ASSIGNED)));
+
+        // when
+        boolean hasMore = service.processNextChunk(SCHEDULE_ID);
+
+        // then
+        assertThat(hasMore).isFalse();
+        verify(reservationRepository).updateStatusByIds(eq(List.of(new ReservationId("r-1"))), eq(ReservationStatus.CANCELLED), any());
+        verify(seatHoldPort).releaseAll(List.of(new SeatIdentifier(new ConcertScheduleId(SCHEDULE_ID), new SeatNumber(1))));
+        verify(paymentUseCase, never()).refundBatch(any());
+        verify(eventPublisher, never()).publishEvent(any());
+        assertThat(cancellation.getCancelledCount()).isZero();
+        assertThat(cancellation.isCompleted()).isFalse();
+    }
+
+    @Test
+    @DisplayName("결제대기 예약이 남아 있으면 완료하지 않는다")
+    void processNextChunk_WaitsForPaymentPending() {
+        // given
+        ScheduleCancellationJpaEntity cancellation =
+                new ScheduleCancellationJpaEntity(SCHEDULE_ID, "공연 취소", 0, LocalDateTime.now());
+        when(cancellationRepository.findById(SCHEDULE_ID)).thenReturn(Optional.of(cancellation));
+        when(reservationRepository.findChunkForUpdate(any(), any(), anyInt())).thenReturn(List.of());
+        when(reservationRepository.countByScheduleIdAndStatusIn(eq(SCHEDULE_ID), any())).thenReturn(1L);
+
+        // when
+        boolean hasMore = service.processNextChunk(SCHEDULE_ID);
+
+        // then
+        assertThat(hasMore).isFalse();
+        assertThat(cancellation.isCompleted()).isFalse();
+        verify(cancellationRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("남은 미완료 예약이 없으면 작업을 완료 처리한다")
+    void processNextChunk_CompletesWhenNoReservationsLeft() {
+        // given
+        ScheduleCancellationJpaEntity cancellation =
+                new ScheduleCancellationJpaEntity(SCHEDULE_ID, "공연 취소", 0, LocalDateTime.now());
+        when(cancellationRepository.findById(SCHEDULE_ID)).thenReturn(Optional.of(cancellation));
+        when(reservationRepository.findChunkForUpdate(any(), any(), anyInt())).thenReturn(List.of());
+        when(reservationRepository.countByScheduleIdAndStatusIn(eq(SCHEDULE_ID), any())).thenReturn(0L);
+
+        // when
+        boolean hasMore = service.processNextChunk(SCHEDULE_ID);
+
+        // then
+        assertThat(hasMore).isFalse();
+        assertThat(cancellation.isCompleted()).isTrue();
+        verify(paymentUseCase, never()).refundBatch(any());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    private Reservation confirmed(String id, long price) {
+        return reservation(id, price, ReservationStatus.CONFIRMED);
+    }
+
+    private Reservation reservation(String id, long price, ReservationStatus status) {
+        return Reservation.restore(
+                new ReservationId(id),
+                UserId.ofString(USER_ID),
+                new SeatIdentifier(new ConcertScheduleId(SCHEDULE_ID), new SeatNumber(1)),
+                Money.of(price),
+                status,
+                LocalDateTime.now().minusMinutes(10),
+                LocalDateTime.now().minusMinutes(5),
+                1L
+        );
+    }
+}
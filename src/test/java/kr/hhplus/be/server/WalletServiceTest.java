@@ -3,6 +3,7 @@ package kr.hhplus.be.server;
 import kr.hhplus.be.server.application.service.WalletService;
 import kr.hhplus.be.server.infrastructure.persistence.payment.jpa.entity.UserWalletJpaEntity;
 import kr.hhplus.be.server.infrastructure.persistence.payment.jpa.repository.UserWalletJpaRepository;
+import kr.hhplus.be.server.infrastructure.persistence.payment.jpa.repository.WalletIdempotencyKeyJpaRepository;
 import kr.hhplus.be.server.infrastructure.persistence.payment.jpa.repository.WalletLedgerJpaRepository;
 import kr.hhplus.be.server.web.wallet.dto.ChargeRequest;
 import kr.hhplus.be.server.web.wallet.dto.ChargeResponse;
@@ -29,11 +30,14 @@ public class WalletServiceTest {  // public 추가
     @Mock
     private WalletLedgerJpaRepository ledgerRepository;
 
+    @Mock
+    private WalletIdempotencyKeyJpaRepository idempotencyKeyRepository;
+
     private WalletService walletService;
 
     @BeforeEach
     void setUp() {
-        walletService = new WalletService(walletRepository, ledgerRepository);
+        walletService = new WalletService(walletRepository, ledgerRepository, idempotencyKeyRepository);
     }
 
     @Test  // JUnit 5의 @Test
@@ -45,7 +49,7 @@ public class WalletServiceTest {  // public 추가
         UserWalletJpaEntity wallet = new UserWalletJpaEntity(userId, 10000L);
 
         when(walletRepository.findForUpdate(any())).thenReturn(Optional.of(wallet));
-        when(ledgerRepository.existsByUserIdAndIdempotencyKey(any(), any())).thenReturn(false);
+        when(idempotencyKeyRepository.existsByUserIdAndIdempotencyKey(any(), any())).thenReturn(false);
 
         // when
         ChargeResponse response = walletService.charge(request);
@@ -65,7 +69,7 @@ public class WalletServiceTest {  // public 추가
         UserWalletJpaEntity wallet = new UserWalletJpaEntity(userId, 60000L);
 
         // 이미 처리된 키
-        when(ledgerRepository.existsByUserIdAndIdempotencyKey(userId, "duplicate-key")).thenReturn(true);
+        when(idempotencyKeyRepository.existsByUserIdAndIdempotencyKey(userId, "duplicate-key")).thenReturn(true);
         when(walletRepository.findById(userId)).thenReturn(Optional.of(wallet));
 
         // when
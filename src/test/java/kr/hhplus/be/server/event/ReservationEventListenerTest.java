@@ -1,8 +1,10 @@
 package kr.hhplus.be.server.event;
 
+import kr.hhplus.be.server.application.event.ReservationCancelledEvent;
 import kr.hhplus.be.server.application.event.ReservationConfirmedEvent;
 import kr.hhplus.be.server.application.event.ReservationEventListener;
 import kr.hhplus.be.server.application.port.in.RankingUseCase;
+import kr.hhplus.be.server.application.port.in.ScheduleCalendarUseCase;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -25,6 +27,9 @@ class ReservationEventListenerTest {
     @Mock  // ← @MockBean 대신 @Mock 사용
     private RankingUseCase rankingUseCase;
 
+    @Mock
+    private ScheduleCalendarUseCase scheduleCalendarUseCase;
+
     @InjectMocks  // ← 자동으로 Mock 주입
     private ReservationEventListener listener;
 
@@ -118,4 +123,24 @@ class ReservationEventListenerTest {
         verify(rankingUseCase, times(5))
                 .trackReservation(anyLong(), anyInt());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("예약 취소 시 날짜 색인에 일정을 다시 연다")
+    void reopenCalendarOnCancel() {
+        // given
+        ReservationCancelledEvent event = ReservationCancelledEvent.of(
+                "reservation-123",
+                "user-456",
+                1L,
+                10,
+                100_000L,
+                LocalDateTime.now()
+        );
+
+        // when
+        listener.reopenCalendarOnCancel(event);
+
+        // then
+        verify(scheduleCalendarUseCase).markReopened(1L);
+    }
+}
@@ -0,0 +1,63 @@
+package kr.hhplus.be.server.infrastructure.async.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AsyncConfig 단위 테스트")
+class AsyncConfigTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ThreadPoolTaskExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 호출 스레드에서 실행하고 거절 건수를 기록한다")
+    void callerRunsWhenSaturated() throws Exception {
+        // given - 스레드 1개, 큐 1칸
+        AsyncConfig config = new AsyncConfig(meterRegistry);
+        ReflectionTestUtils.setField(config, "coreSize", 1);
+        ReflectionTestUtils.setField(config, "maxSize", 1);
+        ReflectionTestUtils.setField(config, "queueCapacity", 1);
+        executor = config.reservationEventExecutor();
+        executor.initialize();
+
+        CountDownLatch release = new CountDownLatch(1);
+        executor.execute(() -> await(release));  // 실행 중
+        executor.execute(() -> await(release));  // 큐 대기
+
+        // when
+        AtomicReference<String> ranOn = new AtomicReference<>();
+        executor.execute(() -> ranOn.set(Thread.currentThread().getName()));
+        release.countDown();
+
+        // then
+        assertThat(ranOn.get()).isEqualTo(Thread.currentThread().getName());
+        assertThat(meterRegistry.get("executor.rejected")
+                .tag("name", AsyncConfig.RESERVATION_EVENT_EXECUTOR)
+                .counter().count()).isEqualTo(1.0);
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package kr.hhplus.be.server.infrastructure.jpa.replica;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 읽기 복제본 라우팅 테스트 (MySQL 컨테이너 2개, 복제 구성 없이 서버 구분만)
+ */
+@Testcontainers
+@DisplayName("읽기 복제본 라우팅 테스트")
+class ReplicaRoutingDataSourceTest {
+
+    @Container
+    static MySQLContainer<?> primaryMysql = new MySQLContainer<>(DockerImageName.parse("mysql:8.0"))
+            .withDatabaseName("hhplus");
+
+    @Container
+    static MySQLContainer<?> replicaMysql = new MySQLContainer<>(DockerImageName.parse("mysql:8.0"))
+            .withDatabaseName("hhplus");
+
+    private HikariDataSource primary;
+    private HikariDataSource replica;
+    private ReplicaLagMonitor monitor;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readOnlyTx;
+    private TransactionTemplate readWriteTx;
+
+    @BeforeEach
+    void setUp() {
+        primary = hikari(primaryMysql);
+        replica = hikari(replicaMysql);
+        monitor = new ReplicaLagMonitor(replica, false, 2, 60_000);
+
+        DataSource routing = ReplicaDataSourceConfig.routingDataSource(
+                primary, new ReplicaFallbackDataSource(replica, primary, monitor));
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(routing);
+
+        jdbcTemplate = new JdbcTemplate(routing);
+        readOnlyTx = new TransactionTemplate(transactionManager);
+        readOnlyTx.setReadOnly(true);
+        readWriteTx = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        primary.close();
+        replica.close();
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 복제본, 쓰기 트랜잭션은 주 DB 로 간다")
+    void routesByReadOnlyFlag() {
+        // when
+        String readOnlyServer = readOnlyTx.execute(status -> serverUuid());
+        String readWriteServer = readWriteTx.execute(status -> serverUuid());
+
+        // then
+        assertThat(readOnlyServer).isEqualTo(serverUuidOf(replica));
+        assertThat(readWriteServer).isEqualTo(serverUuidOf(primary));
+    }
+
+    @Test
+    @DisplayName("복제본을 쓸 수 없으면 읽기 전용 트랜잭션도 주 DB 로 간다")
+    void fallsBackToPrimary() {
+        // given
+        monitor.markUnavailable(new SQLException("replica down"));
+
+        // when
+        String readOnlyServer = readOnlyTx.execute(status -> serverUuid());
+
+        // then
+        assertThat(readOnlyServer).isEqualTo(serverUuidOf(primary));
+    }
+
+    @Test
+    @DisplayName("복제본이 구성되지 않은 서버는 지연 확인에 실패해 사용하지 않는다")
+    void lagCheckWithoutReplication() {
+        // given
+        ReplicaLagMonitor lagMonitor = new ReplicaLagMonitor(replica, true, 2, 60_000);
+
+        // when
+        lagMonitor.check();
+
+        // then
+        assertThat(lagMonitor.isUsable()).isFalse();
+    }
+
+    private String serverUuid() {
+        return jdbcTemplate.queryForObject("SELECT @@server_uuid", String.class);
+    }
+
+    private static String serverUuidOf(DataSource dataSource) {
+        return new JdbcTemplate(dataSource).queryForObject("SELECT @@server_uuid", String.class);
+    }
+
+    private static HikariDataSource hikari(MySQLContainer<?> mysql) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(mysql.getJdbcUrl());
+        dataSource.setUsername("root");
+        dataSource.setPassword(mysql.getPassword());
+        dataSource.setMaximumPoolSize(2);
+        return dataSource;
+    }
+}
@@ -0,0 +1,135 @@
+package kr.hhplus.be.server.infrastructure.kafka.codec;
+
+import kr.hhplus.be.server.infrastructure.kafka.message.PaymentRequestMessage;
+import kr.hhplus.be.server.infrastructure.kafka.message.PaymentResultMessage;
+import kr.hhplus.be.server.infrastructure.kafka.message.PaymentStatus;
+import kr.hhplus.be.server.infrastructure.kafka.message.ReservationEventMessage;
+import org.apache.kafka.common.errors.SerializationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("CompactMessageCodec 단위 테스트")
+class CompactMessageCodecTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 15, 10, 30, 15, 123_456_000);
+
+    @Test
+    @DisplayName("결제 요청 메시지를 인코딩/디코딩하면 원본과 같다")
+    void paymentRequestRoundTrip() {
+        // given
+        PaymentRequestMessage message = new PaymentRequestMessage(
+                UUID.randomUUID().toString(), UUID.randomUUID().toString(),
+                150_000L, "payment-key-1", 42L, 17, NOW);
+
+        // when
+        byte[] encoded = CompactMessageCodec.encode(message);
+
+        // then
+        assertThat(CompactMessageCodec.decode(encoded)).isEqualTo(message);
+    }
+
+    @Test
+    @DisplayName("null 필드와 한글 문자열을 보존한다")
+    void paymentResultWithNullFields() {
+        // given
+        PaymentResultMessage message = new PaymentResultMessage(
+                "reservation-1", UUID.randomUUID().toString(),
+                PaymentStatus.INSUFFICIENT_BALANCE, null, "잔액이 부족합니다", NOW);
+
+        // when
+        Object decoded = CompactMessageCodec.decode(CompactMessageCodec.encode(message));
+
+        // then
+        assertThat(decoded).isEqualTo(message);
+    }
+
+    @Test
+    @DisplayName("일정 일괄 취소 이벤트를 인코딩/디코딩하면 원본과 같다")
+    void reservationEventRoundTrip() {
+        // given
+        ReservationEventMessage message = ReservationEventMessage.scheduleCancelled(7L, 500, 75_000_000L, NOW);
+
+        // when
+        Object decoded = CompactMessageCodec.decode(CompactMessageCodec.encode(message));
+
+        // then
+        assertThat(decoded).isEqualTo(message);
+    }
+
+    @Test
+    @DisplayName("컴팩트 포맷이 JSON보다 작다")
+    void smallerThanJson() {
+        // given
+        PaymentRequestMessage message = new PaymentRequestMessage(
+                UUID.randomUUID().toString(), UUID.randomUUID().toString(),
+                150_000L, "payment-key-1", 42L, 17, NOW);
+        PaymentMessageSerializer jsonSerializer = new PaymentMessageSerializer();
+        jsonSerializer.configure(Map.of(), false);
+
+        // when
+        byte[] compact = CompactMessageCodec.encode(message);
+        byte[] json = jsonSerializer.serialize("payment-requests", message);
+
+        // then
+        assertThat(compact.length).isLessThan(json.length / 2);
+    }
+
+    @Test
+    @DisplayName("Deserializer는 JSON 메시지도 읽는다 (포맷 전환 중 혼재)")
+    void deserializerReadsJson() {
+        // given
+        PaymentResultMessage message = PaymentResultMessage.success("reservation-1", "user-1", 10_000L);
+        Map<String, Object> configs = Map.of(
+                "spring.json.trusted.packages", "kr.hhplus.be.server.*",
+                "spring.json.value.default.type", PaymentResultMessage.class.getName());
+        PaymentMessageSerializer jsonSerializer = new PaymentMessageSerializer();
+        jsonSerializer.configure(Map.of(), false);
+        PaymentMessageDeserializer deserializer = new PaymentMessageDeserializer();
+        deserializer.configure(configs, false);
+
+        // when
+        Object fromJson = deserializer.deserialize("payment-results", jsonSerializer.serialize("payment-results", message));
+        Object fromCompact = deserializer.deserialize("payment-results", CompactMessageCodec.encode(message));
+
+        // then
+        assertThat(fromJson).isInstanceOf(PaymentResultMessage.class);
+        assertThat(((PaymentResultMessage) fromJson).balance()).isEqualTo(10_000L);
+        assertThat(fromCompact).isEqualTo(message);
+    }
+
+    @Test
+    @DisplayName("알 수 없는 스키마 버전은 SerializationException")
+    void unknownVersion() {
+        // given
+        byte[] encoded = CompactMessageCodec.encode(PaymentResultMessage.success("r", "u", 1L));
+        encoded[2] = 99;
+
+        // when & then
+        assertThatThrownBy(() -> CompactMessageCodec.decode(encoded))
+                .isInstanceOf(SerializationException.class);
+        assertThat(CompactMessageCodec.isCompact("{}".getBytes(StandardCharsets.UTF_8))).isFalse();
+    }
+
+    @Test
+    @DisplayName("compact 모드여도 외부 토픽은 JSON, 내부 토픽은 재시도 단계까지 바이너리로 직렬화한다")
+    void compactOnlyForInternalTopics() {
+        // given
+        PaymentMessageSerializer serializer = new PaymentMessageSerializer();
+        serializer.configure(Map.of(PaymentMessageSerializer.COMPACT_ENABLED, "true"), false);
+        ReservationEventMessage event = ReservationEventMessage.scheduleCancelled(7L, 500, 75_000_000L, NOW);
+        PaymentResultMessage result = PaymentResultMessage.success("r", "u", 1L);
+
+        // when & then
+        assertThat(CompactMessageCodec.isCompact(serializer.serialize("data-platform-events", event))).isFalse();
+        assertThat(CompactMessageCodec.isCompact(serializer.serialize("payment-results", result))).isTrue();
+        assertThat(CompactMessageCodec.isCompact(serializer.serialize("payment-results.retry-2", result))).isTrue();
+    }
+}
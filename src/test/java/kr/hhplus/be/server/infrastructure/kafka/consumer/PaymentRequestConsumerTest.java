@@ -6,6 +6,11 @@ import kr.hhplus.be.server.infrastructure.kafka.message.PaymentRequestMessage;
 import kr.hhplus.be.server.infrastructure.kafka.message.PaymentResultMessage;
 import kr.hhplus.be.server.infrastructure.kafka.message.PaymentStatus;
 import kr.hhplus.be.server.infrastructure.kafka.producer.PaymentKafkaProducer;
+import kr.hhplus.be.server.infrastructure.kafka.metrics.KafkaListenerMetrics;
+import kr.hhplus.be.server.infrastructure.kafka.retry.PaymentRetryPublisher;
+import kr.hhplus.be.server.infrastructure.kafka.retry.RetryTopics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -14,10 +19,15 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.support.Acknowledgment;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -33,9 +43,18 @@ class PaymentRequestConsumerTest {
     @Mock
     private PaymentKafkaProducer paymentKafkaProducer;
 
+    @Mock
+    private PaymentRetryPublisher retryPublisher;
+
     @Mock
     private Acknowledgment acknowledgment;
 
+    @Spy
+    private KafkaListenerMetrics metrics = new KafkaListenerMetrics(new SimpleMeterRegistry());
+
+    @Spy
+    private KeyAffinityExecutor keyAffinityExecutor = new KeyAffinityExecutor(2);
+
     @InjectMocks
     private PaymentRequestConsumer consumer;
 
@@ -68,18 +87,18 @@ class PaymentRequestConsumerTest {
         void shouldPublishSuccessResultAndAcknowledge() {
             // given
             long remainingBalance = 20_000L;
-            when(paymentUseCase.pay(any())).thenReturn(
+            when(paymentUseCase.payOrdered(any())).thenReturn(
                     new PaymentUseCase.BalanceResult(remainingBalance)
             );
 
             // when
-            consumer.handlePaymentRequest(testMessage, acknowledgment);
+            consumer.handlePaymentRequests(List.of(testMessage), acknowledgment);
 
             // then
             // 1. 결제 요청 확인
             ArgumentCaptor<PaymentUseCase.PaymentCommand> paymentCaptor =
                     ArgumentCaptor.forClass(PaymentUseCase.PaymentCommand.class);
-            verify(paymentUseCase).pay(paymentCaptor.capture());
+            verify(paymentUseCase).payOrdered(paymentCaptor.capture());
 
             PaymentUseCase.PaymentCommand capturedCommand = paymentCaptor.getValue();
             assertThat(capturedCommand.userId()).isEqualTo(USER_ID);
@@ -112,12 +131,12 @@ class PaymentRequestConsumerTest {
         void shouldPublishFailureResultAndAcknowledge() {
             // given
             String errorMessage = "잔액이 부족합니다. 현재 잔액: 10,000원, 필요 금액: 80,000원";
-            when(paymentUseCase.pay(any())).thenThrow(
+            when(paymentUseCase.payOrdered(any())).thenThrow(
                     new InsufficientBalanceException(errorMessage)
             );
 
             // when
-            consumer.handlePaymentRequest(testMessage, acknowledgment);
+            consumer.handlePaymentRequests(List.of(testMessage), acknowledgment);
 
             // then
             // 1. 실패 결과 발행 확인
@@ -142,21 +161,46 @@ class PaymentRequestConsumerTest {
     class WhenSystemError {
 
         @Test
-        @DisplayName("결과 메시지를 발행하지 않고 커밋하지 않는다 (재시도 필요)")
-        void shouldNotPublishResultAndNotAcknowledge() {
+        @DisplayName("재시도 토픽으로 넘기고 커밋한다 (파티션 블로킹 없음)")
+        void shouldForwardToRetryTopicAndAcknowledge() {
             // given
-            when(paymentUseCase.pay(any())).thenThrow(
+            when(paymentUseCase.payOrdered(any())).thenThrow(
                     new RuntimeException("DB 연결 실패")
             );
+            when(retryPublisher.forward(any(), any(), any(), anyInt(), any())).thenReturn(true);
 
             // when
-            consumer.handlePaymentRequest(testMessage, acknowledgment);
+            consumer.handlePaymentRequests(List.of(testMessage), acknowledgment);
 
             // then
             // 1. 결과 발행하지 않음
             verify(paymentKafkaProducer, never()).sendPaymentResult(any());
 
-            // 2. 커밋하지 않음 (Kafka가 재시도)
+            // 2. 재시도 1단계로 전달
+            verify(retryPublisher).forward(
+                    eq(RetryTopics.PAYMENT_REQUESTS), eq(USER_ID), eq(testMessage), eq(0), any(RuntimeException.class));
+
+            // 3. 커밋
+            verify(acknowledgment).acknowledge();
+        }
+
+        @Test
+        @DisplayName("재시도 토픽 발행도 실패하면 실패 지점부터 재전송한다")
+        void shouldNackFromFailedIndexWhenForwardFails() {
+            // given
+            PaymentRequestMessage failing = new PaymentRequestMessage(
+                    "failing-reservation-id", USER_ID, AMOUNT, "failing-idempotency-key", 1L, 16, LocalDateTime.now());
+            when(paymentUseCase.payOrdered(any()))
+                    .thenReturn(new PaymentUseCase.BalanceResult(20_000L))
+                    .thenThrow(new RuntimeException("DB 연결 실패"));
+            when(retryPublisher.forward(any(), any(), any(), anyInt(), any())).thenReturn(false);
+
+            // when
+            consumer.handlePaymentRequests(List.of(testMessage, failing), acknowledgment);
+
+            // then
+            // 앞 레코드는 커밋, 실패 레코드부터 재전송
+            verify(acknowledgment).nack(1, Duration.ofSeconds(1));
             verify(acknowledgment, never()).acknowledge();
         }
     }
@@ -169,20 +213,90 @@ class PaymentRequestConsumerTest {
         @DisplayName("동일한 idempotencyKey로 중복 요청 시 PaymentUseCase가 처리한다")
         void shouldDelegateIdempotencyToPaymentUseCase() {
             // given
-            when(paymentUseCase.pay(any())).thenReturn(
+            when(paymentUseCase.payOrdered(any())).thenReturn(
                     new PaymentUseCase.BalanceResult(20_000L)
             );
 
             // when
-            consumer.handlePaymentRequest(testMessage, acknowledgment);
+            consumer.handlePaymentRequests(List.of(testMessage), acknowledgment);
 
             // then
             ArgumentCaptor<PaymentUseCase.PaymentCommand> captor =
                     ArgumentCaptor.forClass(PaymentUseCase.PaymentCommand.class);
-            verify(paymentUseCase).pay(captor.capture());
+            verify(paymentUseCase).payOrdered(captor.capture());
 
             // idempotencyKey가 전달되는지 확인
             assertThat(captor.getValue().idempotencyKey()).isEqualTo(IDEMPOTENCY_KEY);
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("사용자별 순서 보장")
+    class PerUserOrdering {
+
+        @Test
+        @DisplayName("같은 사용자의 결제는 수신 순서대로 분산락 없이 처리된다")
+        void shouldProcessSameUserInOrderWithoutLock() {
+            // given
+            PaymentRequestMessage second = new PaymentRequestMessage(
+                    "second-reservation-id", USER_ID, AMOUNT, "second-key", 1L, 16, LocalDateTime.now());
+            when(paymentUseCase.payOrdered(any())).thenReturn(new PaymentUseCase.BalanceResult(0L));
+
+            // when
+            consumer.handlePaymentRequests(List.of(testMessage, second), acknowledgment);
+
+            // then
+            ArgumentCaptor<PaymentUseCase.PaymentCommand> captor =
+                    ArgumentCaptor.forClass(PaymentUseCase.PaymentCommand.class);
+            verify(paymentUseCase, times(2)).payOrdered(captor.capture());
+            assertThat(captor.getAllValues())
+                    .extracting(PaymentUseCase.PaymentCommand::idempotencyKey)
+                    .containsExactly(IDEMPOTENCY_KEY, "second-key");
+            verify(paymentUseCase, never()).pay(any());
+            verify(acknowledgment, times(1)).acknowledge();
+        }
+    }
+
+    @Nested
+    @DisplayName("재시도 토픽 구독")
+    class RetryListeners {
+
+        @Test
+        @DisplayName("단계마다 별도 리스너 컨테이너가 한 토픽만 구독한다 (nack 대기가 다른 단계를 막지 않음)")
+        void shouldSubscribeEachTierWithOwnContainer() throws Exception {
+            // when
+            KafkaListener[] listeners = PaymentRequestConsumer.class
+                    .getMethod("handlePaymentRequestRetry",
+                            ConsumerRecord.class, Acknowledgment.class)
+                    .getAnnotationsByType(KafkaListener.class);
+
+            // then
+            assertThat(listeners).hasSize(RetryTopics.tierCount());
+            assertThat(listeners).allSatisfy(listener -> assertThat(listener.topics()).hasSize(1));
+            assertThat(Arrays.stream(listeners).map(listener -> listener.topics()[0]))
+                    .containsExactly(
+                            RetryTopics.retryTopic(RetryTopics.PAYMENT_REQUESTS, 1),
+                            RetryTopics.retryTopic(RetryTopics.PAYMENT_REQUESTS, 2),
+                            RetryTopics.retryTopic(RetryTopics.PAYMENT_REQUESTS, 3));
+            assertThat(Arrays.stream(listeners).map(KafkaListener::id)).doesNotHaveDuplicates();
+        }
+
+        @Test
+        @DisplayName("재시도 레코드 수신과 재처리 대기 시간을 단계 토픽별로 기록한다")
+        void shouldRecordRetryMetricsPerTier() {
+            // given
+            String retryTopic = RetryTopics.retryTopic(RetryTopics.PAYMENT_REQUESTS, 2);
+            ConsumerRecord<String, PaymentRequestMessage> record =
+                    new ConsumerRecord<>(retryTopic, 0, 0L, USER_ID, testMessage);
+            when(paymentUseCase.payOrdered(any())).thenReturn(new PaymentUseCase.BalanceResult(0L));
+
+            // when
+            consumer.handlePaymentRequestRetry(record, acknowledgment);
+
+            // then
+            verify(metrics).recordBatch(retryTopic, 1);
+            verify(metrics).recordRetryDelay(retryTopic, record.timestamp());
+            verify(acknowledgment).acknowledge();
+        }
+    }
+}
@@ -9,6 +9,10 @@ import kr.hhplus.be.server.domain.concert.ConcertScheduleId;
 import kr.hhplus.be.server.domain.reservation.*;
 import kr.hhplus.be.server.infrastructure.kafka.message.PaymentResultMessage;
 import kr.hhplus.be.server.infrastructure.kafka.message.PaymentStatus;
+import kr.hhplus.be.server.infrastructure.kafka.metrics.KafkaListenerMetrics;
+import kr.hhplus.be.server.infrastructure.kafka.retry.PaymentRetryPublisher;
+import kr.hhplus.be.server.infrastructure.kafka.retry.RetryTopics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -17,12 +21,16 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
-import java.util.Optional;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -44,9 +52,18 @@ class PaymentResultConsumerTest {
     @Mock
     private ApplicationEventPublisher eventPublisher;
 
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private PaymentRetryPublisher retryPublisher;
+
     @Mock
     private Acknowledgment acknowledgment;
 
+    @Spy
+    private KafkaListenerMetrics metrics = new KafkaListenerMetrics(new SimpleMeterRegistry());
+
     @InjectMocks
     private PaymentResultConsumer consumer;
 
@@ -62,6 +79,9 @@ class PaymentResultConsumerTest {
     void setUp() {
         // PAYMENT_PENDING 상태의 예약 생성
         testReservation = createPaymentPendingReservation();
+
+        lenient().when(transactionTemplate.execute(any()))
+                .thenAnswer(inv -> inv.getArgument(0, TransactionCallback.class).doInTransaction(null));
     }
 
     private Reservation createPaymentPendingReservation() {
@@ -95,23 +115,19 @@ class PaymentResultConsumerTest {
                     20_000L
             );
 
-            when(reservationRepository.findById(any())).thenReturn(Optional.of(testReservation));
-            when(reservationRepository.save(any())).thenReturn(testReservation);
+            when(reservationRepository.findAllById(any())).thenReturn(List.of(testReservation));
 
             // when
-            consumer.handlePaymentResult(successMessage, acknowledgment);
+            consumer.handlePaymentResults(List.of(successMessage), acknowledgment);
 
             // then
-            // 1. 예약 저장 확인 (상태가 CONFIRMED로 변경됨)
-            ArgumentCaptor<Reservation> reservationCaptor = ArgumentCaptor.forClass(Reservation.class);
-            verify(reservationRepository).save(reservationCaptor.capture());
-            assertThat(reservationCaptor.getValue().getStatus()).isEqualTo(ReservationStatus.CONFIRMED);
+            // 1. 예약 일괄 저장 확인 (상태가 CONFIRMED로 변경됨)
+            verify(reservationRepository).saveAll(List.of(testReservation));
+            assertThat(testReservation.getStatus()).isEqualTo(ReservationStatus.CONFIRMED);
 
-            // 2. 좌석 해제 확인
-            ArgumentCaptor<SeatIdentifier> seatCaptor = ArgumentCaptor.forClass(SeatIdentifier.class);
-            verify(seatHoldPort).release(seatCaptor.capture());
-            assertThat(seatCaptor.getValue().scheduleId().value()).isEqualTo(SCHEDULE_ID);
-            assertThat(seatCaptor.getValue().seatNumber().value()).isEqualTo(SEAT_NUMBER);
+            // 2. 좌석 일괄 해제 확인
+            verify(seatHoldPort).releaseAll(List.of(
+                    new SeatIdentifier(new ConcertScheduleId(SCHEDULE_ID), new SeatNumber(SEAT_NUMBER))));
 
             // 3. 이벤트 발행 확인
             ArgumentCaptor<ReservationConfirmedEvent> eventCaptor =
@@ -145,20 +161,18 @@ class PaymentResultConsumerTest {
                     failReason
             );
 
-            when(reservationRepository.findById(any())).thenReturn(Optional.of(testReservation));
-            when(reservationRepository.save(any())).thenReturn(testReservation);
+            when(reservationRepository.findAllById(any())).thenReturn(List.of(testReservation));
 
             // when
-            consumer.handlePaymentResult(failMessage, acknowledgment);
+            consumer.handlePaymentResults(List.of(failMessage), acknowledgment);
 
             // then
-            // 1. 예약 저장 확인 (상태가 PAYMENT_FAILED로 변경됨)
-            ArgumentCaptor<Reservation> reservationCaptor = ArgumentCaptor.forClass(Reservation.class);
-            verify(reservationRepository).save(reservationCaptor.capture());
-            assertThat(reservationCaptor.getValue().getStatus()).isEqualTo(ReservationStatus.PAYMENT_FAILED);
+            // 1. 예약 일괄 저장 확인 (상태가 PAYMENT_FAILED로 변경됨)
+            verify(reservationRepository).saveAll(List.of(testReservation));
+            assertThat(testReservation.getStatus()).isEqualTo(ReservationStatus.PAYMENT_FAILED);
 
             // 2. 좌석 해제 확인 (다른 사용자가 예약 가능하도록)
-            verify(seatHoldPort).release(any(SeatIdentifier.class));
+            verify(seatHoldPort).releaseAll(any());
 
             // 3. 이벤트 발행하지 않음 (실패이므로)
             verify(eventPublisher, never()).publishEvent(any());
@@ -173,8 +187,8 @@ class PaymentResultConsumerTest {
     class WhenReservationNotFound {
 
         @Test
-        @DisplayName("커밋하지 않아 재시도된다")
-        void shouldNotAcknowledgeForRetry() {
+        @DisplayName("해당 건은 건너뛰고 배치를 커밋한다")
+        void shouldSkipAndAcknowledge() {
             // given
             PaymentResultMessage message = PaymentResultMessage.success(
                     "non-existent-reservation-id",
@@ -182,20 +196,45 @@ class PaymentResultConsumerTest {
                     20_000L
             );
 
-            when(reservationRepository.findById(any())).thenReturn(Optional.empty());
+            when(reservationRepository.findAllById(any())).thenReturn(List.of());
 
             // when
-            consumer.handlePaymentResult(message, acknowledgment);
+            consumer.handlePaymentResults(List.of(message), acknowledgment);
 
             // then
-            // 1. 좌석 해제하지 않음
-            verify(seatHoldPort, never()).release(any());
+            // 1. 저장/좌석 해제하지 않음
+            verify(reservationRepository, never()).saveAll(any());
+            verify(seatHoldPort, never()).releaseAll(any());
 
             // 2. 이벤트 발행하지 않음
             verify(eventPublisher, never()).publishEvent(any());
 
-            // 3. 커밋하지 않음 (재시도 필요)
-            verify(acknowledgment, never()).acknowledge();
+            // 3. 커밋 (재시도해도 동일)
+            verify(acknowledgment).acknowledge();
+        }
+    }
+
+    @Nested
+    @DisplayName("배치 처리")
+    class BatchProcessing {
+
+        @Test
+        @DisplayName("같은 예약의 중복 결과는 한 번만 반영한다")
+        void shouldApplyDuplicateResultOnce() {
+            // given
+            PaymentResultMessage first = PaymentResultMessage.success(RESERVATION_ID, USER_ID, 20_000L);
+            PaymentResultMessage duplicate = PaymentResultMessage.success(RESERVATION_ID, USER_ID, 20_000L);
+
+            when(reservationRepository.findAllById(any())).thenReturn(List.of(testReservation));
+
+            // when
+            consumer.handlePaymentResults(List.of(first, duplicate), acknowledgment);
+
+            // then
+            verify(reservationRepository, times(1)).findAllById(List.of(new ReservationId(RESERVATION_ID)));
+            verify(reservationRepository).saveAll(List.of(testReservation));
+            verify(eventPublisher, times(1)).publishEvent(any(ReservationConfirmedEvent.class));
+            verify(acknowledgment).acknowledge();
         }
     }
 
@@ -203,24 +242,49 @@ class PaymentResultConsumerTest {
     @DisplayName("처리 중 예외 발생 시")
     class WhenExceptionOccurs {
 
+        private final PaymentResultMessage message = PaymentResultMessage.success(
+                RESERVATION_ID,
+                USER_ID,
+                20_000L
+        );
+
+        @BeforeEach
+        void setUp() {
+            // 롤백 후 재조회 시 DB 상태(PAYMENT_PENDING) 그대로 반환
+            when(reservationRepository.findAllById(any()))
+                    .thenAnswer(inv -> List.of(createPaymentPendingReservation()));
+            doThrow(new RuntimeException("DB 오류")).when(reservationRepository).saveAll(any());
+        }
+
         @Test
-        @DisplayName("커밋하지 않아 재시도된다")
-        void shouldNotAcknowledgeForRetry() {
+        @DisplayName("건별 처리로도 실패한 메시지는 재시도 토픽으로 넘기고 커밋한다")
+        void shouldForwardToRetryTopicAndAcknowledge() {
             // given
-            PaymentResultMessage message = PaymentResultMessage.success(
-                    RESERVATION_ID,
-                    USER_ID,
-                    20_000L
-            );
+            when(retryPublisher.forward(any(), any(), any(), anyInt(), any())).thenReturn(true);
+
+            // when
+            consumer.handlePaymentResults(List.of(message), acknowledgment);
 
-            when(reservationRepository.findById(any())).thenReturn(Optional.of(testReservation));
-            when(reservationRepository.save(any())).thenThrow(new RuntimeException("DB 오류"));
+            // then
+            // 배치 1회 + 건별 1회
+            verify(reservationRepository, times(2)).saveAll(any());
+            verify(retryPublisher).forward(
+                    eq(RetryTopics.PAYMENT_RESULTS), eq(RESERVATION_ID), eq(message), eq(0), any());
+            verify(acknowledgment).acknowledge();
+        }
+
+        @Test
+        @DisplayName("재시도 토픽 발행도 실패하면 실패 지점부터 재전송한다")
+        void shouldNackFromFailedIndexWhenForwardFails() {
+            // given
+            when(retryPublisher.forward(any(), any(), any(), anyInt(), any())).thenReturn(true, false);
 
             // when
-            consumer.handlePaymentResult(message, acknowledgment);
+            consumer.handlePaymentResults(List.of(message, message), acknowledgment);
 
             // then
-            // 커밋하지 않음 (재시도 필요)
+            // 첫 메시지는 재시도 토픽으로 넘어갔으므로 커밋, 두 번째부터 재전송
+            verify(acknowledgment).nack(1, Duration.ofSeconds(1));
             verify(acknowledgment, never()).acknowledge();
         }
     }
@@ -242,11 +306,10 @@ class PaymentResultConsumerTest {
                     LocalDateTime.now()
             );
 
-            when(reservationRepository.findById(any())).thenReturn(Optional.of(testReservation));
-            when(reservationRepository.save(any())).thenReturn(testReservation);
+            when(reservationRepository.findAllById(any())).thenReturn(List.of(testReservation));
 
             // when
-            consumer.handlePaymentResult(successMessage, acknowledgment);
+            consumer.handlePaymentResults(List.of(successMessage), acknowledgment);
 
             // then
             // 이벤트 발행됨 = 성공 핸들러 호출됨
@@ -266,16 +329,15 @@ class PaymentResultConsumerTest {
                     LocalDateTime.now()
             );
 
-            when(reservationRepository.findById(any())).thenReturn(Optional.of(testReservation));
-            when(reservationRepository.save(any())).thenReturn(testReservation);
+            when(reservationRepository.findAllById(any())).thenReturn(List.of(testReservation));
 
             // when
-            consumer.handlePaymentResult(failMessage, acknowledgment);
+            consumer.handlePaymentResults(List.of(failMessage), acknowledgment);
 
             // then
             // 이벤트 발행 안됨 = 실패 핸들러 호출됨
             verify(eventPublisher, never()).publishEvent(any());
-            verify(seatHoldPort).release(any()); // 좌석은 해제됨
+            verify(seatHoldPort).releaseAll(any()); // 좌석은 해제됨
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,139 @@
+package kr.hhplus.be.server.infrastructure.kafka.consumer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hhplus.be.server.application.port.in.PaymentUseCase;
+import kr.hhplus.be.server.infrastructure.kafka.message.RefundRequestMessage;
+import kr.hhplus.be.server.infrastructure.kafka.message.RefundResultMessage;
+import kr.hhplus.be.server.infrastructure.kafka.metrics.KafkaListenerMetrics;
+import kr.hhplus.be.server.infrastructure.kafka.producer.PaymentKafkaProducer;
+import kr.hhplus.be.server.infrastructure.kafka.retry.PaymentRetryPublisher;
+import kr.hhplus.be.server.infrastructure.kafka.retry.RetryTopics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RefundRequestConsumer 단위 테스트")
+class RefundRequestConsumerTest {
+
+    @Mock
+    private PaymentUseCase paymentUseCase;
+
+    @Mock
+    private PaymentKafkaProducer paymentKafkaProducer;
+
+    @Mock
+    private PaymentRetryPublisher retryPublisher;
+
+    @Mock
+    private Acknowledgment acknowledgment;
+
+    @Spy
+    private KafkaListenerMetrics metrics = new KafkaListenerMetrics(new SimpleMeterRegistry());
+
+    @InjectMocks
+    private RefundRequestConsumer consumer;
+
+    private static final String USER_A = "550e8400-e29b-41d4-a716-446655440000";
+    private static final String USER_B = "660e8400-e29b-41d4-a716-446655440000";
+
+    @Test
+    @DisplayName("배치를 한 번에 적립하고 건별 결과를 발행한 뒤 커밋한다")
+    void shouldRefundBatchAndPublishResults() {
+        // given
+        RefundRequestMessage first = RefundRequestMessage.of("r-1", USER_A, 30_000L, 1L, 1);
+        RefundRequestMessage second = RefundRequestMessage.of("r-2", USER_B, 50_000L, 1L, 2);
+        when(paymentUseCase.refundBatch(any())).thenReturn(new PaymentUseCase.RefundBatchResult(
+                Map.of(USER_A, 130_000L, USER_B, 50_000L), List.of()));
+
+        // when
+        consumer.handleRefundRequests(List.of(first, second), acknowledgment);
+
+        // then
+        verify(paymentUseCase, times(1)).refundBatch(any());
+        ArgumentCaptor<RefundResultMessage> captor = ArgumentCaptor.forClass(RefundResultMessage.class);
+        verify(paymentKafkaProducer, times(2)).sendRefundResult(captor.capture());
+        assertThat(captor.getAllValues())
+                .extracting(RefundResultMessage::reservationId, RefundResultMessage::balance)
+                .containsExactly(
+                        org.assertj.core.groups.Tuple.tuple("r-1", 130_000L),
+                        org.assertj.core.groups.Tuple.tuple("r-2", 50_000L));
+        verify(acknowledgment).acknowledge();
+    }
+
+    @Test
+    @DisplayName("적립 거부 건은 DLQ로 보내고 나머지는 결과 발행 후 커밋한다")
+    void shouldDeadLetterRejectedAndContinue() {
+        // given
+        RefundRequestMessage valid = RefundRequestMessage.of("r-1", USER_A, 30_000L, 1L, 1);
+        RefundRequestMessage invalid = RefundRequestMessage.of("r-2", "not-a-uuid", 50_000L, 1L, 2);
+        PaymentUseCase.RefundCommand rejected =
+                new PaymentUseCase.RefundCommand("not-a-uuid", 50_000L, invalid.idempotencyKey());
+        when(paymentUseCase.refundBatch(any())).thenReturn(new PaymentUseCase.RefundBatchResult(
+                Map.of(USER_A, 30_000L), List.of(rejected)));
+        when(retryPublisher.deadLetter(eq(RetryTopics.REFUND_REQUESTS), any(), eq(invalid), any())).thenReturn(true);
+
+        // when
+        consumer.handleRefundRequests(List.of(valid, invalid), acknowledgment);
+
+        // then
+        verify(retryPublisher).deadLetter(eq(RetryTopics.REFUND_REQUESTS), any(), eq(invalid), any());
+        verify(paymentKafkaProducer, times(1)).sendRefundResult(any());
+        verify(acknowledgment).acknowledge();
+    }
+
+    @Test
+    @DisplayName("시스템 오류 시 건별로 나눠 재처리하고 실패 건은 재시도 토픽으로 넘긴 뒤 커밋한다")
+    void shouldForwardFailedToRetryTopicOnSystemError() {
+        // given
+        RefundRequestMessage first = RefundRequestMessage.of("r-1", USER_A, 30_000L, 1L, 1);
+        RefundRequestMessage second = RefundRequestMessage.of("r-2", USER_B, 50_000L, 1L, 2);
+        when(paymentUseCase.refundBatch(any()))
+                .thenThrow(new QueryTimeoutException("timeout"))
+                .thenReturn(new PaymentUseCase.RefundBatchResult(Map.of(USER_A, 130_000L), List.of()))
+                .thenThrow(new QueryTimeoutException("timeout"));
+        when(retryPublisher.forward(any(), any(), any(), anyInt(), any())).thenReturn(true);
+
+        // when
+        consumer.handleRefundRequests(List.of(first, second), acknowledgment);
+
+        // then
+        // 배치 1회 + 건별 2회
+        verify(paymentUseCase, times(3)).refundBatch(any());
+        verify(paymentKafkaProducer, times(1)).sendRefundResult(any());
+        verify(retryPublisher).forward(eq(RetryTopics.REFUND_REQUESTS), eq(USER_B), eq(second), eq(0), any());
+        verify(acknowledgment).acknowledge();
+    }
+
+    @Test
+    @DisplayName("재시도 토픽 발행도 실패하면 실패 지점부터 재전송한다")
+    void shouldNackFromFailedIndexWhenForwardFails() {
+        // given
+        RefundRequestMessage message = RefundRequestMessage.of("r-1", USER_A, 30_000L, 1L, 1);
+        when(paymentUseCase.refundBatch(any())).thenThrow(new QueryTimeoutException("timeout"));
+        when(retryPublisher.forward(any(), any(), any(), anyInt(), any())).thenReturn(false);
+
+        // when
+        consumer.handleRefundRequests(List.of(message), acknowledgment);
+
+        // then
+        verify(paymentKafkaProducer, never()).sendRefundResult(any());
+        verify(acknowledgment, never()).acknowledge();
+        verify(acknowledgment).nack(0, Duration.ofSeconds(1));
+    }
+}
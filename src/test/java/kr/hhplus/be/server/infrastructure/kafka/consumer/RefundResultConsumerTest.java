@@ -0,0 +1,156 @@
+package kr.hhplus.be.server.infrastructure.kafka.consumer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hhplus.be.server.application.event.ReservationCancelledEvent;
+import kr.hhplus.be.server.domain.common.Money;
+import kr.hhplus.be.server.domain.common.UserId;
+import kr.hhplus.be.server.domain.concert.ConcertScheduleId;
+import kr.hhplus.be.server.domain.reservation.*;
+import kr.hhplus.be.server.infrastructure.kafka.message.RefundResultMessage;
+import kr.hhplus.be.server.infrastructure.kafka.metrics.KafkaListenerMetrics;
+import kr.hhplus.be.server.infrastructure.kafka.retry.PaymentRetryPublisher;
+import kr.hhplus.be.server.infrastructure.kafka.retry.RetryTopics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RefundResultConsumer 단위 테스트")
+class RefundResultConsumerTest {
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private PaymentRetryPublisher retryPublisher;
+
+    @Mock
+    private Acknowledgment acknowledgment;
+
+    @Spy
+    private KafkaListenerMetrics metrics = new KafkaListenerMetrics(new SimpleMeterRegistry());
+
+    @InjectMocks
+    private RefundResultConsumer consumer;
+
+    private static final String RESERVATION_ID = "test-reservation-id";
+    private static final String USER_ID = "550e8400-e29b-41d4-a716-446655440000";
+
+    private Reservation reservation;
+
+    @BeforeEach
+    void setUp() {
+        reservation = Reservation.restore(
+                new ReservationId(RESERVATION_ID),
+                UserId.ofString(USER_ID),
+                new SeatIdentifier(new ConcertScheduleId(1L), new SeatNumber(15)),
+                Money.of(80_000L),
+                ReservationStatus.CONFIRMED,
+                LocalDateTime.now().minusMinutes(10),
+                LocalDateTime.now().minusMinutes(5),
+                0L
+        );
+        reservation.requestRefund(LocalDateTime.now().minusMinutes(1));
+
+        lenient().when(transactionTemplate.execute(any()))
+                .thenAnswer(inv -> inv.getArgument(0, TransactionCallback.class).doInTransaction(null));
+    }
+
+    @Test
+    @DisplayName("환불 대기 예약을 CANCELLED로 바꾸고 취소 이벤트 발행 후 커밋한다")
+    void shouldCancelReservationAndAcknowledge() {
+        // given
+        when(reservationRepository.findById(new ReservationId(RESERVATION_ID))).thenReturn(Optional.of(reservation));
+
+        // when
+        consumer.handleRefundResults(
+                List.of(RefundResultMessage.completed(RESERVATION_ID, USER_ID, 80_000L, 100_000L)), acknowledgment);
+
+        // then
+        assertThat(reservation.getStatus()).isEqualTo(ReservationStatus.CANCELLED);
+        verify(reservationRepository).save(reservation);
+
+        ArgumentCaptor<ReservationCancelledEvent> captor = ArgumentCaptor.forClass(ReservationCancelledEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        assertThat(captor.getValue().reservationId()).isEqualTo(RESERVATION_ID);
+
+        verify(acknowledgment).acknowledge();
+    }
+
+    @Test
+    @DisplayName("이미 취소된 예약은 건너뛰고 커밋한다 (재전송)")
+    void shouldSkipAlreadyCancelled() {
+        // given
+        reservation.cancel(LocalDateTime.now());
+        when(reservationRepository.findById(any())).thenReturn(Optional.of(reservation));
+
+        // when
+        consumer.handleRefundResults(
+                List.of(RefundResultMessage.completed(RESERVATION_ID, USER_ID, 80_000L, 100_000L)), acknowledgment);
+
+        // then
+        verify(reservationRepository, never()).save(any());
+        verify(eventPublisher, never()).publishEvent(any());
+        verify(acknowledgment).acknowledge();
+    }
+
+    @Test
+    @DisplayName("반영 실패 시 재시도 토픽으로 넘기고 커밋한다")
+    void shouldForwardToRetryTopicWhenApplyFails() {
+        // given
+        RefundResultMessage message = RefundResultMessage.completed(RESERVATION_ID, USER_ID, 80_000L, 100_000L);
+        when(reservationRepository.findById(any())).thenReturn(Optional.of(reservation));
+        when(reservationRepository.save(any())).thenThrow(new QueryTimeoutException("timeout"));
+        when(retryPublisher.forward(any(), any(), any(), anyInt(), any())).thenReturn(true);
+
+        // when
+        consumer.handleRefundResults(List.of(message), acknowledgment);
+
+        // then
+        verify(retryPublisher).forward(eq(RetryTopics.REFUND_RESULTS), eq(RESERVATION_ID), eq(message), eq(0), any());
+        verify(acknowledgment).acknowledge();
+    }
+
+    @Test
+    @DisplayName("재시도 토픽 발행도 실패하면 실패 지점부터 nack로 재수신한다")
+    void shouldNackWhenForwardFails() {
+        // given
+        when(reservationRepository.findById(any())).thenReturn(Optional.of(reservation));
+        when(reservationRepository.save(any())).thenThrow(new QueryTimeoutException("timeout"));
+        when(retryPublisher.forward(any(), any(), any(), anyInt(), any())).thenReturn(false);
+
+        // when
+        consumer.handleRefundResults(
+                List.of(RefundResultMessage.completed(RESERVATION_ID, USER_ID, 80_000L, 100_000L)), acknowledgment);
+
+        // then
+        verify(acknowledgment, never()).acknowledge();
+        verify(acknowledgment).nack(0, Duration.ofSeconds(1));
+    }
+}
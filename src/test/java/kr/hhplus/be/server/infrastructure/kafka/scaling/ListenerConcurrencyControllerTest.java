@@ -0,0 +1,85 @@
+package kr.hhplus.be.server.infrastructure.kafka.scaling;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ListenerConcurrencyController 단위 테스트")
+class ListenerConcurrencyControllerTest {
+
+    private static final String LISTENER = "payment-requests";
+
+    @Mock
+    private KafkaListenerEndpointRegistry registry;
+
+    private ListenerConcurrencyController controller;
+
+    @BeforeEach
+    void setUp() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("app.kafka.listener.payment-requests.min-concurrency", "1")
+                .withProperty("app.kafka.listener.payment-requests.max-concurrency", "6")
+                .withProperty("app.kafka.listener.payment-requests.lag-per-consumer", "500");
+        controller = new ListenerConcurrencyController(registry, environment, true, 3, List.of(LISTENER));
+    }
+
+    @Test
+    @DisplayName("lag이 늘면 즉시 확장하되 파티션 수를 넘지 않는다")
+    void scaleUpCappedByPartitions() {
+        // when
+        int next = controller.nextConcurrency(LISTENER, 1, 2_600, 4);
+
+        // then - ceil(2600/500)=6 이지만 파티션 4개
+        assertThat(next).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("lag이 줄어도 연속 3회 낮을 때만 1단계 축소한다")
+    void scaleDownWithHysteresis() {
+        // when
+        int first = controller.nextConcurrency(LISTENER, 4, 0, 6);
+        int second = controller.nextConcurrency(LISTENER, 4, 0, 6);
+        int third = controller.nextConcurrency(LISTENER, 4, 0, 6);
+
+        // then
+        assertThat(first).isEqualTo(4);
+        assertThat(second).isEqualTo(4);
+        assertThat(third).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("축소 대기 중 lag이 다시 늘면 카운트를 초기화한다")
+    void burstResetsStreak() {
+        // given
+        controller.nextConcurrency(LISTENER, 4, 0, 6);
+        controller.nextConcurrency(LISTENER, 4, 0, 6);
+
+        // when - 버스트
+        int burst = controller.nextConcurrency(LISTENER, 4, 2_000, 6);
+        int afterBurst = controller.nextConcurrency(LISTENER, 4, 0, 6);
+
+        // then
+        assertThat(burst).isEqualTo(4);
+        assertThat(afterBurst).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("lag이 없으면 최소 동시성으로 수렴한다")
+    void idleKeepsMinimum() {
+        ScalingPolicy policy = new ScalingPolicy(2, 6, 500);
+
+        assertThat(policy.desiredConcurrency(0, 6)).isEqualTo(2);
+        assertThat(policy.desiredConcurrency(501, 6)).isEqualTo(2);
+        assertThat(policy.desiredConcurrency(1_501, 6)).isEqualTo(4);
+    }
+}
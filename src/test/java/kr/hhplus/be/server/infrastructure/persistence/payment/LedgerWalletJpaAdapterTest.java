@@ -0,0 +1,136 @@
+package kr.hhplus.be.server.infrastructure.persistence.payment;
+
+import kr.hhplus.be.server.domain.common.UserId;
+import kr.hhplus.be.server.domain.payment.InsufficientBalanceException;
+import kr.hhplus.be.server.domain.payment.Wallet;
+import kr.hhplus.be.server.infrastructure.persistence.payment.jpa.adapter.LedgerWalletJpaAdapter;
+import kr.hhplus.be.server.infrastructure.persistence.payment.jpa.entity.UserWalletJpaEntity;
+import kr.hhplus.be.server.infrastructure.persistence.payment.jpa.entity.WalletBalanceSnapshotJpaEntity;
+import kr.hhplus.be.server.infrastructure.persistence.payment.jpa.repository.UserWalletJpaRepository;
+import kr.hhplus.be.server.infrastructure.persistence.payment.jpa.repository.WalletBalanceSnapshotJpaRepository;
+import kr.hhplus.be.server.infrastructure.persistence.payment.jpa.repository.WalletIdempotencyKeyJpaRepository;
+import kr.hhplus.be.server.infrastructure.persistence.payment.jpa.repository.WalletLedgerJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LedgerWalletJpaAdapter 단위 테스트")
+class LedgerWalletJpaAdapterTest {
+
+    @Mock
+    private UserWalletJpaRepository walletRepo;
+
+    @Mock
+    private WalletLedgerJpaRepository ledgerRepo;
+
+    @Mock
+    private WalletIdempotencyKeyJpaRepository idempotencyKeyRepo;
+
+    @Mock
+    private WalletBalanceSnapshotJpaRepository snapshotRepo;
+
+    @InjectMocks
+    private LedgerWalletJpaAdapter adapter;
+
+    private static final String USER_ID = "550e8400-e29b-41d4-a716-446655440000";
+    private static final UUID USER_UUID = UUID.fromString(USER_ID);
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(walletRepo.existsById(USER_UUID)).thenReturn(true);
+    }
+
+    @Test
+    @DisplayName("잔액 = 스냅샷 잔액 + 스냅샷 이후 원장 합계")
+    void balanceIsSnapshotPlusDelta() {
+        // given - 원장 ID 100까지 50,000원 반영된 스냅샷
+        WalletBalanceSnapshotJpaEntity snapshot = new WalletBalanceSnapshotJpaEntity(USER_UUID);
+        snapshot.rollForward(50_000L, 100L);
+
+        when(snapshotRepo.findById(USER_UUID)).thenReturn(Optional.of(snapshot));
+        when(ledgerRepo.sumAmountAfter(USER_UUID, 100L)).thenReturn(-20_000L);
+
+        // when
+        long balance = adapter.balanceOf(USER_ID);
+
+        // then
+        assertThat(balance).isEqualTo(30_000L);
+    }
+
+    @Test
+    @DisplayName("스냅샷이 없으면 전체 원장 합계로 잔액을 계산한다")
+    void balanceWithoutSnapshot() {
+        // given
+        when(snapshotRepo.findById(USER_UUID)).thenReturn(Optional.empty());
+        when(ledgerRepo.sumAmountAfter(USER_UUID, 0L)).thenReturn(10_000L);
+
+        // when
+        Optional<Wallet> wallet = adapter.findByUserId(UserId.ofString(USER_ID));
+
+        // then
+        assertThat(wallet).isPresent();
+        assertThat(wallet.get().getBalance().amount()).isEqualTo(10_000L);
+    }
+
+    @Test
+    @DisplayName("저장 시 user_wallet 행을 갱신하지 않고 원장만 기록한다")
+    void saveDoesNotTouchWalletRow() {
+        // given
+        when(snapshotRepo.findById(USER_UUID)).thenReturn(Optional.empty());
+        when(ledgerRepo.sumAmountAfter(USER_UUID, 0L)).thenReturn(10_000L);
+        when(walletRepo.findForUpdate(USER_UUID)).thenReturn(Optional.of(new UserWalletJpaEntity(USER_UUID, 0L)));
+        when(ledgerRepo.sumAmountAfterForShare(any(), eq(0L))).thenReturn(10_000L);
+        UserId userId = UserId.ofString(USER_ID);
+        Wallet wallet = adapter.findByUserId(userId).orElseThrow();
+        wallet.pay(3_000L, "key");
+
+        // when
+        adapter.save(wallet);
+        adapter.saveLedgerEntry(userId, -3_000L, "PAYMENT", "key");
+
+        // then
+        verify(walletRepo, never()).save(any());
+        verify(ledgerRepo).save(any());
+    }
+
+    @Test
+    @DisplayName("차감 시 잠금 후 최신 원장 기준 잔액이 부족하면 기록하지 않는다")
+    void debitRechecksBalanceUnderLock() {
+        // given - 트랜잭션 시작 시점에는 10,000원이었지만 다른 차감이 먼저 커밋됨
+        when(walletRepo.findForUpdate(USER_UUID)).thenReturn(Optional.of(new UserWalletJpaEntity(USER_UUID, 0L)));
+        when(snapshotRepo.findById(USER_UUID)).thenReturn(Optional.empty());
+        when(ledgerRepo.sumAmountAfterForShare(any(), eq(0L))).thenReturn(2_000L);
+        UserId userId = UserId.ofString(USER_ID);
+
+        // when & then
+        assertThatThrownBy(() -> adapter.saveLedgerEntry(userId, -3_000L, "PAYMENT", "key"))
+                .isInstanceOf(InsufficientBalanceException.class);
+        verify(ledgerRepo, never()).save(any());
+        verify(idempotencyKeyRepo, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("충전은 행 잠금 없이 원장만 기록한다")
+    void creditDoesNotLock() {
+        // when
+        adapter.saveLedgerEntry(UserId.ofString(USER_ID), 5_000L, "TOP_UP", "key");
+
+        // then
+        verify(walletRepo, never()).findForUpdate(any());
+        verify(ledgerRepo).save(any());
+    }
+}
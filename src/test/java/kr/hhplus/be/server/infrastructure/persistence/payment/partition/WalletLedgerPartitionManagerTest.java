@@ -0,0 +1,150 @@
+package kr.hhplus.be.server.infrastructure.persistence.payment.partition;
+
+import com.zaxxer.hikari.HikariDataSource;
+import kr.hhplus.be.server.infrastructure.persistence.payment.partition.WalletLedgerPartitionManager.LedgerPartition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * wallet_ledger 파티션 관리 테스트 (MySQL 컨테이너)
+ */
+@Testcontainers
+@DisplayName("WalletLedgerPartitionManager 테스트")
+class WalletLedgerPartitionManagerTest {
+
+    @Container
+    static MySQLContainer<?> mysql = new MySQLContainer<>(DockerImageName.parse("mysql:8.0"))
+            .withDatabaseName("hhplus");
+
+    private HikariDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private WalletLedgerPartitionManager partitionManager;
+
+    @TempDir
+    Path archiveDirectory;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(mysql.getJdbcUrl());
+        dataSource.setUsername(mysql.getUsername());
+        dataSource.setPassword(mysql.getPassword());
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS wallet_ledger");
+        jdbcTemplate.execute("""
+                CREATE TABLE wallet_ledger (
+                    id               BIGINT AUTO_INCREMENT,
+                    user_id          BINARY(16) NOT NULL,
+                    amount           BIGINT NOT NULL,
+                    reason           VARCHAR(32) NOT NULL,
+                    idempotency_key  VARCHAR(64) DEFAULT NULL,
+                    created_at       DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+                    PRIMARY KEY (id, created_at)
+                ) ENGINE=InnoDB
+                PARTITION BY RANGE COLUMNS (created_at) (
+                    PARTITION p202601 VALUES LESS THAN ('2026-02-01'),
+                    PARTITION pmax    VALUES LESS THAN (MAXVALUE)
+                )""");
+
+        partitionManager = new WalletLedgerPartitionManager(dataSource);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.close();
+    }
+
+    @Test
+    @DisplayName("파티션 목록과 상한을 순서대로 조회한다")
+    void findsPartitions() {
+        // when
+        List<LedgerPartition> partitions = partitionManager.findPartitions();
+
+        // then
+        assertThat(partitions).containsExactly(
+                new LedgerPartition("p202601", LocalDate.of(2026, 2, 1)),
+                new LedgerPartition("pmax", null));
+    }
+
+    @Test
+    @DisplayName("pmax 를 분할해 월 파티션을 추가한다")
+    void addsMonthlyPartition() {
+        // when
+        partitionManager.addMonthlyPartition(YearMonth.of(2026, 2));
+
+        // then
+        assertThat(partitionManager.findPartitions()).extracting(LedgerPartition::name)
+                .containsExactly("p202601", "p202602", "pmax");
+    }
+
+    @Test
+    @DisplayName("파티션을 gzip CSV 로 내보낸 뒤 삭제한다")
+    void exportsAndDropsPartition() throws Exception {
+        // given
+        insert(1_000L, "TOP_UP", "key-1", "2026-01-10 10:00:00");
+        insert(-300L, "PAYMENT", "a,b", "2026-01-20 10:00:00");
+        insert(500L, "TOP_UP", null, "2026-03-01 10:00:00");
+        Path target = archiveDirectory.resolve("wallet_ledger_p202601.csv.gz");
+
+        // when
+        long count = partitionManager.countRows("p202601");
+        long maxId = partitionManager.maxId("p202601");
+        long exported = partitionManager.exportPartition("p202601", target);
+        partitionManager.dropPartition("p202601");
+
+        // then
+        assertThat(count).isEqualTo(2);
+        assertThat(maxId).isEqualTo(2);
+        assertThat(exported).isEqualTo(2);
+        assertThat(readLines(target)).hasSize(3)
+                .first().isEqualTo("id,user_id,amount,reason,idempotency_key,created_at");
+        assertThat(readLines(target).get(2)).contains("\"a,b\"");
+        assertThat(Files.exists(target.resolveSibling(target.getFileName() + ".tmp"))).isFalse();
+        assertThat(partitionManager.findPartitions()).extracting(LedgerPartition::name)
+                .containsExactly("pmax");
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM wallet_ledger", Long.class)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("파티션 이름 형식이 아니면 SQL 을 실행하지 않는다")
+    void rejectsInvalidPartitionName() {
+        assertThatThrownBy(() -> partitionManager.dropPartition("p1; DROP TABLE wallet_ledger"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private void insert(long amount, String reason, String idempotencyKey, String createdAt) {
+        jdbcTemplate.update(
+                "INSERT INTO wallet_ledger (user_id, amount, reason, idempotency_key, created_at) "
+                        + "VALUES (UUID_TO_BIN(UUID()), ?, ?, ?, ?)",
+                amount, reason, idempotencyKey, createdAt);
+    }
+
+    private List<String> readLines(Path path) throws Exception {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(path)), StandardCharsets.UTF_8))) {
+            return reader.lines().toList();
+        }
+    }
+}
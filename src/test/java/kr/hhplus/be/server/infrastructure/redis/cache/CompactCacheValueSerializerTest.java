@@ -0,0 +1,65 @@
+package kr.hhplus.be.server.infrastructure.redis.cache;
+
+import kr.hhplus.be.server.application.port.in.RankingUseCase.ConcertRankingDto;
+import kr.hhplus.be.server.web.concert.dto.ConcertDto;
+import kr.hhplus.be.server.web.concert.dto.ScheduleDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("캐시 값 컴팩트 직렬화 테스트")
+class CompactCacheValueSerializerTest {
+
+    private final CompactCacheValueSerializer serializer = new CompactCacheValueSerializer();
+    private final JdkSerializationRedisSerializer jdk = new JdkSerializationRedisSerializer();
+
+    @Test
+    @DisplayName("캐시 DTO 와 목록을 그대로 복원하고 JDK 직렬화보다 작다")
+    void roundTrip() {
+        // given
+        List<ConcertDto> concerts = List.of(
+                new ConcertDto(1L, "아이유 콘서트", "콘서트 설명"),
+                new ConcertDto(2L, null, null));
+        ScheduleDto schedule = new ScheduleDto(10L, 1L, LocalDate.of(2025, 1, 1), 50,
+                IntStream.rangeClosed(1, 50).filter(seat -> seat % 7 != 0).boxed().toList());
+        List<ConcertRankingDto> ranking = List.of(
+                new ConcertRankingDto(1, 10L, "Concert #10", 50, 2.5, true, 20),
+                new ConcertRankingDto(2, 11L, "Concert #11", 3, 0.1, false, null));
+
+        for (Object value : List.of(concerts, schedule, ranking)) {
+            // when
+            byte[] bytes = serializer.serialize(value);
+
+            // then
+            assertThat(serializer.deserialize(bytes)).isEqualTo(value);
+            assertThat(bytes.length).isLessThan(jdk.serialize(value).length / 3);
+        }
+    }
+
+    @Test
+    @DisplayName("이전 배포가 JDK 직렬화로 저장한 값도 읽는다")
+    void readsLegacyJdkValues() {
+        // given
+        ConcertDto concert = new ConcertDto(1L, "콘서트", "상세 설명");
+
+        // when & then
+        assertThat(serializer.deserialize(jdk.serialize(concert))).isEqualTo(concert);
+    }
+
+    @Test
+    @DisplayName("스키마 버전이 다른 값은 캐시 미스로 처리한다")
+    void otherVersionIsCacheMiss() {
+        // given
+        byte[] bytes = serializer.serialize(new ConcertDto(1L, "콘서트", "설명"));
+        bytes[1] = (byte) (CompactCacheValueSerializer.VERSION + 1);
+
+        // when & then
+        assertThat(serializer.deserialize(bytes)).isNull();
+    }
+}
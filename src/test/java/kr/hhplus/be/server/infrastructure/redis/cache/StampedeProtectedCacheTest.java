@@ -0,0 +1,123 @@
+package kr.hhplus.be.server.infrastructure.redis.cache;
+
+import kr.hhplus.be.server.infrastructure.redis.lock.RedisDistributedLock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("캐시 스탬피드 방지 테스트")
+class StampedeProtectedCacheTest {
+
+    @Mock
+    private RedisCache redisCache;
+
+    @Mock
+    private RedisDistributedLock distributedLock;
+
+    private final Map<Object, Object> store = new ConcurrentHashMap<>();
+    private StampedeProtectedCache cache;
+
+    @BeforeEach
+    void setUp() {
+        // RedisCache 를 맵으로 흉내
+        when(redisCache.getName()).thenReturn("schedule");
+        when(redisCache.get(any())).thenAnswer(invocation -> {
+            Object value = store.get(invocation.getArgument(0));
+            return value != null ? new SimpleValueWrapper(value) : null;
+        });
+        doAnswer(invocation -> store.put(invocation.getArgument(0), invocation.getArgument(1)))
+                .when(redisCache).put(any(), any());
+        when(redisCache.getCacheConfiguration())
+                .thenReturn(RedisCacheConfiguration.defaultCacheConfig().entryTtl(Duration.ofMinutes(1)));
+
+        when(distributedLock.tryLock(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+
+        cache = new StampedeProtectedCache(redisCache, distributedLock, Duration.ofSeconds(3), 1.0);
+    }
+
+    @Test
+    @DisplayName("동시에 미스가 나도 원본 조회는 한 번만 한다")
+    void singleFlightOnMiss() throws InterruptedException {
+        // given
+        int threads = 20;
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // when
+        for (int i = 0; i < threads; i++) {
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    String value = cache.get("1:2025-01-01", () -> {
+                        loads.incrementAndGet();
+                        Thread.sleep(200);  // 느린 DB 조회
+                        return "schedule";
+                    });
+                    assertThat(value).isEqualTo("schedule");
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+
+        // then
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(cache.get("1:2025-01-01").get()).isEqualTo("schedule");
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 갱신 중이면 기존 값을 그대로 반환한다")
+    void otherInstanceRefreshingServesCurrentValue() {
+        // given - 곧 만료되고 조회가 오래 걸리는 값 → 조기 갱신 대상
+        store.put("key", new CacheEnvelope("old", 60_000, System.currentTimeMillis() + 10));
+        when(distributedLock.tryLock(anyString(), anyString(), any(Duration.class))).thenReturn(false);
+
+        // when
+        String value = cache.get("key", () -> "new");
+
+        // then
+        assertThat(value).isEqualTo("old");
+    }
+
+    @Test
+    @DisplayName("만료가 한참 남은 값은 조기 갱신하지 않는다")
+    void freshValueIsNotRefreshedEarly() {
+        // given
+        CacheEnvelope fresh = new CacheEnvelope("value", 10, System.currentTimeMillis() + 60_000);
+
+        // when & then
+        assertThat(cache.shouldRefreshEarly(fresh)).isFalse();
+        assertThat(cache.shouldRefreshEarly(new CacheEnvelope("value", 0, 0))).isFalse();
+    }
+}
@@ -0,0 +1,87 @@
+package kr.hhplus.be.server.infrastructure.redis.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("2단계 캐시 테스트")
+class TwoLevelCacheManagerTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    private ConcurrentMapCacheManager remoteCacheManager;
+    private TwoLevelCacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        remoteCacheManager = new ConcurrentMapCacheManager("concerts", "concertRankings");
+        cacheManager = new TwoLevelCacheManager(
+                remoteCacheManager,
+                Set.of("concerts"),
+                100,
+                Duration.ofSeconds(5),
+                new CacheInvalidationPublisher(redisTemplate)
+        );
+    }
+
+    @Test
+    @DisplayName("L1 에 적재된 값은 L2 가 비어도 로컬에서 응답한다")
+    void localHitDoesNotTouchRemote() {
+        // given
+        Cache cache = cacheManager.getCache("concerts");
+        cache.put(1L, "콘서트");
+
+        // when - L2 만 비움 (다른 경로로 만료된 상황)
+        remoteCacheManager.getCache("concerts").clear();
+
+        // then
+        assertThat(cache.get(1L, String.class)).isEqualTo("콘서트");
+        verify(redisTemplate).convertAndSend(eq(CacheInvalidationPublisher.CHANNEL), anyString());
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스의 무효화 메시지를 받으면 L1 만 제거한다")
+    void remoteInvalidationEvictsLocalOnly() {
+        // given
+        Cache cache = cacheManager.getCache("concerts");
+        cache.put(1L, "콘서트");
+        remoteCacheManager.getCache("concerts").clear();
+
+        // when
+        String message = "other-instance\tconcerts\t1";
+        cacheManager.onMessage(new DefaultMessage(
+                CacheInvalidationPublisher.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                message.getBytes(StandardCharsets.UTF_8)), null);
+
+        // then - L1 제거 후 L2 도 비어 있으므로 미스
+        assertThat(cache.get(1L)).isNull();
+    }
+
+    @Test
+    @DisplayName("L1 대상이 아닌 캐시는 Redis 캐시를 그대로 사용한다")
+    void nonLocalCacheIsPassedThrough() {
+        // when & then
+        assertThat(cacheManager.getCache("concertRankings"))
+                .isSameAs(remoteCacheManager.getCache("concertRankings"));
+        assertThat(cacheManager.getCache("concerts")).isInstanceOf(TwoLevelCache.class);
+        verifyNoInteractions(redisTemplate);
+    }
+}
@@ -189,6 +189,22 @@ class RedisDistributedLockTest {
         assertThat(redisTemplate.opsForValue().get(lockKey)).isNull();
     }
 
+    @Test
+    @DisplayName("해제는 내 락일 때만 지우고 다른 소유자의 락은 남긴다")
+    void unlockOnlyOwnLock() {
+        // given
+        String lockKey = TEST_LOCK_KEY + "owner";
+        distributedLock.tryLock(lockKey, "owner-a", 5L);
+
+        // when & then: 다른 소유자 토큰으로는 해제 불가
+        assertThat(distributedLock.unlock(lockKey, "owner-b")).isFalse();
+        assertThat(redisTemplate.opsForValue().get(lockKey)).isEqualTo("owner-a");
+
+        // when & then: 내 토큰으로 해제
+        assertThat(distributedLock.unlock(lockKey, "owner-a")).isTrue();
+        assertThat(redisTemplate.opsForValue().get(lockKey)).isNull();
+    }
+
     private void sleep(long millis) {
         try {
             Thread.sleep(millis);
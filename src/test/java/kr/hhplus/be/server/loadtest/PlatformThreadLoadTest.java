@@ -0,0 +1,14 @@
+package kr.hhplus.be.server.loadtest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.springframework.test.context.TestPropertySource;
+
+@DisplayName("부하 테스트 - 플랫폼 스레드")
+@TestPropertySource(properties = "spring.threads.virtual.enabled=false")
+class PlatformThreadLoadTest extends ThreadModelLoadTestSupport {
+
+    @Override
+    protected String threadModel() {
+        return "platform";
+    }
+}
@@ -0,0 +1,133 @@
+package kr.hhplus.be.server.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 스레드 모델별 부하 테스트 공통 시나리오
+ *
+ * [시나리오]
+ * - 동시 클라이언트 400개 (Tomcat 기본 max threads 200 초과)
+ * - 요청: 잔액 조회(MySQL)와 빠른 판매 랭킹 조회(Redis)를 번갈아 호출
+ * - 워밍업 후 측정 구간의 처리량(req/s)과 p50/p99 출력
+ *
+ * 실행: ./gradlew loadTest -PjavaVersion=21 (두 모드를 같은 힙 1g 로 실행)
+ */
+@Slf4j
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+abstract class ThreadModelLoadTestSupport {
+
+    private static final int CLIENTS = 400;
+    private static final int REQUESTS_PER_CLIENT = 50;
+    private static final int WARMUP_REQUESTS = 2_000;
+
+    @LocalServerPort
+    private int port;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    protected abstract String threadModel();
+
+    @Test
+    @DisplayName("I/O 위주 요청의 처리량과 p99 측정")
+    void measureThroughputAndP99() throws Exception {
+        // given - 워밍업 (JIT, 커넥션 풀, 캐시)
+        for (int i = 0; i < WARMUP_REQUESTS; i++) {
+            send(i);
+        }
+
+        int total = CLIENTS * REQUESTS_PER_CLIENT;
+        long[] latencies = new long[total];
+        AtomicInteger index = new AtomicInteger();
+        AtomicInteger failures = new AtomicInteger();
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch doneLatch = new CountDownLatch(CLIENTS);
+        ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+
+        // when
+        for (int c = 0; c < CLIENTS; c++) {
+            int clientNo = c;
+            clients.submit(() -> {
+                try {
+                    startLatch.await();
+                    for (int r = 0; r < REQUESTS_PER_CLIENT; r++) {
+                        long start = System.nanoTime();
+                        int status = send(clientNo * REQUESTS_PER_CLIENT + r);
+                        latencies[index.getAndIncrement()] = System.nanoTime() - start;
+                        if (status != 200) {
+                            failures.incrementAndGet();
+                        }
+                    }
+                } catch (Exception e) {
+                    failures.incrementAndGet();
+                } finally {
+                    doneLatch.countDown();
+                }
+            });
+        }
+
+        long startedAt = System.nanoTime();
+        startLatch.countDown();
+        boolean finished = doneLatch.await(5, TimeUnit.MINUTES);
+        long elapsedNanos = System.nanoTime() - startedAt;
+        clients.shutdownNow();
+
+        // then
+        int completed = index.get();
+        long[] measured = Arrays.copyOf(latencies, completed);
+        Arrays.sort(measured);
+        double throughput = completed / (elapsedNanos / 1_000_000_000.0);
+
+        log.info("📊 [{}] 부하 테스트 결과", threadModel());
+        log.info("  - 동시 클라이언트: {}, 요청 수: {}, 실패: {}", CLIENTS, completed, failures.get());
+        log.info("  - 최대 힙: {}MB", Runtime.getRuntime().maxMemory() / 1024 / 1024);
+        log.info("  - 처리량: {} req/s", String.format("%.1f", throughput));
+        log.info("  - p50: {}ms, p99: {}ms, max: {}ms",
+                percentileMillis(measured, 0.50), percentileMillis(measured, 0.99),
+                percentileMillis(measured, 1.0));
+
+        assertThat(finished).isTrue();
+        assertThat(failures.get()).isZero();
+    }
+
+    private int send(int sequence) throws Exception {
+        String path = sequence % 2 == 0
+                ? "/api/wallet/" + UUID.randomUUID() + "/balance"
+                : "/api/rankings/fast-selling?limit=10";
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private String percentileMillis(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return "-";
+        }
+        int i = (int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1);
+        return String.format("%.2f", sorted[Math.max(i, 0)] / 1_000_000.0);
+    }
+}
@@ -0,0 +1,17 @@
+package kr.hhplus.be.server.loadtest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.test.context.TestPropertySource;
+
+@DisplayName("부하 테스트 - 가상 스레드")
+@EnabledForJreRange(min = JRE.JAVA_21)
+@TestPropertySource(properties = "spring.threads.virtual.enabled=true")
+class VirtualThreadLoadTest extends ThreadModelLoadTestSupport {
+
+    @Override
+    protected String threadModel() {
+        return "virtual";
+    }
+}
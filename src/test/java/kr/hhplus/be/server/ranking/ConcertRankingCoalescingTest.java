@@ -0,0 +1,131 @@
+package kr.hhplus.be.server.ranking;
+
+import kr.hhplus.be.server.application.port.out.ConcertSchedulePort;
+import kr.hhplus.be.server.application.port.out.RankingPort;
+import kr.hhplus.be.server.application.port.out.RankingPort.SaleResult;
+import kr.hhplus.be.server.application.service.ConcertRankingService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * 랭킹 증감 병합 모드 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("랭킹 증감 병합 테스트")
+class ConcertRankingCoalescingTest {
+
+    @Mock
+    private ConcertSchedulePort schedulePort;
+
+    @Mock
+    private RankingPort rankingPort;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @InjectMocks
+    private ConcertRankingService rankingService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(rankingService, "coalesceEnabled", true);
+    }
+
+    @Test
+    @DisplayName("확정/취소는 누적만 하고 flush 때 공연별 합계로 한 번에 반영한다")
+    void flushAppliesAggregatedDeltas() {
+        // given
+        when(rankingPort.recordSales(any(), anyLong())).thenReturn(Map.of(
+                "1", applied(3),
+                "2", applied(1)));
+
+        // when
+        rankingService.trackReservation(1L, 1);
+        rankingService.trackReservation(1L, 1);
+        rankingService.trackReservation(1L, 1);
+        rankingService.trackReservation(2L, 2);
+        rankingService.decrementReservation(2L, 1);
+
+        // then - 누적 중에는 Redis 호출 없음
+        verifyNoInteractions(rankingPort);
+
+        // when
+        rankingService.flushPendingUpdates();
+
+        // then
+        verify(rankingPort).recordSales(eq(Map.of("1", 3, "2", 1)), anyLong());
+        verify(rankingPort, never()).recordSale(any(), anyInt(), anyInt(), anyLong());
+    }
+
+    @Test
+    @DisplayName("반영 실패 시 증감분을 다시 누적해서 다음 flush 에 재시도한다")
+    void failedFlushIsRetried() {
+        // given
+        when(rankingPort.recordSales(any(), anyLong()))
+                .thenThrow(new RuntimeException("Redis 연결 실패"))
+                .thenReturn(Map.of("1", applied(3)));
+
+        rankingService.trackReservation(1L, 2);
+        rankingService.flushPendingUpdates();
+
+        // when - 실패 이후 추가 판매
+        rankingService.trackReservation(1L, 1);
+        rankingService.flushPendingUpdates();
+
+        // then
+        verify(rankingPort).recordSales(eq(Map.of("1", 3)), anyLong());
+    }
+
+    @Test
+    @DisplayName("총 좌석 수를 모르는 공연만 DB 조회 후 개별 재시도한다")
+    void unknownTotalSeatsIsRetriedWithHint() {
+        // given
+        when(rankingPort.recordSales(any(), anyLong())).thenReturn(Map.of(
+                "1", new SaleResult(SaleResult.Status.TOTAL_SEATS_UNKNOWN, 0, 0.0, false, null),
+                "2", applied(1)));
+        when(schedulePort.findById(any())).thenReturn(Optional.empty());
+        when(rankingPort.recordSale(eq("1"), eq(2), anyInt(), anyLong())).thenReturn(applied(2));
+
+        rankingService.trackReservation(1L, 2);
+        rankingService.trackReservation(2L, 1);
+
+        // when
+        rankingService.flushPendingUpdates();
+
+        // then - 스케줄이 없으면 기본값(100) 힌트로 재시도
+        verify(rankingPort).recordSale(eq("1"), eq(2), eq(100), anyLong());
+        verify(rankingPort, never()).recordSale(eq("2"), anyInt(), anyInt(), anyLong());
+    }
+
+    @Test
+    @DisplayName("판매 속도 갱신은 이 인스턴스가 반영한 공연이 없어도 Redis 랭킹 기준으로 수행한다")
+    void refreshUsesRedisRankingMembers() {
+        // given - 다른 인스턴스가 반영한 공연만 랭킹에 있는 상황
+        when(rankingPort.refreshVelocities(anyLong())).thenReturn(Map.of("7", applied(10)));
+
+        // when
+        rankingService.refreshVelocityWindows();
+
+        // then
+        verify(rankingPort).refreshVelocities(anyLong());
+    }
+
+    private SaleResult applied(long soldCount) {
+        return new SaleResult(SaleResult.Status.APPLIED, soldCount, 1.0, false, null);
+    }
+}
@@ -0,0 +1,99 @@
+package kr.hhplus.be.server.ranking;
+
+import kr.hhplus.be.server.application.port.in.RankingUseCase.ConcertRankingDto;
+import kr.hhplus.be.server.application.port.out.ConcertSchedulePort;
+import kr.hhplus.be.server.application.port.out.RankingPort;
+import kr.hhplus.be.server.application.port.out.RankingPort.RankedSchedule;
+import kr.hhplus.be.server.application.port.out.RankingPort.SaleResult;
+import kr.hhplus.be.server.application.service.ConcertRankingService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * 빠른 판매 랭킹 조회 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("랭킹 조회 테스트")
+class ConcertRankingQueryTest {
+
+    @Mock
+    private ConcertSchedulePort schedulePort;
+
+    @Mock
+    private RankingPort rankingPort;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @InjectMocks
+    private ConcertRankingService rankingService;
+
+    @Test
+    @DisplayName("공연 통계는 공연 수와 무관하게 일괄 조회 한 번으로 가져온다")
+    void statsAreFetchedInBulk() {
+        // given
+        when(rankingPort.getTopByVelocityWithScores(3)).thenReturn(List.of(
+                new RankedSchedule("3", 5.0),
+                new RankedSchedule("1", 2.0),
+                new RankedSchedule("2", 1.0)));
+        when(rankingPort.getStatsBulk(List.of("3", "1", "2"))).thenReturn(Map.of(
+                "3", Map.of("soldCount", "50"),
+                "1", Map.of("soldCount", "20"),
+                "2", Map.of()));
+        when(schedulePort.findAllByIds(any())).thenReturn(Map.of());
+
+        // when
+        List<ConcertRankingDto> ranking = rankingService.getFastSellingRanking(3);
+
+        // then - 통계 없는 공연(2)은 제외, 순위 순서 유지
+        assertThat(ranking).extracting(ConcertRankingDto::scheduleId).containsExactly(3L, 1L);
+        assertThat(ranking).extracting(ConcertRankingDto::rank).containsExactly(1, 2);
+        verify(rankingPort, times(1)).getStatsBulk(any());
+        verify(rankingPort, never()).getStats(any());
+    }
+
+    @Test
+    @DisplayName("스냅샷 모드에서는 조회가 스냅샷만 보고 예약 반영이 캐시를 무효화하지 않는다")
+    void snapshotModeServesReadsFromSnapshot() {
+        // given
+        ReflectionTestUtils.setField(rankingService, "snapshotEnabled", true);
+        ReflectionTestUtils.setField(rankingService, "snapshotSize", 100);
+        when(rankingPort.getTopByVelocityWithScores(100)).thenReturn(List.of(
+                new RankedSchedule("1", 3.0),
+                new RankedSchedule("2", 1.0)));
+        when(rankingPort.getStatsBulk(any())).thenReturn(Map.of(
+                "1", Map.of("soldCount", "30"),
+                "2", Map.of("soldCount", "10")));
+        when(schedulePort.findAllByIds(any())).thenReturn(Map.of());
+        when(rankingPort.recordSales(any(), anyLong())).thenReturn(Map.of(
+                "1", new SaleResult(SaleResult.Status.APPLIED, 31, 3.1, false, null)));
+
+        rankingService.refreshRankingSnapshot();
+
+        // when
+        rankingService.trackReservation(1L, 1);
+        List<ConcertRankingDto> top1 = rankingService.getFastSellingRanking(1);
+        List<ConcertRankingDto> top10 = rankingService.getFastSellingRanking(10);
+
+        // then - 다음 재구성 전까지는 이전 스냅샷 그대로
+        assertThat(top1).extracting(ConcertRankingDto::scheduleId).containsExactly(1L);
+        assertThat(top10).extracting(ConcertRankingDto::soldCount).containsExactly(30, 10);
+        verify(rankingPort, times(1)).getTopByVelocityWithScores(anyInt());
+        verifyNoInteractions(cacheManager);
+    }
+}
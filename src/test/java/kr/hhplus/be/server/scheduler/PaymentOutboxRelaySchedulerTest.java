@@ -0,0 +1,152 @@
+package kr.hhplus.be.server.scheduler;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hhplus.be.server.application.scheduler.PaymentOutboxRelayScheduler;
+import kr.hhplus.be.server.infrastructure.kafka.message.PaymentRequestMessage;
+import kr.hhplus.be.server.infrastructure.kafka.producer.PaymentKafkaProducer;
+import kr.hhplus.be.server.infrastructure.persistence.payment.jpa.entity.PaymentOutboxJpaEntity;
+import kr.hhplus.be.server.infrastructure.persistence.payment.jpa.repository.PaymentOutboxJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PaymentOutboxRelayScheduler 단위 테스트")
+class PaymentOutboxRelaySchedulerTest {
+
+    @Mock
+    private PaymentOutboxJpaRepository outboxRepository;
+
+    @Mock
+    private PaymentKafkaProducer paymentKafkaProducer;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private PaymentOutboxRelayScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        scheduler = new PaymentOutboxRelayScheduler(
+                outboxRepository, paymentKafkaProducer, objectMapper, transactionTemplate, meterRegistry);
+        ReflectionTestUtils.setField(scheduler, "batchSize", 500);
+        ReflectionTestUtils.setField(scheduler, "sendTimeoutMs", 1000L);
+        ReflectionTestUtils.setField(scheduler, "maxAttempts", 10);
+        ReflectionTestUtils.setField(scheduler, "claimLeaseMs", 30_000L);
+        ReflectionTestUtils.setField(scheduler, "timeBudgetMs", 1000L);
+    }
+
+    @Test
+    @DisplayName("발행이 확인된 행은 SENT 처리한다")
+    void marksSentRows() throws Exception {
+        // given
+        when(outboxRepository.findClaimableForUpdate(any(LocalDateTime.class), eq(500))).thenReturn(List.of(outboxRow(1L)));
+        when(paymentKafkaProducer.dispatchPaymentRequest(any()))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        // when
+        scheduler.relayPendingRequests();
+
+        // then
+        verify(outboxRepository).markSent(eq(List.of(1L)), any(LocalDateTime.class));
+        verify(outboxRepository, never()).incrementAttempts(any());
+        assertThat(relayCount("sent")).isEqualTo(1.0);
+        assertThat(meterRegistry.get(PaymentOutboxRelayScheduler.RELAY_DELAY).timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("선점과 결과 반영은 각각 짧은 트랜잭션으로, 발행 대기는 트랜잭션 밖에서 한다")
+    void claimsAndMarksInSeparateTransactions() throws Exception {
+        // given
+        CompletableFuture<SendResult<String, Object>> pending = new CompletableFuture<>();
+        when(outboxRepository.findClaimableForUpdate(any(LocalDateTime.class), eq(500)))
+                .thenReturn(List.of(outboxRow(1L)));
+        when(paymentKafkaProducer.dispatchPaymentRequest(any())).thenAnswer(invocation -> {
+            // 선점 트랜잭션이 끝난 뒤에 발행
+            verify(transactionTemplate, times(1)).execute(any());
+            pending.complete(null);
+            return pending;
+        });
+
+        // when
+        scheduler.relayPendingRequests();
+
+        // then
+        verify(outboxRepository).claim(eq(List.of(1L)), any(LocalDateTime.class));
+        verify(outboxRepository).markSent(eq(List.of(1L)), any(LocalDateTime.class));
+        verify(transactionTemplate, times(2)).execute(any());
+    }
+
+    @Test
+    @DisplayName("발행 실패 시 시도 횟수를 올리고 한도를 넘긴 행은 FAILED 로 종료한다")
+    void failsRowsOverAttemptLimit() throws Exception {
+        // given
+        when(outboxRepository.findClaimableForUpdate(any(LocalDateTime.class), eq(500))).thenReturn(List.of(outboxRow(1L), outboxRow(2L)));
+        when(paymentKafkaProducer.dispatchPaymentRequest(any()))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("broker down")));
+        when(outboxRepository.markExhausted(List.of(1L, 2L), 10)).thenReturn(1);
+
+        // when
+        scheduler.relayPendingRequests();
+
+        // then
+        verify(outboxRepository).incrementAttempts(List.of(1L, 2L));
+        verify(outboxRepository).markExhausted(List.of(1L, 2L), 10);
+        verify(outboxRepository, never()).markSent(any(), any());
+        assertThat(relayCount("retry")).isEqualTo(1.0);
+        assertThat(relayCount("failed")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("payload 를 읽을 수 없는 행은 발행하지 않고 바로 FAILED 처리한다")
+    void failsBrokenPayload() {
+        // given
+        PaymentOutboxJpaEntity broken = new PaymentOutboxJpaEntity(
+                "reservation-1", "user-1", "{not-json", LocalDateTime.now());
+        ReflectionTestUtils.setField(broken, "id", 3L);
+        when(outboxRepository.findClaimableForUpdate(any(LocalDateTime.class), eq(500))).thenReturn(List.of(broken));
+
+        // when
+        scheduler.relayPendingRequests();
+
+        // then
+        verify(paymentKafkaProducer, never()).dispatchPaymentRequest(any());
+        verify(outboxRepository).markFailed(List.of(3L));
+        assertThat(relayCount("failed")).isEqualTo(1.0);
+    }
+
+    private PaymentOutboxJpaEntity outboxRow(Long id) throws Exception {
+        PaymentRequestMessage message = PaymentRequestMessage.of(
+                "reservation-" + id, "user-1", 50_000L, "key-" + id, 1L, id.intValue());
+        PaymentOutboxJpaEntity row = new PaymentOutboxJpaEntity(
+                message.reservationId(), message.userId(), objectMapper.writeValueAsString(message),
+                LocalDateTime.now().minusSeconds(1));
+        ReflectionTestUtils.setField(row, "id", id);
+        return row;
+    }
+
+    private double relayCount(String result) {
+        return meterRegistry.get(PaymentOutboxRelayScheduler.RELAY_COUNT).tag("result", result).counter().count();
+    }
+}
@@ -0,0 +1,123 @@
+package kr.hhplus.be.server.scheduler;
+
+import kr.hhplus.be.server.application.scheduler.RefundPendingScheduler;
+import kr.hhplus.be.server.domain.common.Money;
+import kr.hhplus.be.server.domain.common.UserId;
+import kr.hhplus.be.server.domain.concert.ConcertScheduleId;
+import kr.hhplus.be.server.domain.reservation.Reservation;
+import kr.hhplus.be.server.domain.reservation.ReservationId;
+import kr.hhplus.be.server.domain.reservation.ReservationRepository;
+import kr.hhplus.be.server.domain.reservation.ReservationStatus;
+import kr.hhplus.be.server.domain.reservation.SeatIdentifier;
+import kr.hhplus.be.server.domain.reservation.SeatNumber;
+import kr.hhplus.be.server.infrastructure.kafka.producer.PaymentKafkaProducer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RefundPendingScheduler 단위 테스트")
+class RefundPendingSchedulerTest {
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    @Mock
+    private PaymentKafkaProducer paymentKafkaProducer;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private RefundPendingScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new RefundPendingScheduler(reservationRepository, paymentKafkaProducer, transactionTemplate);
+        ReflectionTestUtils.setField(scheduler, "staleMinutes", 5L);
+        ReflectionTestUtils.setField(scheduler, "batchSize", 500);
+        ReflectionTestUtils.setField(scheduler, "maxAttempts", 10);
+    }
+
+    @Test
+    @DisplayName("재발행한 예약은 발행 성공 여부와 관계없이 재발행 기록을 남겨 다음 주기에 뒤로 보낸다")
+    void recordsRepublishedRefunds() {
+        // given
+        Reservation first = refundPending();
+        Reservation second = refundPending();
+        when(reservationRepository.findStaleRefundRequests(any(), eq(10), eq(500)))
+                .thenReturn(List.of(first, second));
+        doNothing().doThrow(new RuntimeException("broker down"))
+                .when(paymentKafkaProducer).sendRefundRequest(any());
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+
+        // when
+        scheduler.republishStaleRefunds();
+
+        // then
+        verify(paymentKafkaProducer, times(2)).sendRefundRequest(any());
+        verify(reservationRepository).markRefundRepublished(
+                eq(List.of(first.getId(), second.getId())), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("대상이 없으면 발행/기록하지 않는다")
+    void skipsWhenNothingIsStale() {
+        // given
+        when(reservationRepository.findStaleRefundRequests(any(), anyInt(), anyInt())).thenReturn(List.of());
+
+        // when
+        scheduler.republishStaleRefunds();
+
+        // then
+        verifyNoInteractions(paymentKafkaProducer, transactionTemplate);
+    }
+
+    @Test
+    @DisplayName("환불 요청 시각을 예약에 기록한다")
+    void requestRefundStoresTimestamp() {
+        // given
+        LocalDateTime requestedAt = LocalDateTime.now().minusSeconds(10);
+        Reservation reservation = confirmed();
+
+        // when
+        reservation.requestRefund(requestedAt);
+
+        // then
+        assertThat(reservation.getRefundRequestedAt()).isEqualTo(requestedAt);
+    }
+
+    private Reservation refundPending() {
+        Reservation reservation = confirmed();
+        reservation.requestRefund(LocalDateTime.now().minusMinutes(10));
+        return reservation;
+    }
+
+    private Reservation confirmed() {
+        return Reservation.restore(
+                ReservationId.generate(),
+                UserId.ofString("550e8400-e29b-41d4-a716-446655440000"),
+                new SeatIdentifier(new ConcertScheduleId(1L), new SeatNumber(1)),
+                Money.of(50_000L),
+                ReservationStatus.CONFIRMED,
+                LocalDateTime.now().minusMinutes(30),
+                LocalDateTime.now().minusMinutes(20),
+                0L
+        );
+    }
+}
@@ -0,0 +1,158 @@
+package kr.hhplus.be.server.scheduler;
+
+import kr.hhplus.be.server.application.scheduler.WalletLedgerArchiveScheduler;
+import kr.hhplus.be.server.infrastructure.persistence.payment.jpa.repository.WalletBalanceSnapshotJpaRepository;
+import kr.hhplus.be.server.infrastructure.persistence.payment.jpa.repository.WalletIdempotencyKeyJpaRepository;
+import kr.hhplus.be.server.infrastructure.persistence.payment.partition.WalletLedgerPartitionManager;
+import kr.hhplus.be.server.infrastructure.persistence.payment.partition.WalletLedgerPartitionManager.LedgerPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WalletLedgerArchiveScheduler 단위 테스트")
+class WalletLedgerArchiveSchedulerTest {
+
+    @Mock
+    private WalletLedgerPartitionManager partitionManager;
+
+    @Mock
+    private WalletBalanceSnapshotJpaRepository snapshotRepository;
+
+    @Mock
+    private WalletIdempotencyKeyJpaRepository idempotencyKeyRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private WalletLedgerArchiveScheduler scheduler;
+
+    @TempDir
+    Path archiveDirectory;
+
+    private final YearMonth now = YearMonth.now(ZoneOffset.UTC);
+    private final LedgerPartition expired = partition(now.minusMonths(14));
+    private final LedgerPartition current = partition(now);
+    private final LedgerPartition max = new LedgerPartition("pmax", null);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(scheduler, "archiveEnabled", true);
+        ReflectionTestUtils.setField(scheduler, "retentionMonths", 12);
+        ReflectionTestUtils.setField(scheduler, "monthsAhead", 1);
+        ReflectionTestUtils.setField(scheduler, "archiveDirectory", archiveDirectory.toString());
+        when(partitionManager.findPartitions()).thenReturn(List.of(expired, current, max));
+    }
+
+    @Test
+    @DisplayName("행 모드에서는 다음 달 파티션만 만들고 원장은 삭제하지 않는다")
+    void rowModeNeverDropsLedger() {
+        // given
+        ReflectionTestUtils.setField(scheduler, "walletMode", "row");
+
+        // when
+        scheduler.maintainLedgerPartitions();
+
+        // then
+        verify(partitionManager).addMonthlyPartition(now.plusMonths(1));
+        verify(partitionManager, never()).dropPartition(anyString());
+        verifyNoInteractions(idempotencyKeyRepository);
+    }
+
+    @Test
+    @DisplayName("아카이브가 꺼져 있어도 다음 달 파티션은 만들고 원장은 내보내지 않는다")
+    void createsPartitionsWhenArchiveDisabled() throws Exception {
+        // given
+        ReflectionTestUtils.setField(scheduler, "archiveEnabled", false);
+        ReflectionTestUtils.setField(scheduler, "walletMode", "ledger");
+
+        // when
+        scheduler.maintainLedgerPartitions();
+
+        // then
+        verify(partitionManager).addMonthlyPartition(now.plusMonths(1));
+        verify(partitionManager, never()).exportPartition(anyString(), any());
+        verify(partitionManager, never()).dropPartition(anyString());
+    }
+
+    @Test
+    @DisplayName("원장 모드에서 스냅샷에 반영된 만료 파티션은 내보낸 뒤 삭제한다")
+    void ledgerModeArchivesSettledPartition() throws Exception {
+        // given
+        ReflectionTestUtils.setField(scheduler, "walletMode", "ledger");
+        when(snapshotRepository.findMaxLastLedgerId()).thenReturn(500L);
+        when(partitionManager.maxId(expired.name())).thenReturn(300L);
+        when(partitionManager.countRows(expired.name())).thenReturn(42L);
+        when(partitionManager.exportPartition(eq(expired.name()), any())).thenReturn(42L);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        when(idempotencyKeyRepository.deleteCreatedBefore(any())).thenReturn(7);
+
+        // when
+        scheduler.maintainLedgerPartitions();
+
+        // then
+        verify(partitionManager).exportPartition(expired.name(),
+                archiveDirectory.resolve("wallet_ledger_" + expired.name() + ".csv.gz"));
+        verify(partitionManager).dropPartition(expired.name());
+        verify(partitionManager, never()).dropPartition(current.name());
+    }
+
+    @Test
+    @DisplayName("스냅샷에 반영되지 않은 원장이 남은 파티션은 삭제하지 않는다")
+    void keepsUnsettledPartition() throws Exception {
+        // given
+        ReflectionTestUtils.setField(scheduler, "walletMode", "ledger");
+        when(snapshotRepository.findMaxLastLedgerId()).thenReturn(100L);
+        when(partitionManager.maxId(expired.name())).thenReturn(300L);
+
+        // when
+        scheduler.maintainLedgerPartitions();
+
+        // then
+        verify(partitionManager, never()).exportPartition(anyString(), any());
+        verify(partitionManager, never()).dropPartition(anyString());
+    }
+
+    @Test
+    @DisplayName("내보낸 행 수가 파티션 행 수와 다르면 삭제하지 않는다")
+    void keepsPartitionOnExportMismatch() throws Exception {
+        // given
+        ReflectionTestUtils.setField(scheduler, "walletMode", "ledger");
+        when(snapshotRepository.findMaxLastLedgerId()).thenReturn(500L);
+        when(partitionManager.maxId(expired.name())).thenReturn(300L);
+        when(partitionManager.countRows(expired.name())).thenReturn(42L);
+        when(partitionManager.exportPartition(eq(expired.name()), any())).thenReturn(41L);
+
+        // when
+        scheduler.maintainLedgerPartitions();
+
+        // then
+        verify(partitionManager, never()).dropPartition(anyString());
+        verifyNoInteractions(idempotencyKeyRepository);
+    }
+
+    private static LedgerPartition partition(YearMonth month) {
+        return new LedgerPartition(String.format("p%d%02d", month.getYear(), month.getMonthValue()),
+                month.plusMonths(1).atDay(1));
+    }
+}
@@ -0,0 +1,145 @@
+package kr.hhplus.be.server.scheduler;
+
+import kr.hhplus.be.server.application.scheduler.WalletSnapshotScheduler;
+import kr.hhplus.be.server.infrastructure.persistence.payment.jpa.entity.WalletBalanceSnapshotJpaEntity;
+import kr.hhplus.be.server.infrastructure.persistence.payment.jpa.repository.WalletBalanceSnapshotJpaRepository;
+import kr.hhplus.be.server.infrastructure.persistence.payment.jpa.repository.WalletLedgerJpaRepository;
+import kr.hhplus.be.server.infrastructure.persistence.payment.jpa.repository.WalletLedgerJpaRepository.UserLedgerDelta;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WalletSnapshotScheduler 단위 테스트")
+class WalletSnapshotSchedulerTest {
+
+    @Mock
+    private WalletLedgerJpaRepository ledgerRepository;
+
+    @Mock
+    private WalletBalanceSnapshotJpaRepository snapshotRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private WalletSnapshotScheduler scheduler;
+
+    private static final UUID USER = UUID.fromString("550e8400-e29b-41d4-a716-446655440000");
+
+    @BeforeEach
+    void setUp() {
+        when(transactionTemplate.getTransactionManager()).thenReturn(transactionManager);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        scheduler = new WalletSnapshotScheduler(ledgerRepository, snapshotRepository, transactionTemplate);
+    }
+
+    @Test
+    @DisplayName("구간에 진행 중인 원장이 없으면 후보 구간 끝까지 반영한다")
+    void rollsForwardWholeSettledRange() {
+        // given
+        when(snapshotRepository.findMaxLastLedgerId()).thenReturn(10L);
+        when(ledgerRepository.findMaxIdCreatedBefore(any())).thenReturn(13L);
+        when(ledgerRepository.findIdsBetween(10L, 13L)).thenReturn(List.of(11L, 12L, 13L));
+        when(ledgerRepository.sumAmountGroupByUser(10L, 13L)).thenReturn(List.of(delta(5_000L)));
+        when(snapshotRepository.findById(USER)).thenReturn(Optional.empty());
+
+        // when
+        scheduler.rollSnapshotsForward();
+
+        // then
+        WalletBalanceSnapshotJpaEntity saved = savedSnapshot();
+        assertThat(saved.getLastLedgerId()).isEqualTo(13L);
+        assertThat(saved.getBalance()).isEqualTo(5_000L);
+    }
+
+    @Test
+    @DisplayName("커밋되지 않은 원장이 있으면 그 직전까지만 반영한다")
+    void stopsBeforeInFlightLedger() {
+        // given - 12번은 채번됐지만 아직 커밋되지 않음 (커밋 스냅샷에 없음)
+        when(snapshotRepository.findMaxLastLedgerId()).thenReturn(10L);
+        when(ledgerRepository.findMaxIdCreatedBefore(any())).thenReturn(13L);
+        when(ledgerRepository.findIdsBetween(10L, 13L))
+                .thenReturn(List.of(11L, 13L))           // 커밋 스냅샷
+                .thenReturn(List.of(11L, 12L, 13L));     // READ UNCOMMITTED
+        when(ledgerRepository.sumAmountGroupByUser(10L, 11L)).thenReturn(List.of(delta(1_000L)));
+        when(snapshotRepository.findById(USER)).thenReturn(Optional.empty());
+
+        // when
+        scheduler.rollSnapshotsForward();
+
+        // then
+        assertThat(savedSnapshot().getLastLedgerId()).isEqualTo(11L);
+        verify(ledgerRepository, never()).sumAmountGroupByUser(10L, 13L);
+    }
+
+    @Test
+    @DisplayName("구간 첫 원장이 진행 중이면 반영하지 않는다")
+    void skipsWhenFirstLedgerInFlight() {
+        // given
+        when(snapshotRepository.findMaxLastLedgerId()).thenReturn(10L);
+        when(ledgerRepository.findMaxIdCreatedBefore(any())).thenReturn(12L);
+        when(ledgerRepository.findIdsBetween(10L, 12L))
+                .thenReturn(List.of(12L))
+                .thenReturn(List.of(11L, 12L));
+
+        // when
+        scheduler.rollSnapshotsForward();
+
+        // then
+        verify(ledgerRepository, never()).sumAmountGroupByUser(anyLong(), anyLong());
+        verify(snapshotRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("롤백으로 비어 있는 ID 는 건너뛰고 반영한다")
+    void ignoresRolledBackGap() {
+        // given - 12번은 롤백되어 어디에도 없음
+        when(snapshotRepository.findMaxLastLedgerId()).thenReturn(10L);
+        when(ledgerRepository.findMaxIdCreatedBefore(any())).thenReturn(13L);
+        when(ledgerRepository.findIdsBetween(10L, 13L)).thenReturn(List.of(11L, 13L));
+        when(ledgerRepository.sumAmountGroupByUser(10L, 13L)).thenReturn(List.of(delta(-2_000L)));
+        when(snapshotRepository.findById(USER)).thenReturn(Optional.empty());
+
+        // when
+        scheduler.rollSnapshotsForward();
+
+        // then
+        assertThat(savedSnapshot().getLastLedgerId()).isEqualTo(13L);
+    }
+
+    private WalletBalanceSnapshotJpaEntity savedSnapshot() {
+        ArgumentCaptor<WalletBalanceSnapshotJpaEntity> captor =
+                ArgumentCaptor.forClass(WalletBalanceSnapshotJpaEntity.class);
+        verify(snapshotRepository).save(captor.capture());
+        return captor.getValue();
+    }
+
+    private static UserLedgerDelta delta(long amount) {
+        return new UserLedgerDelta() {
+            @Override
+            public UUID getUserId() { return USER; }
+
+            @Override
+            public Long getDelta() { return amount; }
+        };
+    }
+}
@@ -0,0 +1,101 @@
+package kr.hhplus.be.server.web.concert.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.BitSet;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("좌석 구간 목록 테스트")
+class SeatRangesTest {
+
+    @Test
+    @DisplayName("확정 좌석을 뺀 가용 좌석을 구간으로 압축하고 목록처럼 조회한다")
+    void clearBitsOf() {
+        // given - 10석 중 2, 3, 7번 확정
+        BitSet confirmed = new BitSet();
+        confirmed.set(2);
+        confirmed.set(3);
+        confirmed.set(7);
+
+        // when
+        SeatRanges available = SeatRanges.clearBitsOf(confirmed, 1, 10);
+
+        // then
+        assertThat(available.rangeCount()).isEqualTo(3);  // 1, 4~6, 8~10
+        assertThat(available).containsExactly(1, 4, 5, 6, 8, 9, 10);
+        assertThat(available).isEqualTo(List.of(1, 4, 5, 6, 8, 9, 10));
+        assertThat(available.get(3)).isEqualTo(6);
+        assertThat(available.contains(7)).isFalse();
+        assertThat(available.contains(9)).isTrue();
+    }
+
+    @Test
+    @DisplayName("5만석 공연도 구간 수만큼만 보관한다")
+    void stadiumSizedSchedule() {
+        // given - 50,000석 중 앞 1,000석 매진
+        BitSet confirmed = new BitSet(50_001);
+        confirmed.set(1, 1_001);
+
+        // when
+        SeatRanges available = SeatRanges.clearBitsOf(confirmed, 1, 50_000);
+
+        // then
+        assertThat(available.rangeCount()).isEqualTo(1);
+        assertThat(available).hasSize(49_000);
+        assertThat(available.get(0)).isEqualTo(1_001);
+        assertThat(available).isEqualTo(IntStream.rangeClosed(1_001, 50_000).boxed().toList());
+    }
+
+    @Test
+    @DisplayName("일정 응답 JSON 은 가용 좌석을 구간 목록으로만 내려준다")
+    void scheduleJsonExposesRanges() throws Exception {
+        // given - 10석 중 2, 3, 7번 확정
+        BitSet confirmed = new BitSet();
+        confirmed.set(2);
+        confirmed.set(3);
+        confirmed.set(7);
+        ScheduleDto schedule = new ScheduleDto(1L, 1L, LocalDate.of(2025, 1, 1), 10,
+                SeatRanges.clearBitsOf(confirmed, 1, 10));
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+        // when
+        String json = objectMapper.writeValueAsString(schedule);
+        JsonNode ranges = objectMapper.readTree(json).get("availableSeatRanges");
+
+        // then
+        assertThat(schedule.availableSeatRanges()).containsExactly(
+                new SeatRanges.Range(1, 1), new SeatRanges.Range(4, 6), new SeatRanges.Range(8, 10));
+        assertThat(objectMapper.readTree(json).has("availableSeats")).isFalse();
+        assertThat(ranges).hasSize(3);
+        assertThat(ranges.get(1).get("from").asInt()).isEqualTo(4);
+        assertThat(ranges.get(1).get("to").asInt()).isEqualTo(6);
+        assertThat(objectMapper.readValue(json, ScheduleDto.class)).isEqualTo(schedule);
+    }
+
+    @Test
+    @DisplayName("좌석 번호 배열 응답은 구간을 펼쳐 int 배열로 내려준다")
+    void seatListJsonExpandsRanges() throws Exception {
+        // given - 10석 중 2, 3, 7번 확정
+        BitSet confirmed = new BitSet();
+        confirmed.set(2);
+        confirmed.set(3);
+        confirmed.set(7);
+        ScheduleDto schedule = new ScheduleDto(1L, 1L, LocalDate.of(2025, 1, 1), 10,
+                SeatRanges.clearBitsOf(confirmed, 1, 10));
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+        // when
+        JsonNode json = objectMapper.readTree(objectMapper.writeValueAsString(ScheduleSeatListDto.from(schedule)));
+
+        // then
+        assertThat(json.has("availableSeatRanges")).isFalse();
+        assertThat(json.get("availableSeats").toString()).isEqualTo("[1,4,5,6,8,9,10]");
+    }
+}